@@ -0,0 +1,58 @@
+package com.example.demo.benchmark.jmh;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.enemies.EnemySpider;
+import com.example.demo.projectiles.EnemyProjectile;
+import com.example.demo.projectiles.UserProjectile;
+import com.example.demo.simulation.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of constructing one actor: the node, its cached sprite lookup and its entity.
+ * Enemy spiders belong to a world, so each one is detached again to keep the world's store from growing
+ * across invocations. Needs a display for the JavaFX toolkit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActorConstructionBenchmark {
+
+    private World world;
+
+    @Setup
+    public void startToolkit() {
+        FxToolkit.start();
+        world = new World(1300, 750, 100);
+    }
+
+    @Benchmark
+    public ActiveActorDestructible enemySpider() {
+        EnemySpider spider = new EnemySpider(world, 1000, 300);
+        spider.getEntity().detach(); // Free the slot in the world's store
+        return spider;
+    }
+
+    @Benchmark
+    public ActiveActorDestructible userProjectile() {
+        return new UserProjectile(100, 300);
+    }
+
+    @Benchmark
+    public ActiveActorDestructible enemyProjectile() {
+        return new EnemyProjectile(1000, 300);
+    }
+}
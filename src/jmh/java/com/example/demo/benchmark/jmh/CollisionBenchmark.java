@@ -0,0 +1,70 @@
+package com.example.demo.benchmark.jmh;
+
+import com.example.demo.simulation.ContactDetector;
+import com.example.demo.simulation.Entity;
+import com.example.demo.simulation.EntityKind;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the contact search behind {@code CollisionManager} between {@code count} user projectiles and
+ * {@code count} enemies.
+ * <p>
+ * The {@code density} parameter is the average number of entities per 100x100 pixel area: the world is
+ * sized so both lists together reach that density, which controls how many candidate pairs share a cell.
+ * Contacts are only consumed, never resolved, so every invocation sees the same layout. Works on plain
+ * simulation entities and runs without a display.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    public int count;
+
+    @Param({"0.5", "2", "8"})
+    public double density;
+
+    @Param({"SPATIAL_HASH", "BRUTE_FORCE"})
+    public ContactDetector.Broadphase broadphase;
+
+    private final ContactDetector detector = new ContactDetector();
+    private final List<Entity> projectiles = new ArrayList<>();
+    private final List<Entity> enemies = new ArrayList<>();
+
+    @Setup
+    public void populate() {
+        detector.setBroadphase(broadphase);
+        double side = Math.sqrt(2.0 * count / density) * 100; // Side of a square world at the given density
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < count; i++) {
+            projectiles.add(new Entity(EntityKind.USER_PROJECTILE, random.nextDouble(side), random.nextDouble(side), 40, 15));
+            enemies.add(new Entity(EntityKind.ENEMY, random.nextDouble(side), random.nextDouble(side), 80, 50));
+        }
+    }
+
+    @Benchmark
+    public void findContacts(Blackhole blackhole) {
+        detector.findContacts(projectiles, enemies, (projectile, enemy) -> blackhole.consume(enemy));
+    }
+}
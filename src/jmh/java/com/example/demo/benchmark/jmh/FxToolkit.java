@@ -0,0 +1,41 @@
+package com.example.demo.benchmark.jmh;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Starts the JavaFX toolkit once per benchmark JVM.
+ * <p>
+ * Actors are {@code ImageView} nodes whose sprites can only be decoded once the toolkit is running, so
+ * every benchmark that creates real actors calls {@link #start()} from its trial setup. The toolkit needs
+ * a display; benchmarks that only use simulation entities do not start it.
+ * </p>
+ */
+final class FxToolkit {
+
+    private static boolean started = false;
+
+    private FxToolkit() {
+    }
+
+    /**
+     * Starts the toolkit if it is not running yet and waits until it is ready.
+     */
+    static synchronized void start() {
+        if (started) {
+            return;
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            Platform.startup(latch::countDown);
+            latch.await();
+        } catch (IllegalStateException e) {
+            // Already started by someone else
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while starting JavaFX", e);
+        }
+        started = true;
+    }
+}
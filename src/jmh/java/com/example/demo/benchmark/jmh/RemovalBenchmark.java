@@ -0,0 +1,105 @@
+package com.example.demo.benchmark.jmh;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.enemies.EnemySpider;
+import com.example.demo.managers.EnemyManager;
+import com.example.demo.managers.ProjectileManager;
+import com.example.demo.projectiles.UserProjectile;
+import com.example.demo.simulation.World;
+import javafx.scene.Group;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the managers' destroyed-actor removal passes with {@code count} tracked actors, of which a
+ * {@code destroyedFraction} share is destroyed.
+ * <p>
+ * Each invocation removes actors, so the managers are refilled with the same actors before every call.
+ * The removal passes take tens of microseconds or more, which keeps the per-invocation setup overhead
+ * small in comparison. Needs a display for the JavaFX toolkit.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RemovalBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int count;
+
+    @Param({"0.01", "0.1", "0.5"})
+    public double destroyedFraction;
+
+    private final List<ActiveActorDestructible> enemies = new ArrayList<>();
+    private final List<ActiveActorDestructible> projectiles = new ArrayList<>();
+    private EnemyManager enemyManager;
+    private ProjectileManager projectileManager;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void createActors() {
+        FxToolkit.start();
+        enemyManager = EnemyManager.getInstance();
+        projectileManager = ProjectileManager.getInstance();
+        World world = new World(1300, 750, 100);
+        enemyManager.initialize(new Group(), world.getStore());
+        projectileManager.initialize(new Group(), new Group(), world.getStore());
+        random = new SplittableRandom(42);
+        for (int i = 0; i < count; i++) {
+            enemies.add(new EnemySpider(world, random.nextDouble(1300), random.nextDouble(600)));
+            projectiles.add(new UserProjectile(world.getStore(), random.nextDouble(1300), random.nextDouble(600)));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void refill() {
+        enemyManager.clearAllEnemies();
+        projectileManager.clearAllProjectiles();
+        for (int i = 0; i < count; i++) {
+            revive(enemies.get(i));
+            revive(projectiles.get(i));
+            enemyManager.addEnemy(enemies.get(i));
+            projectileManager.addUserProjectile(projectiles.get(i));
+        }
+        for (int i = 0; i < count; i++) {
+            if (random.nextDouble() < destroyedFraction) {
+                enemies.get(i).destroy();
+            }
+            if (random.nextDouble() < destroyedFraction) {
+                projectiles.get(i).destroy();
+            }
+        }
+    }
+
+    @Benchmark
+    public void removeDestroyedEnemies() {
+        enemyManager.removeDestroyedEnemies();
+    }
+
+    @Benchmark
+    public void removeDestroyedProjectiles() {
+        projectileManager.removeDestroyedProjectiles();
+    }
+
+    private static void revive(ActiveActorDestructible actor) {
+        actor.getEntity().setDestroyed(false);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.demo.benchmark.jmh;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.projectiles.EnemyProjectile;
+import com.example.demo.simulation.World;
+import com.example.demo.ui.gameplayUI.ActorRenderer;
+import com.example.demo.ui.gameplayUI.SceneLayers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one frame of the selected {@code renderer} drawing {@code count} projectile sprites.
+ * <p>
+ * Every invocation nudges each sprite by a pixel, alternating direction so the layout stays the same, and
+ * then draws the frame: the node renderer syncs every sprite's node, and the canvas renderer clears its
+ * canvas and draws every sprite onto it. The scene layers are never shown, so the JavaFX pulse that turns
+ * either result into pixels is not part of the measurement. Needs a display for the JavaFX toolkit.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RendererBenchmark {
+
+    private static final double WIDTH = 1300;
+    private static final double HEIGHT = 750;
+
+    @Param({"100", "1000", "5000", "10000"})
+    public int count;
+
+    @Param({"NODES", "CANVAS"})
+    public ActorRenderer.Mode renderer;
+
+    private final List<ActiveActor> actors = new ArrayList<>();
+    private ActorRenderer actorRenderer;
+    private double nudge = 1; // Horizontal step of the next invocation, alternating in sign
+
+    @Setup(Level.Trial)
+    public void createActors() {
+        FxToolkit.start();
+        World world = new World(WIDTH, HEIGHT, 100);
+        SceneLayers layers = new SceneLayers();
+        actorRenderer = ActorRenderer.create(renderer, WIDTH, HEIGHT);
+        actorRenderer.attach(layers);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < count; i++) {
+            actors.add(new EnemyProjectile(world.getStore(), random.nextDouble(WIDTH), random.nextDouble(HEIGHT)));
+        }
+        layers.get(SceneLayers.Layer.ENEMY_PROJECTILES).getChildren().addAll(actors);
+    }
+
+    @Benchmark
+    public void drawFrame() {
+        for (ActiveActor actor : actors) {
+            actor.getEntity().moveBy(nudge, 0);
+        }
+        nudge = -nudge;
+        actorRenderer.beginFrame();
+        actorRenderer.draw(actors);
+        actorRenderer.endFrame();
+    }
+}
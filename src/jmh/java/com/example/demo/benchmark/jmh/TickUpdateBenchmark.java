@@ -0,0 +1,76 @@
+package com.example.demo.benchmark.jmh;
+
+import com.example.demo.actors.enemies.EnemySpider;
+import com.example.demo.managers.EnemyManager;
+import com.example.demo.managers.ProjectileManager;
+import com.example.demo.managers.SimulationClock;
+import com.example.demo.projectiles.UserProjectile;
+import com.example.demo.simulation.World;
+import javafx.scene.Group;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one simulation tick of the enemy and projectile managers with {@code count} enemies and
+ * {@code count} user projectiles, as a level runs it: one integration pass over the world's store followed by
+ * every actor's own {@code updateActor()}. Needs a display for the JavaFX toolkit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TickUpdateBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int count;
+
+    private EnemyManager enemyManager;
+    private ProjectileManager projectileManager;
+    private World world;
+
+    @Setup
+    public void populate() {
+        FxToolkit.start();
+        SimulationClock.getInstance().reset();
+        enemyManager = EnemyManager.getInstance();
+        projectileManager = ProjectileManager.getInstance();
+        world = new World(1300, 750, 100);
+        enemyManager.initialize(new Group(), world.getStore());
+        projectileManager.initialize(new Group(), new Group(), world.getStore());
+
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < count; i++) {
+            enemyManager.addEnemy(new EnemySpider(world, random.nextDouble(1300), random.nextDouble(600)));
+            projectileManager.addUserProjectile(
+                    new UserProjectile(world.getStore(), random.nextDouble(1300), random.nextDouble(600)));
+        }
+    }
+
+    @TearDown
+    public void clear() {
+        enemyManager.clearAllEnemies();
+        projectileManager.clearAllProjectiles();
+    }
+
+    @Benchmark
+    public void tick() {
+        world.integrate(SimulationClock.getInstance().getStepSeconds());
+        enemyManager.updateEnemies();
+        projectileManager.updateProjectiles();
+    }
+}
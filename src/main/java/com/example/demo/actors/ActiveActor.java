@@ -1,5 +1,10 @@
 package com.example.demo.actors;
 
+import com.example.demo.managers.SpriteCache;
+import com.example.demo.simulation.Entity;
+import com.example.demo.simulation.EntityHolder;
+import com.example.demo.simulation.EntityKind;
+import com.example.demo.simulation.EntityStore;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
@@ -10,16 +15,24 @@ import javafx.scene.image.ImageView;
  * <p>The {@code ActiveActor} class is designed to be extended by specific game actors
  * such as enemies, projectiles, or the player character. It uses Java Fx {@link ImageView}
  * for rendering and supports basic movement functionality.</p>
+ *
+ * <p>The actor's position, size and destroyed state live in a pure-data {@link Entity}, which the game
+ * logic reads and moves. The node itself is only a view: {@link #syncView()} copies the entity's position
+ * onto it once per rendered frame.</p>
  */
-public abstract class ActiveActor extends ImageView {
+public abstract class ActiveActor extends ImageView implements EntityHolder {
 
     // Base directory for image resources
     private static final String IMAGE_LOCATION = "/com/example/demo/images/";
 
+    private final Entity entity; // Simulation state of the actor
+
     /**
      * Constructs an {@code ActiveActor} with the specified image, size, and initial position.
-     * This constructor loads the actor's image from the resources folder and initializes its position and size.
+     * The actor's image is taken from the shared {@link SpriteCache}, so sprites are only decoded the first
+     * time they are requested.
      *
+     * @param kind        The kind of simulation entity backing the actor.
      * @param imageName   The name of the image file for the actor (e.g., "player.png").
      * @param imageHeight The height of the image to be displayed, in pixels.
      * @param initialXPos The initial X-coordinate position of the actor on the screen.
@@ -28,19 +41,34 @@ public abstract class ActiveActor extends ImageView {
      *
      * <p><b>Example Usage:</b></p>
      * <pre>{@code
-     * ActiveActor player = new PlayerActor("player.png", 50, 100, 200);
+     * ActiveActor player = new PlayerActor(EntityKind.USER, "player.png", 50, 100, 200);
      * }</pre>
      */
-    public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-        // Load the image from the resources folder
-        String resourcePath = IMAGE_LOCATION + imageName;
-        var resourceUrl = getClass().getResource(resourcePath);
+    public ActiveActor(EntityKind kind, String imageName, int imageHeight, double initialXPos, double initialYPos) {
+        this(null, kind, imageName, imageHeight, initialXPos, initialYPos);
+    }
 
-        if (resourceUrl == null) {
-            throw new IllegalArgumentException("Resource not found: " + resourcePath);
-        }
+    /**
+     * Constructs an {@code ActiveActor} whose entity is allocated in the given store, normally the store of the
+     * level's {@link com.example.demo.simulation.World}.
+     *
+     * @param store       The store to allocate the actor's entity in, or {@code null} for a private store.
+     * @param kind        The kind of simulation entity backing the actor.
+     * @param imageName   The name of the image file for the actor (e.g., "player.png").
+     * @param imageHeight The height of the image to be displayed, in pixels.
+     * @param initialXPos The initial X-coordinate position of the actor on the screen.
+     * @param initialYPos The initial Y-coordinate position of the actor on the screen.
+     * @throws IllegalArgumentException If the image resource cannot be found in the resources folder.
+     */
+    public ActiveActor(EntityStore store, EntityKind kind, String imageName, int imageHeight, double initialXPos,
+                       double initialYPos) {
+        // Share the decoded image with every other actor using the same sprite
+        Image image = SpriteCache.getInstance().getImage(IMAGE_LOCATION + imageName);
+        this.setImage(image);
 
-        this.setImage(new Image(resourceUrl.toExternalForm()));
+        // The bounding box matches the image scaled to the requested height
+        double imageWidth = image.getHeight() > 0 ? image.getWidth() * imageHeight / image.getHeight() : 0;
+        this.entity = new Entity(store, kind, initialXPos, initialYPos, imageWidth, imageHeight);
 
         // Set the initial position and size
         this.setLayoutX(initialXPos);
@@ -49,6 +77,29 @@ public abstract class ActiveActor extends ImageView {
         this.setPreserveRatio(true);
     }
 
+    /**
+     * Retrieves the simulation state of the actor.
+     *
+     * @return The {@link Entity} backing this actor.
+     */
+    @Override
+    public Entity getEntity() {
+        return entity;
+    }
+
+    /**
+     * Copies the entity's position onto the node.
+     * <p>
+     * The node's layout position is the entity's spawn position and its translation the distance travelled
+     * since, so the node ends up where the entity is.
+     * </p>
+     */
+    public void syncView() {
+        setLayoutX(entity.getOriginX());
+        setLayoutY(entity.getOriginY());
+        setTranslateX(entity.getDisplacementX());
+        setTranslateY(entity.getDisplacementY());
+    }
 
     /**
      * Updates the position of the actor.
@@ -62,7 +113,7 @@ public abstract class ActiveActor extends ImageView {
      *                       move the actor to the right, and negative values move it to the left.
      */
     protected void moveHorizontally(double horizontalMove) {
-        this.setTranslateX(getTranslateX() + horizontalMove);
+        entity.moveBy(horizontalMove, 0);
     }
 
     /**
@@ -72,6 +123,6 @@ public abstract class ActiveActor extends ImageView {
      *                     move the actor downward, and negative values move it upward.
      */
     protected void moveVertically(double verticalMove) {
-        this.setTranslateY(getTranslateY() + verticalMove);
+        entity.moveBy(0, verticalMove);
     }
 }
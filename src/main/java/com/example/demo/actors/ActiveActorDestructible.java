@@ -1,26 +1,43 @@
 package com.example.demo.actors;
 
+import com.example.demo.simulation.EntityKind;
+import com.example.demo.simulation.EntityStore;
+
 /**
  * Represents an active actor in the game that can be destroyed.
  *
  * <p>This abstract class extends {@link ActiveActor} and implements the {@link Destructible}
- * interface, combining movement and destruction capabilities for game entities.</p>
+ * interface, combining movement and destruction capabilities for game entities. The destroyed state is
+ * stored in the actor's simulation entity.</p>
  */
 public abstract class ActiveActorDestructible extends ActiveActor implements Destructible {
 
-    protected boolean isDestroyed; // Tracks if the actor has been destroyed
-
     /**
      * Constructs an ActiveActorDestructible with the specified image, size, and initial position.
      *
+     * @param kind        The kind of simulation entity backing the actor.
+     * @param imageName   Name of the image file for the actor (e.g., "enemy.png").
+     * @param imageHeight Height of the image to be displayed, in pixels.
+     * @param initialXPos Initial X-coordinate position of the actor on the screen.
+     * @param initialYPos Initial Y-coordinate position of the actor on the screen.
+     */
+    public ActiveActorDestructible(EntityKind kind, String imageName, int imageHeight, double initialXPos, double initialYPos) {
+        super(kind, imageName, imageHeight, initialXPos, initialYPos); // Actor starts in an un-destroyed state
+    }
+
+    /**
+     * Constructs an ActiveActorDestructible whose entity is allocated in the given store.
+     *
+     * @param store       The store to allocate the actor's entity in, or {@code null} for a private store.
+     * @param kind        The kind of simulation entity backing the actor.
      * @param imageName   Name of the image file for the actor (e.g., "enemy.png").
      * @param imageHeight Height of the image to be displayed, in pixels.
      * @param initialXPos Initial X-coordinate position of the actor on the screen.
      * @param initialYPos Initial Y-coordinate position of the actor on the screen.
      */
-    public ActiveActorDestructible(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-        super(imageName, imageHeight, initialXPos, initialYPos);
-        this.isDestroyed = false; // Actor starts in an un-destroyed state
+    public ActiveActorDestructible(EntityStore store, EntityKind kind, String imageName, int imageHeight,
+                                   double initialXPos, double initialYPos) {
+        super(store, kind, imageName, imageHeight, initialXPos, initialYPos);
     }
 
     /**
@@ -34,6 +51,16 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
      */
     public abstract void updateActor();
 
+    /**
+     * Checks whether {@link #updateActor()} does anything each tick.
+     * Actors that only move along their velocity return {@code false}, so the managers never call it.
+     *
+     * @return True if the actor has to be updated every tick, false otherwise.
+     */
+    public boolean hasTickBehavior() {
+        return true;
+    }
+
     /**
      * Handles damage logic for the actor.
      */
@@ -45,7 +72,7 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
      */
     @Override
     public void destroy() {
-        this.isDestroyed = true; // Directly mark the actor as destroyed
+        getEntity().destroy(); // Directly mark the actor as destroyed
     }
 
     /**
@@ -54,6 +81,6 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
      * @return True if the actor is destroyed, false otherwise.
      */
     public boolean isDestroyed() {
-        return isDestroyed;
+        return getEntity().isDestroyed();
     }
 }
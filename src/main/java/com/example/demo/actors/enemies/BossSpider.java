@@ -2,15 +2,17 @@ package com.example.demo.actors.enemies;
 
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.gameplay.LevelParent;
+import com.example.demo.managers.SimulationClock;
 import com.example.demo.projectiles.BossProjectile;
+import com.example.demo.simulation.Entity;
+import com.example.demo.simulation.EntityKind;
+import com.example.demo.simulation.RandomStreams;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
 import javafx.scene.control.Label;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.paint.Color;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-
 /**
  * Represents the BossSpider enemy in the game.
  *
@@ -26,37 +28,42 @@ public class BossSpider extends FighterSpider {
     private static final double INITIAL_X_POSITION = 1000.0;
     private static final double INITIAL_Y_POSITION = 400.0;
     private static final double PROJECTILE_Y_POSITION_OFFSET = 75.0;
-    private static final double BOSS_FIRE_RATE = 0.015;
-    private static final double BOSS_SHIELD_PROBABILITY = 0.003;
+    private static final double BOSS_FIRE_RATE = 0.3;           // Average number of shots per second
+    private static final double BOSS_SHIELD_RATE = 0.06;        // Average number of shield activations per second
     private static final int IMAGE_HEIGHT = 200;
-    private static final int VERTICAL_VELOCITY = 8;
+    private static final double VERTICAL_VELOCITY = 160.0;      // Pixels per second
     private static final int HEALTH = 25;
     private static final int MOVE_FREQUENCY_PER_CYCLE = 5;
-    private static final int ZERO = 0;
-    private static final int MAX_FRAMES_WITH_SAME_MOVE = 10;
-    private static final int MAX_FRAMES_WITH_SHIELD = 250;
+    private static final double ZERO = 0;
+    private static final double SECONDS_WITH_SAME_MOVE = 0.5;   // Time spent on a move before switching
+    private static final double SECONDS_WITH_SHIELD = 12.5;     // Time the shield stays active
+    private static final double HITBOX_PADDING = 80;            // Inset of the hit box from the sprite edges
 
     // Movement and shield properties
-    private final List<Integer> movePattern = new ArrayList<>();
+    private final double[] movePattern = new double[3 * MOVE_FREQUENCY_PER_CYCLE]; // Vertical velocities
     // Visual effects
     private final DropShadow shieldGlowEffect;
     // References
     private final LevelParent levelParent;
+    private final RandomStreams random; // Random number streams of the level's world
     private final Label shieldAlert;
     private boolean isShielded;
     private int consecutiveMovesInSameDirection = 0;
     private int indexOfCurrentMove = 0;
-    private int framesWithShieldActivated = 0;
+    private int framesWithShieldActivated = 0; // Ticks since the shield was activated
 
     /**
      * Constructs a BossSpider instance with the specified parent level and alert label.
+     * The boss's entity is allocated in the store of the level's world.
      *
      * @param levelParent The parent level managing the BossSpider.
      * @param shieldAlert A label to display shield activation messages.
      */
     public BossSpider(LevelParent levelParent, Label shieldAlert) {
-        super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
+        super(levelParent.getWorld().getStore(), EntityKind.BOSS, IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION,
+                INITIAL_Y_POSITION, HEALTH);
         this.levelParent = levelParent;
+        this.random = levelParent.getWorld().getRandom();
         this.shieldAlert = shieldAlert;
 
         initializeMovePattern();
@@ -73,23 +80,13 @@ public class BossSpider extends FighterSpider {
      */
     @Override
     public void updatePosition() {
-        moveVertically(getNextMove());
+        moveVertically(SimulationClock.getInstance().perTick(getNextMove()));
 
         // Ensure BossSpider stays within the vertical and horizontal screen bounds
-        double currentY = getLayoutY() + getTranslateY();
-        double currentX = getLayoutX() + getTranslateX();
-
-        if (currentY < 0) {
-            setTranslateY(-getLayoutY());
-        } else if (currentY + getBoundsInParent().getHeight() > levelParent.getScreenHeight()) {
-            setTranslateY(levelParent.getScreenHeight() - getLayoutY() - getBoundsInParent().getHeight());
-        }
-
-        if (currentX < 0) {
-            setTranslateX(-getLayoutX());
-        } else if (currentX + getBoundsInParent().getWidth() > levelParent.getScreenWidth()) {
-            setTranslateX(levelParent.getScreenWidth() - getLayoutX() - getBoundsInParent().getWidth());
-        }
+        Entity entity = getEntity();
+        double clampedX = Math.max(0, Math.min(entity.getX(), levelParent.getScreenWidth() - entity.getWidth()));
+        double clampedY = Math.max(0, Math.min(entity.getY(), levelParent.getScreenHeight() - entity.getHeight()));
+        entity.setPosition(clampedX, clampedY);
     }
 
     /**
@@ -103,13 +100,16 @@ public class BossSpider extends FighterSpider {
 
     /**
      * Fires a projectile from the BossSpider with a predefined probability.
+     * The projectile is recycled from the boss projectile pool.
      *
      * @return A {@link BossProjectile} if fired, otherwise null.
      */
     @Override
     public ActiveActorDestructible fireProjectile() {
         if (bossFiresInCurrentFrame()) {
-            return new BossProjectile(getProjectileInitialPosition(), levelParent);
+            return levelParent.getProjectileManager()
+                    .getPool(BossProjectile.class, () -> new BossProjectile(0, levelParent))
+                    .acquire(BossProjectile.INITIAL_X_POSITION, getProjectileInitialPosition());
         }
         return null;
     }
@@ -129,15 +129,29 @@ public class BossSpider extends FighterSpider {
      *
      * @return Adjusted hit box bounds.
      */
-    public javafx.geometry.Bounds getCustomHitbox() {
-        javafx.geometry.Bounds originalBounds = super.getBoundsInParent();
-        double paddingX = 80;
-        double paddingY = 80;
-        return new javafx.geometry.BoundingBox(
-                originalBounds.getMinX() + paddingX,
-                originalBounds.getMinY() + paddingY,
-                originalBounds.getWidth() - 2 * paddingX,
-                originalBounds.getHeight() - 2 * paddingY
+    public Bounds getCustomHitbox() {
+        Entity entity = getEntity();
+        return new BoundingBox(
+                entity.getX() + HITBOX_PADDING,
+                entity.getY() + HITBOX_PADDING,
+                entity.getWidth() - 2 * HITBOX_PADDING,
+                entity.getHeight() - 2 * HITBOX_PADDING
+        );
+    }
+
+    /**
+     * Checks whether another entity overlaps the custom hit box of the BossSpider.
+     *
+     * @param other The entity to check, typically a user projectile.
+     * @return {@code true} if the entity overlaps the hit box; {@code false} otherwise.
+     */
+    public boolean hitboxIntersects(Entity other) {
+        Entity entity = getEntity();
+        return other.intersects(
+                entity.getX() + HITBOX_PADDING,
+                entity.getY() + HITBOX_PADDING,
+                entity.getMaxX() - HITBOX_PADDING,
+                entity.getMaxY() - HITBOX_PADDING
         );
     }
 
@@ -147,11 +161,11 @@ public class BossSpider extends FighterSpider {
      */
     private void initializeMovePattern() {
         for (int i = 0; i < MOVE_FREQUENCY_PER_CYCLE; i++) {
-            movePattern.add(VERTICAL_VELOCITY);
-            movePattern.add(-VERTICAL_VELOCITY);
-            movePattern.add(ZERO);
+            movePattern[3 * i] = VERTICAL_VELOCITY;
+            movePattern[3 * i + 1] = -VERTICAL_VELOCITY;
+            movePattern[3 * i + 2] = ZERO;
         }
-        Collections.shuffle(movePattern);
+        shuffleMovePattern();
     }
 
     /**
@@ -161,7 +175,7 @@ public class BossSpider extends FighterSpider {
     private void updateShield() {
         if (isShielded) {
             framesWithShieldActivated++;
-            if (framesWithShieldActivated >= MAX_FRAMES_WITH_SHIELD) {
+            if (framesWithShieldActivated >= SimulationClock.getInstance().ticksFor(SECONDS_WITH_SHIELD)) {
                 deactivateShield();
             }
         } else if (shieldShouldBeActivated()) {
@@ -172,29 +186,37 @@ public class BossSpider extends FighterSpider {
     /**
      * Determines the next move in the movement pattern.
      *
-     * @return The next vertical velocity for movement.
+     * @return The next vertical velocity for movement, in pixels per second.
      */
-    private int getNextMove() {
-        int currentMove = movePattern.get(indexOfCurrentMove);
+    private double getNextMove() {
+        double currentMove = movePattern[indexOfCurrentMove];
         consecutiveMovesInSameDirection++;
-        if (consecutiveMovesInSameDirection >= MAX_FRAMES_WITH_SAME_MOVE) {
-            Collections.shuffle(movePattern);
+        if (consecutiveMovesInSameDirection >= SimulationClock.getInstance().ticksFor(SECONDS_WITH_SAME_MOVE)) {
+            shuffleMovePattern();
             consecutiveMovesInSameDirection = 0;
             indexOfCurrentMove++;
         }
-        if (indexOfCurrentMove >= movePattern.size()) {
+        if (indexOfCurrentMove >= movePattern.length) {
             indexOfCurrentMove = 0;
         }
         return currentMove;
     }
 
+    /**
+     * Shuffles the movement pattern with the boss movement stream of the level's world.
+     */
+    private void shuffleMovePattern() {
+        RandomStreams.shuffle(movePattern, random.get(RandomStreams.Stream.BOSS_MOVEMENT));
+    }
+
     /**
      * Checks if the BossSpider should fire a projectile in the current frame.
      *
      * @return True if the BossSpider fires, otherwise false.
      */
     private boolean bossFiresInCurrentFrame() {
-        return Math.random() < BOSS_FIRE_RATE;
+        return random.get(RandomStreams.Stream.BOSS_FIRE).nextDouble()
+                < SimulationClock.getInstance().chancePerTick(BOSS_FIRE_RATE);
     }
 
     /**
@@ -203,7 +225,7 @@ public class BossSpider extends FighterSpider {
      * @return The Y-coordinate for the projectile's initial position.
      */
     private double getProjectileInitialPosition() {
-        return getLayoutY() + getTranslateY() + PROJECTILE_Y_POSITION_OFFSET;
+        return getEntity().getY() + PROJECTILE_Y_POSITION_OFFSET;
     }
 
     /**
@@ -212,7 +234,8 @@ public class BossSpider extends FighterSpider {
      * @return True if the shield activates, otherwise false.
      */
     private boolean shieldShouldBeActivated() {
-        return Math.random() < BOSS_SHIELD_PROBABILITY;
+        return random.get(RandomStreams.Stream.BOSS_SHIELD).nextDouble()
+                < SimulationClock.getInstance().chancePerTick(BOSS_SHIELD_RATE);
     }
 
     /**
@@ -226,7 +249,6 @@ public class BossSpider extends FighterSpider {
         if (shieldAlert != null) {
             shieldAlert.setText("BossSpider is shielded!");
             shieldAlert.setVisible(true);
-            shieldAlert.toFront();
         }
     }
 
@@ -1,7 +1,14 @@
 package com.example.demo.actors.enemies;
 
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.managers.ProjectileManager;
+import com.example.demo.managers.SimulationClock;
 import com.example.demo.projectiles.EnemyProjectile;
+import com.example.demo.simulation.EntityKind;
+import com.example.demo.simulation.RandomStreams;
+import com.example.demo.simulation.World;
+
+import java.util.SplittableRandom;
 
 /**
  * Represents an enemy spider in the game.
@@ -15,50 +22,75 @@ public class EnemySpider extends FighterSpider {
     // Constants for enemy spider properties
     private static final String IMAGE_NAME = "enemy.png";
     private static final int IMAGE_HEIGHT = 65;
-    private static final int HORIZONTAL_VELOCITY = -6;
+    private static final double HORIZONTAL_VELOCITY = -120.0; // Pixels per second
     private static final double PROJECTILE_X_POSITION_OFFSET = -100.0;
     private static final double PROJECTILE_Y_POSITION_OFFSET = 50.0;
     private static final int INITIAL_HEALTH = 1;
-    private static final double FIRE_RATE = 0.01; // Probability of firing a projectile each frame
+    private static final double FIRE_RATE = 0.2; // Average number of shots per second
+
+    private final SplittableRandom fireRandom; // Enemy fire stream of the spider's world
 
     /**
-     * Constructs an EnemySpider with the specified initial position.
+     * Constructs an EnemySpider in a world. Its entity is allocated in the world's store and its fire decisions
+     * are drawn from the world's random number streams.
      *
+     * @param world       The world the spider belongs to, normally the level's.
      * @param initialXPos The initial X position of the enemy spider.
      * @param initialYPos The initial Y position of the enemy spider.
      */
-    public EnemySpider(double initialXPos, double initialYPos) {
-        super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
+    public EnemySpider(World world, double initialXPos, double initialYPos) {
+        super(world.getStore(), EntityKind.ENEMY, IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos,
+                INITIAL_HEALTH);
+        this.fireRandom = world.getRandom().get(RandomStreams.Stream.ENEMY_FIRE);
+        getEntity().setVelocity(HORIZONTAL_VELOCITY, 0);
+        getEntity().setKinematic(true); // Moved by the level's world
     }
 
     /**
-     * Updates the position of the enemy spider by moving it horizontally.
+     * Updates the position of the enemy spider by moving it horizontally along its velocity.
      */
     @Override
     public void updatePosition() {
-        moveHorizontally(HORIZONTAL_VELOCITY);
+        getEntity().integrate(SimulationClock.getInstance().getStepSeconds());
     }
 
     /**
-     * Fires a projectile from the enemy spider, with a small probability defined by FIRE_RATE.
+     * Fires a projectile from the enemy spider, with a small probability derived from FIRE_RATE.
+     * The projectile is recycled from the enemy projectile pool.
      *
      * @return An {@link EnemyProjectile} if fired, otherwise null.
      */
     @Override
     public ActiveActorDestructible fireProjectile() {
-        if (Math.random() < FIRE_RATE) {
+        if (fireRandom.nextDouble() < SimulationClock.getInstance().chancePerTick(FIRE_RATE)) {
             double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
             double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-            return new EnemyProjectile(projectileXPosition, projectileYPosition);
+            return ProjectileManager.getInstance()
+                    .getPool(EnemyProjectile.class, () -> new EnemyProjectile(getEntity().getStore(), 0, 0))
+                    .acquire(projectileXPosition, projectileYPosition);
         }
         return null;
     }
 
     /**
-     * Updates the state of the enemy spider, including its position and interactions.
+     * Updates the state of the enemy spider.
+     * <p>
+     * The spider is kinematic: its movement is done by the movement pass of the store it lives in, so there
+     * is no per-spider work left to do here.
+     * </p>
      */
     @Override
     public void updateActor() {
-        updatePosition();
+        // Movement is handled by the level's world
+    }
+
+    /**
+     * The enemy only moves along its velocity, so it is never updated individually.
+     *
+     * @return Always false.
+     */
+    @Override
+    public boolean hasTickBehavior() {
+        return false;
     }
 }
@@ -1,32 +1,50 @@
 package com.example.demo.actors.enemies;
 
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.simulation.EntityKind;
+import com.example.demo.simulation.EntityStore;
 
 /**
  * Represents a fighter spider in the game, capable of firing projectiles and taking damage.
  *
  * <p>This abstract class serves as a base for both player and enemy spiders, providing
- * common functionalities such as health management and projectile firing positions.</p>
+ * common functionalities such as health management and projectile firing positions. The health is stored
+ * in the spider's simulation entity.</p>
  *
  * <p>Classes extending {@link FighterSpider} must implement the {@link #fireProjectile()} method
  * to define their specific projectile firing behavior.</p>
  */
 public abstract class FighterSpider extends ActiveActorDestructible {
 
-    private int health; // Current health of the fighter spider
-
     /**
      * Constructs a FighterSpider with the specified image, size, position, and health.
      *
+     * @param kind        The kind of simulation entity backing the spider.
+     * @param imageName   Name of the image file for the fighter spider (e.g., "player.png").
+     * @param imageHeight Height of the image to be displayed, in pixels.
+     * @param initialXPos Initial X-coordinate position of the spider.
+     * @param initialYPos Initial Y-coordinate position of the spider.
+     * @param health      Initial health of the spider.
+     */
+    public FighterSpider(EntityKind kind, String imageName, int imageHeight, double initialXPos, double initialYPos, int health) {
+        this(null, kind, imageName, imageHeight, initialXPos, initialYPos, health);
+    }
+
+    /**
+     * Constructs a FighterSpider whose entity is allocated in the given store.
+     *
+     * @param store       The store to allocate the spider's entity in, or {@code null} for a private store.
+     * @param kind        The kind of simulation entity backing the spider.
      * @param imageName   Name of the image file for the fighter spider (e.g., "player.png").
      * @param imageHeight Height of the image to be displayed, in pixels.
      * @param initialXPos Initial X-coordinate position of the spider.
      * @param initialYPos Initial Y-coordinate position of the spider.
      * @param health      Initial health of the spider.
      */
-    public FighterSpider(String imageName, int imageHeight, double initialXPos, double initialYPos, int health) {
-        super(imageName, imageHeight, initialXPos, initialYPos);
-        this.health = health;
+    public FighterSpider(EntityStore store, EntityKind kind, String imageName, int imageHeight, double initialXPos,
+                         double initialYPos, int health) {
+        super(store, kind, imageName, imageHeight, initialXPos, initialYPos);
+        getEntity().setHealth(health);
     }
 
     /**
@@ -41,7 +59,7 @@ public abstract class FighterSpider extends ActiveActorDestructible {
      */
     @Override
     public void takeDamage() {
-        health--;
+        getEntity().setHealth(getEntity().getHealth() - 1);
         if (isHealthAtZero()) {
             this.destroy();
         }
@@ -54,7 +72,7 @@ public abstract class FighterSpider extends ActiveActorDestructible {
      * @return The X-coordinate for the projectile.
      */
     protected double getProjectileXPosition(double xPositionOffset) {
-        return getLayoutX() + getTranslateX() + xPositionOffset;
+        return getEntity().getX() + xPositionOffset;
     }
 
     /**
@@ -64,7 +82,7 @@ public abstract class FighterSpider extends ActiveActorDestructible {
      * @return The Y-coordinate for the projectile.
      */
     protected double getProjectileYPosition(double yPositionOffset) {
-        return getLayoutY() + getTranslateY() + yPositionOffset;
+        return getEntity().getY() + yPositionOffset;
     }
 
     /**
@@ -73,7 +91,7 @@ public abstract class FighterSpider extends ActiveActorDestructible {
      * @return True if health is zero or below, otherwise false.
      */
     private boolean isHealthAtZero() {
-        return health <= 0;
+        return getEntity().getHealth() <= 0;
     }
 
     /**
@@ -82,6 +100,6 @@ public abstract class FighterSpider extends ActiveActorDestructible {
      * @return The current health value.
      */
     public int getHealth() {
-        return health;
+        return getEntity().getHealth();
     }
 }
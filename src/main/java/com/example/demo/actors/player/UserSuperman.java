@@ -4,7 +4,11 @@ import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.enemies.FighterSpider;
 import com.example.demo.gameplay.LevelParent;
 import com.example.demo.managers.ProjectileManager;
+import com.example.demo.managers.SimulationClock;
+import com.example.demo.projectiles.ProjectilePool;
 import com.example.demo.projectiles.UserProjectile;
+import com.example.demo.simulation.Entity;
+import com.example.demo.simulation.EntityKind;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -30,8 +34,9 @@ public class UserSuperman extends FighterSpider {
     private static final double INITIAL_X_POSITION = 5.0;
     private static final double INITIAL_Y_POSITION = 300.0;
     private static final int IMAGE_HEIGHT = 80;
-    private static final int VERTICAL_VELOCITY = 8;
-    private static final int HORIZONTAL_VELOCITY = 8;
+    public static final double SPEED = 160.0; // Top speed along either axis, in pixels per second
+    private static final double VERTICAL_VELOCITY = SPEED;
+    private static final double HORIZONTAL_VELOCITY = SPEED;
 
     private final LevelParent levelParent; // Reference to the LevelParent for scene interactions
     // Movement control
@@ -43,12 +48,14 @@ public class UserSuperman extends FighterSpider {
 
     /**
      * Constructs a UserSuperman with the specified level parent and initial health.
+     * The superman's entity is allocated in the store of the level's world.
      *
-     * @param levelParent   The parent level managing this superman.
+     * @param levelParent   The parent level managing this superman, or {@code null} outside a level.
      * @param initialHealth Initial health of the user's superman.
      */
     public UserSuperman(LevelParent levelParent, int initialHealth) {
-        super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
+        super(levelParent == null ? null : levelParent.getWorld().getStore(), EntityKind.USER, IMAGE_NAME,
+                IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
         this.levelParent = levelParent;
     }
 
@@ -57,19 +64,23 @@ public class UserSuperman extends FighterSpider {
      */
     @Override
     public void updatePosition() {
+        SimulationClock clock = SimulationClock.getInstance();
+
         // Update vertical position
         if (isMovingVertically()) {
-            double newYPosition = getLayoutY() + getTranslateY() + (VERTICAL_VELOCITY * verticalVelocityMultiplier);
+            double verticalMove = clock.perTick(VERTICAL_VELOCITY) * verticalVelocityMultiplier;
+            double newYPosition = getEntity().getY() + verticalMove;
             if (newYPosition >= Y_UPPER_BOUND && newYPosition <= Y_LOWER_BOUND) {
-                moveVertically(VERTICAL_VELOCITY * verticalVelocityMultiplier);
+                moveVertically(verticalMove);
             }
         }
 
         // Update horizontal position
         if (isMovingHorizontally()) {
-            double newXPosition = getLayoutX() + getTranslateX() + (HORIZONTAL_VELOCITY * horizontalVelocityMultiplier);
+            double horizontalMove = clock.perTick(HORIZONTAL_VELOCITY) * horizontalVelocityMultiplier;
+            double newXPosition = getEntity().getX() + horizontalMove;
             if (newXPosition >= X_LEFT_BOUND && newXPosition <= X_RIGHT_BOUND) {
-                moveHorizontally(HORIZONTAL_VELOCITY * horizontalVelocityMultiplier);
+                moveHorizontally(horizontalMove);
             }
         }
     }
@@ -91,8 +102,9 @@ public class UserSuperman extends FighterSpider {
     public ActiveActorDestructible fireProjectile() {
         levelParent.getSoundManager().playShootSound(); // Play shoot sound
 
-        double currentX = getLayoutX() + getTranslateX();
-        double currentY = getLayoutY() + getTranslateY();
+        Entity entity = getEntity();
+        double currentX = entity.getX();
+        double currentY = entity.getY();
 
         ProjectileManager projectileManager = levelParent.getProjectileManager();
 
@@ -105,8 +117,8 @@ public class UserSuperman extends FighterSpider {
             spreadshotCount--; // Decrease the spread shot count
             return spreadshotProjectiles.get(spreadshotProjectiles.size() / 2); // Return center projectile
         } else {
-            // Create and add a single projectile
-            ActiveActorDestructible projectile = new UserProjectile(currentX + 100, currentY);
+            // Acquire and add a single projectile
+            ActiveActorDestructible projectile = getProjectilePool().acquire(currentX + 100, currentY);
             projectileManager.addUserProjectile(projectile);
             return projectile;
         }
@@ -120,26 +132,36 @@ public class UserSuperman extends FighterSpider {
     }
 
     /**
-     * Creates and returns a list of spread shot projectiles.
+     * Acquires and returns a list of spread shot projectiles.
      *
      * @return A list of spread shot projectiles fired in an arrow-like pattern.
      */
     public List<ActiveActorDestructible> getSpreadshotProjectiles() {
         List<ActiveActorDestructible> projectiles = new ArrayList<>();
+        ProjectilePool<UserProjectile> pool = getProjectilePool();
 
-        double currentX = getLayoutX() + getTranslateX();
-        double currentY = getLayoutY() + getTranslateY();
+        double currentX = getEntity().getX();
+        double currentY = getEntity().getY();
 
-        // Create spread shot projectiles in an arrow-like pattern
-        projectiles.add(new UserProjectile(currentX + 75, currentY - 30)); // Left (Upwards)
-        projectiles.add(new UserProjectile(currentX + 85, currentY - 15)); // Slightly Left (Upwards)
-        projectiles.add(new UserProjectile(currentX + 100, currentY));     // Center (Straight)
-        projectiles.add(new UserProjectile(currentX + 85, currentY + 15)); // Slightly Right (Downwards)
-        projectiles.add(new UserProjectile(currentX + 75, currentY + 30)); // Right (Downwards)
+        // Acquire spread shot projectiles in an arrow-like pattern
+        projectiles.add(pool.acquire(currentX + 75, currentY - 30)); // Left (Upwards)
+        projectiles.add(pool.acquire(currentX + 85, currentY - 15)); // Slightly Left (Upwards)
+        projectiles.add(pool.acquire(currentX + 100, currentY));     // Center (Straight)
+        projectiles.add(pool.acquire(currentX + 85, currentY + 15)); // Slightly Right (Downwards)
+        projectiles.add(pool.acquire(currentX + 75, currentY + 30)); // Right (Downwards)
 
         return projectiles;
     }
 
+    /**
+     * Retrieves the pool that recycles the user's projectiles.
+     *
+     * @return The {@link ProjectilePool} for {@link UserProjectile}s.
+     */
+    private ProjectilePool<UserProjectile> getProjectilePool() {
+        return levelParent.getProjectileManager().getPool(UserProjectile.class, () -> new UserProjectile(getEntity().getStore(), 0, 0));
+    }
+
     /**
      * Checks if the user's superman is moving vertically.
      *
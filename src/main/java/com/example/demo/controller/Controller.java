@@ -1,25 +1,29 @@
 package com.example.demo.controller;
 
+import com.example.demo.diagnostics.LevelTransitionEvent;
+import com.example.demo.gameplay.LevelId;
 import com.example.demo.gameplay.LevelParent;
+import com.example.demo.gameplay.LevelRegistry;
 import com.example.demo.observer.Observer;
 import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.stage.Stage;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.util.logging.Logger;
 
 /**
  * Handles the overall control of the game, including level transitions and game launch.
  *
  * <p>This class implements the Observer pattern to listen for updates from game levels
- * and manage transitions between levels dynamically using reflection.</p>
+ * and creates the levels they transition to from the {@link LevelRegistry}.</p>
  */
 public class Controller implements Observer {
 
-    private static final String LEVEL_ONE_CLASS_NAME = "com.example.demo.gameplay.LevelOne"; // Default first level
+    private static final Logger logger = Logger.getLogger(Controller.class.getName());
+
     private final Stage stage; // Primary stage for the application
+    private final LevelRegistry levelRegistry; // Levels by id, checked when the game starts
 
     /**
      * Constructs a Controller for managing game levels and stages.
@@ -28,82 +32,56 @@ public class Controller implements Observer {
      */
     public Controller(Stage stage) {
         this.stage = stage;
+        this.levelRegistry = LevelRegistry.getInstance();
     }
 
     /**
-     * Launches the game starting from Level 1.
-     *
-     * @throws ClassNotFoundException    If the level class cannot be found.
-     * @throws NoSuchMethodException     If the level class does not have the required constructor.
-     * @throws InstantiationException    If the level class cannot be instantiated.
-     * @throws IllegalAccessException    If access to the level class constructor is not allowed.
-     * @throws InvocationTargetException If an exception occurs while invoking the constructor.
+     * Launches the game starting from the registry's first level.
      */
-    public void launchGame() throws ClassNotFoundException, NoSuchMethodException, InstantiationException,
-            IllegalAccessException, InvocationTargetException {
+    public void launchGame() {
         stage.show(); // Make the primary stage visible
-        goToLevel(LEVEL_ONE_CLASS_NAME); // Transition to the first level
+        goToLevel(levelRegistry.getFirstLevel()); // Transition to the first level
     }
 
     /**
-     * Transitions to a specified level using reflection to dynamically load the level class.
+     * Transitions to a level created by its factory in the {@link LevelRegistry}.
      *
-     * @param className The fully qualified class name of the level to transition to.
-     * @throws ClassNotFoundException    If the class cannot be found.
-     * @throws NoSuchMethodException     If the required constructor is not present in the class.
-     * @throws InstantiationException    If the class cannot be instantiated.
-     * @throws IllegalAccessException    If the constructor is not accessible.
-     * @throws InvocationTargetException If an exception occurs while invoking the constructor.
+     * @param levelId The id of the level to transition to.
      */
-    private void goToLevel(String className) throws ClassNotFoundException, NoSuchMethodException,
-            InstantiationException, IllegalAccessException, InvocationTargetException {
-
-        // Load the level class dynamically
-        Class<?> levelClass = Class.forName(className);
-        String levelName = getLevelName(className); // Determine a user-friendly name for the level
-
-        // Retrieve the constructor that matches the expected parameters
-        Constructor<?> constructor = levelClass.getConstructor(double.class, double.class, Stage.class);
+    private void goToLevel(LevelId levelId) {
+        LevelTransitionEvent transitionEvent = new LevelTransitionEvent(); // Reported while a flight recording is active
+        transitionEvent.begin();
 
         // Create an instance of the level
-        LevelParent level = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth(), stage);
+        LevelRegistry.LevelDefinition definition = levelRegistry.get(levelId);
+        LevelParent level = definition.factory().create(stage.getHeight(), stage.getWidth(), stage);
 
         level.addObserver(this); // Register this controller as an Observer
 
         // Initialize the level's scene and set it to the stage
         Scene scene = level.initializeScene(stage);
         stage.setScene(scene);
+        transitionEvent.end(level.getClass().getName(), definition.displayName());
 
         // Start the level's gameplay
-        level.startGame(levelName);
-    }
-
-    /**
-     * Determines the level name based on the class name.
-     *
-     * @param className The fully qualified class name of the level.
-     * @return A user-friendly level name.
-     */
-    private String getLevelName(String className) {
-        if (className.endsWith("LevelOne")) {
-            return "Level 1";
-        } else if (className.endsWith("LevelTwo")) {
-            return "Level 2";
-        } else if (className.endsWith("LevelThree")) {
-            return "Final Level";
-        } else {
-            return "Unknown Level";
-        }
+        level.startGame();
     }
 
     /**
      * Receives updates from levels and handles transitions or other game state changes.
      *
-     * @param arg The argument passed by the observable, expected to be the next level's class name or a game state.
+     * @param arg The argument passed by the observable, expected to be the next level's {@link LevelId} or a
+     *            game state message.
      */
     @Override
     public void update(Object arg) {
-        if (arg instanceof String message) {
+        if (arg instanceof LevelId nextLevel) {
+            try {
+                goToLevel(nextLevel);
+            } catch (RuntimeException e) {
+                showErrorAlert(e);
+            }
+        } else if (arg instanceof String message) {
             switch (message) {
                 case "LOSE_GAME":
                     System.out.println("Game over. Showing end game menu.");
@@ -126,17 +104,11 @@ public class Controller implements Observer {
                     break;
 
                 default:
-                    try {
-                        // Treat any other string as a level transition
-                        goToLevel(message);
-                    } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException
-                             | IllegalAccessException | InvocationTargetException e) {
-                        showErrorAlert(e);
-                    }
+                    logger.warning("Unhandled update message: " + message);
                     break;
             }
         } else {
-            System.err.println("Unhandled update argument: " + arg);
+            logger.warning("Unhandled update argument: " + arg);
         }
     }
 
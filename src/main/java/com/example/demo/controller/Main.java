@@ -1,10 +1,15 @@
 package com.example.demo.controller;
 
+import com.example.demo.gameplay.BotPlayer;
+import com.example.demo.gameplay.LevelRegistry;
+import com.example.demo.managers.MusicService;
+import com.example.demo.managers.ReplayManager;
+import com.example.demo.ui.gameplayUI.ActorRenderer;
 import com.example.demo.ui.menus.MainMenu;
 import javafx.application.Application;
 import javafx.stage.Stage;
 
-import java.lang.reflect.InvocationTargetException;
+import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -26,35 +31,98 @@ public class Main extends Application {
     /**
      * Main entry point for the Java application.
      * <p>
-     * This method launches the JavaFX application.
+     * This method launches the JavaFX application. The actor renderer can be selected with
+     * {@code --renderer=nodes} (default) or {@code --renderer=canvas}. The player's input can be recorded
+     * to a file with {@code --record=<file>}, and a recorded file played back with {@code --replay=<file>}.
+     * With {@code --soak=true}, the game skips the main menu, a {@link BotPlayer} plays, and the game restarts
+     * from the first level whenever it ends, for unattended soak and load runs.
      * </p>
      *
-     * @param args Command-line arguments (not used).
+     * @param args Command-line arguments.
      */
     public static void main(String[] args) {
-        launch(); // Launch the JavaFX application
+        launch(args); // Launch the JavaFX application
     }
 
     /**
      * Starts the JavaFX application and initializes the main menu.
      *
      * @param stage The primary stage for the application.
-     * @throws ClassNotFoundException    If the game controller class cannot be found.
-     * @throws NoSuchMethodException     If the required constructor is not present in the game controller class.
-     * @throws InstantiationException    If the game controller cannot be instantiated.
-     * @throws IllegalAccessException    If the game controller constructor is not accessible.
-     * @throws InvocationTargetException If an error occurs during the game controller instantiation.
      */
     @Override
-    public void start(Stage stage) throws ClassNotFoundException, NoSuchMethodException, InstantiationException,
-            IllegalAccessException, InvocationTargetException {
+    public void start(Stage stage) {
         configureStage(stage); // Configure the primary stage
+        selectRenderer(); // Apply the --renderer argument, if any
+        configureInputReplay(); // Apply the --record and --replay arguments, if any
+        configureSoakMode(); // Apply the --soak argument, if any
+        LevelRegistry.getInstance(); // Fail fast on a broken level chain
+
+        if (BotPlayer.isSoakModeEnabled()) {
+            startGame(stage); // Nobody is there to click through the menu
+            return;
+        }
 
         // Initialize and start the main menu
         MainMenu menu = new MainMenu();
         menu.start(stage, this); // Pass the stage and the main application reference to the menu
     }
 
+    /**
+     * Releases the background music player when the application exits.
+     */
+    @Override
+    public void stop() {
+        MusicService.getInstance().shutdown();
+    }
+
+    /**
+     * Selects the actor renderer from the {@code --renderer} command-line argument.
+     * The choice is stored in the {@link ActorRenderer#RENDERER_PROPERTY} system property, which every level
+     * reads when it is created.
+     *
+     * @throws IllegalArgumentException If the argument does not name a renderer.
+     */
+    private void selectRenderer() {
+        String renderer = getParameters().getNamed().get("renderer");
+        if (renderer != null) {
+            ActorRenderer.Mode.parse(renderer); // Fail fast on unknown renderers
+            System.setProperty(ActorRenderer.RENDERER_PROPERTY, renderer);
+        }
+    }
+
+    /**
+     * Starts recording or replaying the player's input from the {@code --record} and {@code --replay}
+     * command-line arguments, which are stored in the {@link ReplayManager#RECORD_PROPERTY} and
+     * {@link ReplayManager#REPLAY_PROPERTY} system properties. If the file to replay cannot be read, the game
+     * starts normally.
+     */
+    private void configureInputReplay() {
+        String recordFile = getParameters().getNamed().get("record");
+        String replayFile = getParameters().getNamed().get("replay");
+        if (recordFile != null) {
+            System.setProperty(ReplayManager.RECORD_PROPERTY, recordFile);
+        }
+        if (replayFile != null) {
+            System.setProperty(ReplayManager.REPLAY_PROPERTY, replayFile);
+        }
+        try {
+            ReplayManager.getInstance().configureFromSystemProperties();
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error reading input recording", e);
+        }
+    }
+
+    /**
+     * Enables soak mode from the {@code --soak} command-line argument, which is stored in the
+     * {@link BotPlayer#SOAK_PROPERTY} system property read by every level.
+     */
+    private void configureSoakMode() {
+        String soak = getParameters().getNamed().get("soak");
+        if (soak != null) {
+            System.setProperty(BotPlayer.SOAK_PROPERTY, soak);
+        }
+    }
+
     /**
      * Configures the main application stage with default properties.
      * Sets the stage's title, size, and ensures it is not resizable.
@@ -0,0 +1,57 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning one collision pass between two groups of actors.
+ * <p>
+ * Call {@link #begin()} before the pass and {@link #end(String, int, int, long, int)} after it.
+ * </p>
+ */
+@Name("com.example.demo.CollisionBatch")
+@Label("Collision Batch")
+@Category({"Sky Battle", "Simulation"})
+@Description("One collision pass between two groups of actors")
+public class CollisionBatchEvent extends Event {
+
+    @Label("Pass")
+    String pass;
+
+    @Label("First Group Size")
+    int firstGroupSize;
+
+    @Label("Second Group Size")
+    int secondGroupSize;
+
+    @Label("Candidate Pairs")
+    @Description("Pairs tested exactly after the broadphase")
+    long candidates;
+
+    @Label("Contacts")
+    int contacts;
+
+    /**
+     * Ends the pass and commits the event if a recording wants it.
+     *
+     * @param pass            The name of the collision pass.
+     * @param firstGroupSize  The number of actors in the first group.
+     * @param secondGroupSize The number of actors in the second group.
+     * @param candidates      The number of candidate pairs tested exactly.
+     * @param contacts        The number of overlapping pairs found.
+     */
+    public void end(String pass, int firstGroupSize, int secondGroupSize, long candidates, int contacts) {
+        end();
+        if (shouldCommit()) {
+            this.pass = pass;
+            this.firstGroupSize = firstGroupSize;
+            this.secondGroupSize = secondGroupSize;
+            this.candidates = candidates;
+            this.contacts = contacts;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.diagnostics;
+
+/**
+ * The phases of one simulation tick of a level, in the order {@code LevelParent.updateScene} runs them.
+ */
+public enum FramePhase {
+    SPAWN,                 // Spawning enemy units
+    UPDATE,                // Moving and updating all actors
+    ENEMY_FIRE,            // Generating enemy projectiles
+    ENEMY_COUNT,           // Refreshing the enemy count
+    PENETRATION,           // Enemies that got past the player
+    BOUNDS,                // Retiring actors that left the world
+    REMOVAL,               // Removing destroyed actors
+    SPIDER_COLLISIONS,     // Player against enemies
+    PROJECTILE_COLLISIONS, // Projectiles against enemies and the player
+    POWER_UP_COLLISIONS,   // Player against power-ups
+    KILL_COUNT,            // Updating the kill count
+    LEVEL_VIEW,            // Updating the HUD
+    GAME_OVER_CHECK,       // Checking whether the level is won or lost
+    TICK                   // The whole tick
+}
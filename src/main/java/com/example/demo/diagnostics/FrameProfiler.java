@@ -0,0 +1,199 @@
+package com.example.demo.diagnostics;
+
+import com.example.demo.managers.SimulationClock;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Records how long each {@link FramePhase} of a simulation tick takes.
+ * <p>
+ * The level calls {@link #beginTick()}, then {@link #endPhase(FramePhase)} after every phase, then
+ * {@link #endTick()}. Each call reads {@link System#nanoTime()} once and records the time since the previous
+ * call into the phase's {@link LogHistogram}, so the hot path does not allocate. When profiling is off, every
+ * call returns after checking a single flag. Switching it on or off takes effect at the next tick.
+ * </p>
+ * <p>
+ * The histograms cover a window of ticks. Every {@link #getDumpIntervalTicks()} ticks, the p50, p99 and max
+ * of each phase are written to the log and a new window starts; {@link #getStats(FramePhase)} reports on the
+ * current window. Profiling starts switched on if the {@code game.profile} system property is {@code true}.
+ * </p>
+ * <p>
+ * This class follows the Singleton pattern and is used from the JavaFX application thread only.
+ * </p>
+ */
+public class FrameProfiler {
+
+    private static final String PROFILE_PROPERTY = "game.profile"; // System property enabling profiling
+    private static final double DEFAULT_DUMP_INTERVAL_SECONDS = 10; // Simulated time between dumps
+    private static final Logger logger = Logger.getLogger(FrameProfiler.class.getName());
+
+    private static FrameProfiler instance;
+
+    private final Map<FramePhase, LogHistogram> histograms = new EnumMap<>(FramePhase.class);
+    private final LogHistogram[] histogramByPhase; // Same histograms, indexed by ordinal for the hot path
+    private volatile boolean enabled;   // Requested state, may be changed from any thread
+    private boolean recording = false;  // Whether the current tick is being recorded
+    private long tickStartNanos;
+    private long phaseStartNanos;
+    private long dumpIntervalTicks;     // Ticks per window; 0 disables the periodic dump
+    private long ticksInWindow = 0;
+
+    /**
+     * Private constructor to enforce the Singleton pattern.
+     */
+    private FrameProfiler() {
+        FramePhase[] phases = FramePhase.values();
+        histogramByPhase = new LogHistogram[phases.length];
+        for (FramePhase phase : phases) {
+            LogHistogram histogram = new LogHistogram();
+            histograms.put(phase, histogram);
+            histogramByPhase[phase.ordinal()] = histogram;
+        }
+        enabled = Boolean.getBoolean(PROFILE_PROPERTY);
+        dumpIntervalTicks = SimulationClock.getInstance().ticksFor(DEFAULT_DUMP_INTERVAL_SECONDS);
+    }
+
+    /**
+     * Retrieves the singleton instance of the FrameProfiler.
+     *
+     * @return The singleton instance.
+     */
+    public static FrameProfiler getInstance() {
+        if (instance == null) {
+            instance = new FrameProfiler();
+        }
+        return instance;
+    }
+
+    /**
+     * Switches profiling on or off, starting with the next tick.
+     *
+     * @param enabled {@code true} to record phase timings.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Checks whether profiling is switched on.
+     *
+     * @return {@code true} if phase timings are recorded.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets how many ticks each window covers before it is dumped to the log and reset.
+     *
+     * @param ticks The window length in ticks, or 0 to never dump or reset automatically.
+     * @throws IllegalArgumentException If the number of ticks is negative.
+     */
+    public void setDumpIntervalTicks(long ticks) {
+        if (ticks < 0) {
+            throw new IllegalArgumentException("Dump interval must not be negative: " + ticks);
+        }
+        this.dumpIntervalTicks = ticks;
+    }
+
+    /**
+     * Retrieves how many ticks each window covers.
+     *
+     * @return The window length in ticks, or 0 if the periodic dump is off.
+     */
+    public long getDumpIntervalTicks() {
+        return dumpIntervalTicks;
+    }
+
+    /**
+     * Marks the start of a tick.
+     */
+    public void beginTick() {
+        recording = enabled;
+        if (recording) {
+            tickStartNanos = System.nanoTime();
+            phaseStartNanos = tickStartNanos;
+        }
+    }
+
+    /**
+     * Records the time since the previous phase ended, or since the tick began, for the given phase.
+     *
+     * @param phase The phase that just finished.
+     */
+    public void endPhase(FramePhase phase) {
+        if (!recording) {
+            return;
+        }
+        long now = System.nanoTime();
+        histogramByPhase[phase.ordinal()].record(now - phaseStartNanos);
+        phaseStartNanos = now;
+    }
+
+    /**
+     * Marks the end of a tick, recording its total duration and dumping the window when it is full.
+     */
+    public void endTick() {
+        if (!recording) {
+            return;
+        }
+        recording = false;
+        histogramByPhase[FramePhase.TICK.ordinal()].record(System.nanoTime() - tickStartNanos);
+        if (dumpIntervalTicks > 0 && ++ticksInWindow >= dumpIntervalTicks) {
+            logger.info(dump());
+            reset();
+        }
+    }
+
+    /**
+     * Retrieves the statistics of a phase for the current window.
+     *
+     * @param phase The phase.
+     * @return The phase's statistics, in nanoseconds.
+     */
+    public PhaseStats getStats(FramePhase phase) {
+        LogHistogram histogram = histograms.get(phase);
+        return new PhaseStats(phase, histogram.getCount(), histogram.getValueAtPercentile(50),
+                histogram.getValueAtPercentile(99), histogram.getMax());
+    }
+
+    /**
+     * Formats the statistics of every phase for the current window as a table, in microseconds.
+     *
+     * @return The formatted statistics.
+     */
+    public String dump() {
+        StringBuilder builder = new StringBuilder(String.format(Locale.ROOT,
+                "Frame phases over %d ticks (us):%n%-22s %10s %10s %10s%n",
+                histograms.get(FramePhase.TICK).getCount(), "phase", "p50", "p99", "max"));
+        for (FramePhase phase : FramePhase.values()) {
+            PhaseStats stats = getStats(phase);
+            builder.append(String.format(Locale.ROOT, "%-22s %10.1f %10.1f %10.1f%n", phase,
+                    stats.p50Nanos() / 1e3, stats.p99Nanos() / 1e3, stats.maxNanos() / 1e3));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Clears every histogram and starts a new window.
+     */
+    public void reset() {
+        histograms.values().forEach(LogHistogram::reset);
+        ticksInWindow = 0;
+    }
+
+    /**
+     * Timing statistics of one phase.
+     *
+     * @param phase     The phase.
+     * @param count     The number of recorded ticks.
+     * @param p50Nanos  The median duration, in nanoseconds.
+     * @param p99Nanos  The 99th percentile duration, in nanoseconds.
+     * @param maxNanos  The longest duration, in nanoseconds.
+     */
+    public record PhaseStats(FramePhase phase, long count, long p50Nanos, long p99Nanos, long maxNanos) {
+    }
+}
@@ -0,0 +1,309 @@
+package com.example.demo.diagnostics;
+
+import com.example.demo.managers.SimulationClock;
+
+import java.util.Locale;
+import java.util.logging.Logger;
+
+/**
+ * Measures how long player input takes to reach the screen, split into two stages.
+ * <ul>
+ *     <li><em>Event to tick</em>: from a key event arriving to the simulation tick that samples it.</li>
+ *     <li><em>Tick to pulse</em>: from the tick that starts the player moving to the first JavaFX pulse
+ *     in which the player is drawn at a new position.</li>
+ * </ul>
+ * <p>
+ * The input handler calls {@link #keyEvent()} for every key event of a game control and
+ * {@link #tickSampled(int, boolean, double, double)} when a tick samples the keyboard; the level calls
+ * {@link #pulse(double, double)} once per pulse, after layout and before the scene is rendered. JavaFX key
+ * events carry no timestamp, so an event is stamped when it reaches the handler.
+ * </p>
+ * <p>
+ * Latencies are recorded into one {@link LogHistogram} per stage and per band of concurrent entity count,
+ * so a slowdown under heavy waves shows up in the upper bands only. The histograms are dumped to the log
+ * every {@link #getDumpIntervalTicks()} sampled ticks, like those of the {@link FrameProfiler}, and both
+ * profilers are switched on and off together. Only movement starts are timed: a stop leaves the player where
+ * it is, so there is no new position to wait for. A movement start that never shows on screen, e.g. against
+ * the edge of the world, is given up after {@link #MAX_PULSES_AWAITED} pulses and counted as unrendered.
+ * </p>
+ * <p>
+ * This class follows the Singleton pattern and is used from the JavaFX application thread only.
+ * </p>
+ */
+public class InputLatencyProfiler {
+
+    /**
+     * The stages of input latency.
+     */
+    public enum Stage {
+        EVENT_TO_TICK, // Key event arrival to the tick that samples it
+        TICK_TO_PULSE  // Movement start in a tick to the pulse that draws the player moved
+    }
+
+    static final int MAX_PULSES_AWAITED = 30; // Pulses to wait for the player to move on screen
+    private static final String PROFILE_PROPERTY = "game.profile"; // System property enabling profiling
+    private static final double DEFAULT_DUMP_INTERVAL_SECONDS = 10; // Simulated time between dumps
+    private static final int[] BAND_LIMITS = {25, 50, 100, 200}; // Exclusive upper entity counts of the bands
+    private static final int MAX_PENDING_EVENTS = 64; // Key events kept between two ticks
+    private static final Logger logger = Logger.getLogger(InputLatencyProfiler.class.getName());
+
+    private static InputLatencyProfiler instance;
+
+    private final LogHistogram[][] histograms; // Indexed by stage ordinal, then entity band
+    private final long[] pendingEventNanos = new long[MAX_PENDING_EVENTS]; // Arrival of events not yet sampled
+    private volatile boolean enabled;
+    private int pendingEventCount = 0;
+    private long overflowedEventCount = 0; // Events not timed because too many arrived in one tick
+    private boolean awaitingPulse = false; // Whether a movement start has yet to show on screen
+    private long movementTickNanos;        // When the awaited movement start was sampled
+    private int movementBand;              // Entity band at the awaited movement start
+    private double movementX;              // Player's drawn position when the movement started
+    private double movementY;
+    private int pulsesAwaited;
+    private long unrenderedCount = 0;      // Movement starts given up on
+    private long dumpIntervalTicks;        // Sampled ticks per window; 0 disables the periodic dump
+    private long ticksInWindow = 0;
+
+    /**
+     * Private constructor to enforce the Singleton pattern.
+     */
+    private InputLatencyProfiler() {
+        histograms = new LogHistogram[Stage.values().length][BAND_LIMITS.length + 1];
+        for (LogHistogram[] stageHistograms : histograms) {
+            for (int band = 0; band < stageHistograms.length; band++) {
+                stageHistograms[band] = new LogHistogram();
+            }
+        }
+        enabled = Boolean.getBoolean(PROFILE_PROPERTY);
+        dumpIntervalTicks = SimulationClock.getInstance().ticksFor(DEFAULT_DUMP_INTERVAL_SECONDS);
+    }
+
+    /**
+     * Retrieves the singleton instance of the InputLatencyProfiler.
+     *
+     * @return The singleton instance.
+     */
+    public static InputLatencyProfiler getInstance() {
+        if (instance == null) {
+            instance = new InputLatencyProfiler();
+        }
+        return instance;
+    }
+
+    /**
+     * Switches profiling on or off. Measurements in progress are discarded.
+     *
+     * @param enabled {@code true} to record input latencies.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        pendingEventCount = 0;
+        awaitingPulse = false;
+    }
+
+    /**
+     * Checks whether profiling is switched on.
+     *
+     * @return {@code true} if input latencies are recorded.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets how many sampled ticks each window covers before it is dumped to the log and reset.
+     *
+     * @param ticks The window length in ticks, or 0 to never dump or reset automatically.
+     * @throws IllegalArgumentException If the number of ticks is negative.
+     */
+    public void setDumpIntervalTicks(long ticks) {
+        if (ticks < 0) {
+            throw new IllegalArgumentException("Dump interval must not be negative: " + ticks);
+        }
+        this.dumpIntervalTicks = ticks;
+    }
+
+    /**
+     * Retrieves how many sampled ticks each window covers.
+     *
+     * @return The window length in ticks, or 0 if the periodic dump is off.
+     */
+    public long getDumpIntervalTicks() {
+        return dumpIntervalTicks;
+    }
+
+    /**
+     * Stamps a key event of a game control as it arrives.
+     */
+    public void keyEvent() {
+        if (!enabled) {
+            return;
+        }
+        if (pendingEventCount == MAX_PENDING_EVENTS) {
+            overflowedEventCount++;
+            return;
+        }
+        pendingEventNanos[pendingEventCount++] = System.nanoTime();
+    }
+
+    /**
+     * Records the latency of every key event sampled by the current tick, and starts waiting for the next
+     * pulse if the tick started the player moving.
+     *
+     * @param entityCount     The number of actors in the level.
+     * @param movementStarted Whether the sampled input started the player moving in a new direction.
+     * @param playerX         The player's horizontal position as last drawn on screen.
+     * @param playerY         The player's vertical position as last drawn on screen.
+     */
+    public void tickSampled(int entityCount, boolean movementStarted, double playerX, double playerY) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        int band = bandOf(entityCount);
+        LogHistogram eventToTick = histograms[Stage.EVENT_TO_TICK.ordinal()][band];
+        for (int i = 0; i < pendingEventCount; i++) {
+            eventToTick.record(now - pendingEventNanos[i]);
+        }
+        pendingEventCount = 0;
+
+        if (movementStarted && !awaitingPulse) {
+            awaitingPulse = true;
+            movementTickNanos = now;
+            movementBand = band;
+            movementX = playerX;
+            movementY = playerY;
+            pulsesAwaited = 0;
+        }
+        if (dumpIntervalTicks > 0 && ++ticksInWindow >= dumpIntervalTicks) {
+            logger.info(dump());
+            reset();
+        }
+    }
+
+    /**
+     * Records the tick-to-pulse latency if the player is drawn at a new position in this pulse.
+     *
+     * @param playerX The player's horizontal position as drawn in this pulse.
+     * @param playerY The player's vertical position as drawn in this pulse.
+     */
+    public void pulse(double playerX, double playerY) {
+        if (!awaitingPulse) {
+            return;
+        }
+        if (playerX != movementX || playerY != movementY) {
+            histograms[Stage.TICK_TO_PULSE.ordinal()][movementBand].record(System.nanoTime() - movementTickNanos);
+            awaitingPulse = false;
+        } else if (++pulsesAwaited >= MAX_PULSES_AWAITED) {
+            unrenderedCount++;
+            awaitingPulse = false;
+        }
+    }
+
+    /**
+     * Retrieves the statistics of a stage for one entity band of the current window.
+     *
+     * @param stage The stage.
+     * @param band  The entity band, from 0 to {@link #getBandCount()} exclusive.
+     * @return The stage's statistics, in nanoseconds.
+     * @throws IllegalArgumentException If the band does not exist.
+     */
+    public LatencyStats getStats(Stage stage, int band) {
+        if (band < 0 || band > BAND_LIMITS.length) {
+            throw new IllegalArgumentException("No such entity band: " + band);
+        }
+        LogHistogram histogram = histograms[stage.ordinal()][band];
+        return new LatencyStats(stage, bandLabel(band), histogram.getCount(), histogram.getValueAtPercentile(50),
+                histogram.getValueAtPercentile(99), histogram.getMax());
+    }
+
+    /**
+     * Retrieves the number of entity bands.
+     *
+     * @return The band count.
+     */
+    public int getBandCount() {
+        return BAND_LIMITS.length + 1;
+    }
+
+    /**
+     * Retrieves the number of movement starts that never showed on screen in the current window.
+     *
+     * @return The unrendered count.
+     */
+    public long getUnrenderedCount() {
+        return unrenderedCount;
+    }
+
+    /**
+     * Formats the statistics of every stage and entity band for the current window as a table, in
+     * microseconds. Empty bands are left out.
+     *
+     * @return The formatted statistics.
+     */
+    public String dump() {
+        StringBuilder builder = new StringBuilder(String.format(Locale.ROOT,
+                "Input latency (us), %d unrendered, %d untimed events:%n%-14s %-9s %8s %10s %10s %10s%n",
+                unrenderedCount, overflowedEventCount, "stage", "entities", "count", "p50", "p99", "max"));
+        for (Stage stage : Stage.values()) {
+            for (int band = 0; band <= BAND_LIMITS.length; band++) {
+                LatencyStats stats = getStats(stage, band);
+                if (stats.count() == 0) {
+                    continue;
+                }
+                builder.append(String.format(Locale.ROOT, "%-14s %-9s %8d %10.1f %10.1f %10.1f%n", stage,
+                        stats.entities(), stats.count(), stats.p50Nanos() / 1e3, stats.p99Nanos() / 1e3,
+                        stats.maxNanos() / 1e3));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Clears every histogram and counter and starts a new window. A measurement in progress is kept.
+     */
+    public void reset() {
+        for (LogHistogram[] stageHistograms : histograms) {
+            for (LogHistogram histogram : stageHistograms) {
+                histogram.reset();
+            }
+        }
+        unrenderedCount = 0;
+        overflowedEventCount = 0;
+        ticksInWindow = 0;
+    }
+
+    /**
+     * Finds the band of an entity count.
+     */
+    static int bandOf(int entityCount) {
+        for (int band = 0; band < BAND_LIMITS.length; band++) {
+            if (entityCount < BAND_LIMITS[band]) {
+                return band;
+            }
+        }
+        return BAND_LIMITS.length;
+    }
+
+    /**
+     * Describes the entity counts of a band, e.g. {@code "25-49"}.
+     */
+    private static String bandLabel(int band) {
+        int lower = band == 0 ? 0 : BAND_LIMITS[band - 1];
+        return band == BAND_LIMITS.length ? lower + "+" : lower + "-" + (BAND_LIMITS[band] - 1);
+    }
+
+    /**
+     * Latency statistics of one stage in one entity band.
+     *
+     * @param stage     The stage.
+     * @param entities  The entity counts of the band, e.g. {@code "25-49"}.
+     * @param count     The number of recorded latencies.
+     * @param p50Nanos  The median latency, in nanoseconds.
+     * @param p99Nanos  The 99th percentile latency, in nanoseconds.
+     * @param maxNanos  The longest latency, in nanoseconds.
+     */
+    public record LatencyStats(Stage stage, String entities, long count, long p50Nanos, long p99Nanos,
+                               long maxNanos) {
+    }
+}
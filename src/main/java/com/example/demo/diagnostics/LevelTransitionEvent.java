@@ -0,0 +1,42 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning the construction and scene setup of a level.
+ * <p>
+ * Call {@link #begin()} before the level is created and {@link #end(String, String)} once its scene is on
+ * the stage.
+ * </p>
+ */
+@Name("com.example.demo.LevelTransition")
+@Label("Level Transition")
+@Category({"Sky Battle", "Gameplay"})
+@Description("Loading a level and setting its scene on the stage")
+public class LevelTransitionEvent extends Event {
+
+    @Label("Level Class")
+    String levelClass;
+
+    @Label("Level Name")
+    String levelName;
+
+    /**
+     * Ends the transition and commits the event if a recording wants it.
+     *
+     * @param levelClass The fully qualified class name of the level.
+     * @param levelName  The display name of the level.
+     */
+    public void end(String levelClass, String levelName) {
+        end();
+        if (shouldCommit()) {
+            this.levelClass = levelClass;
+            this.levelName = levelName;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.demo.diagnostics;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size histogram of non-negative {@code long} values with logarithmic buckets.
+ * <p>
+ * Values below 32 get one bucket each. Above that, every power-of-two range is split into 16 equal
+ * sub-buckets, so a bucket is never wider than 1/16 of its lower bound and percentiles are reported
+ * within about 6% of the exact value. All buckets are allocated up front, which makes
+ * {@link #record(long)} a few arithmetic operations and an array increment, with no allocation.
+ * </p>
+ * <p>
+ * The histogram is not thread-safe.
+ * </p>
+ */
+public class LogHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS; // Sub-buckets per power of two
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount = 0;
+    private long max = 0;
+    private long sum = 0;
+
+    /**
+     * Records one value.
+     *
+     * @param value The value to record; negative values are recorded as zero.
+     */
+    public void record(long value) {
+        long clamped = Math.max(0, value);
+        counts[bucketOf(clamped)]++;
+        totalCount++;
+        sum += clamped;
+        if (clamped > max) {
+            max = clamped;
+        }
+    }
+
+    /**
+     * Retrieves the value at the given percentile.
+     * The result is the upper bound of the bucket holding that percentile, capped at the largest value
+     * recorded.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return The value at the percentile, or 0 if nothing was recorded.
+     * @throws IllegalArgumentException If the percentile is outside [0, 100].
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount)); // 1-based rank of the value
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(bucket), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Retrieves the number of recorded values.
+     *
+     * @return The value count.
+     */
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Retrieves the largest recorded value.
+     *
+     * @return The maximum, or 0 if nothing was recorded.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Retrieves the mean of the recorded values.
+     *
+     * @return The mean, or 0 if nothing was recorded.
+     */
+    public double getMean() {
+        return totalCount == 0 ? 0 : (double) sum / totalCount;
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        max = 0;
+        sum = 0;
+    }
+
+    /**
+     * Finds the bucket of a non-negative value.
+     */
+    static int bucketOf(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int highestBit = 63 - Long.numberOfLeadingZeros(value);
+        int shift = highestBit - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS; // The bits below the highest, in [0, 16)
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Retrieves the largest value that falls into a bucket.
+     */
+    static long upperBoundOf(int bucket) {
+        int group = bucket / SUB_BUCKETS;
+        if (group <= 1) {
+            return bucket; // One value per bucket below 32
+        }
+        int shift = group - 1;
+        long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for a sound effect started by the {@code SoundManager}.
+ */
+@Name("com.example.demo.SoundPlayback")
+@Label("Sound Playback")
+@Category({"Sky Battle", "Audio"})
+@Description("A sound effect started playing")
+public class SoundPlaybackEvent extends Event {
+
+    @Label("Sound")
+    String sound;
+
+    /**
+     * Records a started sound if a recording has this event enabled.
+     *
+     * @param sound The name of the sound.
+     */
+    public static void emit(String sound) {
+        SoundPlaybackEvent event = new SoundPlaybackEvent();
+        if (event.shouldCommit()) {
+            event.sound = sound;
+            event.commit();
+        }
+    }
+}
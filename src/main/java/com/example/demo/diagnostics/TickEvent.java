@@ -0,0 +1,68 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning one simulation tick of a level, with the number of actors each manager tracks.
+ * <p>
+ * Call {@link #begin()} at the start of the tick and {@link #end(String, long, int, int, int, int, int)} at
+ * the end; the counts are only gathered and the event only committed while a recording has it enabled.
+ * </p>
+ */
+@Name("com.example.demo.Tick")
+@Label("Game Tick")
+@Category({"Sky Battle", "Simulation"})
+@Description("One fixed-timestep update of the current level")
+public class TickEvent extends Event {
+
+    @Label("Level")
+    String level;
+
+    @Label("Tick")
+    long tick;
+
+    @Label("Friendly Units")
+    int friendlyUnits;
+
+    @Label("Enemies")
+    int enemies;
+
+    @Label("User Projectiles")
+    int userProjectiles;
+
+    @Label("Enemy Projectiles")
+    int enemyProjectiles;
+
+    @Label("Power-Ups")
+    int powerUps;
+
+    /**
+     * Ends the tick and commits the event if a recording wants it.
+     *
+     * @param level            The name of the level.
+     * @param tick             The number of the tick.
+     * @param friendlyUnits    The number of friendly units.
+     * @param enemies          The number of enemies.
+     * @param userProjectiles  The number of user projectiles.
+     * @param enemyProjectiles The number of enemy projectiles.
+     * @param powerUps         The number of power-ups.
+     */
+    public void end(String level, long tick, int friendlyUnits, int enemies, int userProjectiles,
+                    int enemyProjectiles, int powerUps) {
+        end();
+        if (shouldCommit()) {
+            this.level = level;
+            this.tick = tick;
+            this.friendlyUnits = friendlyUnits;
+            this.enemies = enemies;
+            this.userProjectiles = userProjectiles;
+            this.enemyProjectiles = enemyProjectiles;
+            this.powerUps = powerUps;
+            commit();
+        }
+    }
+}
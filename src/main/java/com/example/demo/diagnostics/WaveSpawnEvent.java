@@ -0,0 +1,48 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for a wave of enemies spawned by a level.
+ */
+@Name("com.example.demo.WaveSpawn")
+@Label("Enemy Wave Spawn")
+@Category({"Sky Battle", "Gameplay"})
+@Description("A wave of enemies added to the level")
+public class WaveSpawnEvent extends Event {
+
+    @Label("Level")
+    String level;
+
+    @Label("Wave")
+    int wave;
+
+    @Label("Enemies")
+    int enemies;
+
+    @Label("Boss")
+    boolean boss;
+
+    /**
+     * Records a spawned wave if a recording has this event enabled.
+     *
+     * @param level   The name of the level.
+     * @param wave    The number of the wave, starting at 1.
+     * @param enemies The number of enemies in the wave.
+     * @param boss    Whether the wave introduces a boss.
+     */
+    public static void emit(String level, int wave, int enemies, boolean boss) {
+        WaveSpawnEvent event = new WaveSpawnEvent();
+        if (event.shouldCommit()) {
+            event.level = level;
+            event.wave = wave;
+            event.enemies = enemies;
+            event.boss = boss;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.demo.gameplay;
+
+import com.example.demo.actors.player.UserSuperman;
+import com.example.demo.managers.EnemyManager;
+import com.example.demo.managers.InputHandler;
+import com.example.demo.managers.InputState;
+import com.example.demo.managers.PowerUpManager;
+import com.example.demo.managers.ProjectileManager;
+import com.example.demo.simulation.Entity;
+import com.example.demo.simulation.EntityHolder;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A scripted player for unattended soak and load runs, steering the controls in place of the keyboard.
+ * <p>
+ * Once per tick the bot reads the enemies, the enemy projectiles and the power-ups, and chooses where the
+ * player should be:
+ * </p>
+ * <ul>
+ *     <li>Every candidate lane, a few pixels apart over the height of the field, is checked against the
+ *     hostiles moving towards the player. A lane is dangerous if a hostile would overlap the player while
+ *     passing its column, given how far the player can travel towards the lane by then.</li>
+ *     <li>Among the safest lanes, the bot prefers the one lined up with a falling power-up, or else with the
+ *     enemy closest to the left edge, and lanes close to where the player already is.</li>
+ *     <li>The bot stays near the left edge, where it has the most time to react, and only moves right to
+ *     collect a power-up. It fires while any enemy is alive.</li>
+ * </ul>
+ * <p>
+ * The bot is switched on with the {@code game.soak} system property, together with a run mode that
+ * restarts from the first level on game over or after the final level is won.
+ * </p>
+ */
+public class BotPlayer implements InputHandler.Autopilot {
+
+    public static final String SOAK_PROPERTY = "game.soak"; // System property enabling soak mode
+
+    private static final double PLAYER_SPEED = UserSuperman.SPEED; // Player's speed, in pixels per second
+    private static final double LANE_STEP = 10.0;       // Distance between two candidate lanes, in pixels
+    private static final double BOTTOM_MARGIN = 40.0;   // Field height below the player's lowest position
+    private static final double HORIZON_SECONDS = 1.5;  // How far ahead hostiles are considered
+    private static final double SAFETY_MARGIN = 12.0;   // Clearance kept around the player, in pixels
+    private static final double DEAD_BAND = 4.0;        // Distance to a target treated as reached, in pixels
+    private static final double HOME_X = 40.0;          // Horizontal position held between power-ups
+    private static final double GOAL_WEIGHT = 0.01;     // Cost per pixel between a lane and the goal lane
+    private static final double TRAVEL_WEIGHT = 0.002;  // Cost per pixel between a lane and the player
+
+    private final EntityHolder player;
+    private final double maxLaneY; // Lowest top edge the player is steered to
+    private final Supplier<List<? extends EntityHolder>> enemies;
+    private final Supplier<List<? extends EntityHolder>> enemyProjectiles;
+    private final Supplier<List<? extends EntityHolder>> powerUps;
+
+    /**
+     * Constructs a bot.
+     *
+     * @param player           The player's character.
+     * @param fieldHeight      The height of the playing field, in pixels.
+     * @param enemies          Supplies the enemies alive in the level.
+     * @param enemyProjectiles Supplies the enemy projectiles in flight.
+     * @param powerUps         Supplies the power-ups that can be collected.
+     */
+    public BotPlayer(EntityHolder player, double fieldHeight, Supplier<List<? extends EntityHolder>> enemies,
+                     Supplier<List<? extends EntityHolder>> enemyProjectiles,
+                     Supplier<List<? extends EntityHolder>> powerUps) {
+        this.player = player;
+        this.maxLaneY = Math.max(0, fieldHeight - player.getEntity().getHeight() - BOTTOM_MARGIN);
+        this.enemies = enemies;
+        this.enemyProjectiles = enemyProjectiles;
+        this.powerUps = powerUps;
+    }
+
+    /**
+     * Creates a bot reading the level's actors from the {@link EnemyManager}, the {@link ProjectileManager} and
+     * the {@link PowerUpManager}.
+     *
+     * @param user        The player's character.
+     * @param fieldHeight The height of the playing field, in pixels.
+     * @return The bot.
+     */
+    public static BotPlayer forLevel(UserSuperman user, double fieldHeight) {
+        return new BotPlayer(user, fieldHeight, () -> EnemyManager.getInstance().getEnemies(),
+                () -> ProjectileManager.getInstance().getEnemyProjectiles(),
+                () -> PowerUpManager.getInstance().getPowerUps());
+    }
+
+    /**
+     * Checks whether soak mode was requested through the {@link #SOAK_PROPERTY} system property.
+     *
+     * @return {@code true} if the bot should play and the game restart on its own.
+     */
+    public static boolean isSoakModeEnabled() {
+        return Boolean.getBoolean(SOAK_PROPERTY);
+    }
+
+    /**
+     * Sets the controls that move the player towards the best lane and position, and fire while enemies are
+     * alive.
+     *
+     * @param controls The controls to set.
+     */
+    @Override
+    public void steer(InputState controls) {
+        Entity self = player.getEntity();
+        Entity powerUp = nearest(powerUps.get(), self);
+        Entity target = leftmost(enemies.get());
+
+        double goalY;
+        double goalX = HOME_X;
+        if (powerUp != null) {
+            goalY = powerUp.getY() + (powerUp.getHeight() - self.getHeight()) / 2;
+            goalX = powerUp.getX() + (powerUp.getWidth() - self.getWidth()) / 2;
+        } else if (target != null) {
+            goalY = target.getY() + (target.getHeight() - self.getHeight()) / 2;
+        } else {
+            goalY = self.getY();
+        }
+
+        double laneY = chooseLane(self, goalY);
+        set(controls, InputState.Control.UP, laneY < self.getY() - DEAD_BAND);
+        set(controls, InputState.Control.DOWN, laneY > self.getY() + DEAD_BAND);
+        set(controls, InputState.Control.LEFT, goalX < self.getX() - DEAD_BAND);
+        set(controls, InputState.Control.RIGHT, goalX > self.getX() + DEAD_BAND);
+        set(controls, InputState.Control.FIRE, target != null);
+    }
+
+    /**
+     * Picks the lane with the fewest threats, breaking ties by closeness to the goal and to the player.
+     *
+     * @param self  The player's entity.
+     * @param goalY The top edge the player would like to reach.
+     * @return The top edge of the chosen lane.
+     */
+    private double chooseLane(Entity self, double goalY) {
+        List<? extends EntityHolder> hostileEnemies = enemies.get();
+        List<? extends EntityHolder> hostileProjectiles = enemyProjectiles.get();
+        double bestLane = self.getY();
+        double bestCost = Double.MAX_VALUE;
+        for (double lane = 0; lane <= maxLaneY + LANE_STEP / 2; lane += LANE_STEP) {
+            double laneY = Math.min(lane, maxLaneY);
+            double cost = threats(self, laneY, hostileEnemies) + threats(self, laneY, hostileProjectiles)
+                    + Math.abs(laneY - goalY) * GOAL_WEIGHT + Math.abs(laneY - self.getY()) * TRAVEL_WEIGHT;
+            if (cost < bestCost) {
+                bestCost = cost;
+                bestLane = laneY;
+            }
+        }
+        return bestLane;
+    }
+
+    /**
+     * Counts the hostiles that would hit the player on the way to a lane.
+     * Each hostile moving left is checked as it enters, crosses and leaves the player's column.
+     */
+    private static int threats(Entity self, double laneY, List<? extends EntityHolder> hostiles) {
+        int threats = 0;
+        for (EntityHolder holder : hostiles) {
+            Entity hostile = holder.getEntity();
+            double speed = -hostile.getVelocityX();
+            if (hostile.isDestroyed() || speed <= 0 || hostile.getX() + hostile.getWidth() < self.getX()) {
+                continue; // Not heading for the player, or already past
+            }
+            double enterSeconds = Math.max(0, (hostile.getX() - self.getX() - self.getWidth()) / speed);
+            if (enterSeconds > HORIZON_SECONDS) {
+                continue;
+            }
+            double leaveSeconds = (hostile.getX() + hostile.getWidth() - self.getX()) / speed;
+            if (hits(self, laneY, hostile, enterSeconds) || hits(self, laneY, hostile, leaveSeconds)
+                    || hits(self, laneY, hostile, (enterSeconds + leaveSeconds) / 2)) {
+                threats++;
+            }
+        }
+        return threats;
+    }
+
+    /**
+     * Checks whether a hostile overlaps the player vertically after some time, with the player travelling
+     * towards a lane at full speed.
+     */
+    private static boolean hits(Entity self, double laneY, Entity hostile, double seconds) {
+        double travel = Math.min(Math.abs(laneY - self.getY()), PLAYER_SPEED * seconds);
+        double playerTop = self.getY() + Math.signum(laneY - self.getY()) * travel - SAFETY_MARGIN;
+        double playerBottom = playerTop + self.getHeight() + 2 * SAFETY_MARGIN;
+        double hostileTop = hostile.getY() + hostile.getVelocityY() * seconds;
+        return hostileTop < playerBottom && hostileTop + hostile.getHeight() > playerTop;
+    }
+
+    /**
+     * Finds the closest live actor to the player.
+     *
+     * @return Its entity, or {@code null} if there is none.
+     */
+    private static Entity nearest(List<? extends EntityHolder> holders, Entity self) {
+        Entity nearest = null;
+        double nearestDistance = Double.MAX_VALUE;
+        for (EntityHolder holder : holders) {
+            Entity entity = holder.getEntity();
+            double distance = Math.hypot(entity.getX() - self.getX(), entity.getY() - self.getY());
+            if (!entity.isDestroyed() && distance < nearestDistance) {
+                nearest = entity;
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Finds the live actor closest to the left edge, which is the first to get through.
+     *
+     * @return Its entity, or {@code null} if there is none.
+     */
+    private static Entity leftmost(List<? extends EntityHolder> holders) {
+        Entity leftmost = null;
+        for (EntityHolder holder : holders) {
+            Entity entity = holder.getEntity();
+            if (!entity.isDestroyed() && (leftmost == null || entity.getX() < leftmost.getX())) {
+                leftmost = entity;
+            }
+        }
+        return leftmost;
+    }
+
+    /**
+     * Presses or releases one control, so it is held exactly while {@code held} is true.
+     *
+     * @param controls The controls to set.
+     * @param control  The control.
+     * @param held     Whether the control should be held.
+     */
+    private static void set(InputState controls, InputState.Control control, boolean held) {
+        if (held) {
+            controls.press(control);
+        } else {
+            controls.release(control);
+        }
+    }
+}
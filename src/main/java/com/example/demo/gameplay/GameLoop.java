@@ -0,0 +1,210 @@
+package com.example.demo.gameplay;
+
+import com.example.demo.managers.SimulationClock;
+import javafx.animation.AnimationTimer;
+
+/**
+ * Fixed-timestep game loop driven by the JavaFX pulse.
+ * <p>
+ * Every rendered frame adds the elapsed real time to an accumulator, and the simulation is advanced in
+ * fixed steps of {@link SimulationClock#getStepSeconds()} until the accumulator is drained. If the FX
+ * thread stalls, the loop catches up by running several ticks in one frame instead of letting the game
+ * slow down. To avoid a spiral of death, at most {@link #getMaxCatchUpSteps()} ticks run per frame and
+ * any time beyond that is dropped.
+ * </p>
+ * <p>
+ * The loop only reads the step length from the clock. The tick action advances the clock itself when it
+ * actually simulates, so frames spent on intros or end screens do not count as simulated ticks.
+ * </p>
+ * <p>
+ * After the ticks of a frame have run, an optional render action is called once, so views are synced
+ * from the simulation model at the display rate rather than on every tick.
+ * </p>
+ * <p>
+ * The loop offers the same {@code play}, {@code pause} and {@code stop} operations as the
+ * {@link javafx.animation.Timeline} it replaces. Time spent paused is not simulated.
+ * </p>
+ */
+public class GameLoop {
+
+    private static final int DEFAULT_MAX_CATCH_UP_STEPS = 5; // Ticks allowed per frame before time is dropped
+
+    private final Runnable tick;         // Advances the simulation by one step
+    private final Runnable render;       // Syncs views from the simulation once per frame
+    private final SimulationClock clock; // Provides the fixed timestep
+    private AnimationTimer timer;        // Pulse listener, created on first play
+    private int maxCatchUpSteps = DEFAULT_MAX_CATCH_UP_STEPS;
+    private long lastFrameNanos = -1;    // Timestamp of the previous frame, or -1 after (re)starting
+    private long accumulatedNanos = 0;   // Real time not yet simulated
+    private long droppedTicks = 0;       // Ticks skipped by the catch-up limit
+    private boolean running = false;
+
+    /**
+     * Constructs a game loop that runs the given tick at the rate of the shared {@link SimulationClock}.
+     *
+     * @param tick The action that advances the simulation by one step.
+     */
+    public GameLoop(Runnable tick) {
+        this(tick, () -> { }, SimulationClock.getInstance());
+    }
+
+    /**
+     * Constructs a game loop that runs the given tick at the rate of the shared {@link SimulationClock}
+     * and renders once per frame.
+     *
+     * @param tick   The action that advances the simulation by one step.
+     * @param render The action that syncs views from the simulation after each frame's ticks.
+     */
+    public GameLoop(Runnable tick, Runnable render) {
+        this(tick, render, SimulationClock.getInstance());
+    }
+
+    /**
+     * Constructs a game loop that runs the given tick at the rate of the given clock.
+     *
+     * @param tick   The action that advances the simulation by one step.
+     * @param render The action that syncs views from the simulation after each frame's ticks.
+     * @param clock  The clock providing the fixed timestep.
+     */
+    public GameLoop(Runnable tick, Runnable render, SimulationClock clock) {
+        this.tick = tick;
+        this.render = render;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts or resumes the loop.
+     */
+    public void play() {
+        if (running) {
+            return;
+        }
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    onFrame(now);
+                }
+            };
+        }
+        running = true;
+        lastFrameNanos = -1; // Do not simulate the time spent stopped or paused
+        timer.start();
+    }
+
+    /**
+     * Pauses the loop, keeping any partially accumulated step.
+     */
+    public void pause() {
+        running = false;
+        if (timer != null) {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Stops the loop and discards any accumulated time.
+     */
+    public void stop() {
+        pause();
+        accumulatedNanos = 0;
+    }
+
+    /**
+     * Handles a rendered frame by advancing the simulation for the real time elapsed since the previous one.
+     *
+     * @param now The timestamp of the current frame, in nanoseconds.
+     */
+    private void onFrame(long now) {
+        if (lastFrameNanos < 0) {
+            lastFrameNanos = now;
+            return;
+        }
+        long elapsed = now - lastFrameNanos;
+        lastFrameNanos = now;
+        if (advance(elapsed) > 0) {
+            render.run();
+        }
+    }
+
+    /**
+     * Adds elapsed real time to the accumulator and runs as many fixed ticks as it covers,
+     * up to the catch-up limit.
+     *
+     * @param elapsedNanos The real time to simulate, in nanoseconds.
+     * @return The number of ticks run.
+     */
+    public int advance(long elapsedNanos) {
+        long stepNanos = clock.getStepNanos();
+        boolean wasRunning = running;
+        accumulatedNanos += Math.max(0, elapsedNanos);
+
+        int steps = 0;
+        while (accumulatedNanos >= stepNanos && steps < maxCatchUpSteps) {
+            accumulatedNanos -= stepNanos; // Consume the step first, so a tick that stops the loop leaves it at zero
+            tick.run();
+            steps++;
+            if (wasRunning && !running) {
+                return steps; // The tick stopped the loop, e.g. on a level change
+            }
+        }
+
+        if (accumulatedNanos >= stepNanos) {
+            droppedTicks += accumulatedNanos / stepNanos;
+            accumulatedNanos %= stepNanos; // Drop the backlog rather than spiralling
+        }
+        return steps;
+    }
+
+    /**
+     * Retrieves the fraction of a step accumulated but not yet simulated.
+     * <p>
+     * Renderers can use this to interpolate between the last two simulated states.
+     * </p>
+     *
+     * @return A value from {@code 0.0} (inclusive) to {@code 1.0} (exclusive).
+     */
+    public double getInterpolationAlpha() {
+        return (double) accumulatedNanos / clock.getStepNanos();
+    }
+
+    /**
+     * Retrieves the maximum number of ticks run in a single frame.
+     *
+     * @return The catch-up limit.
+     */
+    public int getMaxCatchUpSteps() {
+        return maxCatchUpSteps;
+    }
+
+    /**
+     * Sets the maximum number of ticks run in a single frame.
+     *
+     * @param maxCatchUpSteps The catch-up limit.
+     * @throws IllegalArgumentException If the limit is not positive.
+     */
+    public void setMaxCatchUpSteps(int maxCatchUpSteps) {
+        if (maxCatchUpSteps <= 0) {
+            throw new IllegalArgumentException("Max catch-up steps must be positive: " + maxCatchUpSteps);
+        }
+        this.maxCatchUpSteps = maxCatchUpSteps;
+    }
+
+    /**
+     * Retrieves the number of ticks dropped because a frame exceeded the catch-up limit.
+     *
+     * @return The dropped tick count.
+     */
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+
+    /**
+     * Checks whether the loop is currently running.
+     *
+     * @return {@code true} if the loop is running; {@code false} if it is paused or stopped.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+}
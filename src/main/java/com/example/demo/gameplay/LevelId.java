@@ -0,0 +1,14 @@
+package com.example.demo.gameplay;
+
+/**
+ * Identifies the levels of the game.
+ * <p>
+ * Each id is bound to a factory, a display name and a successor in the {@link LevelRegistry}. Levels announce
+ * a transition by notifying their observers with the id of the next level.
+ * </p>
+ */
+public enum LevelId {
+    LEVEL_ONE,   // Waves of enemy spiders
+    LEVEL_TWO,   // The boss spider
+    LEVEL_THREE  // Waves of enemies, power-ups and the boss
+}
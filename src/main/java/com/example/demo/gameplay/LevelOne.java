@@ -1,9 +1,15 @@
 package com.example.demo.gameplay;
 
 import com.example.demo.actors.enemies.EnemySpider;
+import com.example.demo.diagnostics.WaveSpawnEvent;
+import com.example.demo.managers.AssetManifest;
+import com.example.demo.simulation.RandomStreams;
 import com.example.demo.ui.gameplayUI.LevelView;
+import com.example.demo.ui.gameplayUI.SceneLayers;
 import javafx.stage.Stage;
 
+import java.util.SplittableRandom;
+
 /**
  * Represents the first level of the game.
  *
@@ -16,7 +22,6 @@ public class LevelOne extends LevelParent {
 
     // Constants for level configuration
     private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg"; // Background image path
-    private static final String NEXT_LEVEL = "com.example.demo.gameplay.LevelTwo"; // Class name of the next level
     private static final int TOTAL_ENEMIES_PER_CYCLE = 5; // Number of enemies spawned per cycle
     private static final int TOTAL_SPAWN_CYCLES = 3; // Total number of spawn cycles for this level
     private static final int PLAYER_INITIAL_HEALTH = 5; // Initial health of the player
@@ -32,7 +37,27 @@ public class LevelOne extends LevelParent {
      * @param stage        The primary stage for the game.
      */
     public LevelOne(double screenHeight, double screenWidth, Stage stage) {
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, stage, "Level 1");
+        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, stage, LevelId.LEVEL_ONE);
+    }
+
+    /**
+     * Builds the manifest of the level's assets, which are the common assets.
+     * The manifest is read before the level is constructed, so the assets can be loaded in the background.
+     *
+     * @return The level's asset manifest.
+     */
+    public static AssetManifest assetManifest() {
+        return commonAssets(BACKGROUND_IMAGE_NAME);
+    }
+
+    /**
+     * Returns the manifest built by {@link #assetManifest()}.
+     *
+     * @return The level's asset manifest.
+     */
+    @Override
+    protected AssetManifest getAssetManifest() {
+        return assetManifest();
     }
 
     /**
@@ -47,7 +72,7 @@ public class LevelOne extends LevelParent {
         if (userIsDestroyed()) {
             loseGame(); // Handle game over scenario
         } else if (enemyManager.getEnemyCount() == 0 && spawnCyclesCompleted >= TOTAL_SPAWN_CYCLES) {
-            goToNextLevel(NEXT_LEVEL); // Transition to the next level
+            goToNextLevel(); // Transition to the next level
         }
     }
 
@@ -57,7 +82,7 @@ public class LevelOne extends LevelParent {
      */
     @Override
     protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(getUser());
+        getLayer(SceneLayers.Layer.FRIENDLY_UNITS).getChildren().add(getUser());
     }
 
     /**
@@ -70,12 +95,17 @@ public class LevelOne extends LevelParent {
     @Override
     protected void spawnEnemyUnits() {
         if (spawnCyclesCompleted < TOTAL_SPAWN_CYCLES && enemyManager.getEnemyCount() == 0) {
+            SplittableRandom random = getWorld().getRandom().get(RandomStreams.Stream.ENEMY_SPAWN);
             for (int i = 0; i < TOTAL_ENEMIES_PER_CYCLE; i++) {
-                double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition(); // Random Y position
-                EnemySpider newEnemy = new EnemySpider(getScreenWidth(), newEnemyInitialYPosition);
+                double newEnemyInitialYPosition = random.nextDouble() * getEnemyMaximumYPosition(); // Random Y position
+                EnemySpider newEnemy = new EnemySpider(getWorld(), getScreenWidth(), newEnemyInitialYPosition);
                 enemyManager.addEnemy(newEnemy); // Add the new enemy to the game
             }
             spawnCyclesCompleted++; // Increment the spawn cycle count
+            WaveSpawnEvent.emit(getCurrentLevel(), spawnCyclesCompleted, TOTAL_ENEMIES_PER_CYCLE, false);
+            if (spawnCyclesCompleted == TOTAL_SPAWN_CYCLES) {
+                prepareNextLevel(); // Final wave: get Level Two ready in the background
+            }
         }
     }
 
@@ -86,6 +116,6 @@ public class LevelOne extends LevelParent {
      */
     @Override
     protected LevelView instantiateLevelView() {
-        return new LevelView(getRoot(), PLAYER_INITIAL_HEALTH);
+        return new LevelView(getLayer(SceneLayers.Layer.HUD), PLAYER_INITIAL_HEALTH);
     }
 }
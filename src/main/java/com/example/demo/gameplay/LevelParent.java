@@ -3,32 +3,34 @@ package com.example.demo.gameplay;
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.player.UserSuperman;
 import com.example.demo.controller.Main;
+import com.example.demo.diagnostics.FramePhase;
+import com.example.demo.diagnostics.FrameProfiler;
+import com.example.demo.diagnostics.InputLatencyProfiler;
+import com.example.demo.diagnostics.TickEvent;
 import com.example.demo.managers.*;
 import com.example.demo.observer.Observable;
 import com.example.demo.observer.Observer;
+import com.example.demo.simulation.TimerWheel;
+import com.example.demo.simulation.World;
 import com.example.demo.ui.UIManager;
+import com.example.demo.ui.gameplayUI.ActorRenderer;
 import com.example.demo.ui.gameplayUI.LevelView;
+import com.example.demo.ui.gameplayUI.PerformanceOverlay;
+import com.example.demo.ui.gameplayUI.SceneLayers;
 import com.example.demo.ui.menus.MainMenu;
-import javafx.animation.KeyFrame;
-import javafx.animation.PauseTransition;
-import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaPlayer;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
-import javafx.util.Duration;
+import jdk.jfr.EventType;
 
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -42,41 +44,64 @@ import java.util.logging.Logger;
  */
 public abstract class LevelParent extends Observable implements Observer {
 
-    // Constants for screen adjustments and game loop timing
+    // Checked every tick, so no tick event is created while no recording wants one
+    private static final EventType TICK_EVENT = EventType.getEventType(TickEvent.class);
+
+    // Constants for screen adjustments
     private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
-    private static final int MILLISECOND_DELAY = 50;
+    // Durations of the level intro and of the win or game-over screen, in simulated seconds
+    private static final double LEVEL_INFO_SECONDS = 1;
+    private static final double END_SCREEN_SECONDS = 3;
+    // Assets shared by every level
+    private static final String IMAGE_DIRECTORY = "/com/example/demo/images/";
+    private static final String BACKGROUND_MUSIC_PATH = "/com/example/demo/sounds/Background.mp3";
+    private static final double BACKGROUND_MUSIC_VOLUME = 0.6;
+    private static final Logger logger = Logger.getLogger(LevelParent.class.getName());
+    private static int soakRunCount = 0; // Runs ended since the game started in soak mode
     // Managers
     protected final CollisionManager collisionManager;
     protected final PowerUpManager powerUpManager;
     protected final ProjectileManager projectileManager;
     protected final EnemyManager enemyManager;
+    protected final WorldBoundsManager worldBoundsManager;
+    private final World world; // Simulation state of the level's actors, stepped once per tick
     // Screen dimensions
     private final double screenHeight;
     private final double screenWidth;
     private final double enemyMaximumYPosition;
-    // Root groups for UI elements and menus
+    // Scene graph, split into fixed layers
+    private final SceneLayers layers;
     private final Group root;
-    private final Group menuLayer;
     // Gamescene
     private final Scene scene;
     // Game elements and actors
     private final UserSuperman user;
     private final ImageView background;
+    private final String backgroundImageName; // Decoded in the background before the level starts
     private final List<ActiveActorDestructible> friendlyUnits;
+    private final DestroyedActorCompactor friendlyUnitCompactor; // Linear-time removal of destroyed friendly units
     // Game state and controls
-    private final Timeline timeline;
+    private final GameLoop gameLoop;
+    private final TimerWheel timerWheel; // Timers of the level, advanced once per tick
     // Level-related views and settings
     private final LevelView levelView;
+    private final ActorRenderer actorRenderer;
+    private final FrameProfiler frameProfiler; // Per-phase tick timings, off unless switched on
+    private final InputLatencyProfiler inputLatencyProfiler; // Input-to-screen latencies, off unless switched on
+    private final PerformanceOverlay performanceOverlay; // Frame rate and resource readout, hidden by default
     // Audios
     private final SoundManager soundManager;
+    private final MusicService musicService; // Background music shared with the menu and the other levels
     private final UIManager uiManager;
     private final GameStateManager gameStateManager;
     private final InputHandler inputHandler;
+    private final ReplayManager replayManager; // Records or replays the player's input
     private Button pauseButton;
     public boolean isPaused;
     private int currentNumberOfEnemies;
+    private final LevelId levelId;
     private String currentLevel;
-    private MediaPlayer gameBackgroundMediaPlayer;
+    private boolean nextLevelPrepared = false; // Whether the next level's assets have been requested
 
     /**
      * Constructs a LevelParent instance with the specified parameters.
@@ -86,44 +111,65 @@ public abstract class LevelParent extends Observable implements Observer {
      * @param screenWidth         Width of the screen.
      * @param playerInitialHealth Initial health of the player.
      * @param stage               The game stage.
-     * @param levelName           Name of the level.
+     * @param levelId             Id of the level in the {@link LevelRegistry}.
      */
     public LevelParent(String backgroundImageName, double screenHeight, double screenWidth,
-                       int playerInitialHealth, Stage stage, String levelName) {
-        // Initialize groups and scene
-        this.menuLayer = new Group();
-        this.root = new Group();
-        this.scene = new Scene(root, screenWidth, screenHeight);
-
-        // Check if the background resource exists
-        URL resource = getClass().getResource(backgroundImageName);
-        if (resource == null) {
-            throw new IllegalArgumentException("Background image not found: " + backgroundImageName);
+                       int playerInitialHealth, Stage stage, LevelId levelId) {
+        String levelName = LevelRegistry.getInstance().get(levelId).displayName();
+
+        // Initialize layers and scene
+        this.layers = new SceneLayers();
+        this.root = layers.getRoot();
+        this.scene = new Scene(root, screenWidth, screenHeight, Color.BLACK);
+        this.scene.addPostLayoutPulseListener(this::onPulse); // Runs after the frame's ticks, before rendering
+
+        // The background image is decoded by the asset loader; only check that it exists here
+        if (getClass().getResource(backgroundImageName) == null) {
+            throw new IllegalArgumentException("Resource not found: " + backgroundImageName);
         }
-        this.background = new ImageView(new Image(resource.toExternalForm()));
+        this.backgroundImageName = backgroundImageName;
+        this.background = new ImageView();
 
         // Initialize game components
-        this.timeline = new Timeline();
-        this.user = new UserSuperman(this, playerInitialHealth);
+        this.actorRenderer = ActorRenderer.create(ActorRenderer.Mode.fromSystemProperty(), screenWidth, screenHeight);
+        this.friendlyUnitCompactor = new DestroyedActorCompactor();
+        this.frameProfiler = FrameProfiler.getInstance();
+        this.inputLatencyProfiler = InputLatencyProfiler.getInstance();
+        this.gameLoop = new GameLoop(this::updateScene, this::renderActors);
+        this.timerWheel = new TimerWheel();
+        SimulationClock.getInstance().reset();
+        this.replayManager = ReplayManager.getInstance();
+        this.replayManager.startLevel(levelName);
+        this.worldBoundsManager = new WorldBoundsManager(screenWidth, screenHeight);
+        this.world = new World(screenWidth, screenHeight, worldBoundsManager.getMargin(),
+                GameRandom.getInstance().streamsForLevel(levelName)); // Same seed and input, same level
+        this.user = new UserSuperman(this, playerInitialHealth); // Allocated in the level's world
         this.soundManager = SoundManager.getInstance();
-        this.collisionManager = new CollisionManager(user, soundManager);
+        this.musicService = MusicService.getInstance();
+        this.collisionManager = new CollisionManager(user, soundManager, world);
         this.gameStateManager = GameStateManager.getInstance();
         this.gameStateManager.addObserver(this); // Observe game state changes
         this.powerUpManager = PowerUpManager.getInstance();
-        this.powerUpManager.initialize(root);
+        this.powerUpManager.initialize(layers.get(SceneLayers.Layer.POWER_UPS), world.getStore());
         this.inputHandler = new InputHandler(user, gameStateManager);
         this.projectileManager = ProjectileManager.getInstance();
-        this.projectileManager.initialize(root);
+        this.projectileManager.initialize(layers.get(SceneLayers.Layer.USER_PROJECTILES),
+                layers.get(SceneLayers.Layer.ENEMY_PROJECTILES), world.getStore());
         this.enemyManager = EnemyManager.getInstance();
-        this.enemyManager.initialize(root);
+        this.enemyManager.initialize(layers.get(SceneLayers.Layer.ENEMIES), world.getStore());
 
         // Screen properties
         this.screenHeight = screenHeight;
         this.screenWidth = screenWidth;
         this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
-
+        this.performanceOverlay = new PerformanceOverlay(layers, screenHeight);
+        this.inputHandler.setPerformanceOverlayToggle(performanceOverlay::toggle);
+        if (BotPlayer.isSoakModeEnabled()) {
+            this.inputHandler.setAutopilot(BotPlayer.forLevel(user, screenHeight)); // The bot plays the level
+        }
 
         // Level setup
+        this.levelId = levelId;
         this.currentLevel = levelName;
         this.levelView = instantiateLevelView();
 
@@ -131,18 +177,12 @@ public abstract class LevelParent extends Observable implements Observer {
         this.currentNumberOfEnemies = 0;
         this.isPaused = false;
 
-        // Add menu layer to the root group
-        this.root.getChildren().add(menuLayer);
-        menuLayer.toBack();
-
         // Initialize UI
         this.friendlyUnits = new ArrayList<>();
-        this.uiManager = UIManager.getInstance(this, menuLayer, screenWidth, screenHeight, stage);
+        this.uiManager = UIManager.getInstance(this, layers.get(SceneLayers.Layer.MENUS), screenWidth, screenHeight, stage);
         addObserver(uiManager); // Register UIManager as an observer
 
-        initializeTimeline();
         friendlyUnits.add(user);
-        initializeGameBackgroundMusic();
     }
 
     // Abstract methods for subclasses to define level-specific behavior
@@ -162,16 +202,17 @@ public abstract class LevelParent extends Observable implements Observer {
      */
     public Scene initializeScene(Stage stage) {
         initializeBackground();
+        actorRenderer.attach(layers); // Install the renderer selected at startup
+        actorRenderer.track(user); // Report the player's on-screen position for input latency
         uiManager.initializeUI(); // Initialize UI (pause button and menus)
         initializeFriendlyUnits();
-        initializeGameBackgroundMusic();
         levelView.showHeartDisplay(); // Display player's health
         return scene;
     }
 
     /**
      * Initializes the background image for the level.
-     * Sets up key event handlers for user input and adds the background to the root group.
+     * Sets up key event handlers for user input and adds the background to the background layer.
      */
     private void initializeBackground() {
         background.setFocusTraversable(true); // Allow key events
@@ -181,21 +222,36 @@ public abstract class LevelParent extends Observable implements Observer {
         // Delegate key handling to InputHandler
         background.setOnKeyPressed(inputHandler::handleKeyPress);
         background.setOnKeyReleased(inputHandler::handleKeyRelease);
+        background.focusedProperty().addListener((obs, wasFocused, focused) -> {
+            if (!focused) {
+                inputHandler.releaseAll(); // Release events are not delivered without focus
+            }
+        });
 
-        // Add the background to the root group
-        root.getChildren().add(background);
+        // Add the background to the bottom layer
+        layers.get(SceneLayers.Layer.BACKGROUND).getChildren().add(background);
     }
 
     /**
-     * Initializes the game loop timeline.
-     * The timeline updates the scene periodically based on the configured delay.
+     * Retrieves the timer wheel of the level.
+     * The wheel is advanced once per simulation tick while the game loop runs, so its timers pause with
+     * the game.
+     *
+     * @return The level's timer wheel.
      */
-    private void initializeTimeline() {
-        timeline.setCycleCount(Timeline.INDEFINITE); // Run indefinitely
-        KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> updateScene());
-        timeline.getKeyFrames().add(gameLoop);
+    public TimerWheel getTimerWheel() {
+        return timerWheel;
     }
 
+    /**
+     * Schedules an action on the level's timer wheel after a duration of simulated time.
+     *
+     * @param seconds The delay, in simulated seconds.
+     * @param action  The action to run.
+     */
+    private void schedule(double seconds, Runnable action) {
+        timerWheel.schedule(SimulationClock.getInstance().ticksFor(seconds), action);
+    }
 
     /**
      * Retrieves the {@link ProjectileManager} instance.
@@ -209,51 +265,81 @@ public abstract class LevelParent extends Observable implements Observer {
     }
 
     /**
-     * Initializes the background music for the game level.
-     * This method sets up the music to loop indefinitely and configures its volume.
-     * If the music file cannot be loaded, an error message is logged.
+     * Retrieves the images and media the level needs before it can start.
+     * <p>
+     * The manifest is loaded in the background by the {@link AssetLoader} while the level information is shown.
+     * Levels also declare it through a public static {@code assetManifest()} method, registered in the
+     * {@link LevelRegistry} so it can be loaded before the level is constructed; they override this method to
+     * return it.
+     * </p>
+     *
+     * @return The level's asset manifest, by default the {@link #commonAssets(String) common assets}.
      */
-    private void initializeGameBackgroundMusic() {
-        try {
-            // Load the background music file with null check
-            URL musicResource = getClass().getResource("/com/example/demo/sounds/Background.mp3");
-            if (musicResource == null) {
-                throw new IllegalArgumentException("Music resource not found.");
-            }
-            Media gameMusic = new Media(musicResource.toExternalForm());
-
-            // Create a MediaPlayer instance for the music
-            gameBackgroundMediaPlayer = new MediaPlayer(gameMusic);
-
-            // Configure the MediaPlayer to loop the music indefinitely
-            gameBackgroundMediaPlayer.setCycleCount(MediaPlayer.INDEFINITE);
+    protected AssetManifest getAssetManifest() {
+        return commonAssets(backgroundImageName);
+    }
 
-            // Set the volume for the music
-            gameBackgroundMediaPlayer.setVolume(0.6);
-        } catch (Exception e) {
-            // Log an error message if the music file cannot be loaded
-            Logger.getLogger(LevelParent.class.getName()).log(Level.SEVERE, "Error loading background music", e);
-        }
+    /**
+     * Builds the manifest of the assets every level needs: its background, the player, the common enemies and
+     * their projectiles, the HUD and the background music. Levels with other actors add their sprites.
+     *
+     * @param backgroundImageName Path to the level's background image.
+     * @return The common asset manifest.
+     */
+    protected static AssetManifest commonAssets(String backgroundImageName) {
+        return new AssetManifest(
+                List.of(backgroundImageName,
+                        imagePath("user.png"),
+                        imagePath("userfire.png"),
+                        imagePath("enemy.png"),
+                        imagePath("enemyweb.png"),
+                        imagePath("heart.png"),
+                        imagePath("youwin.png"),
+                        imagePath("gameover.png")),
+                List.of(BACKGROUND_MUSIC_PATH));
     }
 
+    /**
+     * Builds a path to one of the game's images from its file name, for use in asset manifests.
+     *
+     * @param imageName The file name of the image (e.g., "enemyboss.png").
+     * @return The absolute classpath location of the image.
+     */
+    protected static String imagePath(String imageName) {
+        return IMAGE_DIRECTORY + imageName;
+    }
 
     /**
      * Starts the game for the current level.
      * Displays level information and transitions to the PLAYING state.
+     * <p>
+     * While the level information is shown, the level's {@link #getAssetManifest() assets} are loaded in the
+     * background and the progress is displayed. The game loop starts only once they are ready; it then drives
+     * the rest of the intro, so the information stays up for {@code LEVEL_INFO_SECONDS} in total unless
+     * loading took longer. The level itself is not updated until the state becomes PLAYING.
+     * </p>
      *
-     * @param levelName Name of the level to start.
      */
-    public void startGame(String levelName) {
+    public void startGame() {
         gameStateManager.setCurrentState(GameStateManager.GameState.INITIALIZING); // Set state to initializing
-        showLevelInfo(levelName);
-
-        PauseTransition pause = new PauseTransition(Duration.seconds(1));
-        pause.setOnFinished(event -> {
-            gameStateManager.setCurrentState(GameStateManager.GameState.PLAYING);
-            timeline.play(); // Start game loop
-            background.requestFocus(); // Ensure game focus
-        });
-        pause.play();
+        Text levelInfo = showLevelInfo(currentLevel);
+        Text loadingText = createLoadingText();
+        layers.get(SceneLayers.Layer.HUD).getChildren().add(loadingText);
+
+        long loadStartNanos = System.nanoTime();
+        AssetLoader.getInstance()
+                .preload(getAssetManifest(), progress -> Platform.runLater(() -> showLoadingProgress(loadingText, progress)))
+                .whenCompleteAsync((ignored, error) -> {
+                    layers.get(SceneLayers.Layer.HUD).getChildren().remove(loadingText);
+                    if (gameStateManager.getCurrentState() != GameStateManager.GameState.INITIALIZING) {
+                        return; // The level was left while it was loading
+                    }
+                    background.setImage(SpriteCache.getInstance().getImage(backgroundImageName));
+
+                    double loadSeconds = (System.nanoTime() - loadStartNanos) / 1e9;
+                    schedule(Math.max(0, LEVEL_INFO_SECONDS - loadSeconds), () -> endLevelInfo(levelInfo));
+                    gameLoop.play(); // Start game loop
+                }, Platform::runLater);
     }
 
     /**
@@ -284,7 +370,7 @@ public abstract class LevelParent extends Observable implements Observer {
      *
      * @param levelName Name of the level being played.
      */
-    private void showLevelInfo(String levelName) {
+    private Text showLevelInfo(String levelName) {
         if (pauseButton != null) {
             pauseButton.setDisable(true); // Temporarily disable pause button
         }
@@ -292,25 +378,51 @@ public abstract class LevelParent extends Observable implements Observer {
         String levelMessage = getLevelMessage(levelName); // Get the message for the level
         Text levelInfo = createLevelInfoText(levelMessage); // Create the level info text
 
-        root.getChildren().add(levelInfo); // Add level info to the scene
+        layers.get(SceneLayers.Layer.HUD).getChildren().add(levelInfo); // Add level info to the HUD
+        return levelInfo;
+    }
+
+    /**
+     * Ends the level intro: removes the level information, starts the music and starts playing.
+     *
+     * @param levelInfo The level information text shown by {@link #showLevelInfo(String)}.
+     */
+    private void endLevelInfo(Text levelInfo) {
+        layers.get(SceneLayers.Layer.HUD).getChildren().remove(levelInfo); // Remove level info text
+
+        if (pauseButton != null) {
+            pauseButton.setDisable(false); // Re-enable pause button
+        }
 
-        PauseTransition pause = new PauseTransition(Duration.seconds(1));
-        pause.setOnFinished(event -> {
-            root.getChildren().remove(levelInfo); // Remove level info text
-            background.requestFocus(); // Refocus on the game
+        musicService.play(BACKGROUND_MUSIC_PATH, BACKGROUND_MUSIC_VOLUME); // Carries on if already playing
 
-            if (pauseButton != null) {
-                pauseButton.setDisable(false); // Re-enable pause button
-            }
+        gameStateManager.setCurrentState(GameStateManager.GameState.PLAYING);
+        background.requestFocus(); // Ensure game focus
+    }
 
-            if (!soundManager.isMusicMuted() && gameBackgroundMediaPlayer != null &&
-                    gameBackgroundMediaPlayer.getStatus() != MediaPlayer.Status.PLAYING) {
-                gameBackgroundMediaPlayer.play();
-            }
+    /**
+     * Creates the text showing how much of the level's assets has been loaded, below the level information.
+     *
+     * @return A styled {@link Text} object showing no progress.
+     */
+    private Text createLoadingText() {
+        Text loadingText = new Text();
+        loadingText.setFont(Font.font("Arial", 18));
+        loadingText.setFill(Color.WHITE);
+        loadingText.setY(90); // Below the level information
+        showLoadingProgress(loadingText, 0);
+        return loadingText;
+    }
 
-            timeline.play(); // Start the game loop
-        });
-        pause.play();
+    /**
+     * Updates the loading text with the fraction of assets loaded so far.
+     *
+     * @param loadingText The text created by {@link #createLoadingText()}.
+     * @param progress    The fraction of assets loaded, between 0 and 1.
+     */
+    private void showLoadingProgress(Text loadingText, double progress) {
+        loadingText.setText("Loading " + Math.round(progress * 100) + "%");
+        loadingText.setX(screenWidth / 2 - loadingText.getLayoutBounds().getWidth() / 2); // Center text
     }
 
     /**
@@ -348,6 +460,22 @@ public abstract class LevelParent extends Observable implements Observer {
         return levelInfo;
     }
 
+    /**
+     * Starts loading the next level's assets in the background while this one is still being played.
+     * Levels call this once their final wave or boss phase has begun, so that the level created by
+     * {@link #goToNextLevel()} finds its sprites, background and music already cached. Later calls, and calls
+     * from the final level, do nothing.
+     */
+    protected void prepareNextLevel() {
+        LevelRegistry.LevelDefinition definition = LevelRegistry.getInstance().get(levelId);
+        if (nextLevelPrepared || !definition.hasSuccessor()) {
+            return;
+        }
+        nextLevelPrepared = true;
+        AssetManifest nextAssets = LevelRegistry.getInstance().get(definition.successor()).assets().get();
+        AssetLoader.getInstance().preload(nextAssets, progress -> { });
+    }
+
     /**
      * Transitions the game to the next level by cleaning up the current level
      * and initializing the necessary components for the new level.
@@ -356,33 +484,46 @@ public abstract class LevelParent extends Observable implements Observer {
      * <ul>
      *     <li>Unregisters the current level as an observer.</li>
      *     <li>Clears all projectiles, enemies, and power-ups from the game.</li>
-     *     <li>Stops background music and the game loop timeline.</li>
+     *     <li>Stops background music and the game loop.</li>
      *     <li>Resets the UIManager and initializes the new UI elements.</li>
-     *     <li>Notifies observers about the new level name.</li>
+     *     <li>Notifies observers with the {@link LevelId} of the next level, as registered in the
+     *     {@link LevelRegistry}.</li>
      *     <li>Sets the game state to INITIALIZING for the new level.</li>
      * </ul>
      *
-     * @param levelName The name of the next level to load.
+     * @throws IllegalStateException If this is the final level.
+     */
+    public void goToNextLevel() {
+        LevelRegistry.LevelDefinition definition = LevelRegistry.getInstance().get(levelId);
+        if (!definition.hasSuccessor()) {
+            throw new IllegalStateException(definition.displayName() + " is the final level");
+        }
+
+        transitionTo(definition.successor());
+    }
+
+    /**
+     * Tears the level down and notifies observers to create another one.
+     *
+     * @param nextLevel The id of the level to transition to.
      */
-    public void goToNextLevel(String levelName) {
+    private void transitionTo(LevelId nextLevel) {
         // Cleanup the current level and unregister LevelParent as an observer
         cleanup();
 
-        // Set the game state to LOADING and update the current level name
+        // Set the game state to LOADING
         gameStateManager.setCurrentState(GameStateManager.GameState.LOADING);
-        currentLevel = levelName;
 
         // Clear all projectiles, enemies, and power-ups from the game
         ProjectileManager.getInstance().clearAllProjectiles();
         EnemyManager.getInstance().clearAllEnemies();
         PowerUpManager.getInstance().clearAllPowerUps();
 
-        // Stop the game background music and the game loop
-        stopGameBackgroundMusic();
-        timeline.stop();
+        // Stop the game loop; the music carries on into the next level
+        gameLoop.stop();
 
-        // Clear all visual elements from the root node
-        root.getChildren().clear();
+        // Clear all visual elements from every layer
+        layers.clear();
 
         // Reset and reinitialize the UIManager for the new level
         UIManager.resetInstance();
@@ -390,7 +531,7 @@ public abstract class LevelParent extends Observable implements Observer {
 
         // Notify observers about the level change
         setChanged(); // Mark LevelParent as changed
-        notifyObservers(levelName); // Notify all observers of the level name
+        notifyObservers(nextLevel); // Notify all observers of the next level
 
         // Set the game state to INITIALIZING for the new level
         gameStateManager.setCurrentState(GameStateManager.GameState.INITIALIZING);
@@ -416,34 +557,29 @@ public abstract class LevelParent extends Observable implements Observer {
 
 
     /**
-     * Pauses the game by stopping the timeline, updating the game state,
+     * Pauses the game by stopping the game loop, updating the game state,
      * and displaying the pause menu.
      */
     private void pauseGame() {
         gameStateManager.setCurrentState(GameStateManager.GameState.PAUSED); // Update state to PAUSED
-        timeline.pause(); // Pause the game loop
+        gameLoop.pause(); // Pause the game loop
 
-        if (gameBackgroundMediaPlayer != null) {
-            gameBackgroundMediaPlayer.pause(); // Pause background music
-        }
+        musicService.pause(); // Pause background music
 
         isPaused = true; // Update pause state
         uiManager.getPauseButton().setVisible(false); // Hide pause button
         uiManager.getPauseMenu().setVisible(true); // Show pause menu
-        menuLayer.toFront(); // Bring menu layer to the front
     }
 
     /**
-     * Resumes the game by restarting the timeline, updating the game state,
+     * Resumes the game by restarting the game loop, updating the game state,
      * and hiding the pause menu.
      */
     public void resumeGame() {
         gameStateManager.setCurrentState(GameStateManager.GameState.PLAYING); // Update state to PLAYING
-        timeline.play(); // Resume the game loop
+        gameLoop.play(); // Resume the game loop
 
-        if (gameBackgroundMediaPlayer != null && !soundManager.isMusicMuted()) {
-            gameBackgroundMediaPlayer.play(); // Resume background music
-        }
+        musicService.resume(); // Resume background music
         setChanged(); // Mark LevelParent as changed
         notifyObservers("RESUME_GAME"); // Notify observers of win
 
@@ -456,10 +592,12 @@ public abstract class LevelParent extends Observable implements Observer {
     /**
      * Ends the game with a win state.
      * Displays the "You Win" screen and transitions to the end game menu.
+     * The game loop keeps running, without updating the level, until the end game menu is shown.
      */
     protected void winGame() {
         gameStateManager.setCurrentState(GameStateManager.GameState.WIN); // Set state to WIN
-        timeline.stop(); // Stop the game loop
+        timerWheel.cancelAll(); // Drop pending explosions and other level timers
+        replayManager.endLevel(); // Save the input recorded in this level
         levelView.showWinImage(); // Show the win image
 
         if (uiManager.getPauseButton() != null) {
@@ -471,22 +609,26 @@ public abstract class LevelParent extends Observable implements Observer {
         setChanged(); // Mark LevelParent as changed
         notifyObservers("WIN_GAME"); // Notify observers of win
 
-        PauseTransition delay = new PauseTransition(Duration.seconds(3));
-        delay.setOnFinished(e -> {
+        schedule(END_SCREEN_SECONDS, () -> {
+            if (BotPlayer.isSoakModeEnabled()) {
+                restartSoakRun("won");
+                return;
+            }
+            gameLoop.stop(); // Stop the game loop
             levelView.removeWinImage(); // Remove win image
             uiManager.getEndGameMenu().show(true); // Show end game menu
-            menuLayer.toFront(); // Bring menu layer to the front
         });
-        delay.play();
     }
 
     /**
      * Ends the game with a game-over state.
      * Displays the "Game Over" screen and transitions to the end game menu.
+     * The game loop keeps running, without updating the level, until the end game menu is shown.
      */
     protected void loseGame() {
         gameStateManager.setCurrentState(GameStateManager.GameState.GAME_OVER); // Set state to GAME_OVER
-        timeline.stop(); // Stop the game loop
+        timerWheel.cancelAll(); // Drop pending explosions and other level timers
+        replayManager.endLevel(); // Save the input recorded in this level
         levelView.showGameOverImage(); // Show game-over image
 
         if (uiManager.getPauseButton() != null) {
@@ -498,13 +640,27 @@ public abstract class LevelParent extends Observable implements Observer {
         setChanged(); // Mark LevelParent as changed
         notifyObservers("LOSE_GAME"); // Notify observers of game over
 
-        PauseTransition delay = new PauseTransition(Duration.seconds(3));
-        delay.setOnFinished(e -> {
+        schedule(END_SCREEN_SECONDS, () -> {
+            if (BotPlayer.isSoakModeEnabled()) {
+                restartSoakRun("lost");
+                return;
+            }
+            gameLoop.stop(); // Stop the game loop
             levelView.removeGameOverImage(); // Remove game-over image
             uiManager.getEndGameMenu().show(false); // Show end game menu
-            menuLayer.toFront(); // Bring menu layer to the front
         });
-        delay.play();
+    }
+
+    /**
+     * Starts the game again from the first level instead of showing the end game menu, so a soak run keeps
+     * playing unattended.
+     *
+     * @param outcome How the run ended, for the log.
+     */
+    private void restartSoakRun(String outcome) {
+        soakRunCount++;
+        logger.info(String.format("Soak run %d %s in %s; restarting", soakRunCount, outcome, currentLevel));
+        transitionTo(LevelRegistry.getInstance().getFirstLevel());
     }
 
     /**
@@ -514,9 +670,8 @@ public abstract class LevelParent extends Observable implements Observer {
      */
     public void goToMainMenu(Stage stage) {
         cleanup(); // Clean up resources and unregister observers
-        timeline.stop(); // Stop game loop
-        stopGameBackgroundMusic(); // Stop background music
-        root.getChildren().clear(); // Clear game components
+        gameLoop.stop(); // Stop game loop; the menu takes over the background music
+        layers.clear(); // Clear game components
 
         // Clear power-ups
         PowerUpManager.getInstance().clearAllPowerUps();
@@ -532,50 +687,140 @@ public abstract class LevelParent extends Observable implements Observer {
 
 
     /**
-     * Stops the background music for the level.
-     */
-    private void stopGameBackgroundMusic() {
-        if (gameBackgroundMediaPlayer != null) {
-            gameBackgroundMediaPlayer.stop();
-        }
-    }
-
-    /**
-     * Updates the scene for each frame in the game loop.
+     * Advances the level by one fixed simulation step of the game loop.
      * This includes spawning enemies, updating actors, handling collisions, and checking for game over.
+     * <p>
+     * Movement, bounds and collision checks all work on the actors' simulation entities; the nodes are
+     * synced from them separately by {@link #renderActors()}.
+     * </p>
+     * <p>
+     * Each phase is timed by the {@link FrameProfiler} when it is switched on, and the whole tick is
+     * reported as a {@link TickEvent} while a flight recording is active and to the
+     * {@link PerformanceOverlay} while it is shown.
+     * </p>
+     * <p>
+     * The {@link TimerWheel} is advanced first, in every game state, so the level intro and the end screen
+     * delays also run on simulation ticks.
+     * </p>
      */
     private void updateScene() {
+        timerWheel.advance(); // Level timers run in every state, but only while the loop is running
         if (gameStateManager.isNotPlaying()) {
             return; // Do not update if the game is not in PLAYING state
         }
+        SimulationClock.getInstance().advance(); // Only ticks that simulate the level are counted
 
+        long tickStartNanos = System.nanoTime();
+        TickEvent tickEvent = TICK_EVENT.isEnabled() ? new TickEvent() : null;
+        if (tickEvent != null) {
+            tickEvent.begin();
+        }
+        frameProfiler.beginTick();
+        boolean movementStarted = inputHandler.sampleTick(); // Sample the keyboard once for this tick
+        inputLatencyProfiler.tickSampled(countActors(), movementStarted, actorRenderer.getTrackedX(),
+                actorRenderer.getTrackedY());
+        replayManager.beginTick(inputHandler); // Apply replayed input before anything moves
         spawnEnemyUnits(); // Spawn enemy units periodically
+        frameProfiler.endPhase(FramePhase.SPAWN);
         updateActors(); // Update the positions of all active actors
+        frameProfiler.endPhase(FramePhase.UPDATE);
         generateEnemyFire(); // Generate enemy projectiles
+        frameProfiler.endPhase(FramePhase.ENEMY_FIRE);
         updateNumberOfEnemies(); // Update the enemy count
+        frameProfiler.endPhase(FramePhase.ENEMY_COUNT);
         handleEnemyPenetration(); // Check for enemies that penetrate defenses
+        frameProfiler.endPhase(FramePhase.PENETRATION);
+        retireOutOfBoundsActors(); // Retire projectiles and power-ups that left the world
+        frameProfiler.endPhase(FramePhase.BOUNDS);
         removeAllDestroyedActors(); // Remove destroyed actors from the scene
+        frameProfiler.endPhase(FramePhase.REMOVAL);
 
         // Handle collisions
         collisionManager.handleSpiderCollisions(List.of(user), enemyManager.getEnemies());
+        frameProfiler.endPhase(FramePhase.SPIDER_COLLISIONS);
         projectileManager.handleCollisions(collisionManager, enemyManager.getEnemies());
+        frameProfiler.endPhase(FramePhase.PROJECTILE_COLLISIONS);
         powerUpManager.handlePowerUpCollisions(collisionManager);
+        frameProfiler.endPhase(FramePhase.POWER_UP_COLLISIONS);
 
         updateKillCount(); // Update the kill count for the user
+        frameProfiler.endPhase(FramePhase.KILL_COUNT);
         updateLevelView(); // Update the level view (e.g., health display)
+        frameProfiler.endPhase(FramePhase.LEVEL_VIEW);
         checkIfGameOver(); // Check if the game is over
+        frameProfiler.endPhase(FramePhase.GAME_OVER_CHECK);
+        frameProfiler.endTick();
+        if (tickEvent != null) {
+            tickEvent.end(currentLevel, SimulationClock.getInstance().getTickCount(), friendlyUnits.size(),
+                    enemyManager.getEnemyCount(), projectileManager.getUserProjectiles().size(),
+                    projectileManager.getEnemyProjectiles().size(), powerUpManager.getPowerUps().size());
+        }
+        performanceOverlay.recordTick(System.nanoTime() - tickStartNanos);
+    }
+
+    /**
+     * Renders the actors from the simulation model with the renderer selected at startup.
+     * Called by the game loop once per frame, after the frame's simulation ticks.
+     * The groups are drawn in the back-to-front order of their scene layers.
+     */
+    private void renderActors() {
+        actorRenderer.beginFrame();
+        actorRenderer.draw(friendlyUnits);
+        actorRenderer.draw(enemyManager.getEnemies());
+        actorRenderer.draw(projectileManager.getEnemyProjectiles());
+        actorRenderer.draw(projectileManager.getUserProjectiles());
+        actorRenderer.draw(powerUpManager.getPowerUps());
+        actorRenderer.endFrame();
+        performanceOverlay.frameRendered(System.nanoTime());
+    }
+
+    /**
+     * Reports the player's on-screen position to the {@link InputLatencyProfiler} once per pulse: the position
+     * of its node, or where it was painted on the canvas with the canvas renderer.
+     * Called after the game loop has ticked and rendered the frame, before the scene is drawn.
+     */
+    private void onPulse() {
+        inputLatencyProfiler.pulse(actorRenderer.getTrackedX(), actorRenderer.getTrackedY());
+    }
+
+    /**
+     * Counts the actors of the level: friendly units, enemies, projectiles and power-ups.
+     *
+     * @return The number of actors.
+     */
+    private int countActors() {
+        return friendlyUnits.size() + enemyManager.getEnemyCount() + projectileManager.getUserProjectiles().size()
+                + projectileManager.getEnemyProjectiles().size() + powerUpManager.getPowerUps().size();
     }
 
     /**
      * Updates all active actors, including friendly units, enemies, projectiles, and power-ups.
+     * The level's world first moves every kinematic actor in one pass over its store, then each actor
+     * applies its own behavior.
      */
     private void updateActors() {
+        world.integrate(SimulationClock.getInstance().getStepSeconds()); // Move kinematic actors
         friendlyUnits.forEach(ActiveActorDestructible::updateActor); // Update friendly units
         enemyManager.updateEnemies(); // Update enemy units
         projectileManager.updateProjectiles(); // Update projectiles
         powerUpManager.updatePowerUps(); // Update power-ups
     }
 
+    /**
+     * Retires projectiles, fragments and power-ups that have left the world and
+     * refreshes the live actor counts of the {@link WorldBoundsManager}.
+     * Retirement runs as one pass over the store of the level's world.
+     */
+    private void retireOutOfBoundsActors() {
+        worldBoundsManager.beginTick();
+        worldBoundsManager.retireOutOfBounds(world);
+        worldBoundsManager.countLive(friendlyUnits);
+        worldBoundsManager.countLive(enemyManager.getEnemies());
+        worldBoundsManager.countLive(projectileManager.getUserProjectiles());
+        worldBoundsManager.countLive(projectileManager.getEnemyProjectiles());
+        worldBoundsManager.countLive(powerUpManager.getPowerUps());
+    }
+
     /**
      * Removes all destroyed actors from their respective groups.
      */
@@ -588,16 +833,13 @@ public abstract class LevelParent extends Observable implements Observer {
 
     /**
      * Removes destroyed actors from the specified list and the scene.
+     * The list is compacted in place and the nodes are removed from the scene in one bulk operation.
      *
      * @param actors The list of actors to clean up.
      */
     private void removeDestroyedActors(List<ActiveActorDestructible> actors) {
-        List<ActiveActorDestructible> destroyedActors = actors.stream()
-                .filter(ActiveActorDestructible::isDestroyed) // Filter destroyed actors
-                .toList();
-
-        root.getChildren().removeAll(destroyedActors); // Remove destroyed actors from the scene
-        actors.removeAll(destroyedActors); // Remove destroyed actors from the list
+        friendlyUnitCompactor.compact(actors); // Remove destroyed actors from the list
+        friendlyUnitCompactor.flush(layers.get(SceneLayers.Layer.FRIENDLY_UNITS)); // Remove destroyed actors from the scene
     }
 
     /**
@@ -606,7 +848,7 @@ public abstract class LevelParent extends Observable implements Observer {
      */
     private void handleEnemyPenetration() {
         for (ActiveActorDestructible enemy : enemyManager.getEnemies()) {
-            if (enemyHasPenetratedDefenses(enemy)) {
+            if (worldBoundsManager.hasPenetratedDefenses(enemy)) {
                 user.takeDamage(); // Player takes damage
                 enemy.destroy(); // Destroy the enemy
             }
@@ -647,16 +889,6 @@ public abstract class LevelParent extends Observable implements Observer {
         projectileManager.generateEnemyProjectiles(enemyManager.getEnemies()); // Generate enemy projectiles
     }
 
-    /**
-     * Checks if an enemy has penetrated the player's defenses.
-     *
-     * @param enemy The enemy to check.
-     * @return True if the enemy has penetrated defenses, false otherwise.
-     */
-    private boolean enemyHasPenetratedDefenses(ActiveActorDestructible enemy) {
-        return Math.abs(enemy.getTranslateX()) > screenWidth; // Check if enemy is off-screen
-    }
-
     /**
      * Retrieves the instance of the SoundManager for managing sound effects and music.
      *
@@ -677,7 +909,7 @@ public abstract class LevelParent extends Observable implements Observer {
 
     /**
      * Retrieves the root {@link Group} for the current level.
-     * This group contains all the visual elements of the level.
+     * This group holds the level's {@link SceneLayers} in their fixed drawing order.
      *
      * @return The root {@link Group} of the current level.
      */
@@ -685,6 +917,35 @@ public abstract class LevelParent extends Observable implements Observer {
         return root;
     }
 
+    /**
+     * Retrieves the group of one of the level's scene layers.
+     * Nodes should be added to the layer matching their kind rather than to the root.
+     *
+     * @param layer The layer to retrieve.
+     * @return The {@link Group} holding the layer's nodes.
+     */
+    public Group getLayer(SceneLayers.Layer layer) {
+        return layers.get(layer);
+    }
+
+
+    /**
+     * Retrieves the id of the level being played.
+     *
+     * @return The level's id in the {@link LevelRegistry}.
+     */
+    public LevelId getLevelId() {
+        return levelId;
+    }
+
+    /**
+     * Retrieves the name of the level being played.
+     *
+     * @return The level name, e.g. {@code "Level 1"}.
+     */
+    public String getCurrentLevel() {
+        return currentLevel;
+    }
 
     /**
      * Retrieves the maximum Y-coordinate position that enemies can reach before being considered out of bounds.
@@ -737,6 +998,8 @@ public abstract class LevelParent extends Observable implements Observer {
     public void cleanup() {
         gameStateManager.deleteObserver(this); // Unregister from GameStateManager
         uiManager.cleanup(); // Cleanup UIManager
+        timerWheel.cancelAll(); // Drop timers that would outlive the level
+        replayManager.endLevel(); // Save the input recorded in this level
         System.out.println("LevelParent cleaned up and observers unregistered.");
     }
 
@@ -758,6 +1021,34 @@ public abstract class LevelParent extends Observable implements Observer {
         return enemyManager;
     }
 
+    /**
+     * Retrieves the world holding the simulation state of the level's actors.
+     *
+     * @return The level's {@link World}.
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Retrieves the world bounds manager that retires actors leaving the world
+     * and reports live actor counts per type.
+     *
+     * @return The {@link WorldBoundsManager} instance used by this level.
+     */
+    public WorldBoundsManager getWorldBoundsManager() {
+        return worldBoundsManager;
+    }
+
+    /**
+     * Retrieves the fixed-timestep loop that drives this level.
+     *
+     * @return The {@link GameLoop} instance used by this level.
+     */
+    public GameLoop getGameLoop() {
+        return gameLoop;
+    }
+
     /**
      * Retrieves the game state manager that handles the game's current state, such as
      * running, paused, or game over.
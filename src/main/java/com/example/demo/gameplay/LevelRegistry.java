@@ -0,0 +1,169 @@
+package com.example.demo.gameplay;
+
+import com.example.demo.managers.AssetManifest;
+import javafx.stage.Stage;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * The levels of the game, with how to create each one and which level follows it.
+ * <p>
+ * Transitions look a level up by its {@link LevelId} instead of loading a class by name, so moving to the
+ * next level costs a map lookup. The registry is checked when it is built: the first level and every
+ * successor must be registered and no level may be reached twice. The game builds the registry at startup,
+ * so a broken level chain stops the game from starting rather than failing at the end of a level.
+ * </p>
+ * <p>
+ * This class follows the Singleton pattern for the game's own levels; other registries can be built for
+ * testing.
+ * </p>
+ */
+public class LevelRegistry {
+
+    private static LevelRegistry instance;
+
+    private final Map<LevelId, LevelDefinition> definitions = new EnumMap<>(LevelId.class);
+    private final LevelId firstLevel;
+
+    /**
+     * Creates a level. Implemented by the constructors of the level classes.
+     */
+    @FunctionalInterface
+    public interface LevelFactory {
+
+        /**
+         * Creates the level.
+         *
+         * @param screenHeight The height of the screen.
+         * @param screenWidth  The width of the screen.
+         * @param stage        The game stage.
+         * @return The new level.
+         */
+        LevelParent create(double screenHeight, double screenWidth, Stage stage);
+    }
+
+    /**
+     * A registered level.
+     *
+     * @param id          The level's id.
+     * @param displayName The name shown to the player and used to seed the level, e.g. {@code "Level 1"}.
+     * @param factory     Creates the level.
+     * @param assets      Provides the images and media to load before the level starts.
+     * @param successor   The level that follows, or {@code null} for the final level.
+     */
+    public record LevelDefinition(LevelId id, String displayName, LevelFactory factory,
+                                  Supplier<AssetManifest> assets, LevelId successor) {
+
+        /**
+         * Checks that every part of the definition but the successor is present.
+         */
+        public LevelDefinition {
+            Objects.requireNonNull(id, "id");
+            Objects.requireNonNull(displayName, "displayName");
+            Objects.requireNonNull(factory, "factory");
+            Objects.requireNonNull(assets, "assets");
+        }
+
+        /**
+         * Checks whether another level follows this one.
+         *
+         * @return {@code true} unless this is the final level.
+         */
+        public boolean hasSuccessor() {
+            return successor != null;
+        }
+    }
+
+    /**
+     * Builds and checks a registry.
+     *
+     * @param firstLevel  The level the game starts with.
+     * @param definitions The levels.
+     * @throws IllegalArgumentException If a level is registered twice, the first level or a successor is not
+     *                                  registered, or the chain of successors reaches a level twice.
+     */
+    public LevelRegistry(LevelId firstLevel, List<LevelDefinition> definitions) {
+        for (LevelDefinition definition : definitions) {
+            if (this.definitions.put(definition.id(), definition) != null) {
+                throw new IllegalArgumentException("Level registered twice: " + definition.id());
+            }
+        }
+        this.firstLevel = firstLevel;
+        validate();
+    }
+
+    /**
+     * Retrieves the registry of the game's levels, building and checking it on first use.
+     *
+     * @return The game's level registry.
+     */
+    public static LevelRegistry getInstance() {
+        if (instance == null) {
+            instance = new LevelRegistry(LevelId.LEVEL_ONE, List.of(
+                    new LevelDefinition(LevelId.LEVEL_ONE, "Level 1", LevelOne::new,
+                            LevelOne::assetManifest, LevelId.LEVEL_TWO),
+                    new LevelDefinition(LevelId.LEVEL_TWO, "Level 2", LevelTwo::new,
+                            LevelTwo::assetManifest, LevelId.LEVEL_THREE),
+                    new LevelDefinition(LevelId.LEVEL_THREE, "Final Level", LevelThree::new,
+                            LevelThree::assetManifest, null)));
+        }
+        return instance;
+    }
+
+    /**
+     * Retrieves a registered level.
+     *
+     * @param id The level's id.
+     * @return The level's definition.
+     * @throws IllegalArgumentException If the level is not registered.
+     */
+    public LevelDefinition get(LevelId id) {
+        LevelDefinition definition = definitions.get(id);
+        if (definition == null) {
+            throw new IllegalArgumentException("Level not registered: " + id);
+        }
+        return definition;
+    }
+
+    /**
+     * Retrieves the level the game starts with.
+     *
+     * @return The first level's id.
+     */
+    public LevelId getFirstLevel() {
+        return firstLevel;
+    }
+
+    /**
+     * Retrieves the registered levels.
+     *
+     * @return A read-only view of the definitions, by id.
+     */
+    public Map<LevelId, LevelDefinition> getDefinitions() {
+        return Collections.unmodifiableMap(definitions);
+    }
+
+    /**
+     * Checks that the first level and every successor are registered and that no level follows itself.
+     */
+    private void validate() {
+        get(firstLevel);
+        for (LevelDefinition definition : definitions.values()) {
+            Set<LevelId> seen = EnumSet.of(definition.id());
+            LevelDefinition current = definition;
+            while (current.hasSuccessor()) {
+                current = get(current.successor());
+                if (!seen.add(current.id())) {
+                    throw new IllegalArgumentException("Level chain loops back to " + current.id());
+                }
+            }
+        }
+    }
+}
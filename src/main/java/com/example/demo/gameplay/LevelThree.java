@@ -2,14 +2,21 @@ package com.example.demo.gameplay;
 
 import com.example.demo.actors.enemies.BossSpider;
 import com.example.demo.actors.enemies.EnemySpider;
+import com.example.demo.diagnostics.WaveSpawnEvent;
+import com.example.demo.managers.AssetManifest;
 import com.example.demo.managers.PowerUpManager;
+import com.example.demo.managers.SimulationClock;
 import com.example.demo.powerups.SpreadshotPowerUp;
+import com.example.demo.simulation.RandomStreams;
 import com.example.demo.ui.gameplayUI.LevelView;
+import com.example.demo.ui.gameplayUI.SceneLayers;
 import javafx.scene.control.Label;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.stage.Stage;
 
+import java.util.SplittableRandom;
+
 /**
  * Represents the third and final level of the game.
  * <p>This level includes waves of enemies, random power-up spawns, and a challenging boss battle.
@@ -21,7 +28,7 @@ public class LevelThree extends LevelParent {
     private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background3.jpg"; // Background image for the level
     private static final int PLAYER_INITIAL_HEALTH = 5; // Initial health of the player
     private static final int WAVES_BEFORE_BOSS = 3; // Number of waves before the boss appears
-    private static final double POWER_UP_SPAWN_PROBABILITY = 0.02; // Probability of spawning a power-up each frame
+    private static final double POWER_UP_SPAWN_RATE = 0.4; // Average number of power-ups spawned per second
 
     protected final BossSpider levelThreeBoss; // Reference to the boss enemy
     private int waveCount = 0;         // Tracks the number of completed waves
@@ -35,23 +42,44 @@ public class LevelThree extends LevelParent {
      * @param stage        The primary stage for the game.
      */
     public LevelThree(double screenHeight, double screenWidth, Stage stage) {
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, stage, "Final Level");
+        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, stage, LevelId.LEVEL_THREE);
 
         // Create and add the shield alert label to the game root
         Label shieldAlert = createShieldAlert();
-        getRoot().getChildren().add(shieldAlert);
+        getLayer(SceneLayers.Layer.EFFECTS).getChildren().add(shieldAlert);
 
         // Initialize the boss enemy
         levelThreeBoss = new BossSpider(this, shieldAlert);
     }
 
+    /**
+     * Builds the manifest of the level's assets: the common assets plus the sprites of the boss, its projectiles and the spreadshot power-up.
+     * The manifest is read before the level is constructed, so the assets can be loaded in the background.
+     *
+     * @return The level's asset manifest.
+     */
+    public static AssetManifest assetManifest() {
+        return commonAssets(BACKGROUND_IMAGE_NAME).plus(AssetManifest.ofImages(imagePath("enemyboss.png"), imagePath("bossweb.png"),
+                imagePath("spreadshot.png")));
+    }
+
+    /**
+     * Returns the manifest built by {@link #assetManifest()}.
+     *
+     * @return The level's asset manifest.
+     */
+    @Override
+    protected AssetManifest getAssetManifest() {
+        return assetManifest();
+    }
+
     /**
      * Adds the player's superman to the level.
      * <p>This ensures the player's character is present on the screen at the start of the level.</p>
      */
     @Override
     protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(getUser());
+        getLayer(SceneLayers.Layer.FRIENDLY_UNITS).getChildren().add(getUser());
     }
 
     /**
@@ -82,7 +110,7 @@ public class LevelThree extends LevelParent {
      */
     @Override
     protected LevelView instantiateLevelView() {
-        return new LevelView(getRoot(), PLAYER_INITIAL_HEALTH);
+        return new LevelView(getLayer(SceneLayers.Layer.HUD), PLAYER_INITIAL_HEALTH);
     }
 
     /**
@@ -103,11 +131,14 @@ public class LevelThree extends LevelParent {
      * @param waveCount The current wave count to adjust the difficulty.
      */
     private void spawnEnemyWave(int waveCount) {
-        for (int i = 0; i < 3 + waveCount; i++) { // Increase enemy count with each wave
+        int enemyCount = 3 + waveCount; // Increase enemy count with each wave
+        SplittableRandom random = getWorld().getRandom().get(RandomStreams.Stream.ENEMY_SPAWN);
+        for (int i = 0; i < enemyCount; i++) {
             double x = getScreenWidth() + 100; // Position enemies off-screen to the right
-            double y = Math.random() * getEnemyMaximumYPosition(); // Random vertical position
-            enemyManager.addEnemy(new EnemySpider(x, y)); // Add enemy using EnemyManager
+            double y = random.nextDouble() * getEnemyMaximumYPosition(); // Random vertical position
+            enemyManager.addEnemy(new EnemySpider(getWorld(), x, y)); // Add enemy using EnemyManager
         }
+        WaveSpawnEvent.emit(getCurrentLevel(), waveCount, enemyCount, false);
     }
 
     /**
@@ -116,6 +147,7 @@ public class LevelThree extends LevelParent {
      */
     private void spawnBoss() {
         enemyManager.addEnemy(levelThreeBoss); // Use EnemyManager to handle boss logic
+        WaveSpawnEvent.emit(getCurrentLevel(), waveCount, 1, true);
         bossSpawned = true; // Mark the boss as spawned
     }
 
@@ -123,10 +155,11 @@ public class LevelThree extends LevelParent {
      * Attempts to spawn a spreadshot power-up at random intervals.
      */
     private void spawnPowerUp() {
-        if (Math.random() < POWER_UP_SPAWN_PROBABILITY) { // Check if a power-up should spawn
+        SplittableRandom random = getWorld().getRandom().get(RandomStreams.Stream.POWER_UP_SPAWN);
+        if (random.nextDouble() < SimulationClock.getInstance().chancePerTick(POWER_UP_SPAWN_RATE)) { // Check if a power-up should spawn
             double screenWidthLimit = getScreenWidth() / 2; // Restrict spawning to the left half of the screen
-            double x = Math.random() * screenWidthLimit; // Random horizontal position
-            powerUpManager.addPowerUp(new SpreadshotPowerUp(x, 0)); // Add power-up using PowerUpManager
+            double x = random.nextDouble() * screenWidthLimit; // Random horizontal position
+            powerUpManager.addPowerUp(new SpreadshotPowerUp(getWorld().getStore(), x, 0)); // Add power-up
         }
     }
 
@@ -1,7 +1,9 @@
 package com.example.demo.gameplay;
 
 import com.example.demo.actors.enemies.BossSpider;
+import com.example.demo.managers.AssetManifest;
 import com.example.demo.ui.gameplayUI.LevelView;
+import com.example.demo.ui.gameplayUI.SceneLayers;
 import javafx.scene.control.Label;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
@@ -18,7 +20,6 @@ public class LevelTwo extends LevelParent {
     // Constants for level configuration
     private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.png"; // Path to background image
     private static final int PLAYER_INITIAL_HEALTH = 5; // Initial health of the player
-    private static final String NEXT_LEVEL = "com.example.demo.gameplay.LevelThree"; // Class name of the next level
 
     private final BossSpider boss; // Reference to the boss enemy
 
@@ -30,16 +31,36 @@ public class LevelTwo extends LevelParent {
      * @param stage        The primary stage for the game.
      */
     public LevelTwo(double screenHeight, double screenWidth, Stage stage) {
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, stage, "Level 2");
+        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, stage, LevelId.LEVEL_TWO);
 
         // Initialize the shield alert label and add it to the root node
         Label shieldAlert = createShieldAlert();
-        getRoot().getChildren().add(shieldAlert);
+        getLayer(SceneLayers.Layer.EFFECTS).getChildren().add(shieldAlert);
 
         // Initialize the boss with a reference to this level and the shield alert
         boss = new BossSpider(this, shieldAlert);
     }
 
+    /**
+     * Builds the manifest of the level's assets: the common assets plus the sprites of the boss and its projectiles.
+     * The manifest is read before the level is constructed, so the assets can be loaded in the background.
+     *
+     * @return The level's asset manifest.
+     */
+    public static AssetManifest assetManifest() {
+        return commonAssets(BACKGROUND_IMAGE_NAME).plus(AssetManifest.ofImages(imagePath("enemyboss.png"), imagePath("bossweb.png")));
+    }
+
+    /**
+     * Returns the manifest built by {@link #assetManifest()}.
+     *
+     * @return The level's asset manifest.
+     */
+    @Override
+    protected AssetManifest getAssetManifest() {
+        return assetManifest();
+    }
+
     /**
      * Adds the user's superman character to the level.
      * <p>This method is called during level initialization to ensure the player's character
@@ -47,7 +68,7 @@ public class LevelTwo extends LevelParent {
      */
     @Override
     protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(getUser());
+        getLayer(SceneLayers.Layer.FRIENDLY_UNITS).getChildren().add(getUser());
     }
 
     /**
@@ -62,7 +83,7 @@ public class LevelTwo extends LevelParent {
         if (userIsDestroyed()) {
             loseGame(); // Trigger game over logic
         } else if (boss.isDestroyed()) {
-            goToNextLevel(NEXT_LEVEL); // Transition to the next level
+            goToNextLevel(); // Transition to the next level
         }
     }
 
@@ -74,6 +95,7 @@ public class LevelTwo extends LevelParent {
     protected void spawnEnemyUnits() {
         if (enemyManager.getEnemyCount() == 0) {
             enemyManager.addEnemy(boss); // Add the boss using EnemyManager
+            prepareNextLevel(); // Boss phase: get the final level ready in the background
         }
     }
 
@@ -84,7 +106,7 @@ public class LevelTwo extends LevelParent {
      */
     @Override
     protected LevelView instantiateLevelView() {
-        return new LevelView(getRoot(), PLAYER_INITIAL_HEALTH);
+        return new LevelView(getLayer(SceneLayers.Layer.HUD), PLAYER_INITIAL_HEALTH);
     }
 
     /**
@@ -0,0 +1,113 @@
+package com.example.demo.managers;
+
+import javafx.scene.media.Media;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Decodes the images and prepares the media of an {@link AssetManifest} on background threads.
+ * <p>
+ * Images go into the {@link SpriteCache} and media into a cache of {@link Media} objects, so once a
+ * manifest has been preloaded, creating its actors and media players on the JavaFX Application Thread no
+ * longer decodes anything. Assets are loaded in parallel on a small pool of daemon threads; an asset that
+ * fails to load is logged and skipped, and is loaded again on first use.
+ * </p>
+ * <p>
+ * This class follows the Singleton pattern and is thread-safe.
+ * </p>
+ */
+public class AssetLoader {
+
+    private static final Logger logger = Logger.getLogger(AssetLoader.class.getName());
+    private static final int THREAD_COUNT = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    private static final AssetLoader INSTANCE = new AssetLoader(); // Eagerly created, safe for any thread
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT, runnable -> {
+        Thread thread = new Thread(runnable, "asset-loader");
+        thread.setDaemon(true); // Never keep the application alive
+        return thread;
+    });
+    private final Map<String, Media> media = new ConcurrentHashMap<>(); // Prepared media by classpath location
+
+    /**
+     * Private constructor to enforce the Singleton pattern.
+     */
+    private AssetLoader() {
+    }
+
+    /**
+     * Retrieves the singleton instance of {@code AssetLoader}.
+     *
+     * @return The single instance of {@code AssetLoader}.
+     */
+    public static AssetLoader getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts loading every asset of a manifest in the background.
+     * <p>
+     * The progress listener is called on a loader thread after each asset, with the fraction of the manifest
+     * loaded so far; callers updating the scene graph must hand the value over to the JavaFX Application
+     * Thread themselves.
+     * </p>
+     *
+     * @param manifest The assets to load.
+     * @param progress Receives the fraction of assets loaded, from 0 exclusive to 1 inclusive.
+     * @return A future that completes once every asset has been loaded or has failed.
+     */
+    public CompletableFuture<Void> preload(AssetManifest manifest, DoubleConsumer progress) {
+        int total = manifest.size();
+        AtomicInteger loaded = new AtomicInteger();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(total);
+        for (String image : manifest.images()) {
+            tasks.add(load(image, () -> SpriteCache.getInstance().getImage(image), loaded, total, progress));
+        }
+        for (String path : manifest.media()) {
+            tasks.add(load(path, () -> getMedia(path), loaded, total, progress));
+        }
+        return CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Retrieves the prepared media for a classpath location, preparing it first if needed.
+     *
+     * @param resourcePath The absolute classpath location of the sound or music.
+     * @return The shared {@link Media}.
+     * @throws IllegalArgumentException If the resource cannot be found.
+     */
+    public Media getMedia(String resourcePath) {
+        return media.computeIfAbsent(resourcePath, path -> {
+            URL resource = getClass().getResource(path);
+            if (resource == null) {
+                throw new IllegalArgumentException("Resource not found: " + path);
+            }
+            return new Media(resource.toExternalForm());
+        });
+    }
+
+    /**
+     * Runs one loading task on the pool and reports progress when it ends, whether or not it succeeded.
+     */
+    private CompletableFuture<Void> load(String path, Runnable task, AtomicInteger loaded, int total,
+                                         DoubleConsumer progress) {
+        return CompletableFuture.runAsync(task, executor)
+                .exceptionally(error -> {
+                    logger.log(Level.WARNING, "Error preloading " + path, error);
+                    return null;
+                })
+                .thenRun(() -> progress.accept((double) loaded.incrementAndGet() / total));
+    }
+}
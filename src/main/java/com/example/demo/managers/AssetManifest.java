@@ -0,0 +1,61 @@
+package com.example.demo.managers;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The images and media a level needs, preloaded by the {@link AssetLoader} before the level starts.
+ * <p>
+ * Entries are absolute classpath locations, e.g. {@code "/com/example/demo/images/enemy.png"}. Images are
+ * decoded at their natural size into the {@link SpriteCache}, which is how actors request their sprites.
+ * </p>
+ *
+ * @param images The classpath locations of the images.
+ * @param media  The classpath locations of the sounds and music.
+ */
+public record AssetManifest(List<String> images, List<String> media) {
+
+    /**
+     * Copies the lists so the manifest cannot change after it is created.
+     */
+    public AssetManifest {
+        images = List.copyOf(images);
+        media = List.copyOf(media);
+    }
+
+    /**
+     * Creates a manifest of images only.
+     *
+     * @param images The classpath locations of the images.
+     * @return The manifest.
+     */
+    public static AssetManifest ofImages(String... images) {
+        return new AssetManifest(List.of(images), List.of());
+    }
+
+    /**
+     * Combines this manifest with another, keeping the first occurrence of every entry.
+     *
+     * @param other The manifest to add.
+     * @return A manifest holding the entries of both.
+     */
+    public AssetManifest plus(AssetManifest other) {
+        return new AssetManifest(union(images, other.images), union(media, other.media));
+    }
+
+    /**
+     * Retrieves the total number of assets in the manifest.
+     *
+     * @return The number of images and media.
+     */
+    public int size() {
+        return images.size() + media.size();
+    }
+
+    private static List<String> union(List<String> first, List<String> second) {
+        Set<String> union = new LinkedHashSet<>(first);
+        union.addAll(second);
+        return List.copyOf(union);
+    }
+}
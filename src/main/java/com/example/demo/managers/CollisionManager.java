@@ -3,10 +3,16 @@ package com.example.demo.managers;
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.enemies.BossSpider;
 import com.example.demo.actors.player.UserSuperman;
+import com.example.demo.diagnostics.CollisionBatchEvent;
 import com.example.demo.powerups.PowerUp;
 import com.example.demo.powerups.SpreadshotPowerUp;
+import com.example.demo.simulation.ContactDetector;
+import com.example.demo.simulation.World;
+import jdk.jfr.EventType;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.function.BiConsumer;
 
 /**
  * Manages collision detection and response in the game.
@@ -15,11 +21,33 @@ import java.util.List;
  * projectiles, and power-ups. It provides utility methods for detecting and responding to collisions
  * with custom logic defined through functional interfaces.
  * </p>
+ * <p>
+ * Collisions are detected on the actors' simulation entities rather than their JavaFX nodes, using a
+ * {@link ContactDetector} with a spatial-hash broadphase. Pairs are reported in the same order as a
+ * brute-force double loop, which stays selectable through {@link #setBroadphase(ContactDetector.Broadphase)}.
+ * A level passes its {@link World}, so the collision passes run on the world's contact detector.
+ * </p>
+ * <p>
+ * A pass allocates nothing unless a flight recording wants its {@link CollisionBatchEvent}: the contact
+ * callback and the collision actions are created once per manager, and the event is only created while its
+ * type is enabled.
+ * </p>
  */
 public class CollisionManager {
 
+    // Checked before each pass, so no event is created while no recording wants one
+    private static final EventType COLLISION_BATCH_EVENT = EventType.getEventType(CollisionBatchEvent.class);
+
     private final UserSuperman user;       // Reference to the player's character
     private final SoundManager soundManager; // Reference to the SoundManager for audio effects
+    private final List<ActiveActorDestructible> userAsList; // The user wrapped once for single-target passes
+    private final ContactDetector contactDetector; // Finds overlapping actors
+    // Counts each contact and applies the action of the pass in progress
+    private final BiConsumer<ActiveActorDestructible, ActiveActorDestructible> contactHandler = this::onContact;
+    private final CollisionAction enemyProjectileHit = this::onEnemyProjectileHit; // Reused by every pass
+    private final CollisionAction powerUpPickup = this::onPowerUpPickup;           // Reused by every pass
+    private CollisionAction actionInPass; // Action of the collision pass in progress
+    private int contactsInPass = 0; // Contacts found by the collision pass in progress
 
     /**
      * Constructs a CollisionManager with the specified user and SoundManager.
@@ -28,33 +56,114 @@ public class CollisionManager {
      * @param soundManager The manager for handling game sound effects.
      */
     public CollisionManager(UserSuperman user, SoundManager soundManager) {
+        this(user, soundManager, new ContactDetector());
+    }
+
+    /**
+     * Constructs a CollisionManager that finds contacts with the contact detector of a level's world.
+     *
+     * @param user         The player's character.
+     * @param soundManager The manager for handling game sound effects.
+     * @param world        The world holding the level's entities.
+     */
+    public CollisionManager(UserSuperman user, SoundManager soundManager, World world) {
+        this(user, soundManager, world.getContactDetector());
+    }
+
+    /**
+     * Constructs a CollisionManager that finds contacts with the given contact detector.
+     *
+     * @param user            The player's character.
+     * @param soundManager    The manager for handling game sound effects.
+     * @param contactDetector The detector used by every collision pass.
+     */
+    private CollisionManager(UserSuperman user, SoundManager soundManager, ContactDetector contactDetector) {
         this.user = user;
         this.soundManager = soundManager;
+        this.userAsList = Collections.singletonList(user);
+        this.contactDetector = contactDetector;
     }
 
     /**
      * Handles generic collisions between two lists of game entities.
      * <p>
-     * This method iterates through two lists of entities and applies a custom collision
-     * action whenever an intersection is detected.
+     * This method finds every overlapping pair of actors from their simulation entities and applies a
+     * custom collision action to each pair, ordered by position in the first list and then the second.
+     * While a flight recording has it enabled, each pass is reported as a {@link CollisionBatchEvent}; otherwise
+     * no event is created.
      * </p>
      *
+     * @param pass        The name of the collision pass, used in the recorded event.
      * @param actorsA     The first list of entities.
      * @param actorsB     The second list of entities.
      * @param onCollision A functional interface defining the action to perform on collision.
      */
-    private void handleCollisions(
+    void handleCollisions(
+            String pass,
             List<ActiveActorDestructible> actorsA,
             List<ActiveActorDestructible> actorsB,
             CollisionAction onCollision
     ) {
-        for (ActiveActorDestructible actorA : actorsA) {
-            for (ActiveActorDestructible actorB : actorsB) {
-                if (actorA.getBoundsInParent().intersects(actorB.getBoundsInParent())) {
-                    onCollision.apply(actorA, actorB);
-                }
-            }
+        actionInPass = onCollision;
+        contactsInPass = 0;
+        if (!COLLISION_BATCH_EVENT.isEnabled()) {
+            contactDetector.findContacts(actorsA, actorsB, contactHandler);
+            return;
         }
+        CollisionBatchEvent event = new CollisionBatchEvent();
+        event.begin();
+        long candidatesBefore = contactDetector.getCandidateCount();
+        contactDetector.findContacts(actorsA, actorsB, contactHandler);
+        event.end(pass, actorsA.size(), actorsB.size(), contactDetector.getCandidateCount() - candidatesBefore,
+                contactsInPass);
+    }
+
+    /**
+     * Counts a contact of the pass in progress and applies the pass's collision action to it.
+     *
+     * @param actorA The actor from the first list.
+     * @param actorB The actor from the second list.
+     */
+    private void onContact(ActiveActorDestructible actorA, ActiveActorDestructible actorB) {
+        contactsInPass++;
+        actionInPass.apply(actorA, actorB);
+    }
+
+    /**
+     * Selects how candidate pairs are found.
+     *
+     * @param broadphase The broadphase strategy to use.
+     */
+    public void setBroadphase(ContactDetector.Broadphase broadphase) {
+        contactDetector.setBroadphase(broadphase);
+    }
+
+    /**
+     * Retrieves the broadphase strategy in use.
+     *
+     * @return The current broadphase.
+     */
+    public ContactDetector.Broadphase getBroadphase() {
+        return contactDetector.getBroadphase();
+    }
+
+    /**
+     * Retrieves the number of candidate pairs that were tested exactly since the last reset.
+     * <p>
+     * Comparing this between the two broadphases shows how much work the spatial hash saves.
+     * </p>
+     *
+     * @return The candidate pair count.
+     */
+    public long getCandidateCount() {
+        return contactDetector.getCandidateCount();
+    }
+
+    /**
+     * Resets the candidate pair counter.
+     */
+    public void resetCandidateCount() {
+        contactDetector.resetCandidateCount();
     }
 
     /**
@@ -67,7 +176,7 @@ public class CollisionManager {
      * @param enemyUnits    List of enemy units.
      */
     public void handleSpiderCollisions(List<ActiveActorDestructible> friendlyUnits, List<ActiveActorDestructible> enemyUnits) {
-        handleCollisions(friendlyUnits, enemyUnits, (friendly, enemy) -> {
+        handleCollisions("spider", friendlyUnits, enemyUnits, (friendly, enemy) -> {
             friendly.takeDamage(); // Friendly unit takes damage
             enemy.takeDamage();    // Enemy unit takes damage
         });
@@ -83,9 +192,9 @@ public class CollisionManager {
      * @param enemies     List of enemy units.
      */
     public void handleUserProjectileCollisions(List<ActiveActorDestructible> projectiles, List<ActiveActorDestructible> enemies) {
-        handleCollisions(projectiles, enemies, (projectile, enemy) -> {
+        handleCollisions("userProjectile", projectiles, enemies, (projectile, enemy) -> {
             if (enemy instanceof BossSpider boss) {
-                if (boss.getCustomHitbox().intersects(projectile.getBoundsInParent())) {
+                if (boss.hitboxIntersects(projectile.getEntity())) {
                     projectile.takeDamage(); // Destroy projectile on collision
                     boss.takeDamage();       // Damage the boss
                 }
@@ -105,12 +214,18 @@ public class CollisionManager {
      * @param projectiles List of enemy projectiles.
      */
     public void handleEnemyProjectileCollisions(List<ActiveActorDestructible> projectiles) {
-        for (ActiveActorDestructible projectile : projectiles) {
-            if (projectile.getBoundsInParent().intersects(user.getBoundsInParent())) {
-                projectile.takeDamage(); // Destroy the projectile
-                user.takeDamage();       // Damage the user
-            }
-        }
+        handleCollisions("enemyProjectile", projectiles, userAsList, enemyProjectileHit);
+    }
+
+    /**
+     * Applies a hit of an enemy projectile on the user.
+     *
+     * @param projectile The enemy projectile.
+     * @param target     The user it hit.
+     */
+    private void onEnemyProjectileHit(ActiveActorDestructible projectile, ActiveActorDestructible target) {
+        projectile.takeDamage(); // Destroy the projectile
+        user.takeDamage();       // Damage the user
     }
 
     /**
@@ -122,21 +237,27 @@ public class CollisionManager {
      * @param powerUps List of power-up objects.
      */
     public void handlePowerUpCollisions(List<ActiveActorDestructible> powerUps) {
-        for (ActiveActorDestructible powerUp : powerUps) {
-            if (powerUp.getBoundsInParent().intersects(user.getBoundsInParent())) {
-                if (powerUp instanceof SpreadshotPowerUp spreadshotPowerUp) {
-                    spreadshotPowerUp.activate(user); // Activate spread shot power-up
-                } else if (powerUp instanceof PowerUp genericPowerUp) {
-                    genericPowerUp.activate(user); // Activate generic power-up
-                }
-
-                // Play the power-up collection sound
-                soundManager.playPowerUpSound();
+        handleCollisions("powerUp", powerUps, userAsList, powerUpPickup);
+    }
 
-                // Destroy the power-up after activation
-                powerUp.destroy();
-            }
+    /**
+     * Activates a power-up the user touched, plays the collection sound and destroys the power-up.
+     *
+     * @param powerUp The power-up.
+     * @param target  The user who collected it.
+     */
+    private void onPowerUpPickup(ActiveActorDestructible powerUp, ActiveActorDestructible target) {
+        if (powerUp instanceof SpreadshotPowerUp spreadshotPowerUp) {
+            spreadshotPowerUp.activate(user); // Activate spread shot power-up
+        } else if (powerUp instanceof PowerUp genericPowerUp) {
+            genericPowerUp.activate(user); // Activate generic power-up
         }
+
+        // Play the power-up collection sound
+        soundManager.playPowerUpSound();
+
+        // Destroy the power-up after activation
+        powerUp.destroy();
     }
 
     /**
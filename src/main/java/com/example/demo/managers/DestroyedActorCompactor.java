@@ -0,0 +1,105 @@
+package com.example.demo.managers;
+
+import com.example.demo.simulation.EntityHolder;
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Removes destroyed actors from tracking lists and their nodes from the scene graph in linear time.
+ * <p>
+ * {@link #compact(List, Predicate)} walks a list once, shifting the surviving actors down over the
+ * destroyed ones in place, so the survivors keep their order and nothing is allocated per tick. The nodes
+ * of the removed actors are collected in a reusable identity set, and {@link #flush(Group)} takes them out
+ * of the layer in a single {@code removeAll} call, which is linear in the layer's size and fires one change
+ * event instead of one per node.
+ * </p>
+ * <p>
+ * Each manager owns its own compactor; it is not thread-safe.
+ * </p>
+ */
+public class DestroyedActorCompactor {
+
+    private final Set<Node> pendingNodes = Collections.newSetFromMap(new IdentityHashMap<>()); // Nodes awaiting flush
+
+    /**
+     * Removes every destroyed actor from the list and schedules its node for removal from the scene.
+     *
+     * @param actors The list to compact in place.
+     * @param <T>    The type of actor.
+     * @return The number of actors removed.
+     */
+    public <T extends Node & EntityHolder> int compact(List<T> actors) {
+        return compact(actors, actor -> true);
+    }
+
+    /**
+     * Removes every destroyed actor from the list, detaching its entity from the store it was in.
+     * <p>
+     * The callback is applied to each removed actor and decides whether its node leaves the scene graph;
+     * pooled actors return {@code false} to keep their parked node in place.
+     * </p>
+     *
+     * @param actors    The list to compact in place.
+     * @param onRemoved Called for each removed actor; returns {@code true} if its node should be removed
+     *                  from the scene on the next {@link #flush(Group)}.
+     * @param <T>       The type of actor.
+     * @return The number of actors removed.
+     */
+    public <T extends Node & EntityHolder> int compact(List<T> actors, Predicate<? super T> onRemoved) {
+        int size = actors.size();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            T actor = actors.get(i);
+            if (actor.getEntity().isDestroyed()) {
+                actor.getEntity().detach(); // Free its slot in the store
+                if (onRemoved.test(actor)) {
+                    pendingNodes.add(actor);
+                }
+            } else {
+                if (kept != i) {
+                    actors.set(kept, actor); // Shift the survivor over the removed actors
+                }
+                kept++;
+            }
+        }
+        if (kept < size) {
+            actors.subList(kept, size).clear(); // Drop the tail in one range removal
+        }
+        return size - kept;
+    }
+
+    /**
+     * Schedules the nodes of every actor in the collection for removal from the scene.
+     * Used when a manager clears all of its actors at once.
+     *
+     * @param actors The actors whose nodes should be removed.
+     */
+    public void discard(Collection<? extends Node> actors) {
+        pendingNodes.addAll(actors);
+    }
+
+    /**
+     * Removes all scheduled nodes from the given layer in one bulk operation.
+     * If the layer is {@code null}, the scheduled nodes are simply forgotten.
+     *
+     * @param layer The group the nodes belong to.
+     * @return The number of nodes that were scheduled.
+     */
+    public int flush(Group layer) {
+        int count = pendingNodes.size();
+        if (count > 0) {
+            if (layer != null) {
+                layer.getChildren().removeAll(pendingNodes);
+            }
+            pendingNodes.clear();
+        }
+        return count;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.demo.managers;
 
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.simulation.EntityStore;
 import javafx.scene.Group;
 
 import java.util.ArrayList;
@@ -13,12 +14,21 @@ import java.util.List;
  * during gameplay. This includes adding, updating, removing, and clearing enemies from the game scene.
  * It follows the Singleton pattern to ensure there is only one instance managing all enemies.
  * </p>
+ * <p>
+ * The simulation state of every tracked enemy lives in an {@link EntityStore}: the store of the level's
+ * {@link com.example.demo.simulation.World World}, or one of the manager's own outside a level. The level moves
+ * kinematic enemies in its world's single integration pass, and removal can skip ticks in which nothing in the
+ * store was destroyed.
+ * </p>
  */
 public class EnemyManager {
 
     private static EnemyManager instance; // Singleton instance of the EnemyManager
     private List<ActiveActorDestructible> enemyUnits; // List of currently active enemies
-    private Group root; // Reference to the root group for rendering enemies
+    private final List<ActiveActorDestructible> tickedEnemies = new ArrayList<>(); // Enemies with per-tick behavior
+    private EntityStore store = new EntityStore(); // Simulation state of the tracked enemies
+    private final DestroyedActorCompactor compactor = new DestroyedActorCompactor(); // Linear-time removal
+    private Group layer; // Scene layer owned by the enemies
 
     /**
      * Private constructor to enforce the Singleton pattern.
@@ -42,62 +52,79 @@ public class EnemyManager {
     }
 
     /**
-     * Initializes the EnemyManager with a specified root group.
+     * Initializes the EnemyManager with the scene layer it owns.
      * <p>
      * This method should be called at the start of a new level to prepare the manager
      * for managing enemies specific to that level.
      * </p>
      *
-     * @param root The root {@link Group} where enemy nodes will be added.
+     * @param layer The {@link Group} layer where enemy nodes will be added.
      */
-    public void initialize(Group root) {
-        this.root = root;
+    public void initialize(Group layer) {
+        this.layer = layer;
+        enemyUnits.forEach(enemy -> enemy.getEntity().detach()); // Free the previous level's slots
         this.enemyUnits = new ArrayList<>(); // Reset the enemy list for the new level
+        tickedEnemies.clear();
+    }
+
+    /**
+     * Initializes the EnemyManager with the scene layer it owns and the store of the level's world.
+     * Enemies added from now on keep their simulation state in that store.
+     *
+     * @param layer The {@link Group} layer where enemy nodes will be added.
+     * @param store The {@link EntityStore} of the level's world.
+     */
+    public void initialize(Group layer, EntityStore store) {
+        initialize(layer);
+        this.store = store;
     }
 
     /**
      * Adds an enemy to the game and tracks it within the EnemyManager.
-     * The enemy is also added to the root group for rendering.
+     * The enemy's entity is moved into the manager's store and the enemy is added to the enemy layer for rendering.
      *
      * @param enemy The enemy actor to add.
      */
     public void addEnemy(ActiveActorDestructible enemy) {
         if (enemy != null) {
+            enemy.getEntity().moveTo(store); // Include the enemy in the bulk passes
             enemyUnits.add(enemy); // Add to the tracking list
-            if (root != null) {
-                root.getChildren().add(enemy); // Add to the scene graph
+            if (enemy.hasTickBehavior()) {
+                tickedEnemies.add(enemy); // Only these are visited by updateEnemies()
+            }
+            if (layer != null) {
+                layer.getChildren().add(enemy); // Add to the scene graph
             }
         }
     }
 
     /**
      * Updates all active enemies in the game.
-     * Each enemy's `updateActor` method is called to handle their individual behavior and movement.
+     * The `updateActor` method is called on each enemy with {@link ActiveActorDestructible#hasTickBehavior()
+     * per-tick behavior}; kinematic enemies have already been moved by the level's world in one pass over the
+     * store.
      */
     public void updateEnemies() {
-        enemyUnits.forEach(ActiveActorDestructible::updateActor);
+        tickedEnemies.forEach(ActiveActorDestructible::updateActor);
     }
 
     /**
      * Removes all enemies that have been marked as destroyed.
      * <p>
-     * Destroyed enemies are removed from both the tracking list and the root group,
-     * ensuring they are no longer part of the game.
+     * Destroyed enemies are removed from both the tracking list and the enemy layer,
+     * ensuring they are no longer part of the game. The list is compacted in place and the nodes
+     * leave the scene graph in one bulk removal.
      * </p>
      */
     public void removeDestroyedEnemies() {
-        // Collect destroyed enemies into a separate list
-        List<ActiveActorDestructible> destroyed = enemyUnits.stream()
-                .filter(ActiveActorDestructible::isDestroyed)
-                .toList();
-
-        // Remove them from the scene graph
-        if (root != null) {
-            root.getChildren().removeAll(destroyed);
+        if (store.getDestroyedCount() == 0) {
+            return; // Nothing was destroyed this tick
         }
-
-        // Remove them from the tracking list
-        enemyUnits.removeAll(destroyed);
+        if (!tickedEnemies.isEmpty()) {
+            tickedEnemies.removeIf(ActiveActorDestructible::isDestroyed);
+        }
+        compactor.compact(enemyUnits);
+        compactor.flush(layer);
     }
 
     /**
@@ -108,10 +135,11 @@ public class EnemyManager {
      * </p>
      */
     public void clearAllEnemies() {
-        if (root != null) {
-            root.getChildren().removeAll(enemyUnits); // Clear all enemies from the scene
-        }
+        compactor.discard(enemyUnits);
+        compactor.flush(layer); // Clear all enemies from the scene
+        enemyUnits.forEach(enemy -> enemy.getEntity().detach()); // Free their slots in the store
         enemyUnits.clear(); // Clear the tracking list
+        tickedEnemies.clear();
     }
 
     /**
@@ -123,6 +151,15 @@ public class EnemyManager {
         return enemyUnits;
     }
 
+    /**
+     * Retrieves the store holding the simulation state of the tracked enemies.
+     *
+     * @return The {@link EntityStore} of the enemies.
+     */
+    public EntityStore getEntityStore() {
+        return store;
+    }
+
     /**
      * Retrieves the number of currently active enemies.
      *
@@ -0,0 +1,92 @@
+package com.example.demo.managers;
+
+import com.example.demo.simulation.RandomStreams;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.logging.Logger;
+
+/**
+ * Singleton holding the seed of the running game.
+ * <p>
+ * Every random decision in a level draws from the {@link RandomStreams} owned by the level's
+ * {@link com.example.demo.simulation.World} instead of {@link Math#random()}. This class only hands out the
+ * seeds: {@link #streamsForLevel(String)} derives a fresh set of streams from the run seed and the level's
+ * name, so a level plays out the same way whenever it is started with the same run seed and the same input,
+ * regardless of what happened in earlier levels, and no two worlds share generator state.
+ * </p>
+ * <p>
+ * The run seed is taken from the {@code game.seed} system property, or chosen at random if the property is
+ * not set, and is logged at startup so that any run can be reproduced.
+ * </p>
+ */
+public class GameRandom {
+
+    private static final String SEED_PROPERTY = "game.seed";       // System property fixing the run seed
+    private static final long LEVEL_SEED_MULTIPLIER = 0x9E3779B97F4A7C15L; // Spreads level names across seeds
+    private static final Logger logger = Logger.getLogger(GameRandom.class.getName());
+
+    private static GameRandom instance;
+    private long runSeed; // Seed of the whole run
+
+    /**
+     * Private constructor to enforce the Singleton pattern.
+     */
+    private GameRandom() {
+        Long configuredSeed = Long.getLong(SEED_PROPERTY);
+        setRunSeed(configuredSeed != null ? configuredSeed : new SplittableRandom().nextLong());
+        logger.info("Random seed: " + runSeed + " (rerun with -D" + SEED_PROPERTY + "=" + runSeed + ")");
+    }
+
+    /**
+     * Retrieves the singleton instance of {@code GameRandom}.
+     *
+     * @return The single instance of {@code GameRandom}.
+     */
+    public static GameRandom getInstance() {
+        if (instance == null) {
+            instance = new GameRandom();
+        }
+        return instance;
+    }
+
+    /**
+     * Sets the run seed, from which the streams of levels started afterwards are derived.
+     *
+     * @param seed The new run seed.
+     */
+    public void setRunSeed(long seed) {
+        this.runSeed = seed;
+    }
+
+    /**
+     * Retrieves the run seed.
+     *
+     * @return The seed of the whole run.
+     */
+    public long getRunSeed() {
+        return runSeed;
+    }
+
+    /**
+     * Creates the random number streams of a level, for the level's {@link com.example.demo.simulation.World}.
+     * Every call returns a new, independent instance.
+     *
+     * @param levelName The name of the level being started.
+     * @return The level's streams, derived from the run seed and the level's name.
+     */
+    public RandomStreams streamsForLevel(String levelName) {
+        return new RandomStreams(levelSeedFor(runSeed, levelName));
+    }
+
+    /**
+     * Derives the seed of a level from the run seed and the level's name.
+     *
+     * @param runSeed   The seed of the whole run.
+     * @param levelName The name of the level, or null for an unnamed level.
+     * @return The level seed.
+     */
+    static long levelSeedFor(long runSeed, String levelName) {
+        return new SplittableRandom(runSeed + LEVEL_SEED_MULTIPLIER * Objects.hashCode(levelName)).nextLong();
+    }
+}
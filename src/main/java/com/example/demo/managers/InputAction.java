@@ -0,0 +1,44 @@
+package com.example.demo.managers;
+
+/**
+ * The player actions that keyboard input is translated into by the {@link InputHandler}.
+ * <p>
+ * Actions rather than key codes are recorded by the {@link ReplayManager}, so a recording does not depend on
+ * the key bindings. The ordinal of each action is its code in a recording file, so new actions must be added
+ * at the end.
+ * </p>
+ */
+public enum InputAction {
+    MOVE_UP,         // Start moving upward
+    MOVE_DOWN,       // Start moving downward
+    MOVE_LEFT,       // Start moving to the left
+    MOVE_RIGHT,      // Start moving to the right
+    STOP_VERTICAL,   // Stop moving up or down
+    STOP_HORIZONTAL, // Stop moving left or right
+    FIRE;            // Fire a projectile
+
+    private static final InputAction[] ACTIONS = values(); // Cached to avoid copying on every lookup
+
+    /**
+     * Retrieves the code of the action in a recording file.
+     *
+     * @return The action's code.
+     */
+    public byte getCode() {
+        return (byte) ordinal();
+    }
+
+    /**
+     * Retrieves the action with the given code.
+     *
+     * @param code The code read from a recording file.
+     * @return The matching action.
+     * @throws IllegalArgumentException If no action has the code.
+     */
+    public static InputAction fromCode(int code) {
+        if (code < 0 || code >= ACTIONS.length) {
+            throw new IllegalArgumentException("Unknown input action code: " + code);
+        }
+        return ACTIONS[code];
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.demo.managers;
 
 import com.example.demo.actors.player.UserSuperman;
+import com.example.demo.diagnostics.FrameProfiler;
+import com.example.demo.diagnostics.InputLatencyProfiler;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 
@@ -10,11 +12,50 @@ import javafx.scene.input.KeyEvent;
  * The {@code InputHandler} class listens to key press and release events and translates them
  * into actions for the {@link UserSuperman} player character or game-related commands.
  * </p>
+ * <p>
+ * Key events only update an {@link InputState}. Once per simulation tick, {@link #sampleTick()} reads it and
+ * applies the resulting actions: a movement action whenever the direction on an axis changes, and a shot
+ * whenever fire is held and the fire cooldown has run out. The work per tick is therefore constant and does
+ * not depend on the keyboard's repeat rate.
+ * </p>
+ * <p>
+ * An {@link Autopilot}, such as the soak-test bot, can take the keyboard's place: it sets the controls in the
+ * same {@link InputState} before every sample, so its actions are applied, rate-limited and recorded exactly
+ * like the player's.
+ * </p>
+ * <p>
+ * Player actions pass through the {@link ReplayManager}, which records them when a recording is being made.
+ * While a recording is being replayed, the keyboard no longer moves the player and the replayed actions are
+ * applied through {@link #perform(InputAction)} instead.
+ * </p>
  */
 public class InputHandler {
 
+    private static final double FIRE_COOLDOWN_SECONDS = 0.15; // Shortest time between two shots
+
+    /**
+     * Drives the player's controls in place of the keyboard.
+     */
+    public interface Autopilot {
+
+        /**
+         * Presses and releases controls for the coming tick.
+         *
+         * @param controls The controls to set; sampled right after this call.
+         */
+        void steer(InputState controls);
+    }
+
     private final UserSuperman player; // The player's character
     private final GameStateManager gameStateManager; // Manages the current state of the game
+    private final ReplayManager replayManager; // Records or replays player actions
+    private final InputState inputState = new InputState(); // Controls held on the keyboard
+    private final int fireCooldownTicks; // Ticks between two shots while fire is held
+    private Runnable performanceOverlayToggle = () -> { }; // Shows or hides the performance overlay
+    private Autopilot autopilot; // Steers the controls instead of the keyboard, or null
+    private InputAction appliedVertical = InputAction.STOP_VERTICAL;     // Last vertical action applied
+    private InputAction appliedHorizontal = InputAction.STOP_HORIZONTAL; // Last horizontal action applied
+    private int fireCooldownRemaining = 0; // Ticks until the player may fire again
 
     /**
      * Constructs an {@code InputHandler} with the specified player character and game state manager.
@@ -25,10 +66,32 @@ public class InputHandler {
     public InputHandler(UserSuperman player, GameStateManager gameStateManager) {
         this.player = player;
         this.gameStateManager = gameStateManager;
+        this.replayManager = ReplayManager.getInstance();
+        this.fireCooldownTicks = SimulationClock.getInstance().ticksFor(FIRE_COOLDOWN_SECONDS);
+    }
+
+    /**
+     * Sets the action that shows or hides the performance overlay when {@code F4} is pressed.
+     *
+     * @param toggle The action to run.
+     */
+    public void setPerformanceOverlayToggle(Runnable toggle) {
+        this.performanceOverlayToggle = toggle;
+    }
+
+    /**
+     * Hands the player's controls to an autopilot, or back to the keyboard. While an autopilot is set, the
+     * movement and fire keys are ignored; {@code F3} and {@code F4} keep working.
+     *
+     * @param autopilot The autopilot, or {@code null} for the keyboard.
+     */
+    public void setAutopilot(Autopilot autopilot) {
+        this.autopilot = autopilot;
+        inputState.clear();
     }
 
     /**
-     * Handles key press events and translates them into player actions or game state commands.
+     * Handles key press events by recording the pressed control, or by running a game command.
      * <p>
      * Supported controls:
      * <ul>
@@ -36,27 +99,37 @@ public class InputHandler {
      *     <li>{@code DOWN}: Move the player downward.</li>
      *     <li>{@code LEFT}: Move the player to the left.</li>
      *     <li>{@code RIGHT}: Move the player to the right.</li>
-     *     <li>{@code SPACE}: Fire a projectile.</li>
+     *     <li>{@code SPACE}: Fire projectiles while held.</li>
+     *     <li>{@code F3}: Toggle the {@link FrameProfiler}.</li>
+     *     <li>{@code F4}: Toggle the performance overlay.</li>
      * </ul>
      * </p>
+     * <p>
+     * While the game is not being played, a movement or fire press is only recorded; nothing samples it until
+     * the next played tick calls {@link #sampleTick()}, so a key tapped during a pause or a level transition
+     * still takes effect once the game resumes.
+     * </p>
      *
      * @param event The {@link KeyEvent} triggered by a key press.
      */
     public void handleKeyPress(KeyEvent event) {
-        // Ignore input if the game is not in the PLAYING state
+        KeyCode keyCode = event.getCode();
+        InputState.Control control = autopilot == null ? toControl(keyCode) : null;
         if (gameStateManager.isNotPlaying()) {
+            if (control != null) {
+                inputState.press(control); // Sampled by the first tick after the game resumes
+            }
             return;
         }
 
-        KeyCode keyCode = event.getCode();
-
-        // Map key presses to player actions
+        if (control != null) {
+            InputLatencyProfiler.getInstance().keyEvent();
+            inputState.press(control);
+            return;
+        }
         switch (keyCode) {
-            case UP -> player.moveUp(); // Move up
-            case DOWN -> player.moveDown(); // Move down
-            case LEFT -> player.moveLeft(); // Move left
-            case RIGHT -> player.moveRight(); // Move right
-            case SPACE -> player.fireProjectile(); // Fire a projectile
+            case F3 -> toggleProfiler(); // Switch frame phase timing on or off
+            case F4 -> performanceOverlayToggle.run(); // Show or hide the performance overlay
             default -> {
                 // Optional: Handle other keys if needed
             }
@@ -64,32 +137,140 @@ public class InputHandler {
     }
 
     /**
-     * Handles key release events and stops the player's movement in the released direction.
-     * <p>
-     * Supported controls:
-     * <ul>
-     *     <li>{@code UP}/{@code DOWN}: Stops vertical movement.</li>
-     *     <li>{@code LEFT}/{@code RIGHT}: Stops horizontal movement.</li>
-     * </ul>
-     * </p>
+     * Switches the frame profiler and the input latency profiler on or off together.
+     */
+    private void toggleProfiler() {
+        boolean enabled = !FrameProfiler.getInstance().isEnabled();
+        FrameProfiler.getInstance().setEnabled(enabled);
+        InputLatencyProfiler.getInstance().setEnabled(enabled);
+    }
+
+    /**
+     * Handles key release events by recording the released control. Releases are recorded in every game
+     * state, so a key let go during the pause menu no longer counts as held when the game resumes.
      *
      * @param event The {@link KeyEvent} triggered by a key release.
      */
     public void handleKeyRelease(KeyEvent event) {
-        // Ignore input if the game is not in the PLAYING state
-        if (gameStateManager.isNotPlaying()) {
-            return;
+        InputState.Control control = toControl(event.getCode());
+        if (control != null && autopilot == null) {
+            if (!gameStateManager.isNotPlaying()) {
+                InputLatencyProfiler.getInstance().keyEvent();
+            }
+            inputState.release(control);
         }
+    }
 
-        KeyCode keyCode = event.getCode();
+    /**
+     * Releases every control, for when the game loses the keyboard focus and release events may be missed.
+     */
+    public void releaseAll() {
+        inputState.clear();
+    }
 
-        // Map key releases to stopping movement
-        switch (keyCode) {
-            case UP, DOWN -> player.stopVertical(); // Stop vertical movement
-            case LEFT, RIGHT -> player.stopHorizontal(); // Stop horizontal movement
-            default -> {
-                // Optional: Handle other keys if needed
-            }
+    /**
+     * Samples the keyboard once for the current simulation tick and applies the resulting player actions.
+     * Called by the level at the start of every played tick, before replayed input is applied.
+     *
+     * @return {@code true} if the player started moving in a new direction; stopping does not count.
+     */
+    public boolean sampleTick() {
+        if (autopilot != null) {
+            autopilot.steer(inputState);
+        }
+        int sample = inputState.sample();
+        if (fireCooldownRemaining > 0) {
+            fireCooldownRemaining--;
+        }
+        if (replayManager.isReplaying()) {
+            return false; // The recording drives the player
+        }
+
+        boolean movementStarted = false;
+        InputAction vertical = toMovement(inputState.vertical(sample), InputAction.STOP_VERTICAL);
+        if (vertical != appliedVertical) {
+            appliedVertical = vertical;
+            applyFromKeyboard(vertical);
+            movementStarted |= vertical != InputAction.STOP_VERTICAL;
+        }
+        InputAction horizontal = toMovement(inputState.horizontal(sample), InputAction.STOP_HORIZONTAL);
+        if (horizontal != appliedHorizontal) {
+            appliedHorizontal = horizontal;
+            applyFromKeyboard(horizontal);
+            movementStarted |= horizontal != InputAction.STOP_HORIZONTAL;
+        }
+        if (InputState.Control.FIRE.isIn(sample) && fireCooldownRemaining == 0) {
+            applyFromKeyboard(InputAction.FIRE);
+            fireCooldownRemaining = fireCooldownTicks;
+        }
+        return movementStarted;
+    }
+
+    /**
+     * Maps a key to the control it is bound to.
+     *
+     * @param keyCode The key.
+     * @return The control, or {@code null} if the key is not bound to one.
+     */
+    private static InputState.Control toControl(KeyCode keyCode) {
+        return switch (keyCode) {
+            case UP -> InputState.Control.UP;
+            case DOWN -> InputState.Control.DOWN;
+            case LEFT -> InputState.Control.LEFT;
+            case RIGHT -> InputState.Control.RIGHT;
+            case SPACE -> InputState.Control.FIRE;
+            default -> null;
+        };
+    }
+
+    /**
+     * Maps a resolved direction to the movement action that applies it.
+     *
+     * @param direction The direction on one axis, or {@code null} for none.
+     * @param stop      The action that stops movement on that axis.
+     * @return The movement action, or the stop action if there is no direction.
+     */
+    private static InputAction toMovement(InputState.Control direction, InputAction stop) {
+        if (direction == null) {
+            return stop;
+        }
+        return switch (direction) {
+            case UP -> InputAction.MOVE_UP;
+            case DOWN -> InputAction.MOVE_DOWN;
+            case LEFT -> InputAction.MOVE_LEFT;
+            case RIGHT -> InputAction.MOVE_RIGHT;
+            case FIRE -> throw new IllegalArgumentException("Fire is not a direction");
+        };
+    }
+
+    /**
+     * Applies a player action to the player's character.
+     * This is the single entry point for player actions, used both for keyboard input and for replayed input.
+     *
+     * @param action The action to apply.
+     */
+    public void perform(InputAction action) {
+        switch (action) {
+            case MOVE_UP -> player.moveUp();
+            case MOVE_DOWN -> player.moveDown();
+            case MOVE_LEFT -> player.moveLeft();
+            case MOVE_RIGHT -> player.moveRight();
+            case STOP_VERTICAL -> player.stopVertical();
+            case STOP_HORIZONTAL -> player.stopHorizontal();
+            case FIRE -> player.fireProjectile();
+        }
+    }
+
+    /**
+     * Records and applies a player action triggered from the keyboard, unless input is being replayed.
+     *
+     * @param action The action to apply.
+     */
+    private void applyFromKeyboard(InputAction action) {
+        if (replayManager.isReplaying()) {
+            return; // The recording drives the player
         }
+        replayManager.record(action);
+        perform(action);
     }
 }
@@ -0,0 +1,275 @@
+package com.example.demo.managers;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The player input of a run, stamped with the simulation tick it was applied before.
+ * <p>
+ * A recording holds the run seed and tick rate it was made with, followed by one {@link LevelInput} per level
+ * played, in order. Together with the seeded {@link GameRandom} streams, this is enough to play a run again
+ * tick for tick.
+ * </p>
+ * <p>
+ * The binary format is compact: after a fixed header, each level stores its name and event count, and each
+ * event takes one byte for the {@link InputAction} plus a variable-length number of ticks since the previous
+ * event, which is one byte for gaps of up to 127 ticks.
+ * </p>
+ * <pre>
+ * int    magic "SBIR"
+ * byte   format version
+ * long   run seed
+ * int    tick rate
+ * varint level count
+ * per level:  UTF name, varint event count
+ * per event:  varint ticks since the previous event, byte action code
+ * </pre>
+ */
+public class InputRecording {
+
+    private static final int MAGIC = 0x53424952; // "SBIR"
+    private static final byte VERSION = 1;
+
+    private final long runSeed;   // Seed of the GameRandom streams during the run
+    private final int tickRate;   // Simulation ticks per second during the run
+    private final List<LevelInput> levels = new ArrayList<>();
+
+    /**
+     * Constructs an empty recording.
+     *
+     * @param runSeed  The run seed of the game being recorded.
+     * @param tickRate The simulation tick rate of the game being recorded.
+     */
+    public InputRecording(long runSeed, int tickRate) {
+        this.runSeed = runSeed;
+        this.tickRate = tickRate;
+    }
+
+    /**
+     * Retrieves the run seed the recording was made with.
+     *
+     * @return The run seed.
+     */
+    public long getRunSeed() {
+        return runSeed;
+    }
+
+    /**
+     * Retrieves the tick rate the recording was made with.
+     *
+     * @return The tick rate, in ticks per second.
+     */
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    /**
+     * Starts the input of a new level, after those recorded so far.
+     *
+     * @param levelName The name of the level.
+     * @return The level's input, to which events are added.
+     */
+    public LevelInput addLevel(String levelName) {
+        LevelInput level = new LevelInput(levelName);
+        levels.add(level);
+        return level;
+    }
+
+    /**
+     * Retrieves the input of every level, in the order the levels were played.
+     *
+     * @return An unmodifiable view of the levels.
+     */
+    public List<LevelInput> getLevels() {
+        return Collections.unmodifiableList(levels);
+    }
+
+    /**
+     * Writes the recording to a file, replacing any existing content.
+     *
+     * @param file The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public void save(Path file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(out);
+        }
+    }
+
+    /**
+     * Reads a recording from a file.
+     *
+     * @param file The file to read.
+     * @return The recording.
+     * @throws IOException If the file cannot be read or is not a valid recording.
+     */
+    public static InputRecording load(Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Writes the recording to a stream. The stream is not closed.
+     *
+     * @param out The stream to write to.
+     * @throws IOException If writing fails.
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeLong(runSeed);
+        data.writeInt(tickRate);
+        writeVarLong(data, levels.size());
+        for (LevelInput level : levels) {
+            data.writeUTF(level.getLevelName());
+            writeVarLong(data, level.size());
+            long previousTick = 0;
+            for (int i = 0; i < level.size(); i++) {
+                writeVarLong(data, level.getTick(i) - previousTick);
+                data.writeByte(level.getAction(i).getCode());
+                previousTick = level.getTick(i);
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a recording from a stream. The stream is not closed.
+     *
+     * @param in The stream to read from.
+     * @return The recording.
+     * @throws IOException If reading fails or the data is not a valid recording.
+     */
+    public static InputRecording read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not an input recording");
+        }
+        byte version = data.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported input recording version: " + version);
+        }
+        InputRecording recording = new InputRecording(data.readLong(), data.readInt());
+        long levelCount = readVarLong(data);
+        for (long l = 0; l < levelCount; l++) {
+            LevelInput level = recording.addLevel(data.readUTF());
+            long eventCount = readVarLong(data);
+            long tick = 0;
+            for (long e = 0; e < eventCount; e++) {
+                tick += readVarLong(data);
+                try {
+                    level.add(tick, InputAction.fromCode(data.readUnsignedByte()));
+                } catch (IllegalArgumentException ex) {
+                    throw new IOException("Corrupt input recording", ex);
+                }
+            }
+        }
+        return recording;
+    }
+
+    /**
+     * Writes a non-negative number in 7-bit groups, least significant first.
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads a number written by {@link #writeVarLong(DataOutputStream, long)}.
+     */
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Corrupt input recording: variable-length number too long");
+    }
+
+    /**
+     * The input events of one level, in the order they were applied.
+     * Ticks are counted from the first tick the level was played.
+     */
+    public static class LevelInput {
+
+        private final String levelName;
+        private final List<Long> ticks = new ArrayList<>();
+        private final List<InputAction> actions = new ArrayList<>();
+
+        private LevelInput(String levelName) {
+            this.levelName = levelName;
+        }
+
+        /**
+         * Retrieves the name of the level.
+         *
+         * @return The level name.
+         */
+        public String getLevelName() {
+            return levelName;
+        }
+
+        /**
+         * Adds an event after those added so far.
+         *
+         * @param tick   The number of ticks played in the level before the action was applied.
+         * @param action The action.
+         * @throws IllegalArgumentException If the tick is negative or earlier than the previous event's.
+         */
+        public void add(long tick, InputAction action) {
+            if (tick < 0 || (!ticks.isEmpty() && tick < ticks.get(ticks.size() - 1))) {
+                throw new IllegalArgumentException("Input events must be added in tick order: " + tick);
+            }
+            ticks.add(tick);
+            actions.add(action);
+        }
+
+        /**
+         * Retrieves the number of events.
+         *
+         * @return The event count.
+         */
+        public int size() {
+            return ticks.size();
+        }
+
+        /**
+         * Retrieves the tick of an event.
+         *
+         * @param index The index of the event.
+         * @return The number of ticks played in the level before the event's action was applied.
+         */
+        public long getTick(int index) {
+            return ticks.get(index);
+        }
+
+        /**
+         * Retrieves the action of an event.
+         *
+         * @param index The index of the event.
+         * @return The event's action.
+         */
+        public InputAction getAction(int index) {
+            return actions.get(index);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.demo.managers;
+
+/**
+ * The game controls held down on the keyboard, kept as a bitset.
+ * <p>
+ * Key events only set and clear bits; the game reads the state once per simulation tick through
+ * {@link #sample()}. A control pressed and released again between two samples still shows up in the next
+ * sample, so short taps are never lost. For each movement axis the most recently pressed direction is
+ * remembered, so holding both directions moves the player the way they pressed last, and releasing one of
+ * them moves the player the way of the other.
+ * </p>
+ * <p>
+ * The state is used from the JavaFX application thread only.
+ * </p>
+ */
+public class InputState {
+
+    /**
+     * The controls tracked by the state, each with its own bit.
+     */
+    public enum Control {
+        UP,
+        DOWN,
+        LEFT,
+        RIGHT,
+        FIRE;
+
+        private final int bit = 1 << ordinal(); // Bit of the control in a sample
+
+        /**
+         * Checks whether the control is set in a sample.
+         *
+         * @param sample A value returned by {@link InputState#sample()}.
+         * @return {@code true} if the control was held or pressed.
+         */
+        public boolean isIn(int sample) {
+            return (sample & bit) != 0;
+        }
+    }
+
+    private int held = 0;                  // Controls currently held down
+    private int pressedSinceSample = 0;    // Controls pressed since the last sample, even if already released
+    private Control lastVertical = null;   // Most recently pressed of UP and DOWN
+    private Control lastHorizontal = null; // Most recently pressed of LEFT and RIGHT
+
+    /**
+     * Records that a control has been pressed. Key repeats only set the bit again.
+     *
+     * @param control The control.
+     */
+    public void press(Control control) {
+        held |= control.bit;
+        pressedSinceSample |= control.bit;
+        switch (control) {
+            case UP, DOWN -> lastVertical = control;
+            case LEFT, RIGHT -> lastHorizontal = control;
+            default -> {
+                // Firing has no direction
+            }
+        }
+    }
+
+    /**
+     * Records that a control has been released.
+     *
+     * @param control The control.
+     */
+    public void release(Control control) {
+        held &= ~control.bit;
+    }
+
+    /**
+     * Releases every control, e.g. when the game loses the keyboard focus and release events may be missed.
+     */
+    public void clear() {
+        held = 0;
+        pressedSinceSample = 0;
+    }
+
+    /**
+     * Reads the controls held or pressed since the previous sample. Called once per tick.
+     *
+     * @return The sample, read with {@link Control#isIn(int)}.
+     */
+    public int sample() {
+        int sample = held | pressedSinceSample;
+        pressedSinceSample = 0;
+        return sample;
+    }
+
+    /**
+     * Resolves the vertical direction of a sample.
+     *
+     * @param sample A value returned by {@link #sample()}.
+     * @return {@link Control#UP}, {@link Control#DOWN}, or {@code null} if neither is set.
+     */
+    public Control vertical(int sample) {
+        return resolve(sample, Control.UP, Control.DOWN, lastVertical);
+    }
+
+    /**
+     * Resolves the horizontal direction of a sample.
+     *
+     * @param sample A value returned by {@link #sample()}.
+     * @return {@link Control#LEFT}, {@link Control#RIGHT}, or {@code null} if neither is set.
+     */
+    public Control horizontal(int sample) {
+        return resolve(sample, Control.LEFT, Control.RIGHT, lastHorizontal);
+    }
+
+    private static Control resolve(int sample, Control first, Control second, Control last) {
+        boolean hasFirst = first.isIn(sample);
+        boolean hasSecond = second.isIn(sample);
+        if (hasFirst && hasSecond) {
+            return last; // Both held: the most recent press wins
+        }
+        return hasFirst ? first : hasSecond ? second : null;
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.demo.managers;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.beans.property.DoubleProperty;
+import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
+
+import java.util.function.Function;
+
+/**
+ * Plays the background music of the menus and levels through a single, long-lived player.
+ * <p>
+ * Each track is decoded once by the {@link AssetLoader}. Asking for the track that is already loaded keeps its
+ * player and only adjusts the volume, so the music carries on from the main menu into the levels and from one
+ * level to the next. Switching to another track fades the old one out while the new one fades in, then
+ * disposes the old player, so at most two players are alive and only while a crossfade is running.
+ * </p>
+ * <p>
+ * Muting is applied to the player rather than by changing its volume, so the volume of a track survives
+ * muting and unmuting. This class follows the Singleton pattern and is used from the JavaFX application
+ * thread only.
+ * </p>
+ */
+public class MusicService {
+
+    private static final double CROSSFADE_SECONDS = 1.5; // Length of the fade between two tracks
+
+    private static MusicService instance;
+
+    private final Function<String, Track> trackFactory; // Creates a player for a track
+    private final Duration crossfade;
+    private Track current;        // Player of the track being played, or null
+    private String currentPath;   // Classpath location of the current track
+    private double currentVolume; // Volume the current track plays at once faded in
+    private Track fadingOut;      // Player of the previous track while it fades out, or null
+    private Timeline fade;        // Running crossfade, or null
+    private boolean muted = false;
+    private int livePlayerCount = 0; // Players created and not yet disposed
+
+    /**
+     * A player for one track. Implemented over {@link MediaPlayer}; tests supply their own.
+     */
+    interface Track {
+        void play();
+
+        void pause();
+
+        void stop();
+
+        void dispose();
+
+        void setMute(boolean mute);
+
+        DoubleProperty volumeProperty();
+    }
+
+    /**
+     * Constructs a service.
+     *
+     * @param trackFactory Creates a player for the track at a classpath location.
+     * @param crossfade    The length of the fade between two tracks; zero switches at once.
+     */
+    MusicService(Function<String, Track> trackFactory, Duration crossfade) {
+        this.trackFactory = trackFactory;
+        this.crossfade = crossfade;
+    }
+
+    /**
+     * Retrieves the singleton instance of {@code MusicService}.
+     *
+     * @return The single instance of {@code MusicService}.
+     */
+    public static MusicService getInstance() {
+        if (instance == null) {
+            instance = new MusicService(MusicService::createMediaTrack, Duration.seconds(CROSSFADE_SECONDS));
+        }
+        return instance;
+    }
+
+    /**
+     * Plays a track in a loop. If it is already the current track, it keeps playing from where it is, or
+     * resumes if it was paused or stopped; otherwise it crossfades in over the current track.
+     *
+     * @param trackPath The classpath location of the track.
+     * @param volume    The volume to play it at, between 0 and 1.
+     * @throws IllegalArgumentException If the track cannot be found.
+     */
+    public void play(String trackPath, double volume) {
+        if (trackPath.equals(currentPath) && current != null) {
+            finishFade();
+            currentVolume = volume;
+            current.volumeProperty().set(volume);
+            current.play();
+            return;
+        }
+
+        Track next = trackFactory.apply(trackPath);
+        livePlayerCount++;
+        next.setMute(muted);
+        finishFade();
+        Track previous = current;
+        current = next;
+        currentPath = trackPath;
+        currentVolume = volume;
+
+        if (previous == null || crossfade.lessThanOrEqualTo(Duration.ZERO)) {
+            dispose(previous);
+            next.volumeProperty().set(volume);
+            next.play();
+            return;
+        }
+
+        fadingOut = previous;
+        next.volumeProperty().set(0);
+        next.play();
+        fade = new Timeline(new KeyFrame(crossfade,
+                new KeyValue(previous.volumeProperty(), 0),
+                new KeyValue(next.volumeProperty(), volume)));
+        fade.setOnFinished(e -> finishFade());
+        fade.play();
+    }
+
+    /**
+     * Pauses the current track, ending any crossfade.
+     */
+    public void pause() {
+        finishFade();
+        if (current != null) {
+            current.pause();
+        }
+    }
+
+    /**
+     * Resumes the current track after {@link #pause()} or {@link #stop()}.
+     */
+    public void resume() {
+        if (current != null) {
+            current.play();
+        }
+    }
+
+    /**
+     * Stops the current track and rewinds it, keeping its player for the next {@link #play(String, double)}.
+     */
+    public void stop() {
+        finishFade();
+        if (current != null) {
+            current.stop();
+        }
+    }
+
+    /**
+     * Mutes or unmutes the music without changing its volume.
+     *
+     * @param muted {@code true} to mute the music.
+     */
+    public void setMuted(boolean muted) {
+        this.muted = muted;
+        if (current != null) {
+            current.setMute(muted);
+        }
+        if (fadingOut != null) {
+            fadingOut.setMute(muted);
+        }
+    }
+
+    /**
+     * Checks whether the music is muted.
+     *
+     * @return {@code true} if muted.
+     */
+    public boolean isMuted() {
+        return muted;
+    }
+
+    /**
+     * Stops the music and disposes every player, releasing their native decoders. The next
+     * {@link #play(String, double)} creates a new player.
+     */
+    public void shutdown() {
+        finishFade();
+        dispose(current);
+        current = null;
+        currentPath = null;
+    }
+
+    /**
+     * Retrieves the number of players that have been created and not yet disposed.
+     *
+     * @return The live player count: zero, one, or two during a crossfade.
+     */
+    public int getLivePlayerCount() {
+        return livePlayerCount;
+    }
+
+    /**
+     * Retrieves the classpath location of the current track.
+     *
+     * @return The current track, or {@code null} if none is loaded.
+     */
+    public String getCurrentTrack() {
+        return currentPath;
+    }
+
+    /**
+     * Ends a running crossfade at once, disposing the player that was fading out.
+     */
+    private void finishFade() {
+        if (fade != null) {
+            fade.setOnFinished(null);
+            fade.stop();
+            fade = null;
+            current.volumeProperty().set(currentVolume); // Apply the faded-in volume
+        }
+        dispose(fadingOut);
+        fadingOut = null;
+    }
+
+    private void dispose(Track track) {
+        if (track != null) {
+            track.stop();
+            track.dispose();
+            livePlayerCount--;
+        }
+    }
+
+    /**
+     * Creates a looping {@link MediaPlayer} for a track decoded by the {@link AssetLoader}.
+     */
+    private static Track createMediaTrack(String trackPath) {
+        MediaPlayer player = new MediaPlayer(AssetLoader.getInstance().getMedia(trackPath));
+        player.setCycleCount(MediaPlayer.INDEFINITE);
+        return new Track() {
+            @Override
+            public void play() {
+                player.play();
+            }
+
+            @Override
+            public void pause() {
+                player.pause();
+            }
+
+            @Override
+            public void stop() {
+                player.stop();
+            }
+
+            @Override
+            public void dispose() {
+                player.dispose();
+            }
+
+            @Override
+            public void setMute(boolean mute) {
+                player.setMute(mute);
+            }
+
+            @Override
+            public DoubleProperty volumeProperty() {
+                return player.volumeProperty();
+            }
+        };
+    }
+}
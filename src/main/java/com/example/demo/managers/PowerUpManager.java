@@ -2,6 +2,7 @@ package com.example.demo.managers;
 
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.powerups.PowerUp;
+import com.example.demo.simulation.EntityStore;
 import javafx.scene.Group;
 
 import java.util.ArrayList;
@@ -12,13 +13,21 @@ import java.util.List;
  * <p>
  * This class implements the Singleton pattern to ensure that only one instance manages power-ups.
  * </p>
+ * <p>
+ * The simulation state of every tracked power-up lives in an {@link EntityStore}: the store of the level's
+ * {@link com.example.demo.simulation.World World}, or one of the manager's own outside a level. Falling
+ * power-ups are moved by the world's single integration pass over its columns.
+ * </p>
  */
 public class PowerUpManager {
 
     private static PowerUpManager instance; // Singleton instance
     protected List<ActiveActorDestructible> powerUps; // List of active power-ups in the game
     private List<PowerUp> activePowerUps;
-    private Group root; // Root group for adding/removing power-ups from the scene graph
+    private final List<ActiveActorDestructible> tickedPowerUps = new ArrayList<>(); // Power-ups with per-tick behavior
+    private EntityStore store = new EntityStore(); // Simulation state of the tracked power-ups
+    private final DestroyedActorCompactor compactor = new DestroyedActorCompactor(); // Linear-time removal
+    private Group layer; // Scene layer owned by the power-ups
 
     /**
      * Private constructor to enforce the Singleton pattern.
@@ -43,14 +52,28 @@ public class PowerUpManager {
     }
 
     /**
-     * Initializes the PowerUpManager with the root group.
+     * Initializes the PowerUpManager with the scene layer it owns.
      * This method should be called once when the level is initialized.
      *
-     * @param root The root group to which power-ups will be added in the scene.
+     * @param layer The layer to which power-ups will be added in the scene.
      */
-    public void initialize(Group root) {
-        this.root = root;
+    public void initialize(Group layer) {
+        this.layer = layer;
+        powerUps.forEach(powerUp -> powerUp.getEntity().detach()); // Free the previous level's slots
         this.powerUps = new ArrayList<>();
+        tickedPowerUps.clear();
+    }
+
+    /**
+     * Initializes the PowerUpManager with the scene layer it owns and the store of the level's world.
+     * Power-ups added from now on keep their simulation state in that store.
+     *
+     * @param layer The layer to which power-ups will be added in the scene.
+     * @param store The {@link EntityStore} of the level's world.
+     */
+    public void initialize(Group layer, EntityStore store) {
+        initialize(layer);
+        this.store = store;
     }
 
     /**
@@ -60,34 +83,40 @@ public class PowerUpManager {
      * @param powerUp The power-up to be added.
      */
     public void addPowerUp(PowerUp powerUp) {
+        powerUp.getEntity().moveTo(store); // Include the power-up in the bulk passes
         powerUps.add(powerUp); // Add the power-up to the list
-        if (root != null) {
-            root.getChildren().add(powerUp); // Add the power-up to the scene graph
+        if (powerUp.hasTickBehavior()) {
+            tickedPowerUps.add(powerUp); // Only these are visited by updatePowerUps()
+        }
+        if (layer != null) {
+            layer.getChildren().add(powerUp); // Add the power-up to the scene graph
         }
     }
 
     /**
      * Updates all active power-ups.
-     * This method should be called in the game loop to update the state or position of power-ups.
+     * This method should be called in the game loop to update the state of power-ups.
+     * Kinematic power-ups have already been moved by the level's world in one pass over the store, so only
+     * power-ups with {@link ActiveActorDestructible#hasTickBehavior() per-tick behavior} are updated.
      */
     public void updatePowerUps() {
-        powerUps.forEach(ActiveActorDestructible::updateActor); // Update each power-up
+        tickedPowerUps.forEach(ActiveActorDestructible::updateActor); // Update each power-up with behavior
     }
 
     /**
      * Removes all destroyed power-ups from the game.
-     * Power-ups marked as destroyed are removed from both the internal list and the scene graph.
+     * Power-ups marked as destroyed are removed from both the internal list and the scene graph,
+     * by compacting the list in place and removing their nodes in one bulk operation.
      */
     public void removeDestroyedPowerUps() {
-        // Find all destroyed power-ups
-        List<ActiveActorDestructible> destroyedPowerUps = powerUps.stream()
-                .filter(ActiveActorDestructible::isDestroyed)
-                .toList(); // Replaced `collect(Collectors.toList())` with `toList()`
-
-        if (root != null) {
-            root.getChildren().removeAll(destroyedPowerUps); // Remove destroyed power-ups from the scene graph
+        if (store.getDestroyedCount() == 0) {
+            return; // Nothing was destroyed this tick
         }
-        powerUps.removeAll(destroyedPowerUps); // Remove destroyed power-ups from the list
+        if (!tickedPowerUps.isEmpty()) {
+            tickedPowerUps.removeIf(ActiveActorDestructible::isDestroyed);
+        }
+        compactor.compact(powerUps); // Remove destroyed power-ups from the list
+        compactor.flush(layer); // Remove their nodes from the scene graph
     }
 
     /**
@@ -100,15 +129,34 @@ public class PowerUpManager {
         collisionManager.handlePowerUpCollisions(powerUps); // Delegate collision handling to CollisionManager
     }
 
+    /**
+     * Retrieves the list of power-ups currently in the game.
+     *
+     * @return A list of active power-ups.
+     */
+    public List<ActiveActorDestructible> getPowerUps() {
+        return powerUps;
+    }
+
+    /**
+     * Retrieves the store holding the simulation state of the tracked power-ups.
+     *
+     * @return The {@link EntityStore} of the power-ups.
+     */
+    public EntityStore getEntityStore() {
+        return store;
+    }
+
     /**
      * Clears all power-ups from the game.
      * Removes all power-ups from both the internal list and the scene graph.
      */
     public void clearAllPowerUps() {
-        if (root != null) {
-            root.getChildren().removeAll(powerUps); // Remove power-ups from the scene graph
-        }
+        compactor.discard(powerUps);
+        compactor.flush(layer); // Remove power-ups from the scene graph
+        powerUps.forEach(powerUp -> powerUp.getEntity().detach()); // Free their slots in the store
         powerUps.clear(); // Clear the internal list of power-ups
+        tickedPowerUps.clear();
     }
     /**
      * Retrieves the total number of active power-ups currently managed by the power-up manager.
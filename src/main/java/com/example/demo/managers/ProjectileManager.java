@@ -2,10 +2,18 @@ package com.example.demo.managers;
 
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.enemies.FighterSpider;
+import com.example.demo.projectiles.Projectile;
+import com.example.demo.projectiles.ProjectilePool;
+import com.example.demo.simulation.EntityStore;
 import javafx.scene.Group;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Manages all projectiles in the game, including user and enemy projectiles.
@@ -13,6 +21,18 @@ import java.util.List;
  * This class tracks projectiles, handles updates and removals, and ensures proper collision management.
  * It uses the Singleton pattern to ensure there is only one instance of the {@code ProjectileManager}.
  * </p>
+ * <p>
+ * Projectiles are recycled through one {@link ProjectilePool} per projectile class. Destroyed pooled
+ * projectiles are hidden and returned to their pool instead of being removed from the scene graph, so
+ * the next shot reuses both the actor and its node.
+ * </p>
+ * <p>
+ * The simulation state of every tracked projectile lives in an {@link EntityStore}: the store of the level's
+ * {@link com.example.demo.simulation.World World}, or one of the manager's own outside a level. Kinematic
+ * projectiles are moved by the world's single integration pass, and removal skips ticks in which nothing in
+ * the store was destroyed. Projectiles leave the store when they are removed, including pooled ones, which
+ * rejoin it when they are fired again.
+ * </p>
  */
 public class ProjectileManager {
 
@@ -21,7 +41,13 @@ public class ProjectileManager {
 
     private final List<ActiveActorDestructible> userProjectiles; // Projectiles fired by the user
     private final List<ActiveActorDestructible> enemyProjectiles; // Projectiles fired by enemies
-    private Group root; // Root group for rendering projectiles in the scene
+    private final List<ActiveActorDestructible> tickedProjectiles; // Projectiles with per-tick behavior
+    private final Map<Class<?>, ProjectilePool<?>> pools; // One pool per projectile class
+    private EntityStore store; // Simulation state of the tracked projectiles
+    private final DestroyedActorCompactor userCompactor; // Linear-time removal of destroyed user projectiles
+    private final DestroyedActorCompactor enemyCompactor; // Linear-time removal of destroyed enemy projectiles
+    private Group userLayer; // Scene layer owned by the user projectiles
+    private Group enemyLayer; // Scene layer owned by the enemy projectiles
 
     /**
      * Private constructor to enforce the Singleton pattern.
@@ -29,6 +55,11 @@ public class ProjectileManager {
     private ProjectileManager() {
         this.userProjectiles = new ArrayList<>();
         this.enemyProjectiles = new ArrayList<>();
+        this.tickedProjectiles = new ArrayList<>();
+        this.pools = new LinkedHashMap<>();
+        this.store = new EntityStore(256);
+        this.userCompactor = new DestroyedActorCompactor();
+        this.enemyCompactor = new DestroyedActorCompactor();
     }
 
     /**
@@ -44,13 +75,66 @@ public class ProjectileManager {
     }
 
     /**
-     * Initializes the {@code ProjectileManager} with the root group for rendering.
+     * Initializes the {@code ProjectileManager} with a single group for rendering both kinds of projectiles.
      * This method must be called before using the manager.
      *
-     * @param root The root group to which projectiles will be added.
+     * @param layer The group to which projectiles will be added.
+     * @see #initialize(Group, Group)
      */
-    public void initialize(Group root) {
-        this.root = root;
+    public void initialize(Group layer) {
+        initialize(layer, layer);
+    }
+
+    /**
+     * Initializes the {@code ProjectileManager} with one scene layer for user projectiles and one for
+     * enemy projectiles. The manager owns both layers and clears them in {@link #clearAllProjectiles()}.
+     * This method must be called before using the manager.
+     * <p>
+     * Pools from a previous level are discarded, since their projectiles belong to the previous scene.
+     * </p>
+     *
+     * @param userLayer  The layer to which user projectiles will be added.
+     * @param enemyLayer The layer to which enemy projectiles will be added.
+     */
+    public void initialize(Group userLayer, Group enemyLayer) {
+        this.userLayer = userLayer;
+        this.enemyLayer = enemyLayer;
+        this.pools.clear();
+    }
+
+    /**
+     * Initializes the {@code ProjectileManager} with its two scene layers and the store of the level's world.
+     * Projectiles added from now on keep their simulation state in that store.
+     *
+     * @param userLayer  The layer to which user projectiles will be added.
+     * @param enemyLayer The layer to which enemy projectiles will be added.
+     * @param store      The {@link EntityStore} of the level's world.
+     */
+    public void initialize(Group userLayer, Group enemyLayer, EntityStore store) {
+        initialize(userLayer, enemyLayer);
+        this.store = store;
+    }
+
+    /**
+     * Retrieves the pool for the given projectile class, creating it on first use.
+     *
+     * @param type    The class of projectile the pool recycles.
+     * @param factory Creates a new projectile when the pool has none available.
+     * @param <T>     The type of projectile.
+     * @return The pool for the given projectile class.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Projectile> ProjectilePool<T> getPool(Class<T> type, Supplier<T> factory) {
+        return (ProjectilePool<T>) pools.computeIfAbsent(type, key -> new ProjectilePool<>(type, factory));
+    }
+
+    /**
+     * Retrieves all projectile pools created for the current level, for reporting pool metrics.
+     *
+     * @return An unmodifiable view of the projectile pools.
+     */
+    public Collection<ProjectilePool<?>> getPools() {
+        return Collections.unmodifiableCollection(pools.values());
     }
 
     /**
@@ -59,9 +143,9 @@ public class ProjectileManager {
      * @param projectile The projectile to be added.
      */
     public void addUserProjectile(ActiveActorDestructible projectile) {
-        if (projectile != null && root != null) {
+        if (projectile != null && userLayer != null) {
             userProjectiles.add(projectile);
-            root.getChildren().add(projectile);
+            attachToScene(projectile, userLayer);
         }
     }
 
@@ -71,18 +155,38 @@ public class ProjectileManager {
      * @param projectile The projectile to be added.
      */
     public void addEnemyProjectile(ActiveActorDestructible projectile) {
-        if (projectile != null && root != null) {
+        if (projectile != null && enemyLayer != null) {
             enemyProjectiles.add(projectile);
-            root.getChildren().add(projectile);
+            attachToScene(projectile, enemyLayer);
         }
     }
 
     /**
-     * Updates the state of all projectiles by invoking their {@code updateActor()} method.
+     * Moves a projectile's entity into the manager's store and adds its node to the given layer,
+     * unless it is a recycled node that is already there. Projectiles with per-tick behavior are also
+     * tracked for {@link #updateProjectiles()}.
+     *
+     * @param projectile The projectile to attach.
+     * @param layer      The layer the projectile is drawn in.
+     */
+    private void attachToScene(ActiveActorDestructible projectile, Group layer) {
+        projectile.getEntity().moveTo(store);
+        if (projectile.hasTickBehavior()) {
+            tickedProjectiles.add(projectile); // Only these are visited by updateProjectiles()
+        }
+        if (projectile.getParent() != layer) {
+            layer.getChildren().add(projectile);
+        }
+    }
+
+    /**
+     * Updates the state of all projectiles.
+     * The {@code updateActor()} method is invoked on every projectile with
+     * {@link ActiveActorDestructible#hasTickBehavior() per-tick behavior}, such as boss projectiles and their
+     * fragments; kinematic projectiles have already been moved by the level's world in one pass over the store.
      */
     public void updateProjectiles() {
-        userProjectiles.forEach(ActiveActorDestructible::updateActor);
-        enemyProjectiles.forEach(ActiveActorDestructible::updateActor);
+        tickedProjectiles.forEach(ActiveActorDestructible::updateActor);
     }
 
     /**
@@ -90,23 +194,31 @@ public class ProjectileManager {
      * This ensures that inactive projectiles do not clutter the scene or waste resources.
      */
     public void removeDestroyedProjectiles() {
-        removeDestroyed(userProjectiles);
-        removeDestroyed(enemyProjectiles);
+        if (store.getDestroyedCount() == 0) {
+            return; // Nothing was destroyed this tick
+        }
+        if (!tickedProjectiles.isEmpty()) {
+            tickedProjectiles.removeIf(ActiveActorDestructible::isDestroyed);
+        }
+        removeDestroyed(userProjectiles, userCompactor);
+        removeDestroyed(enemyProjectiles, enemyCompactor);
+        userCompactor.flush(userLayer); // One bulk scene removal per layer
+        enemyCompactor.flush(enemyLayer);
     }
 
     /**
      * Helper method to remove destroyed projectiles from the specified list.
+     * <p>
+     * Pooled projectiles are returned to their pool and keep their node in the scene graph;
+     * only projectiles that are not pooled are scheduled for removal from their layer.
+     * The list is compacted in place.
+     * </p>
      *
      * @param projectiles The list of projectiles to check for destruction.
+     * @param compactor   The compactor of the layer the projectiles are drawn in.
      */
-    private void removeDestroyed(List<ActiveActorDestructible> projectiles) {
-        List<ActiveActorDestructible> destroyed = projectiles.stream()
-                .filter(ActiveActorDestructible::isDestroyed)
-                .toList();
-        if (root != null) {
-            root.getChildren().removeAll(destroyed);
-        }
-        projectiles.removeAll(destroyed);
+    private void removeDestroyed(List<ActiveActorDestructible> projectiles, DestroyedActorCompactor compactor) {
+        compactor.compact(projectiles, projectile -> !(projectile instanceof Projectile pooled && pooled.recycle()));
     }
 
     /**
@@ -142,17 +254,41 @@ public class ProjectileManager {
     /**
      * Clears all projectiles from the scene and internal tracking lists.
      * <p>
-     * This method is useful when transitioning levels or resetting the game.
+     * This method is useful when transitioning levels or resetting the game. Since the manager owns its
+     * layers, they are emptied outright, which also removes the parked nodes of pooled projectiles.
      * </p>
      */
     public void clearAllProjectiles() {
-        if (root != null) {
-            root.getChildren().removeAll(userProjectiles);
-            root.getChildren().removeAll(enemyProjectiles);
-        }
+        pools.values().forEach(ProjectilePool::drain); // Forget parked projectiles
+        clearLayer(userLayer);
+        clearLayer(enemyLayer);
+        userProjectiles.forEach(projectile -> projectile.getEntity().detach());
+        enemyProjectiles.forEach(projectile -> projectile.getEntity().detach());
         userProjectiles.clear();
         enemyProjectiles.clear();
+        tickedProjectiles.clear();
+    }
+
+    /**
+     * Removes every node from one of the manager's layers.
+     *
+     * @param layer The layer to clear; ignored if the manager has not been initialized.
+     */
+    private void clearLayer(Group layer) {
+        if (layer != null) {
+            layer.getChildren().clear();
+        }
+    }
+
+    /**
+     * Retrieves the store holding the simulation state of the tracked projectiles.
+     *
+     * @return The {@link EntityStore} of the projectiles.
+     */
+    public EntityStore getEntityStore() {
+        return store;
     }
+
     /**
      * Retrieves the list of active projectiles fired by the user.
      *
@@ -165,6 +301,15 @@ public class ProjectileManager {
         return userProjectiles;
     }
 
+    /**
+     * Retrieves the list of active projectiles fired by enemies, including boss projectiles.
+     *
+     * @return A {@link List} of the enemies' active projectiles.
+     */
+    public List<ActiveActorDestructible> getEnemyProjectiles() {
+        return enemyProjectiles;
+    }
+
     /**
      * Checks whether a specific projectile is currently in the list of user projectiles.
      *
@@ -0,0 +1,220 @@
+package com.example.demo.managers;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Records the player's input to a file, or plays a recorded file back in place of the keyboard.
+ * <p>
+ * While recording, every {@link InputAction} applied by the {@link InputHandler} is stamped with the number
+ * of ticks the current level has played and added to an {@link InputRecording}, which is written to disk
+ * whenever a level ends. While replaying, the keyboard no longer moves the player; instead, at the start of
+ * every tick the recorded actions stamped with that tick are applied through
+ * {@link InputHandler#perform(InputAction)}. The recording's run seed and tick rate are restored before the
+ * first level starts, so the levels play out exactly as recorded.
+ * </p>
+ * <p>
+ * Ticks are counted only while the level is being played, so time spent on level intros or in the pause
+ * menu does not shift the recorded input. Recording and replaying are selected at startup with the
+ * {@code game.record} and {@code game.replay} system properties, each naming a file.
+ * </p>
+ * <p>
+ * This class follows the Singleton pattern and is used from the JavaFX application thread only.
+ * </p>
+ */
+public class ReplayManager {
+
+    public static final String RECORD_PROPERTY = "game.record"; // System property naming a file to record to
+    public static final String REPLAY_PROPERTY = "game.replay"; // System property naming a file to replay
+    private static final Logger logger = Logger.getLogger(ReplayManager.class.getName());
+
+    /**
+     * What the manager is doing with the player's input.
+     */
+    public enum Mode {
+        OFF,       // Input is neither recorded nor replayed
+        RECORDING, // Input is recorded to a file
+        REPLAYING  // Input is read from a recording
+    }
+
+    private static ReplayManager instance;
+
+    private Mode mode = Mode.OFF;
+    private Path file;                                  // File being recorded to
+    private InputRecording recording;                   // Recording being made or replayed
+    private InputRecording.LevelInput levelInput;       // Input of the current level, or null between levels
+    private int nextLevelIndex = 0;                     // Next level of the recording to replay
+    private int nextEventIndex = 0;                     // Next event of the current level to replay
+    private long ticksPlayed = 0;                       // Ticks played in the current level
+
+    /**
+     * Private constructor to enforce the Singleton pattern.
+     */
+    private ReplayManager() {
+    }
+
+    /**
+     * Retrieves the singleton instance of {@code ReplayManager}.
+     *
+     * @return The single instance of {@code ReplayManager}.
+     */
+    public static ReplayManager getInstance() {
+        if (instance == null) {
+            instance = new ReplayManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Starts recording or replaying as requested through {@link #REPLAY_PROPERTY} or {@link #RECORD_PROPERTY}.
+     * Replaying takes precedence if both are set.
+     *
+     * @throws IOException If the file to replay cannot be read.
+     */
+    public void configureFromSystemProperties() throws IOException {
+        String replayFile = System.getProperty(REPLAY_PROPERTY);
+        String recordFile = System.getProperty(RECORD_PROPERTY);
+        if (replayFile != null) {
+            startReplay(InputRecording.load(Path.of(replayFile)));
+            logger.info("Replaying input from " + replayFile);
+        } else if (recordFile != null) {
+            startRecording(Path.of(recordFile));
+            logger.info("Recording input to " + recordFile);
+        }
+    }
+
+    /**
+     * Starts recording the input of every level played from now on.
+     *
+     * @param file The file the recording is written to at the end of every level.
+     */
+    public void startRecording(Path file) {
+        SimulationClock clock = SimulationClock.getInstance();
+        this.mode = Mode.RECORDING;
+        this.file = file;
+        this.recording = new InputRecording(GameRandom.getInstance().getRunSeed(), clock.getTickRate());
+        this.levelInput = null;
+    }
+
+    /**
+     * Starts replaying a recording from its first level, restoring its run seed and tick rate.
+     *
+     * @param recording The recording to replay.
+     */
+    public void startReplay(InputRecording recording) {
+        GameRandom.getInstance().setRunSeed(recording.getRunSeed());
+        SimulationClock.getInstance().setTickRate(recording.getTickRate());
+        this.mode = Mode.REPLAYING;
+        this.file = null;
+        this.recording = recording;
+        this.levelInput = null;
+        this.nextLevelIndex = 0;
+    }
+
+    /**
+     * Stops recording or replaying. A recording in progress is not written.
+     */
+    public void stop() {
+        mode = Mode.OFF;
+        file = null;
+        recording = null;
+        levelInput = null;
+    }
+
+    /**
+     * Retrieves what the manager is doing with the player's input.
+     *
+     * @return The current mode.
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Checks whether input is being replayed, in which case the keyboard must not move the player.
+     *
+     * @return {@code true} if a recording is being replayed.
+     */
+    public boolean isReplaying() {
+        return mode == Mode.REPLAYING;
+    }
+
+    /**
+     * Prepares for a level that is about to be played.
+     * When replaying, the next level of the recording must have the same name; otherwise replaying stops.
+     *
+     * @param levelName The name of the level.
+     */
+    public void startLevel(String levelName) {
+        ticksPlayed = 0;
+        nextEventIndex = 0;
+        switch (mode) {
+            case RECORDING -> levelInput = recording.addLevel(levelName);
+            case REPLAYING -> {
+                List<InputRecording.LevelInput> levels = recording.getLevels();
+                if (nextLevelIndex < levels.size() && levels.get(nextLevelIndex).getLevelName().equals(levelName)) {
+                    levelInput = levels.get(nextLevelIndex++);
+                } else {
+                    logger.warning("Recording has no input for " + levelName + "; replay stopped");
+                    stop();
+                }
+            }
+            default -> levelInput = null;
+        }
+    }
+
+    /**
+     * Records an action applied from the keyboard, if recording.
+     *
+     * @param action The action.
+     */
+    public void record(InputAction action) {
+        if (mode == Mode.RECORDING && levelInput != null) {
+            levelInput.add(ticksPlayed, action);
+        }
+    }
+
+    /**
+     * Marks the start of a played tick. When replaying, applies every recorded action stamped with this tick.
+     *
+     * @param inputHandler The handler that applies the actions to the player.
+     */
+    public void beginTick(InputHandler inputHandler) {
+        if (mode == Mode.REPLAYING && levelInput != null) {
+            while (nextEventIndex < levelInput.size() && levelInput.getTick(nextEventIndex) <= ticksPlayed) {
+                inputHandler.perform(levelInput.getAction(nextEventIndex++));
+            }
+        }
+        ticksPlayed++;
+    }
+
+    /**
+     * Retrieves the number of ticks played in the current level.
+     *
+     * @return The tick count.
+     */
+    public long getTicksPlayed() {
+        return ticksPlayed;
+    }
+
+    /**
+     * Finishes the current level. When recording, writes everything recorded so far to the file.
+     * Calling this again before the next level starts has no effect.
+     */
+    public void endLevel() {
+        if (levelInput == null) {
+            return;
+        }
+        levelInput = null;
+        if (mode == Mode.RECORDING) {
+            try {
+                recording.save(file);
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "Error writing input recording to " + file, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.demo.managers;
+
+/**
+ * Singleton holding the fixed timestep of the game simulation.
+ * <p>
+ * Every simulation tick advances the game by exactly {@link #getStepSeconds()} seconds, regardless of how
+ * often frames are rendered. Actors express their speeds in pixels per second, their random events as
+ * rates per second and their timers in seconds, and use this clock to convert them into per-tick amounts.
+ * Raising the tick rate therefore makes the simulation finer without changing gameplay speed.
+ * </p>
+ * <p>
+ * The tick rate defaults to 20 ticks per second, matching the original 50 ms game loop, and can be
+ * overridden with the {@code game.tickRate} system property.
+ * </p>
+ */
+public class SimulationClock {
+
+    private static final int DEFAULT_TICK_RATE = 20;                    // Ticks per second of the original loop
+    private static final String TICK_RATE_PROPERTY = "game.tickRate";  // System property overriding the tick rate
+
+    private static SimulationClock instance;
+    private int tickRate;        // Simulation ticks per second
+    private double stepSeconds;  // Duration of one tick, in seconds
+    private long tickCount = 0;  // Ticks simulated since the clock was created or reset
+
+    /**
+     * Private constructor to enforce the Singleton pattern.
+     */
+    private SimulationClock() {
+        setTickRate(Integer.getInteger(TICK_RATE_PROPERTY, DEFAULT_TICK_RATE));
+    }
+
+    /**
+     * Retrieves the singleton instance of {@code SimulationClock}.
+     *
+     * @return The single instance of {@code SimulationClock}.
+     */
+    public static SimulationClock getInstance() {
+        if (instance == null) {
+            instance = new SimulationClock();
+        }
+        return instance;
+    }
+
+    /**
+     * Sets the number of simulation ticks per second.
+     *
+     * @param tickRate The tick rate, in ticks per second.
+     * @throws IllegalArgumentException If the tick rate is not positive.
+     */
+    public void setTickRate(int tickRate) {
+        if (tickRate <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive: " + tickRate);
+        }
+        this.tickRate = tickRate;
+        this.stepSeconds = 1.0 / tickRate;
+    }
+
+    /**
+     * Retrieves the number of simulation ticks per second.
+     *
+     * @return The tick rate.
+     */
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    /**
+     * Retrieves the duration of one simulation tick.
+     *
+     * @return The fixed timestep, in seconds.
+     */
+    public double getStepSeconds() {
+        return stepSeconds;
+    }
+
+    /**
+     * Retrieves the duration of one simulation tick.
+     *
+     * @return The fixed timestep, in nanoseconds.
+     */
+    public long getStepNanos() {
+        return Math.round(stepSeconds * 1_000_000_000L);
+    }
+
+    /**
+     * Converts a speed into the distance covered during one tick.
+     *
+     * @param perSecond The speed, in pixels per second.
+     * @return The distance per tick, in pixels.
+     */
+    public double perTick(double perSecond) {
+        return perSecond * stepSeconds;
+    }
+
+    /**
+     * Converts a rate of random events into the probability of an event happening during one tick.
+     *
+     * @param ratePerSecond The average number of events per second.
+     * @return The probability of at least one event in a tick.
+     */
+    public double chancePerTick(double ratePerSecond) {
+        return 1.0 - Math.exp(-ratePerSecond * stepSeconds);
+    }
+
+    /**
+     * Converts a duration into a whole number of ticks.
+     *
+     * @param seconds The duration, in seconds.
+     * @return The number of ticks covering the duration, at least one.
+     */
+    public int ticksFor(double seconds) {
+        return Math.max(1, (int) Math.round(seconds * tickRate));
+    }
+
+    /**
+     * Records that one simulation tick has been run.
+     */
+    public void advance() {
+        tickCount++;
+    }
+
+    /**
+     * Retrieves the number of ticks simulated since the clock was created or reset.
+     *
+     * @return The tick count.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Retrieves the simulated time since the clock was created or reset.
+     *
+     * @return The simulated time, in seconds.
+     */
+    public double getSimulatedSeconds() {
+        return tickCount * stepSeconds;
+    }
+
+    /**
+     * Resets the tick count, typically at the start of a level.
+     */
+    public void reset() {
+        tickCount = 0;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo.managers;
 
+import com.example.demo.diagnostics.SoundPlaybackEvent;
 import javafx.scene.media.AudioClip;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
@@ -15,6 +16,11 @@ import java.util.logging.Logger;
  * Provides functionality to play, mute, and manage sound effects and background music.
  * Supports preloading of audio resources for optimized playback.
  * </p>
+ * <p>
+ * Every sound effect goes through a {@link VoiceManager}, which limits how many copies of each sound overlap,
+ * merges triggers of the same sound within one simulation tick, and stops low-priority sounds when the pool of
+ * voices is full. Rapid fire therefore costs a bounded number of mixer voices.
+ * </p>
  */
 public class SoundManager {
 
@@ -24,6 +30,13 @@ public class SoundManager {
     private static final String WIN_SOUND_PATH = "/com/example/demo/sounds/Win.mp3";
     private static final String GAME_OVER_SOUND_PATH = "/com/example/demo/sounds/GameOver.mp3";
     private static final String POWER_UP_SOUND_PATH = "/com/example/demo/sounds/Spreadshot.mp3";
+    // Names of the sound effects, as passed to the voice manager
+    private static final String SHOOT_SOUND = "shoot";
+    private static final String POWER_UP_SOUND = "powerUp";
+    private static final String WIN_SOUND = "win";
+    private static final String GAME_OVER_SOUND = "gameOver";
+    // Voices the mixer may have active at once across all sound effects
+    private static final int MAX_VOICES = 6;
 
     private static SoundManager instance;
     private final Map<String, MediaPlayer> soundEffects = new HashMap<>(); // Map for other sound effects
@@ -31,12 +44,19 @@ public class SoundManager {
     private AudioClip powerUpClip;        // Low-latency clip for power-up sound
     private boolean soundEffectsMuted = false; // Tracks mute status for sound effects
     private boolean musicMuted = false;        // Tracks mute status for background music
+    private final VoiceManager voiceManager;   // Bounds overlapping sound effect voices
 
     /**
      * Private constructor to enforce the Singleton pattern.
      * Preloads audio files into memory for optimized playback during the game.
      */
     private SoundManager() {
+        voiceManager = new VoiceManager(MAX_VOICES, this::stopSound);
+        // Caps, priorities and nominal lengths of the sound effects; the end-of-level sounds win over gunfire
+        voiceManager.register(SHOOT_SOUND, 4, 0, 700_000_000L);
+        voiceManager.register(POWER_UP_SOUND, 2, 1, 850_000_000L);
+        voiceManager.register(WIN_SOUND, 1, 2, 1_800_000_000L);
+        voiceManager.register(GAME_OVER_SOUND, 1, 2, 3_300_000_000L);
         loadSounds();
     }
 
@@ -62,8 +82,8 @@ public class SoundManager {
             powerUpClip = loadAudioClip(POWER_UP_SOUND_PATH);
 
             // Load other sound effects as MediaPlayer objects
-            soundEffects.put("win", loadMediaPlayer(WIN_SOUND_PATH));
-            soundEffects.put("gameOver", loadMediaPlayer(GAME_OVER_SOUND_PATH));
+            soundEffects.put(WIN_SOUND, loadMediaPlayer(WIN_SOUND_PATH));
+            soundEffects.put(GAME_OVER_SOUND, loadMediaPlayer(GAME_OVER_SOUND_PATH));
         } catch (Exception e) {
             logger.severe("Error loading sound resources: " + e.getMessage());
         }
@@ -114,8 +134,9 @@ public class SoundManager {
      * Plays the shooting sound effect if sound effects are not muted.
      */
     public void playShootSound() {
-        if (!soundEffectsMuted && shootClip != null) {
+        if (!soundEffectsMuted && shootClip != null && acquireVoice(SHOOT_SOUND)) {
             shootClip.play();
+            SoundPlaybackEvent.emit(SHOOT_SOUND);
         }
     }
 
@@ -123,8 +144,9 @@ public class SoundManager {
      * Plays the power-up collection sound effect if sound effects are not muted.
      */
     public void playPowerUpSound() {
-        if (!soundEffectsMuted && powerUpClip != null) {
+        if (!soundEffectsMuted && powerUpClip != null && acquireVoice(POWER_UP_SOUND)) {
             powerUpClip.play();
+            SoundPlaybackEvent.emit(POWER_UP_SOUND);
         }
     }
 
@@ -137,14 +159,68 @@ public class SoundManager {
         if (soundEffectsMuted) return;
         MediaPlayer player = soundEffects.get(soundName);
         if (player != null) {
+            if (!acquireVoice(soundName)) {
+                return;
+            }
             player.stop();
             player.seek(javafx.util.Duration.ZERO); // Reset playback to the start
             player.play();
+            SoundPlaybackEvent.emit(soundName);
         } else {
             logger.warning("Sound not found: " + soundName);
         }
     }
 
+    /**
+     * Asks the voice manager for a voice, stamping the request with the current simulation tick.
+     *
+     * @param soundName The name of the sound effect.
+     * @return {@code true} if the sound should be started.
+     */
+    private boolean acquireVoice(String soundName) {
+        long tick = SimulationClock.getInstance().getTickCount();
+        return voiceManager.request(soundName, tick, System.nanoTime()) == VoiceManager.Decision.PLAY;
+    }
+
+    /**
+     * Stops every voice of a sound effect whose voices have been stolen by a higher-priority sound.
+     *
+     * @param soundName The name of the sound effect.
+     */
+    private void stopSound(String soundName) {
+        switch (soundName) {
+            case SHOOT_SOUND -> stopClip(shootClip);
+            case POWER_UP_SOUND -> stopClip(powerUpClip);
+            default -> {
+                MediaPlayer player = soundEffects.get(soundName);
+                if (player != null) {
+                    player.stop();
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops every playing instance of an audio clip.
+     *
+     * @param clip The clip to stop; ignored if it failed to load.
+     */
+    private void stopClip(AudioClip clip) {
+        if (clip != null) {
+            clip.stop();
+        }
+    }
+
+    /**
+     * Retrieves the voice manager, whose counters show how many sound effects were played, coalesced,
+     * dropped or cut short.
+     *
+     * @return The voice manager.
+     */
+    public VoiceManager getVoiceManager() {
+        return voiceManager;
+    }
+
     /**
      * Checks if background music is muted.
      *
@@ -161,10 +237,7 @@ public class SoundManager {
      */
     public void setMusicMuted(boolean muted) {
         musicMuted = muted;
-        MediaPlayer backgroundMusic = soundEffects.get("backgroundMusic");
-        if (backgroundMusic != null) {
-            backgroundMusic.setVolume(muted ? 0 : 1);
-        }
+        MusicService.getInstance().setMuted(muted);
     }
 
     /**
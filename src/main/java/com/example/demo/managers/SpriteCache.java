@@ -0,0 +1,154 @@
+package com.example.demo.managers;
+
+import javafx.scene.image.Image;
+
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Central registry for decoded sprite and texture images.
+ * <p>
+ * Every {@link Image} is decoded once per resource path and requested size, and the same instance is
+ * shared by all {@link javafx.scene.image.ImageView} nodes that display it. The cache is thread-safe,
+ * so images may be requested from the JavaFX Application Thread or from background loaders.
+ * </p>
+ * <p>
+ * Hit and miss counters are kept so the number of decodes in steady-state gameplay can be verified
+ * (after the first frame of a level, every request should be a hit).
+ * </p>
+ */
+public final class SpriteCache {
+
+    private static final SpriteCache INSTANCE = new SpriteCache(); // Eagerly created, safe for any thread
+
+    private final Map<SpriteKey, Image> images = new ConcurrentHashMap<>(); // Decoded images by key
+    private final AtomicLong requests = new AtomicLong(); // Total image requests
+    private final AtomicLong misses = new AtomicLong();   // Requests that had to decode an image
+
+    /**
+     * Private constructor to enforce the Singleton pattern.
+     */
+    private SpriteCache() {
+    }
+
+    /**
+     * Retrieves the singleton instance of {@code SpriteCache}.
+     *
+     * @return The single instance of {@code SpriteCache}.
+     */
+    public static SpriteCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Retrieves the image for the given resource path at its natural size.
+     *
+     * @param resourcePath The absolute classpath location of the image (e.g., "/com/example/demo/images/user.png").
+     * @return The shared, decoded {@link Image}.
+     * @throws IllegalArgumentException If the image resource cannot be found.
+     */
+    public Image getImage(String resourcePath) {
+        return getImage(resourcePath, 0, 0);
+    }
+
+    /**
+     * Retrieves the image for the given resource path, decoded to the requested size.
+     * <p>
+     * A requested width or height of {@code 0} keeps the natural size of the image on that axis.
+     * The aspect ratio is preserved when scaling.
+     * </p>
+     *
+     * @param resourcePath    The absolute classpath location of the image.
+     * @param requestedWidth  The width to decode the image to, or {@code 0} for the natural width.
+     * @param requestedHeight The height to decode the image to, or {@code 0} for the natural height.
+     * @return The shared, decoded {@link Image}.
+     * @throws IllegalArgumentException If the image resource cannot be found.
+     */
+    public Image getImage(String resourcePath, double requestedWidth, double requestedHeight) {
+        SpriteKey key = new SpriteKey(resourcePath, requestedWidth, requestedHeight);
+
+        Image cached = images.get(key);
+        if (cached != null) {
+            requests.incrementAndGet();
+            return cached;
+        }
+
+        URL resource = getClass().getResource(resourcePath);
+        if (resource == null) {
+            throw new IllegalArgumentException("Resource not found: " + resourcePath);
+        }
+        requests.incrementAndGet();
+        // computeIfAbsent guarantees a single decode even if two threads miss at the same time
+        return images.computeIfAbsent(key, k -> decode(k, resource));
+    }
+
+    /**
+     * Decodes the image described by the given key.
+     *
+     * @param key      The resource path and requested size of the image.
+     * @param resource The resolved location of the image resource.
+     * @return The decoded {@link Image}.
+     */
+    private Image decode(SpriteKey key, URL resource) {
+        misses.incrementAndGet();
+        if (key.requestedWidth() == 0 && key.requestedHeight() == 0) {
+            return new Image(resource.toExternalForm());
+        }
+        return new Image(resource.toExternalForm(), key.requestedWidth(), key.requestedHeight(), true, true);
+    }
+
+    /**
+     * Retrieves the number of requests that were served from the cache.
+     *
+     * @return The cache hit count.
+     */
+    public long getHitCount() {
+        return requests.get() - misses.get();
+    }
+
+    /**
+     * Retrieves the number of requests that required an image to be decoded.
+     *
+     * @return The cache miss count.
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Retrieves the number of distinct images currently held by the cache.
+     *
+     * @return The number of cached images.
+     */
+    public int size() {
+        return images.size();
+    }
+
+    /**
+     * Resets the hit and miss counters without evicting any images.
+     */
+    public void resetStatistics() {
+        requests.set(0);
+        misses.set(0);
+    }
+
+    /**
+     * Evicts every cached image and resets the statistics.
+     */
+    public void clear() {
+        images.clear();
+        resetStatistics();
+    }
+
+    /**
+     * Identifies a cached image by its resource path and requested size.
+     *
+     * @param resourcePath    The absolute classpath location of the image.
+     * @param requestedWidth  The requested decode width, or {@code 0} for the natural width.
+     * @param requestedHeight The requested decode height, or {@code 0} for the natural height.
+     */
+    private record SpriteKey(String resourcePath, double requestedWidth, double requestedHeight) {
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.demo.managers;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Decides which sound effect requests are actually played, bounding the number of overlapping voices.
+ * <p>
+ * Each registered sound has a polyphony cap, a priority and a nominal length. A request is handled as follows:
+ * </p>
+ * <ul>
+ *     <li>A second request for the same sound in the same simulation tick is <em>coalesced</em> into the first
+ *     while it is still playing, so a burst of simultaneous triggers costs one voice.</li>
+ *     <li>If the sound already has as many voices as its cap allows, the request is <em>dropped</em>.</li>
+ *     <li>If every voice of the pool is in use, the oldest voice of the lowest-priority sound below the
+ *     request's priority is <em>stolen</em>; if there is none, the request is dropped.</li>
+ * </ul>
+ * <p>
+ * Audio clips do not report when a voice ends, so a voice is considered finished once the sound's nominal
+ * length has passed since it started. Stopping a clip silences all of its voices, so stealing frees every
+ * voice of the victim sound. The manager is not thread-safe and is used from the JavaFX application thread.
+ * </p>
+ */
+public class VoiceManager {
+
+    /**
+     * The outcome of a play request.
+     */
+    public enum Decision {
+        PLAY,      // The sound should be started
+        COALESCED, // The sound was already started in this tick
+        DROPPED    // No voice was available for the sound
+    }
+
+    private final int maxVoices;                        // Voices the pool may have active at once
+    private final Consumer<String> stealListener;       // Stops the sound whose voices are stolen
+    private final Map<String, Channel> channels = new HashMap<>();
+    private int activeVoices = 0;
+    private long playedCount = 0;
+    private long coalescedCount = 0;
+    private long droppedCount = 0;
+    private long stolenCount = 0;
+
+    /**
+     * Constructs a voice manager.
+     *
+     * @param maxVoices     The number of voices the pool may have active at once, at least one.
+     * @param stealListener Called with the name of a sound whose voices are stolen, to stop it.
+     * @throws IllegalArgumentException If the voice count is less than one.
+     */
+    public VoiceManager(int maxVoices, Consumer<String> stealListener) {
+        if (maxVoices < 1) {
+            throw new IllegalArgumentException("Voice count must be at least one: " + maxVoices);
+        }
+        this.maxVoices = maxVoices;
+        this.stealListener = stealListener;
+    }
+
+    /**
+     * Registers a sound.
+     *
+     * @param name          The name of the sound.
+     * @param maxVoices     The number of voices the sound may have active at once, at least one.
+     * @param priority      The sound's priority; voices of lower-priority sounds are stolen first.
+     * @param durationNanos The nominal length of the sound, in nanoseconds.
+     * @throws IllegalArgumentException If the sound is already registered or the voice count or length is not
+     *                                  positive.
+     */
+    public void register(String name, int maxVoices, int priority, long durationNanos) {
+        if (maxVoices < 1 || durationNanos <= 0) {
+            throw new IllegalArgumentException("Invalid voice settings for sound: " + name);
+        }
+        if (channels.putIfAbsent(name, new Channel(name, maxVoices, priority, durationNanos)) != null) {
+            throw new IllegalArgumentException("Sound registered twice: " + name);
+        }
+    }
+
+    /**
+     * Decides whether a sound should be played, and if so reserves a voice for it.
+     *
+     * @param name      The name of a registered sound.
+     * @param tick      The current simulation tick, used to coalesce simultaneous requests.
+     * @param nowNanos  The current time, in nanoseconds, used to retire finished voices.
+     * @return Whether to play the sound.
+     * @throws IllegalArgumentException If the sound is not registered.
+     */
+    public Decision request(String name, long tick, long nowNanos) {
+        Channel channel = channels.get(name);
+        if (channel == null) {
+            throw new IllegalArgumentException("Sound not registered: " + name);
+        }
+        retireFinishedVoices(nowNanos);
+        if (channel.lastTick == tick && !channel.isEmpty()) {
+            coalescedCount++;
+            return Decision.COALESCED;
+        }
+        if (channel.size() >= channel.maxVoices) {
+            droppedCount++;
+            return Decision.DROPPED;
+        }
+        if (activeVoices >= maxVoices && !stealVoiceBelow(channel.priority)) {
+            droppedCount++;
+            return Decision.DROPPED;
+        }
+
+        channel.addVoice(nowNanos + channel.durationNanos);
+        channel.lastTick = tick;
+        activeVoices++;
+        playedCount++;
+        return Decision.PLAY;
+    }
+
+    /**
+     * Retrieves the number of voices considered to be playing, as of the last request.
+     *
+     * @return The active voice count.
+     */
+    public int getActiveVoices() {
+        return activeVoices;
+    }
+
+    /**
+     * Retrieves the number of requests that started a sound.
+     *
+     * @return The played count.
+     */
+    public long getPlayedCount() {
+        return playedCount;
+    }
+
+    /**
+     * Retrieves the number of requests merged into a request for the same sound in the same tick.
+     *
+     * @return The coalesced count.
+     */
+    public long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    /**
+     * Retrieves the number of requests dropped because no voice was available.
+     *
+     * @return The dropped count.
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Retrieves the number of times a sound was stopped to free voices for a higher-priority one.
+     *
+     * @return The stolen count.
+     */
+    public long getStolenCount() {
+        return stolenCount;
+    }
+
+    /**
+     * Removes the voices whose sound has finished.
+     */
+    private void retireFinishedVoices(long nowNanos) {
+        for (Channel channel : channels.values()) {
+            while (!channel.isEmpty() && channel.oldestEnd() <= nowNanos) {
+                channel.removeOldestVoice();
+                activeVoices--;
+            }
+        }
+    }
+
+    /**
+     * Stops the lowest-priority sound below a priority, preferring the one with the oldest voice.
+     *
+     * @return {@code true} if voices were freed.
+     */
+    private boolean stealVoiceBelow(int priority) {
+        Channel victim = null;
+        for (Channel channel : channels.values()) {
+            if (channel.isEmpty() || channel.priority >= priority) {
+                continue;
+            }
+            if (victim == null || channel.priority < victim.priority
+                    || (channel.priority == victim.priority && channel.oldestEnd() < victim.oldestEnd())) {
+                victim = channel;
+            }
+        }
+        if (victim == null) {
+            return false;
+        }
+        activeVoices -= victim.size();
+        victim.clearVoices();
+        stolenCount++;
+        stealListener.accept(victim.name);
+        return true;
+    }
+
+    /**
+     * The settings and active voices of one sound.
+     * <p>
+     * The end times of the active voices are kept in a ring buffer of primitive longs, oldest first. A sound
+     * never has more voices than its cap, so the buffer is sized once and playing a sound allocates nothing.
+     * </p>
+     */
+    private static final class Channel {
+
+        private final String name;
+        private final int maxVoices;
+        private final int priority;
+        private final long durationNanos;
+        private final long[] voiceEnds;         // End times of active voices, as a ring buffer
+        private int oldest = 0;                 // Index of the oldest active voice
+        private int voiceCount = 0;             // Number of active voices
+        private long lastTick = Long.MIN_VALUE; // Tick of the last voice started
+
+        private Channel(String name, int maxVoices, int priority, long durationNanos) {
+            this.name = name;
+            this.maxVoices = maxVoices;
+            this.priority = priority;
+            this.durationNanos = durationNanos;
+            this.voiceEnds = new long[maxVoices];
+        }
+
+        /**
+         * Checks whether the sound has no active voice.
+         *
+         * @return {@code true} if no voice is active.
+         */
+        private boolean isEmpty() {
+            return voiceCount == 0;
+        }
+
+        /**
+         * Retrieves the number of active voices.
+         *
+         * @return The voice count.
+         */
+        private int size() {
+            return voiceCount;
+        }
+
+        /**
+         * Retrieves the end time of the oldest active voice. Only valid while a voice is active.
+         *
+         * @return The end time, in nanoseconds.
+         */
+        private long oldestEnd() {
+            return voiceEnds[oldest];
+        }
+
+        /**
+         * Adds a voice as the newest one. The caller makes sure the cap has not been reached.
+         *
+         * @param endNanos The time the voice ends, in nanoseconds.
+         */
+        private void addVoice(long endNanos) {
+            voiceEnds[(oldest + voiceCount) % voiceEnds.length] = endNanos;
+            voiceCount++;
+        }
+
+        /**
+         * Removes the oldest active voice.
+         */
+        private void removeOldestVoice() {
+            oldest = (oldest + 1) % voiceEnds.length;
+            voiceCount--;
+        }
+
+        /**
+         * Removes every active voice.
+         */
+        private void clearVoices() {
+            oldest = 0;
+            voiceCount = 0;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.demo.managers;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.simulation.Entity;
+import com.example.demo.simulation.EntityKind;
+import com.example.demo.simulation.World;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps moving actors inside the playable world.
+ * <p>
+ * The world is the visible stage extended by a configurable margin on every side. Actors that leave it
+ * (projectiles, boss fragments and power-ups) are retired by marking them as destroyed, so the regular
+ * removal pass takes them out of their manager and the scene graph instead of letting them travel forever.
+ * The manager also decides when an enemy has penetrated the player's defenses.
+ * </p>
+ * <p>
+ * Every tick it also counts the live actors of every type, which can be read back with
+ * {@link #getLiveCount(Class)} or {@link #getLiveCounts()} to spot leaks during long sessions.
+ * </p>
+ */
+public class WorldBoundsManager {
+
+    private static final double DEFAULT_MARGIN = 100; // Default distance actors may travel past the stage edge
+    private static final Set<EntityKind> BOUNDED_KINDS = EnumSet.of(EntityKind.USER_PROJECTILE,
+            EntityKind.ENEMY_PROJECTILE, EntityKind.BOSS_PROJECTILE, EntityKind.FRAGMENT,
+            EntityKind.POWER_UP); // Kinds retired when they leave the world
+
+    private final double worldWidth;  // Width of the visible stage
+    private final double worldHeight; // Height of the visible stage
+    private final Map<Class<?>, int[]> liveCounts = new HashMap<>(); // Live actors per type, reused every tick
+    private double margin;            // Distance beyond the stage edge before an actor is retired
+    private int retiredCount;         // Actors retired since the start of the tick
+
+    /**
+     * Constructs a WorldBoundsManager for a stage of the given size, using the default margin.
+     *
+     * @param worldWidth  The width of the visible stage.
+     * @param worldHeight The height of the visible stage.
+     */
+    public WorldBoundsManager(double worldWidth, double worldHeight) {
+        this(worldWidth, worldHeight, DEFAULT_MARGIN);
+    }
+
+    /**
+     * Constructs a WorldBoundsManager for a stage of the given size and margin.
+     *
+     * @param worldWidth  The width of the visible stage.
+     * @param worldHeight The height of the visible stage.
+     * @param margin      The distance actors may travel beyond the stage edges before being retired.
+     */
+    public WorldBoundsManager(double worldWidth, double worldHeight, double margin) {
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        setMargin(margin);
+    }
+
+    /**
+     * Starts a new tick by resetting the live counts and the retired counter.
+     */
+    public void beginTick() {
+        liveCounts.values().forEach(count -> count[0] = 0);
+        retiredCount = 0;
+    }
+
+    /**
+     * Retires the projectiles, fragments and power-ups of a level's world that have left it, in a single pass
+     * over the world's store. Enemies and the player are never retired here.
+     * <p>
+     * The bounds are this manager's stage size and current margin, so {@link #setMargin(double)} takes effect
+     * on the next call.
+     * </p>
+     *
+     * @param world The world holding the level's entities.
+     * @return The number of entities retired by this call.
+     */
+    public int retireOutOfBounds(World world) {
+        int retired = world.getStore().destroyOutside(-margin, -margin, worldWidth + margin, worldHeight + margin,
+                BOUNDED_KINDS);
+        retiredCount += retired;
+        return retired;
+    }
+
+    /**
+     * Counts the live actors in the list without retiring any of them.
+     * <p>
+     * This is used for actors whose lifetime is not bounded by the world, such as enemies and the player.
+     * </p>
+     *
+     * @param actors The actors to count.
+     */
+    public void countLive(List<ActiveActorDestructible> actors) {
+        for (ActiveActorDestructible actor : actors) {
+            if (!actor.isDestroyed()) {
+                countLive(actor);
+            }
+        }
+    }
+
+    /**
+     * Determines whether an actor has completely left the world, including the margin.
+     *
+     * @param actor The actor to check.
+     * @return {@code true} if the actor is outside the world; {@code false} otherwise.
+     */
+    public boolean isOutOfBounds(ActiveActorDestructible actor) {
+        Entity entity = actor.getEntity();
+        return entity.isOutside(-margin, -margin, worldWidth + margin, worldHeight + margin);
+    }
+
+    /**
+     * Checks if an enemy has penetrated the player's defenses by travelling a full stage width.
+     *
+     * @param enemy The enemy to check.
+     * @return True if the enemy has penetrated defenses, false otherwise.
+     */
+    public boolean hasPenetratedDefenses(ActiveActorDestructible enemy) {
+        return Math.abs(enemy.getEntity().getDisplacementX()) > worldWidth;
+    }
+
+    /**
+     * Retrieves the number of live actors of the given type counted during the current tick.
+     *
+     * @param type The actor class.
+     * @return The number of live actors of exactly that class.
+     */
+    public int getLiveCount(Class<?> type) {
+        int[] count = liveCounts.get(type);
+        return count == null ? 0 : count[0];
+    }
+
+    /**
+     * Retrieves the live actor counts of every type seen during the current tick.
+     *
+     * @return An unmodifiable map from actor class to live count.
+     */
+    public Map<Class<?>, Integer> getLiveCounts() {
+        Map<Class<?>, Integer> snapshot = new HashMap<>();
+        liveCounts.forEach((type, count) -> {
+            if (count[0] > 0) {
+                snapshot.put(type, count[0]);
+            }
+        });
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Retrieves the number of actors retired since the start of the current tick.
+     *
+     * @return The retired actor count.
+     */
+    public int getRetiredCount() {
+        return retiredCount;
+    }
+
+    /**
+     * Retrieves the margin beyond the stage edges.
+     *
+     * @return The margin, in pixels.
+     */
+    public double getMargin() {
+        return margin;
+    }
+
+    /**
+     * Sets the distance actors may travel beyond the stage edges before being retired.
+     *
+     * @param margin The margin, in pixels.
+     * @throws IllegalArgumentException If the margin is negative.
+     */
+    public void setMargin(double margin) {
+        if (margin < 0) {
+            throw new IllegalArgumentException("Margin must not be negative: " + margin);
+        }
+        this.margin = margin;
+    }
+
+    /**
+     * Increments the live count for the actor's type.
+     *
+     * @param actor The live actor.
+     */
+    private void countLive(ActiveActorDestructible actor) {
+        liveCounts.computeIfAbsent(actor.getClass(), type -> new int[1])[0]++;
+    }
+}
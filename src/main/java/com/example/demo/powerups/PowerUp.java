@@ -2,6 +2,9 @@ package com.example.demo.powerups;
 
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.player.UserSuperman;
+import com.example.demo.managers.SimulationClock;
+import com.example.demo.simulation.EntityKind;
+import com.example.demo.simulation.EntityStore;
 
 /**
  * Represents a collectible power-up item in the game.
@@ -15,7 +18,7 @@ public class PowerUp extends ActiveActorDestructible {
 
     // Constants for power-up properties
     private static final int IMAGE_HEIGHT = 40;      // Height of the power-up image
-    private static final double FALL_SPEED = 3.0;   // Vertical falling speed of the power-up
+    private static final double FALL_SPEED = 60.0;  // Vertical falling speed, in pixels per second
 
     /**
      * Constructs a PowerUp instance with the specified image and initial position.
@@ -25,22 +28,44 @@ public class PowerUp extends ActiveActorDestructible {
      * @param initialY  The initial Y-coordinate where the power-up spawns.
      */
     public PowerUp(String imageName, double initialX, double initialY) {
-        super(imageName, IMAGE_HEIGHT, initialX, initialY);
+        this(null, imageName, initialX, initialY);
+    }
+
+    /**
+     * Constructs a PowerUp instance whose entity is allocated in the given store.
+     *
+     * @param store     The store to allocate the power-up's entity in, or {@code null} for a private store.
+     * @param imageName The file name of the image representing the power-up.
+     * @param initialX  The initial X-coordinate where the power-up spawns.
+     * @param initialY  The initial Y-coordinate where the power-up spawns.
+     */
+    public PowerUp(EntityStore store, String imageName, double initialX, double initialY) {
+        super(store, EntityKind.POWER_UP, imageName, IMAGE_HEIGHT, initialX, initialY);
+        getEntity().setVelocity(0, FALL_SPEED);
+        getEntity().setKinematic(true); // Moved by the level's world
     }
 
     /**
      * Updates the power up state on each frame.
      * <p>
-     * This method makes the power-up fall down the screen
-     * and destroys it if it moves out of the visible game bounds.
+     * The power-up is kinematic, so it falls down the screen through the bulk movement pass of the level's
+     * {@link com.example.demo.simulation.World}. Power-ups that fall out of the
+     * world are retired by the level's {@link com.example.demo.managers.WorldBoundsManager}.
      * </p>
      */
     @Override
     public void updateActor() {
-        moveVertically(FALL_SPEED); // Make the power-up fall
-        if (isOutOfBounds()) {
-            destroy(); // Remove the power-up if it falls out of bounds
-        }
+        // Movement is handled by the level's world
+    }
+
+    /**
+     * The power-up only moves along its velocity, so it is never updated individually.
+     *
+     * @return Always false.
+     */
+    @Override
+    public boolean hasTickBehavior() {
+        return false;
     }
 
     /**
@@ -52,7 +77,7 @@ public class PowerUp extends ActiveActorDestructible {
      */
     @Override
     public void updatePosition() {
-        moveVertically(FALL_SPEED); // Move the power-up down the screen
+        getEntity().integrate(SimulationClock.getInstance().getStepSeconds()); // Move the power-up down the screen
     }
 
     /**
@@ -78,13 +103,4 @@ public class PowerUp extends ActiveActorDestructible {
         }
         destroy(); // Remove the power-up after activation
     }
-
-    /**
-     * Determines if the power-up has moved out of the visible game area.
-     *
-     * @return True if the power-up has fallen below the screen; otherwise, false.
-     */
-    private boolean isOutOfBounds() {
-        return getTranslateY() > 650; // Replace 650 with your game's screen height limit if needed
-    }
 }
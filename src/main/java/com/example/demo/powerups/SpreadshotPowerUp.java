@@ -1,6 +1,7 @@
 package com.example.demo.powerups;
 
 import com.example.demo.actors.player.UserSuperman;
+import com.example.demo.simulation.EntityStore;
 
 /**
  * Represents a spread shot power-up in the game.
@@ -21,7 +22,18 @@ public class SpreadshotPowerUp extends PowerUp {
      * @param initialY The initial Y-coordinate where the power-up spawns.
      */
     public SpreadshotPowerUp(double initialX, double initialY) {
-        super(SPREADSHOT_IMAGE, initialX, initialY);
+        this(null, initialX, initialY);
+    }
+
+    /**
+     * Constructs a Spread shotPowerUp instance whose entity is allocated in the given store.
+     *
+     * @param store    The store to allocate the power-up's entity in, or {@code null} for a private store.
+     * @param initialX The initial X-coordinate where the power-up spawns.
+     * @param initialY The initial Y-coordinate where the power-up spawns.
+     */
+    public SpreadshotPowerUp(EntityStore store, double initialX, double initialY) {
+        super(store, SPREADSHOT_IMAGE, initialX, initialY);
     }
 
     /**
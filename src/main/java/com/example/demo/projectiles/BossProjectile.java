@@ -1,12 +1,12 @@
 package com.example.demo.projectiles;
 
 import com.example.demo.gameplay.LevelParent;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.util.Duration;
+import com.example.demo.managers.SimulationClock;
+import com.example.demo.simulation.EntityKind;
+import com.example.demo.simulation.RandomStreams;
+import com.example.demo.simulation.TimerWheel;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Represents a projectile fired by the boss in the game.
@@ -14,15 +14,23 @@ import java.util.List;
  * This projectile moves horizontally across the screen, slows down upon reaching a certain position,
  * and then explodes into smaller fragments that spread out in different directions.
  * </p>
+ * <p>
+ * The explosion delay and the fragment lifetime are timers on the level's {@link TimerWheel}, which is
+ * advanced by the game tick, so they stay in step with the game loop when it pauses or catches up. Both
+ * timers are cancelled when the projectile is destroyed early, returned to its pool or reused.
+ * </p>
  */
 public class BossProjectile extends Projectile {
 
     private static final String IMAGE_NAME = "bossweb.png"; // Image for the boss projectile
     private static final int IMAGE_HEIGHT = 75;            // Height of the projectile image
-    private static final int HORIZONTAL_VELOCITY = -5;     // Speed of horizontal movement
-    private static final int INITIAL_X_POSITION = 950;     // Initial X-coordinate of the projectile
+    private static final double HORIZONTAL_VELOCITY = -100; // Horizontal speed, in pixels per second
+    public static final int INITIAL_X_POSITION = 950;      // Initial X-coordinate of the projectile
+    private static final int FRAGMENT_COUNT = 3;           // Number of fragments spawned by an explosion
+    private static final double EXPLOSION_DELAY_SECONDS = 1; // Time between slowing down and exploding
     private final LevelParent levelParent;                // Reference to the current level for interactions
     private boolean exploded = false;                     // Tracks whether the projectile has exploded
+    private TimerWheel.Timer explosionTimer;              // Pending explosion, or null before the first one
 
     /**
      * Constructs a boss projectile with the specified initial position and level reference.
@@ -31,8 +39,11 @@ public class BossProjectile extends Projectile {
      * @param levelParent The reference to the {@link LevelParent} managing this projectile.
      */
     public BossProjectile(double initialYPos, LevelParent levelParent) {
-        super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, initialYPos);
+        super(levelParent.getWorld().getStore(), EntityKind.BOSS_PROJECTILE, IMAGE_NAME, IMAGE_HEIGHT,
+                INITIAL_X_POSITION, initialYPos);
         this.levelParent = levelParent;
+        getEntity().setVelocity(HORIZONTAL_VELOCITY, 0);
+        getEntity().setKinematic(true); // Moved by the level's world
     }
 
     /**
@@ -43,34 +54,83 @@ public class BossProjectile extends Projectile {
      */
     @Override
     public void updatePosition() {
-        moveHorizontally(HORIZONTAL_VELOCITY);
+        getEntity().integrate(SimulationClock.getInstance().getStepSeconds());
+        checkExplosionTrigger();
+    }
 
-        if (getTranslateX() < 300 && !exploded) {
+    /**
+     * Schedules the explosion once the projectile has travelled far enough.
+     */
+    private void checkExplosionTrigger() {
+        if (getEntity().getDisplacementX() < 300 && !exploded) {
             exploded = true; // Ensure the projectile only explodes once
             scheduleExplosion(); // Trigger the explosion
         }
     }
 
+    /**
+     * Resets the boss projectile for reuse, cancelling any explosion still pending from its previous shot.
+     *
+     * @param initialXPos The X-coordinate to place the projectile at.
+     * @param initialYPos The Y-coordinate to place the projectile at.
+     */
+    @Override
+    protected void reset(double initialXPos, double initialYPos) {
+        super.reset(initialXPos, initialYPos);
+        getEntity().setVelocity(HORIZONTAL_VELOCITY, 0);
+        exploded = false;
+        cancelExplosion();
+    }
+
+    /**
+     * Destroys the projectile, cancelling its pending explosion.
+     */
+    @Override
+    public void destroy() {
+        cancelExplosion();
+        super.destroy();
+    }
+
+    /**
+     * Returns the projectile to its pool, cancelling its pending explosion. This also covers projectiles
+     * that were retired for leaving the world, which are destroyed without going through {@link #destroy()}.
+     *
+     * @return {@code true} if the projectile was pooled and has been released.
+     */
+    @Override
+    public boolean recycle() {
+        cancelExplosion();
+        return super.recycle();
+    }
+
     /**
      * Updates the behavior of the boss projectile each frame.
+     * The projectile is kinematic, so its movement is done by the level's world beforehand.
      */
     @Override
     public void updateActor() {
-        updatePosition();
+        checkExplosionTrigger();
     }
 
     /**
      * Schedules the explosion of the boss projectile after a delay.
      * <p>
-     * This creates a timed event that triggers the explosion sequence after 1 second.
+     * The explosion sequence is triggered {@link #EXPLOSION_DELAY_SECONDS} of simulated time later.
      * </p>
      */
     private void scheduleExplosion() {
-        Timeline explosionTimer = new Timeline(
-                new KeyFrame(Duration.seconds(1), e -> explode())
-        );
-        explosionTimer.setCycleCount(1);
-        explosionTimer.play();
+        explosionTimer = levelParent.getTimerWheel()
+                .schedule(SimulationClock.getInstance().ticksFor(EXPLOSION_DELAY_SECONDS), this::explode);
+    }
+
+    /**
+     * Cancels the pending explosion, if any.
+     */
+    private void cancelExplosion() {
+        if (explosionTimer != null) {
+            explosionTimer.cancel();
+            explosionTimer = null;
+        }
     }
 
     /**
@@ -80,6 +140,7 @@ public class BossProjectile extends Projectile {
      * </p>
      */
     private void explode() {
+        explosionTimer = null;     // The timer has run
         spawnExplodingFragments(); // Generate fragments from the explosion
         destroy();                 // Destroy the original projectile
     }
@@ -87,89 +148,134 @@ public class BossProjectile extends Projectile {
     /**
      * Spawns smaller fragments as a result of the explosion.
      * <p>
-     * These fragments are created at the current position of the boss projectile and move in random directions.
+     * These fragments are taken from the level's fragment pool, placed at the current position of the
+     * boss projectile and move in random directions.
      * </p>
      */
     private void spawnExplodingFragments() {
-        double currentX = getLayoutX() + getTranslateX();
-        double currentY = getLayoutY() + getTranslateY();
+        double currentX = getEntity().getX();
+        double currentY = getEntity().getY();
 
-        // Generate 3 smaller fragments with randomized velocities
-        List<Projectile> fragments = new ArrayList<>();
-        for (int i = 0; i < 3; i++) {
-            double randomHorizontalVelocity = -3 + (Math.random() * -20); // Range: [-3, -20]
-            double randomVerticalVelocity = -10 + (Math.random() * 25);   // Range: [-10, 15]
+        ProjectilePool<Fragment> fragmentPool = levelParent.getProjectileManager()
+                .getPool(Fragment.class, () -> new Fragment(levelParent));
 
-            fragments.add(new Fragment(currentX, currentY, randomHorizontalVelocity, randomVerticalVelocity));
-        }
+        // Generate smaller fragments with randomized velocities
+        SplittableRandom random = levelParent.getWorld().getRandom().get(RandomStreams.Stream.FRAGMENTS);
+        for (int i = 0; i < FRAGMENT_COUNT; i++) {
+            double randomHorizontalVelocity = -60 + (random.nextDouble() * -400); // Range: [-460, -60] px/s
+            double randomVerticalVelocity = -200 + (random.nextDouble() * 500);   // Range: [-200, 300] px/s
 
-        // Add fragments to the level and set their lifetime
-        fragments.forEach(fragment -> {
-            levelParent.addProjectile(fragment);
-            setFragmentLifetime((Fragment) fragment);
-        });
-    }
+            Fragment fragment = fragmentPool.acquire(currentX, currentY);
+            fragment.getEntity().setVelocity(randomHorizontalVelocity, randomVerticalVelocity);
 
-    /**
-     * Sets the lifetime of a fragment and removes it from the scene after the specified time.
-     *
-     * @param fragment The fragment whose lifetime is to be set.
-     */
-    private void setFragmentLifetime(Fragment fragment) {
-        Timeline fragmentLifeTimer = new Timeline(
-                new KeyFrame(Duration.seconds(2), e -> {
-                    fragment.destroy(); // Destroy the fragment after its lifetime
-                    levelParent.getRoot().getChildren().remove(fragment); // Remove from the scene
-                })
-        );
-        fragmentLifeTimer.setCycleCount(1);
-        fragmentLifeTimer.play();
+            // Add the fragment to the level and set its lifetime
+            levelParent.addProjectile(fragment);
+            fragment.startLifetime();
+        }
     }
 
     /**
      * Represents the smaller fragments created upon the explosion of the boss projectile.
      */
-    protected class Fragment extends Projectile {
+    protected static class Fragment extends Projectile {
 
         private static final String FRAGMENT_IMAGE_NAME = "enemyweb.png"; // Image for the fragment
-        private final double horizontalVelocity;                          // Horizontal velocity of the fragment
-        private final double verticalVelocity;                            // Vertical velocity of the fragment
+        private static final int FRAGMENT_IMAGE_HEIGHT = 60;              // Height of the fragment image
+        private static final double LIFETIME_SECONDS = 2;                 // Time before the fragment expires
+        private final LevelParent levelParent;                            // Level used for collision with the user
+        private TimerWheel.Timer expiryTimer;                             // Pending expiry of the fragment
 
         /**
-         * Constructs a fragment with specified initial position and velocities.
+         * Constructs a pooled fragment. Its position and velocities are assigned when it is acquired.
          *
-         * @param initialX           The initial X-coordinate of the fragment.
-         * @param initialY           The initial Y-coordinate of the fragment.
-         * @param horizontalVelocity The horizontal velocity of the fragment.
-         * @param verticalVelocity   The vertical velocity of the fragment.
+         * @param levelParent The level the fragment belongs to.
          */
-        public Fragment(double initialX, double initialY, double horizontalVelocity, double verticalVelocity) {
-            super(FRAGMENT_IMAGE_NAME, 60, initialX, initialY);
-            this.horizontalVelocity = horizontalVelocity;
-            this.verticalVelocity = verticalVelocity;
+        public Fragment(LevelParent levelParent) {
+            super(levelParent.getWorld().getStore(), EntityKind.FRAGMENT, FRAGMENT_IMAGE_NAME,
+                    FRAGMENT_IMAGE_HEIGHT, 0, 0);
+            this.levelParent = levelParent;
+            getEntity().setKinematic(true); // Moved by the level's world
         }
 
         /**
-         * Updates the position of the fragment based on its velocities.
+         * Resets the fragment for reuse, cancelling the expiry left over from its previous flight.
+         *
+         * @param initialXPos The X-coordinate to place the fragment at.
+         * @param initialYPos The Y-coordinate to place the fragment at.
+         */
+        @Override
+        protected void reset(double initialXPos, double initialYPos) {
+            super.reset(initialXPos, initialYPos);
+            cancelExpiry();
+        }
+
+        /**
+         * Destroys the fragment, cancelling its pending expiry.
+         */
+        @Override
+        public void destroy() {
+            cancelExpiry();
+            super.destroy();
+        }
+
+        /**
+         * Returns the fragment to its pool, cancelling its pending expiry.
+         *
+         * @return {@code true} if the fragment was pooled and has been released.
+         */
+        @Override
+        public boolean recycle() {
+            cancelExpiry();
+            return super.recycle();
+        }
+
+        /**
+         * Starts the fragment's lifetime. The fragment is destroyed once its lifetime elapses, after which
+         * the projectile manager returns it to its pool.
+         */
+        void startLifetime() {
+            cancelExpiry();
+            expiryTimer = levelParent.getTimerWheel()
+                    .schedule(SimulationClock.getInstance().ticksFor(LIFETIME_SECONDS), this::expire);
+        }
+
+        /**
+         * Destroys the fragment once its lifetime has elapsed.
+         */
+        private void expire() {
+            expiryTimer = null; // The timer has run
+            destroy();
+        }
+
+        /**
+         * Cancels the pending expiry, if any.
+         */
+        private void cancelExpiry() {
+            if (expiryTimer != null) {
+                expiryTimer.cancel();
+                expiryTimer = null;
+            }
+        }
+
+        /**
+         * Updates the position of the fragment based on the velocity it was given when spawned.
          */
         @Override
         public void updatePosition() {
-            moveHorizontally(horizontalVelocity);
-            moveVertically(verticalVelocity);
+            getEntity().integrate(SimulationClock.getInstance().getStepSeconds());
         }
 
         /**
          * Updates the behavior of the fragment each frame, including collision handling.
          * <p>
-         * If the fragment collides with the user's superman, it inflicts damage and is destroyed.
+         * If the fragment collides with the user's superman, it inflicts damage and is destroyed. The fragment
+         * is kinematic, so its movement is done by the level's world beforehand.
          * </p>
          */
         @Override
         public void updateActor() {
-            updatePosition();
-
             // Handle collision with the user's superman
-            if (getBoundsInParent().intersects(levelParent.getUser().getBoundsInParent())) {
+            if (getEntity().intersects(levelParent.getUser().getEntity())) {
                 levelParent.getUser().takeDamage(); // Inflict damage
                 destroy(); // Remove the fragment
             }
@@ -1,5 +1,9 @@
 package com.example.demo.projectiles;
 
+import com.example.demo.managers.SimulationClock;
+import com.example.demo.simulation.EntityKind;
+import com.example.demo.simulation.EntityStore;
+
 /**
  * Represents a projectile fired by enemy spiders in the game.
  * <p>
@@ -11,7 +15,7 @@ public class EnemyProjectile extends Projectile {
 
     private static final String IMAGE_NAME = "enemyweb.png"; // Path to the image representing the projectile
     private static final int IMAGE_HEIGHT = 50;             // Height of the projectile's image
-    private static final int HORIZONTAL_VELOCITY = -10;     // Speed at which the projectile moves horizontally
+    private static final double HORIZONTAL_VELOCITY = -200; // Horizontal speed, in pixels per second
 
     /**
      * Constructs an enemy projectile with the specified initial position.
@@ -20,7 +24,32 @@ public class EnemyProjectile extends Projectile {
      * @param initialYPos The initial Y-coordinate of the projectile.
      */
     public EnemyProjectile(double initialXPos, double initialYPos) {
-        super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+        this(null, initialXPos, initialYPos);
+    }
+
+    /**
+     * Constructs an enemy projectile whose entity is allocated in the given store.
+     *
+     * @param store       The store to allocate the projectile's entity in, or {@code null} for a private store.
+     * @param initialXPos The initial X-coordinate of the projectile.
+     * @param initialYPos The initial Y-coordinate of the projectile.
+     */
+    public EnemyProjectile(EntityStore store, double initialXPos, double initialYPos) {
+        super(store, EntityKind.ENEMY_PROJECTILE, IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+        getEntity().setVelocity(HORIZONTAL_VELOCITY, 0);
+        getEntity().setKinematic(true); // Moved by the level's world
+    }
+
+    /**
+     * Resets the projectile for reuse and restores its velocity.
+     *
+     * @param initialXPos The X-coordinate to place the projectile at.
+     * @param initialYPos The Y-coordinate to place the projectile at.
+     */
+    @Override
+    protected void reset(double initialXPos, double initialYPos) {
+        super.reset(initialXPos, initialYPos);
+        getEntity().setVelocity(HORIZONTAL_VELOCITY, 0);
     }
 
     /**
@@ -32,18 +61,28 @@ public class EnemyProjectile extends Projectile {
      */
     @Override
     public void updatePosition() {
-        moveHorizontally(HORIZONTAL_VELOCITY); // Move leftward by a fixed velocity
+        getEntity().integrate(SimulationClock.getInstance().getStepSeconds()); // Move leftward at a fixed speed
     }
 
     /**
      * Updates the behavior of the projectile on each frame.
      * <p>
-     * This method ensures the projectile updates its position and can include additional
-     * functionality like handling destruction or interactions.
+     * The projectile is kinematic, so the level's {@link com.example.demo.simulation.World} moves it in
+     * its bulk movement pass and there is no per-projectile work left to do here.
      * </p>
      */
     @Override
     public void updateActor() {
-        updatePosition();
+        // Movement is handled by the level's world
+    }
+
+    /**
+     * The projectile only moves along its velocity, so it is never updated individually.
+     *
+     * @return Always false.
+     */
+    @Override
+    public boolean hasTickBehavior() {
+        return false;
     }
 }
@@ -1,6 +1,8 @@
 package com.example.demo.projectiles;
 
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.simulation.EntityKind;
+import com.example.demo.simulation.EntityStore;
 
 /**
  * Represents a generic projectile in the game.
@@ -11,16 +13,74 @@ import com.example.demo.actors.ActiveActorDestructible;
  */
 public abstract class Projectile extends ActiveActorDestructible {
 
+    private ProjectilePool<?> pool; // Pool that owns this projectile, or null if it is not pooled
+
     /**
      * Constructs a generic projectile with the specified properties.
      *
+     * @param kind        The kind of simulation entity backing the projectile.
+     * @param imageName   The name of the image file representing the projectile.
+     * @param imageHeight The height of the projectile image, scaled to maintain aspect ratio.
+     * @param initialXPos The initial X-coordinate of the projectile on the screen.
+     * @param initialYPos The initial Y-coordinate of the projectile on the screen.
+     */
+    public Projectile(EntityKind kind, String imageName, int imageHeight, double initialXPos, double initialYPos) {
+        super(kind, imageName, imageHeight, initialXPos, initialYPos);
+    }
+
+    /**
+     * Constructs a projectile whose entity is allocated in the given store.
+     *
+     * @param store       The store to allocate the projectile's entity in, or {@code null} for a private store.
+     * @param kind        The kind of simulation entity backing the projectile.
      * @param imageName   The name of the image file representing the projectile.
      * @param imageHeight The height of the projectile image, scaled to maintain aspect ratio.
      * @param initialXPos The initial X-coordinate of the projectile on the screen.
      * @param initialYPos The initial Y-coordinate of the projectile on the screen.
      */
-    public Projectile(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-        super(imageName, imageHeight, initialXPos, initialYPos);
+    public Projectile(EntityStore store, EntityKind kind, String imageName, int imageHeight, double initialXPos,
+                      double initialYPos) {
+        super(store, kind, imageName, imageHeight, initialXPos, initialYPos);
+    }
+
+    /**
+     * Resets the projectile so it can be fired again from the given position.
+     * <p>
+     * This is called by {@link ProjectilePool} whenever a projectile is acquired. Subclasses that keep
+     * additional per-shot state must override this method and call {@code super.reset}. The entity's velocity
+     * is cleared, so subclasses moving at a constant speed set it again.
+     * </p>
+     *
+     * @param initialXPos The X-coordinate to place the projectile at.
+     * @param initialYPos The Y-coordinate to place the projectile at.
+     */
+    protected void reset(double initialXPos, double initialYPos) {
+        getEntity().spawnAt(initialXPos, initialYPos);
+        syncView();
+        setVisible(true);
+    }
+
+    /**
+     * Returns the projectile to the pool it was acquired from.
+     *
+     * @return {@code true} if the projectile was pooled and has been released; {@code false} if it is not
+     * pooled and should be discarded by the caller.
+     */
+    public boolean recycle() {
+        if (pool == null) {
+            return false;
+        }
+        pool.release(this);
+        return true;
+    }
+
+    /**
+     * Records the pool that owns this projectile.
+     *
+     * @param pool The owning pool.
+     */
+    void setPool(ProjectilePool<?> pool) {
+        this.pool = pool;
     }
 
     /**
@@ -0,0 +1,179 @@
+package com.example.demo.projectiles;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A typed object pool that recycles projectiles of a single class.
+ * <p>
+ * Instead of allocating a new {@link javafx.scene.image.ImageView}-backed projectile for every shot,
+ * callers {@link #acquire(double, double) acquire} a projectile from the pool. Acquired projectiles are
+ * {@link Projectile#reset(double, double) reset} to a fresh state at the requested position. Once a
+ * projectile is destroyed it is {@link #release(Projectile) released} back to the pool: the node is hidden
+ * but stays in the scene graph, so the next shot reuses it without touching the parent's child list.
+ * </p>
+ * <p>
+ * The pool records how many projectiles it has created, its high-water mark of projectiles in use and
+ * its miss rate, so that pool sizes can be tuned for long sessions.
+ * </p>
+ *
+ * @param <T> The type of projectile managed by this pool.
+ */
+public class ProjectilePool<T extends Projectile> {
+
+    private final Class<T> type;                          // Class of the projectiles in this pool
+    private final Supplier<T> factory;                    // Creates new projectiles on a pool miss
+    private final Deque<T> available = new ArrayDeque<>(); // Released projectiles ready for reuse
+
+    private int inUse = 0;          // Projectiles currently acquired and not yet released
+    private int highWaterMark = 0;  // Highest number of projectiles in use at the same time
+    private long acquireCount = 0;  // Total number of acquire calls
+    private long missCount = 0;     // Acquire calls that had to create a new projectile
+
+    /**
+     * Constructs an empty pool for the given projectile type.
+     *
+     * @param type    The class of projectile managed by the pool.
+     * @param factory Creates a new projectile when the pool has none available.
+     */
+    public ProjectilePool(Class<T> type, Supplier<T> factory) {
+        this.type = type;
+        this.factory = factory;
+    }
+
+    /**
+     * Acquires a projectile from the pool, creating a new one if none is available.
+     * <p>
+     * The returned projectile is reset to an undestroyed, visible state at the given position.
+     * </p>
+     *
+     * @param initialXPos The X-coordinate to place the projectile at.
+     * @param initialYPos The Y-coordinate to place the projectile at.
+     * @return A ready-to-use projectile.
+     */
+    public T acquire(double initialXPos, double initialYPos) {
+        acquireCount++;
+
+        T projectile = available.pollLast();
+        if (projectile == null) {
+            missCount++;
+            projectile = factory.get();
+            projectile.setPool(this);
+        }
+
+        projectile.reset(initialXPos, initialYPos);
+
+        inUse++;
+        highWaterMark = Math.max(highWaterMark, inUse);
+        return projectile;
+    }
+
+    /**
+     * Returns a projectile to the pool so it can be reused by a later shot.
+     * <p>
+     * The projectile is hidden rather than removed from its parent, so its scene graph node is recycled too.
+     * </p>
+     *
+     * @param projectile The projectile to release.
+     * @throws IllegalArgumentException If the projectile does not belong to this pool's type.
+     */
+    public void release(Projectile projectile) {
+        T pooled = type.cast(projectile);
+        pooled.setVisible(false); // Park the node until it is acquired again
+        available.addLast(pooled);
+        inUse = Math.max(0, inUse - 1);
+    }
+
+    /**
+     * Empties the pool, returning the projectiles that were waiting to be reused.
+     * <p>
+     * This is used when a level is torn down, so the caller can detach the parked nodes from the scene graph.
+     * Statistics are kept so they cover the whole session.
+     * </p>
+     *
+     * @return The projectiles that were available in the pool.
+     */
+    public List<T> drain() {
+        List<T> drained = new ArrayList<>(available);
+        available.clear();
+        inUse = 0;
+        return drained;
+    }
+
+    /**
+     * Retrieves the class of projectile managed by this pool.
+     *
+     * @return The projectile class.
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Retrieves the number of projectiles waiting in the pool to be reused.
+     *
+     * @return The current pool size.
+     */
+    public int getAvailableCount() {
+        return available.size();
+    }
+
+    /**
+     * Retrieves the number of projectiles currently acquired from the pool.
+     *
+     * @return The number of projectiles in use.
+     */
+    public int getInUseCount() {
+        return inUse;
+    }
+
+    /**
+     * Retrieves the highest number of projectiles that were in use at the same time.
+     *
+     * @return The high-water mark of the pool.
+     */
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * Retrieves the total number of acquire calls made on this pool.
+     *
+     * @return The acquire count.
+     */
+    public long getAcquireCount() {
+        return acquireCount;
+    }
+
+    /**
+     * Retrieves the number of acquire calls that had to create a new projectile.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Retrieves the fraction of acquire calls that had to create a new projectile.
+     *
+     * @return The miss rate between {@code 0.0} and {@code 1.0}, or {@code 0.0} if nothing was acquired.
+     */
+    public double getMissRate() {
+        return acquireCount == 0 ? 0.0 : (double) missCount / acquireCount;
+    }
+
+    /**
+     * Summarises the pool metrics for logging.
+     *
+     * @return A readable description of the pool state.
+     */
+    @Override
+    public String toString() {
+        return String.format("%s pool: available=%d, inUse=%d, highWater=%d, missRate=%.3f",
+                type.getSimpleName(), getAvailableCount(), inUse, highWaterMark, getMissRate());
+    }
+}
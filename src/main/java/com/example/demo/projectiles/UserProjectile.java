@@ -1,5 +1,9 @@
 package com.example.demo.projectiles;
 
+import com.example.demo.managers.SimulationClock;
+import com.example.demo.simulation.EntityKind;
+import com.example.demo.simulation.EntityStore;
+
 /**
  * Represents a projectile fired by the user superman.
  * <p>
@@ -12,7 +16,7 @@ public class UserProjectile extends Projectile {
     // Constants defining the projectile's properties
     private static final String IMAGE_NAME = "userfire.png"; // The image file representing the projectile
     private static final int IMAGE_HEIGHT = 125;            // Height of the projectile image (aspect ratio preserved)
-    private static final int HORIZONTAL_VELOCITY = 18;      // Speed at which the projectile moves horizontally
+    private static final double HORIZONTAL_VELOCITY = 360;  // Horizontal speed, in pixels per second
 
     /**
      * Constructs a projectile fired by the user superman.
@@ -21,7 +25,32 @@ public class UserProjectile extends Projectile {
      * @param initialYPos The initial Y-coordinate of the projectile on the screen.
      */
     public UserProjectile(double initialXPos, double initialYPos) {
-        super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+        this(null, initialXPos, initialYPos);
+    }
+
+    /**
+     * Constructs a projectile fired by the user superman, with its entity allocated in the given store.
+     *
+     * @param store       The store to allocate the projectile's entity in, or {@code null} for a private store.
+     * @param initialXPos The initial X-coordinate of the projectile.
+     * @param initialYPos The initial Y-coordinate of the projectile.
+     */
+    public UserProjectile(EntityStore store, double initialXPos, double initialYPos) {
+        super(store, EntityKind.USER_PROJECTILE, IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+        getEntity().setVelocity(HORIZONTAL_VELOCITY, 0);
+        getEntity().setKinematic(true); // Moved by the level's world
+    }
+
+    /**
+     * Resets the projectile for reuse and restores its velocity.
+     *
+     * @param initialXPos The X-coordinate to place the projectile at.
+     * @param initialYPos The Y-coordinate to place the projectile at.
+     */
+    @Override
+    protected void reset(double initialXPos, double initialYPos) {
+        super.reset(initialXPos, initialYPos);
+        getEntity().setVelocity(HORIZONTAL_VELOCITY, 0);
     }
 
     /**
@@ -32,18 +61,28 @@ public class UserProjectile extends Projectile {
      */
     @Override
     public void updatePosition() {
-        moveHorizontally(HORIZONTAL_VELOCITY); // Moves the projectile to the right
+        getEntity().integrate(SimulationClock.getInstance().getStepSeconds()); // Moves the projectile to the right
     }
 
     /**
      * Updates the behavior of the projectile on each frame.
      * <p>
-     * This method is called as part of the game loop and triggers the movement logic
-     * defined in {@link #updatePosition()}.
+     * The projectile is kinematic, so the level's {@link com.example.demo.simulation.World} moves it in
+     * its bulk movement pass and there is no per-projectile work left to do here.
      * </p>
      */
     @Override
     public void updateActor() {
-        updatePosition(); // Update the position of the projectile
+        // Movement is handled by the level's world
+    }
+
+    /**
+     * The projectile only moves along its velocity, so it is never updated individually.
+     *
+     * @return Always false.
+     */
+    @Override
+    public boolean hasTickBehavior() {
+        return false;
     }
 }
@@ -0,0 +1,193 @@
+package com.example.demo.simulation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Finds overlapping pairs of entities between two lists.
+ * <p>
+ * By default, candidate pairs come from a {@link SpatialHashGrid} broadphase: the larger list is bucketed
+ * by grid cell once and queried with every entity of the smaller list, so only entities sharing a cell are
+ * tested exactly. Contacts are reported in the same order as a brute-force double loop over the two lists,
+ * which remains selectable through {@link #setBroadphase(Broadphase)} for verification.
+ * </p>
+ * <p>
+ * The detector only reads entity bounding boxes, so it works the same in the game and in headless
+ * simulations. It reuses its buffers between calls and is not thread-safe.
+ * </p>
+ */
+public class ContactDetector {
+
+    private static final double DEFAULT_CELL_SIZE = 128; // Roughly the size of the largest sprites
+
+    private final SpatialHashGrid grid;        // Broadphase grid, reused every call
+    private Broadphase broadphase = Broadphase.SPATIAL_HASH;
+    private long[] pairs = new long[16];       // Contacts packed as (indexA << 32 | indexB)
+    private long candidateCount = 0;           // Candidate pairs tested exactly since the last reset
+
+    /**
+     * Constructs a contact detector with the default grid cell size.
+     */
+    public ContactDetector() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Constructs a contact detector with the given grid cell size.
+     *
+     * @param cellSize The width and height of a broadphase grid cell, in pixels.
+     */
+    public ContactDetector(double cellSize) {
+        this.grid = new SpatialHashGrid(cellSize);
+    }
+
+    /**
+     * Reports every overlapping pair between the two lists, ordered by position in the first list
+     * and then in the second.
+     *
+     * @param holdersA  The first list.
+     * @param holdersB  The second list.
+     * @param onContact The action applied to each overlapping pair.
+     * @param <A>       The type of the first list's elements.
+     * @param <B>       The type of the second list's elements.
+     */
+    public <A extends EntityHolder, B extends EntityHolder> void findContacts(
+            List<A> holdersA,
+            List<B> holdersB,
+            BiConsumer<? super A, ? super B> onContact
+    ) {
+        if (holdersA.isEmpty() || holdersB.isEmpty()) {
+            return;
+        }
+        if (broadphase == Broadphase.BRUTE_FORCE) {
+            findContactsBruteForce(holdersA, holdersB, onContact);
+            return;
+        }
+
+        // Bucket the larger list and query it with the smaller one
+        int pairCount = holdersA.size() >= holdersB.size()
+                ? findPairs(holdersA, holdersB, true)
+                : findPairs(holdersB, holdersA, false);
+
+        Arrays.sort(pairs, 0, pairCount); // Match the order of the brute-force loop
+        for (int i = 0; i < pairCount; i++) {
+            int indexA = (int) (pairs[i] >>> 32);
+            int indexB = (int) pairs[i];
+            onContact.accept(holdersA.get(indexA), holdersB.get(indexB));
+        }
+    }
+
+    /**
+     * Tests every pair of entities from the two lists, without a broadphase.
+     *
+     * @param holdersA  The first list.
+     * @param holdersB  The second list.
+     * @param onContact The action applied to each overlapping pair.
+     * @param <A>       The type of the first list's elements.
+     * @param <B>       The type of the second list's elements.
+     */
+    private <A extends EntityHolder, B extends EntityHolder> void findContactsBruteForce(
+            List<A> holdersA,
+            List<B> holdersB,
+            BiConsumer<? super A, ? super B> onContact
+    ) {
+        for (A holderA : holdersA) {
+            for (B holderB : holdersB) {
+                candidateCount++;
+                if (holderA.getEntity().intersects(holderB.getEntity())) {
+                    onContact.accept(holderA, holderB);
+                }
+            }
+        }
+    }
+
+    /**
+     * Buckets one list in the grid and collects the overlapping pairs found by querying it with the other.
+     *
+     * @param indexed    The list to bucket.
+     * @param queries    The list to query with.
+     * @param indexedIsA Whether the bucketed list is the first list of the call.
+     * @return The number of overlapping pairs stored in {@link #pairs}.
+     */
+    private int findPairs(List<? extends EntityHolder> indexed, List<? extends EntityHolder> queries, boolean indexedIsA) {
+        grid.clear();
+        for (int i = 0; i < indexed.size(); i++) {
+            Entity entity = indexed.get(i).getEntity();
+            grid.insert(i, entity.getX(), entity.getY(), entity.getMaxX(), entity.getMaxY());
+        }
+
+        int pairCount = 0;
+        for (int q = 0; q < queries.size(); q++) {
+            Entity query = queries.get(q).getEntity();
+            int candidates = grid.query(query.getX(), query.getY(), query.getMaxX(), query.getMaxY());
+            candidateCount += candidates;
+            for (int c = 0; c < candidates; c++) {
+                int i = grid.getResult(c);
+                if (query.intersects(indexed.get(i).getEntity())) {
+                    if (pairCount == pairs.length) {
+                        pairs = Arrays.copyOf(pairs, pairCount * 2);
+                    }
+                    pairs[pairCount++] = indexedIsA ? pack(i, q) : pack(q, i);
+                }
+            }
+        }
+        return pairCount;
+    }
+
+    /**
+     * Packs a pair of list indices into a single sortable value.
+     *
+     * @param indexA The index in the first list.
+     * @param indexB The index in the second list.
+     * @return The packed pair.
+     */
+    private static long pack(int indexA, int indexB) {
+        return ((long) indexA << 32) | indexB;
+    }
+
+    /**
+     * Selects how candidate pairs are found.
+     *
+     * @param broadphase The broadphase strategy to use.
+     */
+    public void setBroadphase(Broadphase broadphase) {
+        this.broadphase = broadphase;
+    }
+
+    /**
+     * Retrieves the broadphase strategy in use.
+     *
+     * @return The current broadphase.
+     */
+    public Broadphase getBroadphase() {
+        return broadphase;
+    }
+
+    /**
+     * Retrieves the number of candidate pairs that were tested exactly since the last reset.
+     * <p>
+     * Comparing this between the two broadphases shows how much work the spatial hash saves.
+     * </p>
+     *
+     * @return The candidate pair count.
+     */
+    public long getCandidateCount() {
+        return candidateCount;
+    }
+
+    /**
+     * Resets the candidate pair counter.
+     */
+    public void resetCandidateCount() {
+        candidateCount = 0;
+    }
+
+    /**
+     * Strategies for finding candidate pairs.
+     */
+    public enum Broadphase {
+        SPATIAL_HASH, // Bucket entities in a uniform grid and test only entities sharing a cell
+        BRUTE_FORCE   // Test every pair, kept for verification
+    }
+}
@@ -0,0 +1,407 @@
+package com.example.demo.simulation;
+
+/**
+ * The pure-data simulation state of a single game object.
+ * <p>
+ * An entity has a position (its top-left corner), a velocity in pixels per second, an axis-aligned
+ * bounding box, a health value and destroyed and kinematic flags. It does not depend on JavaFX, so
+ * simulations built from entities can run on any thread without the toolkit. The entity also remembers the
+ * position it was spawned at, which the node view uses as the layout origin and the game rules use to
+ * measure how far it travelled.
+ * </p>
+ * <p>
+ * The state itself lives in a slot of an {@link EntityStore}; the entity is only a handle onto that slot.
+ * An entity can be allocated straight into a shared store, normally the store of a level's world, so the
+ * store's bulk passes include it from the start. Without a store, a new entity starts in a private
+ * single-slot store of its own and is moved into a shared store with {@link #moveTo(EntityStore)} when a
+ * manager or world takes it over. {@link #detach()} moves it into its private store, created on first use,
+ * when it leaves a shared store.
+ * </p>
+ */
+public class Entity implements EntityHolder {
+
+    private EntityStore home;       // Private store holding the entity while it is not part of a shared one
+    private EntityStore store;      // Store currently holding the entity's state
+    private int slot;               // Slot of the entity in that store
+
+    /**
+     * Constructs an entity of the given kind and size, spawned at the given position.
+     *
+     * @param kind   The kind of entity.
+     * @param x      The initial X-coordinate of the left edge.
+     * @param y      The initial Y-coordinate of the top edge.
+     * @param width  The width of the bounding box.
+     * @param height The height of the bounding box.
+     */
+    public Entity(EntityKind kind, double x, double y, double width, double height) {
+        this(null, kind, x, y, width, height);
+    }
+
+    /**
+     * Constructs an entity of the given kind and size in a store, spawned at the given position.
+     *
+     * @param store  The store to allocate the entity in, or {@code null} for a private store of its own.
+     * @param kind   The kind of entity.
+     * @param x      The initial X-coordinate of the left edge.
+     * @param y      The initial Y-coordinate of the top edge.
+     * @param width  The width of the bounding box.
+     * @param height The height of the bounding box.
+     */
+    public Entity(EntityStore store, EntityKind kind, double x, double y, double width, double height) {
+        if (store != null) {
+            this.store = store;
+        } else {
+            this.home = new EntityStore(1);
+            this.store = home;
+        }
+        this.slot = this.store.allocate(kind, x, y, width, height);
+    }
+
+    /**
+     * Moves the entity's state into another store, releasing its slot in the current one.
+     * Does nothing if the entity is already in that store.
+     *
+     * @param target The store to move the entity into.
+     */
+    public void moveTo(EntityStore target) {
+        if (target == store) {
+            return;
+        }
+        int targetSlot = target.copyFrom(store, slot);
+        store.release(slot);
+        store = target;
+        slot = targetSlot;
+    }
+
+    /**
+     * Moves the entity's state into its private store, freeing its slot in the shared store it was in.
+     * The private store is created the first time an entity that was spawned into a shared store detaches,
+     * and reused afterwards.
+     */
+    public void detach() {
+        if (home == null) {
+            home = new EntityStore(1);
+        }
+        moveTo(home);
+    }
+
+    /**
+     * Places the entity at a new spawn position, clearing its velocity and destroyed flag.
+     *
+     * @param x The X-coordinate of the left edge.
+     * @param y The Y-coordinate of the top edge.
+     */
+    public void spawnAt(double x, double y) {
+        store.originX[slot] = x;
+        store.originY[slot] = y;
+        store.x[slot] = x;
+        store.y[slot] = y;
+        store.velocityX[slot] = 0;
+        store.velocityY[slot] = 0;
+        store.setDestroyed(slot, false);
+    }
+
+    /**
+     * Advances the entity along its velocity.
+     *
+     * @param seconds The simulated time to advance, in seconds.
+     */
+    public void integrate(double seconds) {
+        store.x[slot] += store.velocityX[slot] * seconds;
+        store.y[slot] += store.velocityY[slot] * seconds;
+    }
+
+    /**
+     * Moves the entity by the given offset.
+     *
+     * @param dx The horizontal offset, in pixels.
+     * @param dy The vertical offset, in pixels.
+     */
+    public void moveBy(double dx, double dy) {
+        store.x[slot] += dx;
+        store.y[slot] += dy;
+    }
+
+    /**
+     * Moves the entity to the given position without changing its spawn origin.
+     *
+     * @param x The X-coordinate of the left edge.
+     * @param y The Y-coordinate of the top edge.
+     */
+    public void setPosition(double x, double y) {
+        store.x[slot] = x;
+        store.y[slot] = y;
+    }
+
+    /**
+     * Sets the velocity of the entity.
+     *
+     * @param velocityX The horizontal velocity, in pixels per second.
+     * @param velocityY The vertical velocity, in pixels per second.
+     */
+    public void setVelocity(double velocityX, double velocityY) {
+        store.velocityX[slot] = velocityX;
+        store.velocityY[slot] = velocityY;
+    }
+
+    /**
+     * Sets the size of the bounding box.
+     *
+     * @param width  The width, in pixels.
+     * @param height The height, in pixels.
+     */
+    public void setSize(double width, double height) {
+        store.width[slot] = width;
+        store.height[slot] = height;
+    }
+
+    /**
+     * Sets the health of the entity.
+     *
+     * @param health The health value.
+     */
+    public void setHealth(int health) {
+        store.health[slot] = health;
+    }
+
+    /**
+     * Sets whether the entity moves purely along its velocity.
+     * <p>
+     * Kinematic entities are moved by their store's {@link EntityStore#integrate(double)} pass, so the
+     * objects owning them must not integrate them again.
+     * </p>
+     *
+     * @param kinematic The kinematic flag.
+     */
+    public void setKinematic(boolean kinematic) {
+        store.kinematic.set(slot, kinematic);
+    }
+
+    /**
+     * Checks whether the bounding boxes of the two entities overlap. Touching edges count as overlapping.
+     *
+     * @param other The other entity.
+     * @return {@code true} if the boxes overlap; {@code false} otherwise.
+     */
+    public boolean intersects(Entity other) {
+        return intersects(other.getX(), other.getY(), other.getMaxX(), other.getMaxY());
+    }
+
+    /**
+     * Checks whether the bounding box overlaps the given box. Touching edges count as overlapping.
+     *
+     * @param minX The left edge of the box.
+     * @param minY The top edge of the box.
+     * @param maxX The right edge of the box.
+     * @param maxY The bottom edge of the box.
+     * @return {@code true} if the boxes overlap; {@code false} otherwise.
+     */
+    public boolean intersects(double minX, double minY, double maxX, double maxY) {
+        double x = store.x[slot];
+        double y = store.y[slot];
+        return x <= maxX && minX <= x + store.width[slot] && y <= maxY && minY <= y + store.height[slot];
+    }
+
+    /**
+     * Checks whether the bounding box lies completely outside the given region.
+     *
+     * @param minX The left edge of the region.
+     * @param minY The top edge of the region.
+     * @param maxX The right edge of the region.
+     * @param maxY The bottom edge of the region.
+     * @return {@code true} if no part of the entity is inside the region; {@code false} otherwise.
+     */
+    public boolean isOutside(double minX, double minY, double maxX, double maxY) {
+        double x = store.x[slot];
+        double y = store.y[slot];
+        return x + store.width[slot] < minX || x > maxX || y + store.height[slot] < minY || y > maxY;
+    }
+
+    /**
+     * Marks the entity as destroyed.
+     */
+    public void destroy() {
+        store.setDestroyed(slot, true);
+    }
+
+    /**
+     * Sets whether the entity is destroyed.
+     *
+     * @param destroyed The destroyed flag.
+     */
+    public void setDestroyed(boolean destroyed) {
+        store.setDestroyed(slot, destroyed);
+    }
+
+    /**
+     * Returns this entity, so plain entities can be used wherever an {@link EntityHolder} is expected.
+     *
+     * @return This entity.
+     */
+    @Override
+    public Entity getEntity() {
+        return this;
+    }
+
+    /**
+     * Retrieves the kind of entity.
+     *
+     * @return The entity kind.
+     */
+    public EntityKind getKind() {
+        return store.kind[slot];
+    }
+
+    /**
+     * Retrieves the store currently holding the entity's state.
+     *
+     * @return The {@link EntityStore}.
+     */
+    public EntityStore getStore() {
+        return store;
+    }
+
+    /**
+     * Retrieves the slot of the entity in its current store.
+     *
+     * @return The slot index.
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * Retrieves the X-coordinate of the left edge.
+     *
+     * @return The current X-coordinate.
+     */
+    public double getX() {
+        return store.x[slot];
+    }
+
+    /**
+     * Retrieves the Y-coordinate of the top edge.
+     *
+     * @return The current Y-coordinate.
+     */
+    public double getY() {
+        return store.y[slot];
+    }
+
+    /**
+     * Retrieves the X-coordinate the entity was spawned at.
+     *
+     * @return The spawn X-coordinate.
+     */
+    public double getOriginX() {
+        return store.originX[slot];
+    }
+
+    /**
+     * Retrieves the Y-coordinate the entity was spawned at.
+     *
+     * @return The spawn Y-coordinate.
+     */
+    public double getOriginY() {
+        return store.originY[slot];
+    }
+
+    /**
+     * Retrieves the horizontal distance travelled since the entity was spawned.
+     *
+     * @return The horizontal displacement, in pixels.
+     */
+    public double getDisplacementX() {
+        return store.x[slot] - store.originX[slot];
+    }
+
+    /**
+     * Retrieves the vertical distance travelled since the entity was spawned.
+     *
+     * @return The vertical displacement, in pixels.
+     */
+    public double getDisplacementY() {
+        return store.y[slot] - store.originY[slot];
+    }
+
+    /**
+     * Retrieves the horizontal velocity.
+     *
+     * @return The horizontal velocity, in pixels per second.
+     */
+    public double getVelocityX() {
+        return store.velocityX[slot];
+    }
+
+    /**
+     * Retrieves the vertical velocity.
+     *
+     * @return The vertical velocity, in pixels per second.
+     */
+    public double getVelocityY() {
+        return store.velocityY[slot];
+    }
+
+    /**
+     * Retrieves the width of the bounding box.
+     *
+     * @return The width, in pixels.
+     */
+    public double getWidth() {
+        return store.width[slot];
+    }
+
+    /**
+     * Retrieves the height of the bounding box.
+     *
+     * @return The height, in pixels.
+     */
+    public double getHeight() {
+        return store.height[slot];
+    }
+
+    /**
+     * Retrieves the X-coordinate of the right edge.
+     *
+     * @return The right edge.
+     */
+    public double getMaxX() {
+        return store.x[slot] + store.width[slot];
+    }
+
+    /**
+     * Retrieves the Y-coordinate of the bottom edge.
+     *
+     * @return The bottom edge.
+     */
+    public double getMaxY() {
+        return store.y[slot] + store.height[slot];
+    }
+
+    /**
+     * Checks whether the entity has been destroyed.
+     *
+     * @return {@code true} if the entity is destroyed; {@code false} otherwise.
+     */
+    public boolean isDestroyed() {
+        return store.isDestroyed(slot);
+    }
+
+    /**
+     * Retrieves the health of the entity.
+     *
+     * @return The health value.
+     */
+    public int getHealth() {
+        return store.health[slot];
+    }
+
+    /**
+     * Checks whether the entity is moved by its store's bulk integration pass.
+     *
+     * @return {@code true} if the entity is kinematic; {@code false} otherwise.
+     */
+    public boolean isKinematic() {
+        return store.kinematic.get(slot);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.simulation;
+
+/**
+ * An object backed by a simulation {@link Entity}.
+ * <p>
+ * Game actors implement this so that collision and bounds checks can work on their entities without
+ * touching the JavaFX nodes that render them.
+ * </p>
+ */
+public interface EntityHolder {
+
+    /**
+     * Retrieves the entity holding this object's simulation state.
+     *
+     * @return The backing entity.
+     */
+    Entity getEntity();
+}
@@ -0,0 +1,15 @@
+package com.example.demo.simulation;
+
+/**
+ * The kinds of entity that take part in the game simulation.
+ */
+public enum EntityKind {
+    USER,             // The player's character
+    ENEMY,            // A regular enemy spider
+    BOSS,             // The boss spider
+    USER_PROJECTILE,  // A projectile fired by the player
+    ENEMY_PROJECTILE, // A projectile fired by a regular enemy
+    BOSS_PROJECTILE,  // A projectile fired by the boss
+    FRAGMENT,         // A fragment of an exploded boss projectile
+    POWER_UP          // A collectible power-up
+}
@@ -0,0 +1,289 @@
+package com.example.demo.simulation;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Column-oriented storage for the state of many entities.
+ * <p>
+ * Every entity occupies one slot, and each of its fields lives in a primitive array indexed by that slot:
+ * positions, velocities and sizes in {@code double[]} columns, health in an {@code int[]} column and the
+ * allocated, destroyed and kinematic flags in {@link BitSet BitSets}. The bulk passes
+ * {@link #integrate(double)} and {@link #destroyOutside(double, double, double, double)} walk these
+ * arrays directly, so moving or bounds-checking thousands of entities touches contiguous memory instead of
+ * following a reference per entity.
+ * </p>
+ * <p>
+ * {@link Entity} objects are lightweight handles onto a slot. Released slots are recycled through a
+ * free list, and the columns grow by doubling when the store is full. The number of entities and of destroyed
+ * entities are kept as running counts, so reading them never scans the flags. The store is not thread-safe.
+ * </p>
+ */
+public class EntityStore {
+
+    private static final int DEFAULT_CAPACITY = 64; // Initial number of slots
+    private static final Set<EntityKind> ALL_KINDS = EnumSet.allOf(EntityKind.class); // Kinds checked by default
+
+    // Columns, indexed by slot
+    EntityKind[] kind;
+    double[] originX;   // X-coordinate each entity was spawned at
+    double[] originY;   // Y-coordinate each entity was spawned at
+    double[] x;         // Current left edge
+    double[] y;         // Current top edge
+    double[] velocityX; // Horizontal velocity, in pixels per second
+    double[] velocityY; // Vertical velocity, in pixels per second
+    double[] width;
+    double[] height;
+    int[] health;
+
+    // Flags, indexed by slot
+    private final BitSet allocated = new BitSet(); // Slots holding an entity
+    private final BitSet destroyed = new BitSet(); // Entities marked as destroyed
+    final BitSet kinematic = new BitSet(); // Entities moved by integrate(double)
+
+    private int[] freeSlots;  // Stack of released slots below the high-water mark
+    private int freeCount = 0;
+    private int highWater = 0; // One past the highest slot ever allocated
+    private int size = 0;           // Allocated slots
+    private int destroyedCount = 0; // Allocated slots whose destroyed flag is set
+
+    /**
+     * Constructs an empty store with the default capacity.
+     */
+    public EntityStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty store with room for the given number of entities before it has to grow.
+     *
+     * @param capacity The initial number of slots.
+     * @throws IllegalArgumentException If the capacity is not positive.
+     */
+    public EntityStore(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        kind = new EntityKind[capacity];
+        originX = new double[capacity];
+        originY = new double[capacity];
+        x = new double[capacity];
+        y = new double[capacity];
+        velocityX = new double[capacity];
+        velocityY = new double[capacity];
+        width = new double[capacity];
+        height = new double[capacity];
+        health = new int[capacity];
+        freeSlots = new int[capacity];
+    }
+
+    /**
+     * Allocates a slot for a new entity, spawned at rest at the given position.
+     *
+     * @param entityKind The kind of entity.
+     * @param spawnX     The X-coordinate of the left edge.
+     * @param spawnY     The Y-coordinate of the top edge.
+     * @param w          The width of the bounding box.
+     * @param h          The height of the bounding box.
+     * @return The allocated slot.
+     */
+    public int allocate(EntityKind entityKind, double spawnX, double spawnY, double w, double h) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (highWater == x.length) {
+                grow(x.length * 2);
+            }
+            slot = highWater++;
+        }
+        allocated.set(slot);
+        size++;
+        kind[slot] = entityKind;
+        originX[slot] = spawnX;
+        originY[slot] = spawnY;
+        x[slot] = spawnX;
+        y[slot] = spawnY;
+        velocityX[slot] = 0;
+        velocityY[slot] = 0;
+        width[slot] = w;
+        height[slot] = h;
+        health[slot] = 0;
+        return slot;
+    }
+
+    /**
+     * Copies the entity in a slot of another store into a newly allocated slot of this store.
+     *
+     * @param source     The store holding the entity.
+     * @param sourceSlot The slot of the entity in the source store.
+     * @return The slot allocated in this store.
+     */
+    int copyFrom(EntityStore source, int sourceSlot) {
+        int slot = allocate(source.kind[sourceSlot], source.originX[sourceSlot], source.originY[sourceSlot],
+                source.width[sourceSlot], source.height[sourceSlot]);
+        x[slot] = source.x[sourceSlot];
+        y[slot] = source.y[sourceSlot];
+        velocityX[slot] = source.velocityX[sourceSlot];
+        velocityY[slot] = source.velocityY[sourceSlot];
+        health[slot] = source.health[sourceSlot];
+        setDestroyed(slot, source.destroyed.get(sourceSlot));
+        kinematic.set(slot, source.kinematic.get(sourceSlot));
+        return slot;
+    }
+
+    /**
+     * Releases a slot so it can be reused by a later allocation.
+     *
+     * @param slot The slot to release.
+     * @throws IllegalArgumentException If the slot is not allocated.
+     */
+    public void release(int slot) {
+        if (!allocated.get(slot)) {
+            throw new IllegalArgumentException("Slot is not allocated: " + slot);
+        }
+        allocated.clear(slot);
+        size--;
+        setDestroyed(slot, false);
+        kinematic.clear(slot);
+        kind[slot] = null;
+        freeSlots[freeCount++] = slot;
+    }
+
+    /**
+     * Moves every kinematic entity that is not destroyed along its velocity.
+     *
+     * @param seconds The simulated time to advance, in seconds.
+     */
+    public void integrate(double seconds) {
+        for (int slot = kinematic.nextSetBit(0); slot >= 0; slot = kinematic.nextSetBit(slot + 1)) {
+            if (!destroyed.get(slot)) {
+                x[slot] += velocityX[slot] * seconds;
+                y[slot] += velocityY[slot] * seconds;
+            }
+        }
+    }
+
+    /**
+     * Marks every entity that lies completely outside the given region as destroyed.
+     *
+     * @param minX The left edge of the region.
+     * @param minY The top edge of the region.
+     * @param maxX The right edge of the region.
+     * @param maxY The bottom edge of the region.
+     * @return The number of entities destroyed by this call.
+     */
+    public int destroyOutside(double minX, double minY, double maxX, double maxY) {
+        return destroyOutside(minX, minY, maxX, maxY, ALL_KINDS);
+    }
+
+    /**
+     * Marks every entity of the given kinds that lies completely outside the given region as destroyed.
+     * Entities of other kinds are left alone, even if they are outside the region.
+     *
+     * @param minX  The left edge of the region.
+     * @param minY  The top edge of the region.
+     * @param maxX  The right edge of the region.
+     * @param maxY  The bottom edge of the region.
+     * @param kinds The kinds of entity to check.
+     * @return The number of entities destroyed by this call.
+     */
+    public int destroyOutside(double minX, double minY, double maxX, double maxY, Set<EntityKind> kinds) {
+        int count = 0;
+        for (int slot = allocated.nextSetBit(0); slot >= 0; slot = allocated.nextSetBit(slot + 1)) {
+            if (!destroyed.get(slot) && kinds.contains(kind[slot])
+                    && (x[slot] + width[slot] < minX || x[slot] > maxX
+                    || y[slot] + height[slot] < minY || y[slot] > maxY)) {
+                destroyed.set(slot);
+                count++;
+            }
+        }
+        destroyedCount += count;
+        return count;
+    }
+
+    /**
+     * Sets the destroyed flag of a slot, keeping the destroyed count in step.
+     *
+     * @param slot  The slot of the entity.
+     * @param value The destroyed flag.
+     */
+    void setDestroyed(int slot, boolean value) {
+        if (destroyed.get(slot) != value) {
+            destroyed.set(slot, value);
+            destroyedCount += value ? 1 : -1;
+        }
+    }
+
+    /**
+     * Checks whether the entity in a slot is marked as destroyed.
+     *
+     * @param slot The slot of the entity.
+     * @return {@code true} if the entity is destroyed; {@code false} otherwise.
+     */
+    public boolean isDestroyed(int slot) {
+        return destroyed.get(slot);
+    }
+
+    /**
+     * Retrieves the number of allocated entities that are marked as destroyed.
+     * <p>
+     * Removal passes use this to skip scanning their actor lists on ticks where nothing was destroyed.
+     * The count is maintained as flags change, so this is constant time.
+     * </p>
+     *
+     * @return The destroyed entity count.
+     */
+    public int getDestroyedCount() {
+        return destroyedCount;
+    }
+
+    /**
+     * Retrieves the number of allocated entities.
+     *
+     * @return The entity count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieves the number of slots the columns can hold before growing.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return x.length;
+    }
+
+    /**
+     * Checks whether a slot holds an entity.
+     *
+     * @param slot The slot to check.
+     * @return {@code true} if the slot is allocated; {@code false} otherwise.
+     */
+    public boolean isAllocated(int slot) {
+        return allocated.get(slot);
+    }
+
+    /**
+     * Grows every column to the given capacity.
+     *
+     * @param capacity The new capacity.
+     */
+    private void grow(int capacity) {
+        kind = Arrays.copyOf(kind, capacity);
+        originX = Arrays.copyOf(originX, capacity);
+        originY = Arrays.copyOf(originY, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        health = Arrays.copyOf(health, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+    }
+}
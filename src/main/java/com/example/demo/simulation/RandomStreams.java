@@ -0,0 +1,100 @@
+package com.example.demo.simulation;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * A set of independent random number streams, one per {@link Stream}, all derived from a single seed.
+ * <p>
+ * A root {@link SplittableRandom} is created from the seed and split once per stream, in declaration order.
+ * Two instances with the same seed therefore produce the same numbers on every stream, and drawing from one
+ * stream never changes what another stream produces, so adding a random decision to one subsystem does not
+ * disturb the others. New streams must be added at the end of {@link Stream} to keep existing streams stable.
+ * </p>
+ * <p>
+ * Like {@link SplittableRandom}, an instance is not thread-safe; a simulation running on its own thread
+ * should own its own instance.
+ * </p>
+ */
+public class RandomStreams {
+
+    /**
+     * The subsystems that draw random numbers, each with a stream of its own.
+     */
+    public enum Stream {
+        ENEMY_FIRE,     // Whether regular enemies fire in a tick
+        BOSS_MOVEMENT,  // Shuffling the boss's movement pattern
+        BOSS_FIRE,      // Whether the boss fires in a tick
+        BOSS_SHIELD,    // Whether the boss raises its shield in a tick
+        FRAGMENTS,      // Velocities of exploding boss projectile fragments
+        ENEMY_SPAWN,    // Spawn positions of enemies
+        POWER_UP_SPAWN  // Spawn timing and positions of power-ups
+    }
+
+    private final long seed;
+    private final Map<Stream, SplittableRandom> streams = new EnumMap<>(Stream.class);
+
+    /**
+     * Constructs the streams for a seed.
+     *
+     * @param seed The seed all streams are derived from.
+     */
+    public RandomStreams(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        for (Stream stream : Stream.values()) {
+            streams.put(stream, root.split());
+        }
+    }
+
+    /**
+     * Retrieves the seed the streams were derived from.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Retrieves the generator of a stream.
+     *
+     * @param stream The stream to retrieve.
+     * @return The stream's generator.
+     */
+    public SplittableRandom get(Stream stream) {
+        return streams.get(stream);
+    }
+
+    /**
+     * Randomly permutes a list in place with a Fisher-Yates shuffle, drawing from the given generator.
+     * Unlike {@link java.util.Collections#shuffle(List)}, the result depends only on the generator's state.
+     *
+     * @param list   The list to shuffle.
+     * @param random The generator to draw from.
+     * @param <T>    The type of the list's elements.
+     */
+    public static <T> void shuffle(List<T> list, SplittableRandom random) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            list.set(i, list.set(j, list.get(i)));
+        }
+    }
+
+    /**
+     * Randomly permutes an array in place, drawing the same indices as {@link #shuffle(List, SplittableRandom)}.
+     *
+     * @param values The array to shuffle.
+     * @param random The generator to draw from.
+     */
+    public static void shuffle(double[] values, SplittableRandom random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            double swapped = values[i];
+            values[i] = values[j];
+            values[j] = swapped;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.demo.simulation;
+
+import java.util.Arrays;
+
+/**
+ * A uniform-grid spatial hash used as the collision broadphase.
+ * <p>
+ * Axis-aligned boxes are inserted under an integer id into every grid cell they overlap. A query returns
+ * the ids of all boxes sharing at least one cell with the query box, each id at most once and in
+ * ascending order. Only those candidates need an exact intersection test, instead of every pair.
+ * </p>
+ * <p>
+ * The grid works on plain coordinates and reuses its arrays between ticks, so clearing and refilling it
+ * every tick does not allocate once it has grown to the working size.
+ * </p>
+ */
+public class SpatialHashGrid {
+
+    private static final int TABLE_SIZE = 1024; // Number of hash buckets, must be a power of two
+    private static final int NO_ENTRY = -1;     // Marks the end of a bucket chain
+
+    private final double cellSize;                // Width and height of a grid cell
+    private final int[] bucketHeads = new int[TABLE_SIZE]; // First entry of each bucket chain
+
+    // Entries, one per (id, cell) pair, stored as parallel arrays
+    private int[] entryIds = new int[64];
+    private int[] entryCellX = new int[64];
+    private int[] entryCellY = new int[64];
+    private int[] entryNext = new int[64];
+    private int entryCount = 0;
+
+    // Query results and de-duplication
+    private int[] results = new int[16];
+    private int[] queryStamps = new int[64]; // Last query that reported each id
+    private int currentStamp = 0;
+
+    /**
+     * Constructs an empty grid with the given cell size.
+     *
+     * @param cellSize The width and height of a grid cell, in pixels.
+     * @throws IllegalArgumentException If the cell size is not positive.
+     */
+    public SpatialHashGrid(double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        }
+        this.cellSize = cellSize;
+        clear();
+    }
+
+    /**
+     * Removes every box from the grid.
+     */
+    public void clear() {
+        Arrays.fill(bucketHeads, NO_ENTRY);
+        entryCount = 0;
+    }
+
+    /**
+     * Inserts a box into every cell it overlaps.
+     *
+     * @param id   The non-negative id reported by queries for this box.
+     * @param minX The left edge of the box.
+     * @param minY The top edge of the box.
+     * @param maxX The right edge of the box.
+     * @param maxY The bottom edge of the box.
+     */
+    public void insert(int id, double minX, double minY, double maxX, double maxY) {
+        ensureIdCapacity(id);
+        int firstX = cellOf(minX);
+        int lastX = cellOf(maxX);
+        int firstY = cellOf(minY);
+        int lastY = cellOf(maxY);
+
+        for (int cellX = firstX; cellX <= lastX; cellX++) {
+            for (int cellY = firstY; cellY <= lastY; cellY++) {
+                addEntry(id, cellX, cellY);
+            }
+        }
+    }
+
+    /**
+     * Finds the ids of all boxes that share a cell with the query box.
+     * <p>
+     * The ids are available through {@link #getResult(int)} until the next query.
+     * </p>
+     *
+     * @param minX The left edge of the query box.
+     * @param minY The top edge of the query box.
+     * @param maxX The right edge of the query box.
+     * @param maxY The bottom edge of the query box.
+     * @return The number of candidate ids found.
+     */
+    public int query(double minX, double minY, double maxX, double maxY) {
+        currentStamp++;
+        int resultCount = 0;
+        int firstX = cellOf(minX);
+        int lastX = cellOf(maxX);
+        int firstY = cellOf(minY);
+        int lastY = cellOf(maxY);
+
+        for (int cellX = firstX; cellX <= lastX; cellX++) {
+            for (int cellY = firstY; cellY <= lastY; cellY++) {
+                for (int entry = bucketHeads[bucketOf(cellX, cellY)]; entry != NO_ENTRY; entry = entryNext[entry]) {
+                    int id = entryIds[entry];
+                    if (entryCellX[entry] == cellX && entryCellY[entry] == cellY && queryStamps[id] != currentStamp) {
+                        queryStamps[id] = currentStamp;
+                        if (resultCount == results.length) {
+                            results = Arrays.copyOf(results, resultCount * 2);
+                        }
+                        results[resultCount++] = id;
+                    }
+                }
+            }
+        }
+
+        Arrays.sort(results, 0, resultCount); // Report candidates in insertion-id order
+        return resultCount;
+    }
+
+    /**
+     * Retrieves a candidate id found by the last query.
+     *
+     * @param index The index of the result, from {@code 0} to the count returned by the query.
+     * @return The candidate id.
+     */
+    public int getResult(int index) {
+        return results[index];
+    }
+
+    /**
+     * Retrieves the cell size of the grid.
+     *
+     * @return The cell size, in pixels.
+     */
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Converts a coordinate to a cell index.
+     *
+     * @param coordinate The coordinate, in pixels.
+     * @return The index of the cell containing the coordinate.
+     */
+    private int cellOf(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    /**
+     * Hashes a cell to a bucket.
+     *
+     * @param cellX The cell column.
+     * @param cellY The cell row.
+     * @return The bucket index.
+     */
+    private int bucketOf(int cellX, int cellY) {
+        return ((cellX * 73856093) ^ (cellY * 19349663)) & (TABLE_SIZE - 1);
+    }
+
+    /**
+     * Appends an entry for the given id and cell to its bucket chain.
+     *
+     * @param id    The box id.
+     * @param cellX The cell column.
+     * @param cellY The cell row.
+     */
+    private void addEntry(int id, int cellX, int cellY) {
+        if (entryCount == entryIds.length) {
+            int capacity = entryCount * 2;
+            entryIds = Arrays.copyOf(entryIds, capacity);
+            entryCellX = Arrays.copyOf(entryCellX, capacity);
+            entryCellY = Arrays.copyOf(entryCellY, capacity);
+            entryNext = Arrays.copyOf(entryNext, capacity);
+        }
+        int bucket = bucketOf(cellX, cellY);
+        entryIds[entryCount] = id;
+        entryCellX[entryCount] = cellX;
+        entryCellY[entryCount] = cellY;
+        entryNext[entryCount] = bucketHeads[bucket];
+        bucketHeads[bucket] = entryCount;
+        entryCount++;
+    }
+
+    /**
+     * Grows the de-duplication stamps so the given id can be reported.
+     *
+     * @param id The box id.
+     */
+    private void ensureIdCapacity(int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Id must not be negative: " + id);
+        }
+        if (id >= queryStamps.length) {
+            queryStamps = Arrays.copyOf(queryStamps, Math.max(id + 1, queryStamps.length * 2));
+        }
+    }
+}
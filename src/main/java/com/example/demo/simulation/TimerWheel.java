@@ -0,0 +1,219 @@
+package com.example.demo.simulation;
+
+/**
+ * A hashed timer wheel that runs actions after a number of simulation ticks.
+ * <p>
+ * The wheel has a fixed number of slots. A timer due at tick {@code t} is linked into slot
+ * {@code t mod slotCount}, so scheduling and cancelling are constant-time list operations, and each
+ * {@link #advance()} only visits the timers in one slot. Timers more than one revolution away share a slot
+ * with nearer ones and are skipped until their tick comes round. Timers due on the same tick run in the order
+ * they were scheduled.
+ * </p>
+ * <p>
+ * Because the wheel only moves when {@link #advance()} is called, timers stop while the game loop is paused
+ * and stay in step with the simulation when it catches up. Actions may schedule and cancel timers, including
+ * other timers due on the same tick. The wheel is not thread-safe.
+ * </p>
+ */
+public class TimerWheel {
+
+    private static final int DEFAULT_SLOT_COUNT = 256; // 12.8 s at 20 ticks per second before timers wrap
+    private static final int UNLINKED = -1;             // List index of a timer that is not pending
+
+    private final Timer[] heads;  // First timer of each slot, plus the list of timers due in the current advance
+    private final Timer[] tails;  // Last timer of each list, so timers are appended in scheduling order
+    private final int mask;       // Maps a tick to its slot
+    private final int dueList;    // Index of the list of timers due in the current advance
+    private long currentTick = 0; // Number of times the wheel has been advanced
+    private int pendingCount = 0;
+
+    /**
+     * Constructs a wheel with the default number of slots.
+     */
+    public TimerWheel() {
+        this(DEFAULT_SLOT_COUNT);
+    }
+
+    /**
+     * Constructs a wheel with the given number of slots.
+     *
+     * @param slotCount The number of slots, a power of two.
+     * @throws IllegalArgumentException If the slot count is not a positive power of two.
+     */
+    public TimerWheel(int slotCount) {
+        if (slotCount <= 0 || (slotCount & (slotCount - 1)) != 0) {
+            throw new IllegalArgumentException("Slot count must be a positive power of two: " + slotCount);
+        }
+        this.heads = new Timer[slotCount + 1];
+        this.tails = new Timer[slotCount + 1];
+        this.mask = slotCount - 1;
+        this.dueList = slotCount;
+    }
+
+    /**
+     * Schedules an action to run after a number of ticks.
+     *
+     * @param delayTicks The number of calls to {@link #advance()} after which the action runs, at least one.
+     * @param action     The action to run.
+     * @return A handle that can cancel the timer.
+     * @throws IllegalArgumentException If the delay is less than one tick.
+     */
+    public Timer schedule(long delayTicks, Runnable action) {
+        if (delayTicks < 1) {
+            throw new IllegalArgumentException("Delay must be at least one tick: " + delayTicks);
+        }
+        Timer timer = new Timer(this, currentTick + delayTicks, action);
+        link(timer, (int) (timer.deadline & mask));
+        pendingCount++;
+        return timer;
+    }
+
+    /**
+     * Advances the wheel by one tick and runs every timer due on that tick.
+     */
+    public void advance() {
+        currentTick++;
+        int slot = (int) (currentTick & mask);
+
+        // Move the due timers to their own list first, so actions can freely change the slot
+        Timer timer = heads[slot];
+        while (timer != null) {
+            Timer next = timer.next;
+            if (timer.deadline == currentTick) {
+                unlink(timer);
+                link(timer, dueList);
+            }
+            timer = next;
+        }
+
+        // Run them one at a time; a timer cancelled by an earlier action is no longer in the list
+        while ((timer = heads[dueList]) != null) {
+            unlink(timer);
+            pendingCount--;
+            timer.action.run();
+        }
+    }
+
+    /**
+     * Cancels every pending timer.
+     */
+    public void cancelAll() {
+        for (int list = 0; list < heads.length; list++) {
+            Timer timer = heads[list];
+            while (timer != null) {
+                Timer next = timer.next;
+                timer.list = UNLINKED;
+                timer.previous = null;
+                timer.next = null;
+                timer = next;
+            }
+            heads[list] = null;
+            tails[list] = null;
+        }
+        pendingCount = 0;
+    }
+
+    /**
+     * Retrieves the number of times the wheel has been advanced.
+     *
+     * @return The current tick.
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Retrieves the number of timers that have neither run nor been cancelled.
+     *
+     * @return The pending timer count.
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * Appends a timer to a list.
+     */
+    private void link(Timer timer, int list) {
+        timer.list = list;
+        timer.previous = tails[list];
+        timer.next = null;
+        if (tails[list] == null) {
+            heads[list] = timer;
+        } else {
+            tails[list].next = timer;
+        }
+        tails[list] = timer;
+    }
+
+    /**
+     * Removes a timer from the list it is in.
+     */
+    private void unlink(Timer timer) {
+        int list = timer.list;
+        if (timer.previous == null) {
+            heads[list] = timer.next;
+        } else {
+            timer.previous.next = timer.next;
+        }
+        if (timer.next == null) {
+            tails[list] = timer.previous;
+        } else {
+            timer.next.previous = timer.previous;
+        }
+        timer.list = UNLINKED;
+        timer.previous = null;
+        timer.next = null;
+    }
+
+    /**
+     * A scheduled action, returned by {@link #schedule(long, Runnable)}.
+     */
+    public static final class Timer {
+
+        private final TimerWheel wheel;
+        private final long deadline;   // Tick on which the action runs
+        private final Runnable action;
+        private int list = UNLINKED;   // List the timer is linked into, or UNLINKED once run or cancelled
+        private Timer previous;
+        private Timer next;
+
+        private Timer(TimerWheel wheel, long deadline, Runnable action) {
+            this.wheel = wheel;
+            this.deadline = deadline;
+            this.action = action;
+        }
+
+        /**
+         * Cancels the timer if it has not run yet.
+         *
+         * @return {@code true} if the timer was pending and will no longer run.
+         */
+        public boolean cancel() {
+            if (list == UNLINKED) {
+                return false;
+            }
+            wheel.unlink(this);
+            wheel.pendingCount--;
+            return true;
+        }
+
+        /**
+         * Checks whether the timer has neither run nor been cancelled.
+         *
+         * @return {@code true} if the timer is pending.
+         */
+        public boolean isPending() {
+            return list != UNLINKED;
+        }
+
+        /**
+         * Retrieves the tick of the wheel on which the timer runs.
+         *
+         * @return The timer's deadline.
+         */
+        public long getDeadline() {
+            return deadline;
+        }
+    }
+}
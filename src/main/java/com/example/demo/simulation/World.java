@@ -0,0 +1,219 @@
+package com.example.demo.simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A headless container that simulates entities without JavaFX.
+ * <p>
+ * The world owns a list of {@link Entity entities} inside a rectangular play area, with their state held in
+ * the world's {@link EntityStore}. Each {@link #step(double)} moves every live entity along its velocity,
+ * destroys the ones that have left the play area plus its margin and drops destroyed entities from the list;
+ * the first two are single passes over the store's columns. Contacts between groups of entities are found with the same
+ * {@link ContactDetector} the game uses, so collision rules can be exercised at thousands of ticks per second
+ * on any thread, with no toolkit startup.
+ * </p>
+ * <p>
+ * Each world owns its own {@link RandomStreams}, so worlds simulated in parallel never share generator state
+ * and a world seeded the same way always draws the same numbers.
+ * </p>
+ * <p>
+ * A game level is backed by a world as well. Its managers keep the actors in their own lists, but the
+ * actors' entities live in the world's store, and the level drives each tick through the world: one
+ * {@link #integrate(double)} pass moves every kinematic entity, the level's world bounds manager destroys the
+ * ones that left its bounds, and the collision passes use the world's contact detector. The JavaFX nodes
+ * only mirror the entities when a frame is drawn.
+ * </p>
+ */
+public class World {
+
+    private final double width;   // Width of the play area
+    private final double height;  // Height of the play area
+    private final double margin;  // Distance entities may travel beyond the play area
+    private final List<Entity> entities = new ArrayList<>();
+    private final EntityStore store = new EntityStore();
+    private final ContactDetector contactDetector = new ContactDetector();
+    private final RandomStreams random; // Random number streams of this world only
+    private long tickCount = 0;
+
+    /**
+     * Constructs an empty world whose random number streams use the seed 0.
+     *
+     * @param width  The width of the play area.
+     * @param height The height of the play area.
+     * @param margin The distance entities may travel beyond the play area before being destroyed.
+     */
+    public World(double width, double height, double margin) {
+        this(width, height, margin, 0);
+    }
+
+    /**
+     * Constructs an empty world whose random number streams are derived from a seed.
+     *
+     * @param width  The width of the play area.
+     * @param height The height of the play area.
+     * @param margin The distance entities may travel beyond the play area before being destroyed.
+     * @param seed   The seed of the world's random number streams.
+     */
+    public World(double width, double height, double margin, long seed) {
+        this(width, height, margin, new RandomStreams(seed));
+    }
+
+    /**
+     * Constructs an empty world that draws from the given random number streams.
+     *
+     * @param width  The width of the play area.
+     * @param height The height of the play area.
+     * @param margin The distance entities may travel beyond the play area before being destroyed.
+     * @param random The random number streams of the world.
+     */
+    public World(double width, double height, double margin, RandomStreams random) {
+        this.width = width;
+        this.height = height;
+        this.margin = margin;
+        this.random = random;
+    }
+
+    /**
+     * Retrieves the random number streams of this world.
+     *
+     * @return The world's random number streams.
+     */
+    public RandomStreams getRandom() {
+        return random;
+    }
+
+    /**
+     * Adds an entity to the world, moving its state into the world's store.
+     * Every entity in the world is kinematic.
+     *
+     * @param entity The entity to add.
+     * @return The added entity.
+     */
+    public Entity add(Entity entity) {
+        entity.moveTo(store);
+        entity.setKinematic(true);
+        entities.add(entity);
+        return entity;
+    }
+
+    /**
+     * Advances every live entity by one step, then destroys and removes those that left the world.
+     *
+     * @param seconds The simulated time of the step, in seconds.
+     */
+    public void step(double seconds) {
+        integrate(seconds);
+        store.destroyOutside(-margin, -margin, width + margin, height + margin);
+        if (store.getDestroyedCount() > 0) {
+            entities.removeIf(entity -> {
+                if (entity.isDestroyed()) {
+                    entity.detach(); // Free the slot; the entity keeps its final state
+                    return true;
+                }
+                return false;
+            });
+        }
+        tickCount++;
+    }
+
+    /**
+     * Moves every kinematic entity in the world's store along its velocity, in one pass over its columns.
+     * Unlike {@link #step(double)}, nothing is destroyed or removed.
+     *
+     * @param seconds The simulated time to advance, in seconds.
+     */
+    public void integrate(double seconds) {
+        store.integrate(seconds);
+    }
+
+    /**
+     * Destroys every entity of the given kinds that has completely left the play area, including the margin.
+     * The entities stay in the store until whoever tracks them removes them.
+     *
+     * @param kinds The kinds of entity whose lifetime is bounded by the world.
+     * @return The number of entities destroyed by this call.
+     */
+    public int retireOutOfBounds(Set<EntityKind> kinds) {
+        return store.destroyOutside(-margin, -margin, width + margin, height + margin, kinds);
+    }
+
+    /**
+     * Checks whether an entity has completely left the play area, including the margin.
+     *
+     * @param entity The entity to check.
+     * @return {@code true} if the entity is outside the world; {@code false} otherwise.
+     */
+    public boolean isOutOfBounds(Entity entity) {
+        return entity.isOutside(-margin, -margin, width + margin, height + margin);
+    }
+
+    /**
+     * Reports every overlapping pair between two groups of entities.
+     *
+     * @param groupA    The first group.
+     * @param groupB    The second group.
+     * @param onContact The action applied to each overlapping pair.
+     * @param <A>       The type of the first group's elements.
+     * @param <B>       The type of the second group's elements.
+     */
+    public <A extends EntityHolder, B extends EntityHolder> void findContacts(
+            List<A> groupA, List<B> groupB, BiConsumer<? super A, ? super B> onContact) {
+        contactDetector.findContacts(groupA, groupB, onContact);
+    }
+
+    /**
+     * Collects the live entities of the given kind.
+     *
+     * @param kind The kind of entity.
+     * @return A new list of the live entities of that kind.
+     */
+    public List<Entity> getEntities(EntityKind kind) {
+        List<Entity> matching = new ArrayList<>();
+        for (Entity entity : entities) {
+            if (entity.getKind() == kind && !entity.isDestroyed()) {
+                matching.add(entity);
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Retrieves every entity in the world.
+     *
+     * @return An unmodifiable view of the entities.
+     */
+    public List<Entity> getEntities() {
+        return Collections.unmodifiableList(entities);
+    }
+
+    /**
+     * Retrieves the store holding the state of the world's entities.
+     *
+     * @return The {@link EntityStore}.
+     */
+    public EntityStore getStore() {
+        return store;
+    }
+
+    /**
+     * Retrieves the contact detector used by this world.
+     *
+     * @return The {@link ContactDetector}.
+     */
+    public ContactDetector getContactDetector() {
+        return contactDetector;
+    }
+
+    /**
+     * Retrieves the number of steps simulated so far.
+     *
+     * @return The tick count.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+}
@@ -3,6 +3,7 @@ package com.example.demo.ui;
 import com.example.demo.gameplay.LevelParent;
 import com.example.demo.managers.GameStateManager;
 import com.example.demo.observer.Observer;
+import com.example.demo.ui.gameplayUI.SceneLayers;
 import com.example.demo.ui.menus.EndGameMenu;
 import com.example.demo.ui.menus.PauseMenu;
 import javafx.scene.Group;
@@ -83,14 +84,15 @@ public class UIManager implements Observer {
 
     /**
      * Initializes the UI elements by adding them to the appropriate layers.
-     * Removes the existing pause button, clears menuLayer, and re-adds necessary components.
+     * Removes the existing pause button from the HUD layer, clears menuLayer, and re-adds necessary components.
      */
     public void initializeUI() {
         // Clear and re-add UI components
-        levelParent.getRoot().getChildren().remove(pauseButton);
+        Group hudLayer = levelParent.getLayer(SceneLayers.Layer.HUD);
+        hudLayer.getChildren().remove(pauseButton);
         menuLayer.getChildren().clear();
         menuLayer.getChildren().addAll(pauseMenu, endGameMenu);
-        levelParent.getRoot().getChildren().add(pauseButton);
+        hudLayer.getChildren().add(pauseButton);
 
         pauseButton.setVisible(true); // Ensure pause button is visible
     }
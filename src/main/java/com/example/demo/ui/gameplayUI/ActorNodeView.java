@@ -0,0 +1,103 @@
+package com.example.demo.ui.gameplayUI;
+
+import com.example.demo.actors.ActiveActor;
+
+import java.util.List;
+
+/**
+ * Renders actors by syncing their JavaFX nodes from the simulation model.
+ * <p>
+ * Game logic only moves the actors' {@link com.example.demo.simulation.Entity entities}. Once per rendered
+ * frame, after all simulation ticks of that frame have run, this view copies every entity's position onto
+ * its node, so the scene graph is touched once per frame instead of on every move. The nodes themselves
+ * live in the actor layers of {@link SceneLayers} and are drawn by the JavaFX pulse.
+ * </p>
+ */
+public class ActorNodeView implements ActorRenderer {
+
+    private long syncedNodes = 0; // Nodes synced since the view was created
+    private ActiveActor tracked;  // Actor whose node position is reported
+
+    /**
+     * The nodes are added to their layers by the managers, so nothing needs to be installed.
+     *
+     * @param layers The level's scene layers.
+     */
+    @Override
+    public void attach(SceneLayers layers) {
+        // Nothing to install
+    }
+
+    @Override
+    public void beginFrame() {
+        // Nodes keep their state between frames
+    }
+
+    /**
+     * Syncs the nodes of the actors, see {@link #sync(List)}.
+     *
+     * @param actors The actors to draw.
+     */
+    @Override
+    public void draw(List<? extends ActiveActor> actors) {
+        sync(actors);
+    }
+
+    @Override
+    public void endFrame() {
+        // The JavaFX pulse draws the synced nodes
+    }
+
+    /**
+     * Copies the simulation state of every live actor in the list onto its node.
+     *
+     * @param actors The actors to render.
+     */
+    public void sync(List<? extends ActiveActor> actors) {
+        for (ActiveActor actor : actors) {
+            if (!actor.getEntity().isDestroyed()) {
+                actor.syncView();
+                syncedNodes++;
+            }
+        }
+    }
+
+    /**
+     * Selects the actor whose node position is reported.
+     *
+     * @param actor The actor to track, or {@code null} to track none.
+     */
+    @Override
+    public void track(ActiveActor actor) {
+        tracked = actor;
+    }
+
+    /**
+     * Reads the horizontal position of the tracked actor's node, as last synced.
+     *
+     * @return The node's layout plus translation, or 0 if no actor is tracked.
+     */
+    @Override
+    public double getTrackedX() {
+        return tracked == null ? 0 : tracked.getLayoutX() + tracked.getTranslateX();
+    }
+
+    /**
+     * Reads the vertical position of the tracked actor's node, as last synced.
+     *
+     * @return The node's layout plus translation, or 0 if no actor is tracked.
+     */
+    @Override
+    public double getTrackedY() {
+        return tracked == null ? 0 : tracked.getLayoutY() + tracked.getTranslateY();
+    }
+
+    /**
+     * Retrieves the number of nodes synced since the view was created.
+     *
+     * @return The synced node count.
+     */
+    public long getSyncedNodeCount() {
+        return syncedNodes;
+    }
+}
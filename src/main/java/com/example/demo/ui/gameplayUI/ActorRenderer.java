@@ -0,0 +1,114 @@
+package com.example.demo.ui.gameplayUI;
+
+import com.example.demo.actors.ActiveActor;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Draws the actors of a level once per rendered frame.
+ * <p>
+ * The game loop calls {@link #beginFrame()}, then {@link #draw(List)} once per group of actors in
+ * back-to-front order, then {@link #endFrame()}. Two implementations exist: {@link ActorNodeView}, which
+ * keeps one {@code ImageView} node per actor, and {@link CanvasActorRenderer}, which paints every actor
+ * onto a single canvas. The renderer is chosen once at startup, see {@link Mode#fromSystemProperty()}.
+ * </p>
+ */
+public interface ActorRenderer {
+
+    /**
+     * System property selecting the renderer, e.g. {@code -Dgame.renderer=canvas}.
+     */
+    String RENDERER_PROPERTY = "game.renderer";
+
+    /**
+     * The available renderers.
+     */
+    enum Mode {
+        NODES,  // One ImageView node per actor (default)
+        CANVAS; // All actors drawn onto one canvas
+
+        /**
+         * Parses a renderer name, ignoring case.
+         *
+         * @param name The name of the renderer, {@code "nodes"} or {@code "canvas"}.
+         * @return The matching mode.
+         * @throws IllegalArgumentException If the name does not match any renderer.
+         */
+        public static Mode parse(String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        }
+
+        /**
+         * Retrieves the renderer selected through {@link #RENDERER_PROPERTY}.
+         *
+         * @return The selected mode, or {@link #NODES} if the property is not set.
+         */
+        public static Mode fromSystemProperty() {
+            String name = System.getProperty(RENDERER_PROPERTY);
+            return name == null ? NODES : parse(name);
+        }
+    }
+
+    /**
+     * Creates the renderer for the given mode.
+     *
+     * @param mode   The renderer to create.
+     * @param width  The width of the drawing area, in pixels.
+     * @param height The height of the drawing area, in pixels.
+     * @return A new renderer.
+     */
+    static ActorRenderer create(Mode mode, double width, double height) {
+        return switch (mode) {
+            case NODES -> new ActorNodeView();
+            case CANVAS -> new CanvasActorRenderer(width, height);
+        };
+    }
+
+    /**
+     * Installs the renderer into the scene layers of a level.
+     *
+     * @param layers The level's scene layers.
+     */
+    void attach(SceneLayers layers);
+
+    /**
+     * Starts a new frame.
+     */
+    void beginFrame();
+
+    /**
+     * Draws a group of actors on top of everything drawn earlier in the frame.
+     * Destroyed and hidden actors are skipped.
+     *
+     * @param actors The actors to draw.
+     */
+    void draw(List<? extends ActiveActor> actors);
+
+    /**
+     * Finishes the current frame.
+     */
+    void endFrame();
+
+    /**
+     * Selects the actor whose on-screen position is reported by {@link #getTrackedX()} and
+     * {@link #getTrackedY()}, e.g. the player for input latency measurements.
+     *
+     * @param actor The actor to track, or {@code null} to track none.
+     */
+    void track(ActiveActor actor);
+
+    /**
+     * Retrieves the horizontal position at which the tracked actor was last drawn.
+     *
+     * @return The left edge of the tracked actor on screen, or 0 if no actor is tracked.
+     */
+    double getTrackedX();
+
+    /**
+     * Retrieves the vertical position at which the tracked actor was last drawn.
+     *
+     * @return The top edge of the tracked actor on screen, or 0 if no actor is tracked.
+     */
+    double getTrackedY();
+}
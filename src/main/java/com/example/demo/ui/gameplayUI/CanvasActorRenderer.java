@@ -0,0 +1,196 @@
+package com.example.demo.ui.gameplayUI;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.simulation.Entity;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders actors by painting their sprites onto a single {@link Canvas} every frame.
+ * <p>
+ * With one {@code ImageView} per actor, every pulse has to sync, lay out and render each node. This
+ * renderer instead keeps the actor nodes in hidden layers, where the pulse skips them, and draws every
+ * live actor with {@link GraphicsContext#drawImage(Image, double, double, double, double)} at its entity's
+ * position. Within each {@link #draw(List)} call the actors are batched by sprite, so all actors sharing an
+ * image from the {@link com.example.demo.managers.SpriteCache} are drawn back to back. The groups of actors
+ * are still drawn in the order they are passed, which keeps the layering of {@link SceneLayers}.
+ * </p>
+ * <p>
+ * Per-node effects, such as the boss's shield glow, are not reproduced on the canvas.
+ * </p>
+ */
+public class CanvasActorRenderer implements ActorRenderer {
+
+    // Layers whose nodes are replaced by the canvas
+    private static final SceneLayers.Layer[] ACTOR_LAYERS = {
+            SceneLayers.Layer.FRIENDLY_UNITS,
+            SceneLayers.Layer.ENEMIES,
+            SceneLayers.Layer.ENEMY_PROJECTILES,
+            SceneLayers.Layer.USER_PROJECTILES,
+            SceneLayers.Layer.POWER_UPS
+    };
+
+    private final Canvas canvas;
+    private final GraphicsContext graphics;
+    private final Map<Image, SpriteBatch> batches = new IdentityHashMap<>(); // One reusable batch per sprite
+    private final List<SpriteBatch> pendingBatches = new ArrayList<>(); // Batches filled by the current draw call
+    private long drawnSprites = 0; // Sprites drawn since the renderer was created
+    private ActiveActor tracked;   // Actor whose draw position is recorded
+    private double trackedX;       // Where the tracked actor was last drawn
+    private double trackedY;
+
+    /**
+     * Constructs a renderer with a canvas of the given size.
+     *
+     * @param width  The width of the canvas, in pixels.
+     * @param height The height of the canvas, in pixels.
+     */
+    public CanvasActorRenderer(double width, double height) {
+        this.canvas = new Canvas(width, height);
+        this.canvas.setMouseTransparent(true); // Input goes to the background and menus
+        this.graphics = canvas.getGraphicsContext2D();
+    }
+
+    /**
+     * Hides the actor layers and adds the canvas to the {@link SceneLayers.Layer#ACTOR_CANVAS} layer.
+     *
+     * @param layers The level's scene layers.
+     */
+    @Override
+    public void attach(SceneLayers layers) {
+        for (SceneLayers.Layer layer : ACTOR_LAYERS) {
+            layers.get(layer).setVisible(false);
+        }
+        layers.get(SceneLayers.Layer.ACTOR_CANVAS).getChildren().setAll(canvas);
+    }
+
+    /**
+     * Clears the canvas.
+     */
+    @Override
+    public void beginFrame() {
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+    }
+
+    /**
+     * Groups the live, visible actors by sprite and draws each batch.
+     *
+     * @param actors The actors to draw.
+     */
+    @Override
+    public void draw(List<? extends ActiveActor> actors) {
+        for (ActiveActor actor : actors) {
+            Entity entity = actor.getEntity();
+            if (entity.isDestroyed() || !actor.isVisible() || actor.getImage() == null) {
+                continue;
+            }
+            if (actor == tracked) {
+                trackedX = entity.getX();
+                trackedY = entity.getY();
+            }
+            SpriteBatch batch = batches.computeIfAbsent(actor.getImage(), SpriteBatch::new);
+            if (batch.count == 0) {
+                pendingBatches.add(batch);
+            }
+            batch.add(entity.getX(), entity.getY(), entity.getWidth(), entity.getHeight());
+        }
+        for (SpriteBatch batch : pendingBatches) {
+            drawnSprites += batch.drawTo(graphics);
+        }
+        pendingBatches.clear();
+    }
+
+    @Override
+    public void endFrame() {
+        // The canvas is presented by the JavaFX pulse
+    }
+
+    /**
+     * Selects the actor whose draw position is recorded, starting from the next frame.
+     *
+     * @param actor The actor to track, or {@code null} to track none.
+     */
+    @Override
+    public void track(ActiveActor actor) {
+        tracked = actor;
+        trackedX = 0;
+        trackedY = 0;
+    }
+
+    /**
+     * Retrieves the horizontal position the tracked actor was last painted at.
+     *
+     * @return The left edge of the painted sprite, or 0 if the actor has not been drawn yet.
+     */
+    @Override
+    public double getTrackedX() {
+        return trackedX;
+    }
+
+    /**
+     * Retrieves the vertical position the tracked actor was last painted at.
+     *
+     * @return The top edge of the painted sprite, or 0 if the actor has not been drawn yet.
+     */
+    @Override
+    public double getTrackedY() {
+        return trackedY;
+    }
+
+    /**
+     * Retrieves the canvas the actors are drawn onto.
+     *
+     * @return The canvas.
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Retrieves the number of sprites drawn since the renderer was created.
+     *
+     * @return The drawn sprite count.
+     */
+    public long getDrawnSpriteCount() {
+        return drawnSprites;
+    }
+
+    // Destination rectangles of all actors sharing one sprite, reused across frames
+    private static final class SpriteBatch {
+        private final Image image;
+        private double[] bounds = new double[4 * 16]; // x, y, width, height per sprite
+        private int count = 0;
+
+        SpriteBatch(Image image) {
+            this.image = image;
+        }
+
+        void add(double x, double y, double width, double height) {
+            int offset = count * 4;
+            if (offset == bounds.length) {
+                bounds = Arrays.copyOf(bounds, bounds.length * 2);
+            }
+            bounds[offset] = x;
+            bounds[offset + 1] = y;
+            bounds[offset + 2] = width;
+            bounds[offset + 3] = height;
+            count++;
+        }
+
+        int drawTo(GraphicsContext graphics) {
+            int drawn = count;
+            for (int i = 0, offset = 0; i < count; i++, offset += 4) {
+                graphics.drawImage(image, bounds[offset], bounds[offset + 1], bounds[offset + 2], bounds[offset + 3]);
+            }
+            count = 0;
+            return drawn;
+        }
+    }
+}
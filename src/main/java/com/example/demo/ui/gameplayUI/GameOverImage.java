@@ -1,10 +1,8 @@
 package com.example.demo.ui.gameplayUI;
 
-import javafx.scene.image.Image;
+import com.example.demo.managers.SpriteCache;
 import javafx.scene.image.ImageView;
 
-import java.net.URL;
-
 /**
  * Represents the "Game Over" image displayed when the player loses the game.
  */
@@ -21,12 +19,8 @@ public class GameOverImage extends ImageView {
      * Constructs a `GameOverImage` and configures its size and position on the screen.
      */
     public GameOverImage() {
-        // Load the image resource
-        URL resource = getClass().getResource(IMAGE_NAME);
-        if (resource == null) {
-            throw new IllegalArgumentException("Image resource not found: " + IMAGE_NAME);
-        }
-        setImage(new Image(resource.toExternalForm()));
+        // Load the image resource from the shared sprite cache
+        setImage(SpriteCache.getInstance().getImage(IMAGE_NAME));
 
         // Set the dimensions of the image
         setFitWidth(IMAGE_WIDTH);
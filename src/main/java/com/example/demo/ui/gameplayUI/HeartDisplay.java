@@ -1,5 +1,6 @@
 package com.example.demo.ui.gameplayUI;
 
+import com.example.demo.managers.SpriteCache;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
@@ -52,19 +53,20 @@ public class HeartDisplay {
 
     /**
      * Populates the HBox container with heart images.
-     * Each heart is loaded from the specified image resource and resized.
+     * The heart image is decoded once and shared by every heart in the display.
      */
     private void initializeHearts() {
-        for (int i = 0; i < numberOfHeartsToDisplay; i++) {
-            // Load the heart image
-            var resource = getClass().getResource(HEART_IMAGE_NAME);
-            if (resource == null) {
-                System.err.println("Error: Heart image resource not found: " + HEART_IMAGE_NAME);
-                continue;
-            }
+        Image heartImage;
+        try {
+            heartImage = SpriteCache.getInstance().getImage(HEART_IMAGE_NAME);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: Heart image resource not found: " + HEART_IMAGE_NAME);
+            return;
+        }
 
+        for (int i = 0; i < numberOfHeartsToDisplay; i++) {
             // Create a new ImageView for each heart
-            ImageView heart = new ImageView(new Image(resource.toExternalForm()));
+            ImageView heart = new ImageView(heartImage);
 
             // Set the height and maintain the aspect ratio
             heart.setFitHeight(HEART_HEIGHT);
@@ -23,20 +23,20 @@ public class LevelView {
     private static final int WIN_IMAGE_X_POSITION = 355;  // X position for "Win" image
     private static final int WIN_IMAGE_Y_POSITION = 175;  // Y position for "Win" image
 
-    private final Group root;                // Root group where all visual elements are added
+    private final Group hudLayer;            // HUD layer where all visual elements are added
     private final WinImage winImage;         // "Win" image displayed when the level is won
     private final GameOverImage gameOverImage; // "Game Over" image displayed when the level is lost
     private final HeartDisplay heartDisplay; // Heart display for player's health
 
 
     /**
-     * Constructs a LevelView with the specified root group and number of hearts.
+     * Constructs a LevelView with the specified HUD layer and number of hearts.
      *
-     * @param root            The root group to which the visual elements are added.
+     * @param hudLayer        The HUD layer to which the visual elements are added.
      * @param heartsToDisplay The initial number of hearts to display for the player.
      */
-    public LevelView(Group root, int heartsToDisplay) {
-        this.root = root;
+    public LevelView(Group hudLayer, int heartsToDisplay) {
+        this.hudLayer = hudLayer;
         this.heartDisplay = new HeartDisplay(HEART_DISPLAY_X_POSITION, HEART_DISPLAY_Y_POSITION, heartsToDisplay);
         this.winImage = new WinImage(WIN_IMAGE_X_POSITION, WIN_IMAGE_Y_POSITION);
         this.gameOverImage = new GameOverImage();
@@ -46,14 +46,14 @@ public class LevelView {
      * Displays the heart display on the screen.
      */
     public void showHeartDisplay() {
-        root.getChildren().add(heartDisplay.getContainer());
+        hudLayer.getChildren().add(heartDisplay.getContainer());
     }
 
     /**
      * Displays the "Win" image on the screen and makes it visible.
      */
     public void showWinImage() {
-        root.getChildren().add(winImage);
+        hudLayer.getChildren().add(winImage);
         winImage.showWinImage();
     }
 
@@ -61,21 +61,21 @@ public class LevelView {
      * Displays the "Game Over" image on the screen.
      */
     public void showGameOverImage() {
-        root.getChildren().add(gameOverImage);
+        hudLayer.getChildren().add(gameOverImage);
     }
 
     /**
      * Removes the "Win" image from the screen if it is currently displayed.
      */
     public void removeWinImage() {
-        root.getChildren().remove(winImage);
+        hudLayer.getChildren().remove(winImage);
     }
 
     /**
      * Removes the "Game Over" image from the screen if it is currently displayed.
      */
     public void removeGameOverImage() {
-        root.getChildren().remove(gameOverImage);
+        hudLayer.getChildren().remove(gameOverImage);
     }
 
     /**
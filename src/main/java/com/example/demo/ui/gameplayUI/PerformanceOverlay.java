@@ -0,0 +1,252 @@
+package com.example.demo.ui.gameplayUI;
+
+import com.example.demo.managers.EnemyManager;
+import com.example.demo.managers.PowerUpManager;
+import com.example.demo.managers.ProjectileManager;
+import javafx.collections.ObservableList;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A debug readout drawn above the {@link LevelView}, showing frame rate, tick time, live actor counts,
+ * the size of the scene graph, heap usage and garbage collection activity.
+ * <p>
+ * The level reports every rendered frame through {@link #frameRendered(long)} and the duration of every
+ * simulation tick through {@link #recordTick(long)}. Both only add to counters; the text is rebuilt four
+ * times per second, well below the tick rate, and always into the same {@link Text} nodes, so showing the
+ * overlay adds no nodes to the scene and little work to the frames it measures. While hidden, both calls
+ * return after checking a single flag.
+ * </p>
+ * <p>
+ * The overlay lives in the {@link SceneLayers.Layer#PERFORMANCE_OVERLAY} layer and starts shown if the
+ * {@code game.perfOverlay} system property is {@code true}.
+ * </p>
+ */
+public class PerformanceOverlay {
+
+    private static final String VISIBLE_PROPERTY = "game.perfOverlay"; // System property showing the overlay
+    private static final long REFRESH_INTERVAL_NANOS = 250_000_000L;   // Time between text refreshes
+    private static final long GC_WINDOW_NANOS = 1_000_000_000L;        // Window of the GC readout
+    private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    // Layout of the overlay, anchored to the bottom-left corner of the screen
+    private static final double MARGIN = 10;
+    private static final double PADDING = 6;
+    private static final double LINE_HEIGHT = 16;
+    private static final double WIDTH = 330;
+    private static final int LINE_COUNT = 6;
+
+    private final Group container = new Group();      // Background and text lines
+    private final Text[] lines = new Text[LINE_COUNT]; // Reused on every refresh
+    private final Parent sceneRoot;                    // Root whose nodes are counted
+    private final EnemyManager enemyManager;
+    private final ProjectileManager projectileManager;
+    private final PowerUpManager powerUpManager;
+    private final List<GarbageCollectorMXBean> garbageCollectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final Runtime runtime = Runtime.getRuntime();
+
+    // Current refresh window
+    private long windowStartNanos = -1; // -1 until the first frame after the overlay is shown
+    private int framesInWindow;
+    private int ticksInWindow;
+    private long tickNanosInWindow;
+    private long maxTickNanosInWindow;
+
+    // Garbage collection, sampled once per GC window
+    private long gcSampleNanos;
+    private long gcCountAtSample;
+    private long gcMillisAtSample;
+    private long gcCountInLastWindow;
+    private long gcMillisInLastWindow;
+
+    /**
+     * Constructs the overlay and adds it, hidden unless requested through {@code game.perfOverlay},
+     * to the {@link SceneLayers.Layer#PERFORMANCE_OVERLAY} layer.
+     *
+     * @param layers       The level's scene layers.
+     * @param screenHeight The height of the screen, used to anchor the overlay to its bottom edge.
+     */
+    public PerformanceOverlay(SceneLayers layers, double screenHeight) {
+        this.sceneRoot = layers.getRoot();
+        this.enemyManager = EnemyManager.getInstance();
+        this.projectileManager = ProjectileManager.getInstance();
+        this.powerUpManager = PowerUpManager.getInstance();
+
+        double height = LINE_COUNT * LINE_HEIGHT + 2 * PADDING;
+        Rectangle background = new Rectangle(WIDTH, height, Color.rgb(0, 0, 0, 0.6));
+        container.getChildren().add(background);
+        for (int i = 0; i < LINE_COUNT; i++) {
+            Text line = new Text(PADDING, PADDING + (i + 1) * LINE_HEIGHT - 4, "");
+            line.setFont(Font.font("Monospaced", 13));
+            line.setFill(Color.WHITE);
+            lines[i] = line;
+            container.getChildren().add(line);
+        }
+        container.setLayoutX(MARGIN);
+        container.setLayoutY(screenHeight - height - MARGIN);
+        container.setMouseTransparent(true); // Never steal clicks from the game or its menus
+        container.setVisible(Boolean.getBoolean(VISIBLE_PROPERTY));
+
+        layers.get(SceneLayers.Layer.PERFORMANCE_OVERLAY).getChildren().add(container);
+    }
+
+    /**
+     * Shows or hides the overlay. Showing it starts a new measurement window.
+     *
+     * @param visible {@code true} to show the overlay.
+     */
+    public void setVisible(boolean visible) {
+        container.setVisible(visible);
+        windowStartNanos = -1;
+        gcSampleNanos = 0; // Collections while hidden are not reported
+        gcCountInLastWindow = 0;
+        gcMillisInLastWindow = 0;
+    }
+
+    /**
+     * Checks whether the overlay is shown.
+     *
+     * @return {@code true} if the overlay is shown.
+     */
+    public boolean isVisible() {
+        return container.isVisible();
+    }
+
+    /**
+     * Shows the overlay if it is hidden, or hides it if it is shown.
+     */
+    public void toggle() {
+        setVisible(!isVisible());
+    }
+
+    /**
+     * Records the duration of one simulation tick.
+     *
+     * @param nanos The duration of the tick, in nanoseconds.
+     */
+    public void recordTick(long nanos) {
+        if (!isVisible()) {
+            return;
+        }
+        ticksInWindow++;
+        tickNanosInWindow += nanos;
+        if (nanos > maxTickNanosInWindow) {
+            maxTickNanosInWindow = nanos;
+        }
+    }
+
+    /**
+     * Records one rendered frame and refreshes the text once the current window is long enough.
+     *
+     * @param nowNanos The current time, from {@link System#nanoTime()}.
+     */
+    public void frameRendered(long nowNanos) {
+        if (!isVisible()) {
+            return;
+        }
+        if (windowStartNanos < 0) {
+            startWindow(nowNanos);
+            sampleGarbageCollection(nowNanos);
+            return;
+        }
+        framesInWindow++;
+        long elapsed = nowNanos - windowStartNanos;
+        if (elapsed >= REFRESH_INTERVAL_NANOS) {
+            if (nowNanos - gcSampleNanos >= GC_WINDOW_NANOS) {
+                sampleGarbageCollection(nowNanos);
+            }
+            refresh(elapsed);
+            startWindow(nowNanos);
+        }
+    }
+
+    /**
+     * Retrieves the text currently shown on a line of the overlay.
+     *
+     * @param index The index of the line, from the top.
+     * @return The text of the line.
+     */
+    public String getLine(int index) {
+        return lines[index].getText();
+    }
+
+    /**
+     * Rewrites every line from the counters of the window that just ended.
+     *
+     * @param elapsedNanos The length of the window, in nanoseconds.
+     */
+    private void refresh(long elapsedNanos) {
+        double fps = framesInWindow * 1e9 / elapsedNanos;
+        double meanTickMillis = ticksInWindow == 0 ? 0 : tickNanosInWindow / 1e6 / ticksInWindow;
+        long usedHeap = runtime.totalMemory() - runtime.freeMemory();
+
+        lines[0].setText(String.format(Locale.ROOT, "FPS %6.1f", fps));
+        lines[1].setText(String.format(Locale.ROOT, "tick %5.2f ms avg %5.2f ms max",
+                meanTickMillis, maxTickNanosInWindow / 1e6));
+        lines[2].setText(String.format(Locale.ROOT, "enemies %d  power-ups %d",
+                enemyManager.getEnemyCount(), powerUpManager.getPowerUpCount()));
+        lines[3].setText(String.format(Locale.ROOT, "projectiles %d user  %d enemy",
+                projectileManager.getUserProjectiles().size(), projectileManager.getEnemyProjectiles().size()));
+        lines[4].setText(String.format(Locale.ROOT, "nodes %d  heap %.0f / %.0f MB", countNodes(sceneRoot),
+                usedHeap / BYTES_PER_MEGABYTE, runtime.maxMemory() / BYTES_PER_MEGABYTE));
+        lines[5].setText(String.format(Locale.ROOT, "GC %d collections, %d ms in last 1 s",
+                gcCountInLastWindow, gcMillisInLastWindow));
+    }
+
+    /**
+     * Starts a new refresh window at the given time.
+     */
+    private void startWindow(long nowNanos) {
+        windowStartNanos = nowNanos;
+        framesInWindow = 0;
+        ticksInWindow = 0;
+        tickNanosInWindow = 0;
+        maxTickNanosInWindow = 0;
+    }
+
+    /**
+     * Takes the collection count and time of every collector, keeping the increase since the previous sample.
+     */
+    private void sampleGarbageCollection(long nowNanos) {
+        long count = 0;
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : garbageCollectors) {
+            count += Math.max(0, collector.getCollectionCount()); // -1 if the collector does not report it
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        if (gcSampleNanos != 0) {
+            gcCountInLastWindow = count - gcCountAtSample;
+            gcMillisInLastWindow = millis - gcMillisAtSample;
+        }
+        gcSampleNanos = nowNanos;
+        gcCountAtSample = count;
+        gcMillisAtSample = millis;
+    }
+
+    /**
+     * Counts a node and all of its descendants.
+     *
+     * @param node The node at the top of the subtree.
+     * @return The number of nodes in the subtree, including the node itself.
+     */
+    static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent parent) {
+            ObservableList<Node> children = parent.getChildrenUnmodifiable();
+            for (int i = 0; i < children.size(); i++) {
+                count += countNodes(children.get(i));
+            }
+        }
+        return count;
+    }
+}
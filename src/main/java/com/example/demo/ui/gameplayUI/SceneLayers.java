@@ -0,0 +1,76 @@
+package com.example.demo.ui.gameplayUI;
+
+import javafx.scene.Group;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The scene graph of a level, split into one {@link Group} per kind of content.
+ * <p>
+ * The root holds one layer per {@link Layer} constant, added once in declaration order, so the
+ * drawing order is fixed: the background at the bottom, then the player, enemies, projectiles,
+ * power-ups and effects, with the HUD, the performance overlay and menus on top. Nodes never need
+ * to be moved with {@code toFront()} or {@code toBack()}, and adding or removing a node only touches
+ * the children of its own layer instead of a single flat list holding every node in the level.
+ * </p>
+ */
+public class SceneLayers {
+
+    /**
+     * The layers of a level, from back to front.
+     */
+    public enum Layer {
+        BACKGROUND,
+        FRIENDLY_UNITS,
+        ENEMIES,
+        ENEMY_PROJECTILES,
+        USER_PROJECTILES,
+        POWER_UPS,
+        ACTOR_CANVAS, // Used by CanvasActorRenderer in place of the actor layers above
+        EFFECTS,
+        HUD,
+        PERFORMANCE_OVERLAY, // Optional frame timing and resource readout, see PerformanceOverlay
+        MENUS
+    }
+
+    private final Group root = new Group(); // Scene root holding the layers in order
+    private final Map<Layer, Group> layers = new EnumMap<>(Layer.class);
+
+    /**
+     * Constructs the root group and adds an empty group for every layer.
+     */
+    public SceneLayers() {
+        for (Layer layer : Layer.values()) {
+            Group group = new Group();
+            layers.put(layer, group);
+            root.getChildren().add(group);
+        }
+    }
+
+    /**
+     * Retrieves the root group that holds all the layers.
+     *
+     * @return The root group.
+     */
+    public Group getRoot() {
+        return root;
+    }
+
+    /**
+     * Retrieves the group of a layer.
+     *
+     * @param layer The layer to retrieve.
+     * @return The group holding the layer's nodes.
+     */
+    public Group get(Layer layer) {
+        return layers.get(layer);
+    }
+
+    /**
+     * Removes every node from every layer, keeping the layers themselves in place.
+     */
+    public void clear() {
+        layers.values().forEach(group -> group.getChildren().clear());
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.demo.ui.gameplayUI;
 
-import javafx.scene.image.Image;
+import com.example.demo.managers.SpriteCache;
 import javafx.scene.image.ImageView;
 
 /**
@@ -35,13 +35,8 @@ public class WinImage extends ImageView {
      * @param yPosition The Y coordinate of the image's layout position.
      */
     public WinImage(double xPosition, double yPosition) {
-        // Load the "You Win" image from the resource path
-        var resource = getClass().getResource(IMAGE_NAME);
-        if (resource == null) {
-            throw new IllegalArgumentException("Resource not found: " + IMAGE_NAME);
-        }
-
-        this.setImage(new Image(resource.toExternalForm()));
+        // Load the "You Win" image from the shared sprite cache
+        this.setImage(SpriteCache.getInstance().getImage(IMAGE_NAME));
 
         // Set initial properties
         this.setVisible(false); // Initially hidden
@@ -1,25 +1,22 @@
 package com.example.demo.ui.menus;
 
 import com.example.demo.controller.Main;
+import com.example.demo.managers.MusicService;
 import com.example.demo.managers.SoundManager;
+import com.example.demo.managers.SpriteCache;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.CheckBox;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaPlayer;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.stage.Stage;
 
-import java.net.URL;
-
 /**
  * Represents the main menu of the game.
  * Provides options to start the game, access settings, view instructions, or exit the application.
@@ -34,9 +31,10 @@ public class MainMenu {
     private static final int SCREEN_HEIGHT = 750; // The height of the main menu screen.
 
     private static final String BACKGROUND_IMAGE_PATH = "/com/example/demo/images/menubackground.png"; // Path to the background image.
+    private static final String INSTRUCTION_IMAGE_PATH = "/com/example/demo/images/instruction.png"; // Path to the instruction image.
     private static final String BACKGROUND_MUSIC_PATH = "/com/example/demo/sounds/Background.mp3"; // Path to the background music.
+    private static final double MENU_MUSIC_VOLUME = 1.0; // Volume of the background music in the menus.
     private final SoundManager soundManager = SoundManager.getInstance(); // Singleton instance for managing sound.
-    private MediaPlayer backgroundMediaPlayer; // MediaPlayer to play background music.
 
     /**
      * Initializes and displays the main menu.
@@ -73,13 +71,8 @@ public class MainMenu {
      * @return the configured ImageView for the background image.
      */
     private ImageView createBackgroundImage() {
-        // Load the background image resource.
-        URL resource = getClass().getResource(BACKGROUND_IMAGE_PATH);
-        if (resource == null) {
-            throw new IllegalArgumentException("Resource not found: " + BACKGROUND_IMAGE_PATH);
-        }
-        Image image = new Image(resource.toExternalForm());
-        ImageView imageView = new ImageView(image);
+        // Load the background image from the shared sprite cache.
+        ImageView imageView = new ImageView(SpriteCache.getInstance().getImage(BACKGROUND_IMAGE_PATH));
 
         // Set dimensions and ensure it covers the entire screen.
         imageView.setFitWidth(SCREEN_WIDTH);
@@ -91,25 +84,10 @@ public class MainMenu {
 
     /**
      * Plays the background music for the main menu.
+     * The track's player is shared with the levels, so the music carries on when the game starts.
      */
     private void playBackgroundMusic() {
-        // Stop existing music if already playing.
-        if (backgroundMediaPlayer != null) {
-            backgroundMediaPlayer.stop();
-        }
-
-        // Load the background music resource.
-        URL resource = getClass().getResource(BACKGROUND_MUSIC_PATH);
-        if (resource == null) {
-            throw new IllegalArgumentException("Music resource not found: " + BACKGROUND_MUSIC_PATH);
-        }
-
-        // Set up and play the MediaPlayer for background music.
-        Media media = new Media(resource.toExternalForm());
-        backgroundMediaPlayer = new MediaPlayer(media);
-        backgroundMediaPlayer.setCycleCount(MediaPlayer.INDEFINITE); // Loop the music indefinitely.
-        backgroundMediaPlayer.setVolume(soundManager.isMusicMuted() ? 0 : 1); // Adjust volume based on mute state.
-        backgroundMediaPlayer.play();
+        MusicService.getInstance().play(BACKGROUND_MUSIC_PATH, MENU_MUSIC_VOLUME);
     }
 
     /**
@@ -140,9 +118,6 @@ public class MainMenu {
 
         // Define actions for each button.
         startButton.setOnAction(e -> {
-            if (backgroundMediaPlayer != null) {
-                backgroundMediaPlayer.stop(); // Stop the background music before starting the game.
-            }
             main.startGame(stage); // Start the game.
         });
         settingsButton.setOnAction(e -> switchToLayout(root, 1)); // Show settings layout.
@@ -255,12 +230,7 @@ public class MainMenu {
         howToPlayTitle.setTextFill(Color.web("#FF69B4"));
 
         // Load the instructional image.
-        URL resource = getClass().getResource("/com/example/demo/images/instruction.png");
-        if (resource == null) {
-            throw new IllegalArgumentException("Resource not found: /com/example/demo/images/instruction.png");
-        }
-
-        ImageView instructionImage = new ImageView(new Image(resource.toExternalForm()));
+        ImageView instructionImage = new ImageView(SpriteCache.getInstance().getImage(INSTRUCTION_IMAGE_PATH));
         instructionImage.setFitWidth(350);
         instructionImage.setPreserveRatio(true);
 
@@ -308,10 +278,7 @@ public class MainMenu {
         // Define the action to take when the checkbox state changes.
         musicCheckBox.setOnAction(e -> {
             boolean isMuted = musicCheckBox.isSelected();
-            soundManager.setMusicMuted(isMuted); // Update the mute state in SoundManager.
-            if (backgroundMediaPlayer != null) {
-                backgroundMediaPlayer.setVolume(isMuted ? 0 : 1); // Adjust the volume of the background music.
-            }
+            soundManager.setMusicMuted(isMuted); // Update the mute state in SoundManager and the music service.
         });
 
         return musicCheckBox;
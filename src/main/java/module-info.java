@@ -3,6 +3,8 @@ module com.example.demo {
     requires javafx.fxml;
     requires javafx.media;
     requires java.logging;
+    requires java.management;
+    requires jdk.jfr;
 
 
     // Open packages required by JavaFX for reflection (e.g., FXML loaders)
@@ -18,6 +20,8 @@ module com.example.demo {
     exports com.example.demo.managers;
     exports com.example.demo.gameplay;
     exports com.example.demo.observer;
+    exports com.example.demo.simulation;
+    exports com.example.demo.diagnostics;
     exports com.example.demo.actors.enemies;
     exports com.example.demo.actors.player;
     exports com.example.demo.ui.menus;
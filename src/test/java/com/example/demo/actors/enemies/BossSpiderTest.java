@@ -1,5 +1,6 @@
 package com.example.demo.actors.enemies;
 
+import com.example.demo.gameplay.LevelId;
 import com.example.demo.gameplay.LevelParent;
 import com.example.demo.ui.gameplayUI.LevelView;
 import com.example.demo.JavaFXInitializer;
@@ -11,6 +12,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CountDownLatch;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class BossSpiderTest extends JavaFXInitializer {
@@ -25,13 +28,16 @@ public class BossSpiderTest extends JavaFXInitializer {
     }
 
     @BeforeEach
-    void setUp() {
-        // Initialize JavaFX components
-        shieldAlert = new Label();
-        levelParent = new LevelParentStub(1300.0, 750.0);
-
-        // Initialize BossSpider
-        bossSpider = new BossSpider(levelParent, shieldAlert);
+    void setUp() throws Exception {
+        // The level builds its scene, so it has to be created on the Application Thread
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            shieldAlert = new Label();
+            levelParent = new LevelParentStub(1300.0, 750.0);
+            bossSpider = new BossSpider(levelParent, shieldAlert); // Initialize BossSpider
+            latch.countDown();
+        });
+        latch.await(); // Wait for the JavaFX setup to complete
     }
 
     @Test
@@ -39,7 +45,7 @@ public class BossSpiderTest extends JavaFXInitializer {
         var projectile = bossSpider.fireProjectile();
 
         if (projectile != null) {
-            assertEquals(bossSpider.getLayoutY() + bossSpider.getTranslateY() + 75.0, projectile.getLayoutY(),
+            assertEquals(bossSpider.getEntity().getY() + 75.0, projectile.getEntity().getY(),
                     "Projectile should start at the correct Y position.");
         } else {
             assertNull(projectile, "BossSpider may not fire a projectile every frame.");
@@ -62,10 +68,10 @@ public class BossSpiderTest extends JavaFXInitializer {
     @Test
     void testCustomHitbox() {
         var hitbox = bossSpider.getCustomHitbox();
-        var originalBounds = bossSpider.getBoundsInParent();
+        var entity = bossSpider.getEntity();
 
-        assertTrue(hitbox.getWidth() < originalBounds.getWidth(), "Custom hitbox width should be smaller.");
-        assertTrue(hitbox.getHeight() < originalBounds.getHeight(), "Custom hitbox height should be smaller.");
+        assertTrue(hitbox.getWidth() < entity.getWidth(), "Custom hitbox width should be smaller.");
+        assertTrue(hitbox.getHeight() < entity.getHeight(), "Custom hitbox height should be smaller.");
     }
 
     // Stub class for LevelParent with required implementations
@@ -74,7 +80,7 @@ public class BossSpiderTest extends JavaFXInitializer {
         private final double screenHeight;
 
         public LevelParentStub(double screenWidth, double screenHeight) {
-            super("/com/example/demo/images/background1.jpg", screenHeight, screenWidth, 0, null, null);
+            super("/com/example/demo/images/background1.jpg", screenHeight, screenWidth, 0, null, LevelId.LEVEL_TWO);
             this.screenWidth = screenWidth;
             this.screenHeight = screenHeight;
         }
@@ -1,8 +1,10 @@
 package com.example.demo.actors.enemies;
 
+import com.example.demo.managers.SimulationClock;
 import com.example.demo.JavaFXInitializer;
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.projectiles.EnemyProjectile;
+import com.example.demo.simulation.World;
 import javafx.application.Platform;
 import javafx.scene.Group;
 import org.junit.jupiter.api.AfterEach;
@@ -30,7 +32,7 @@ class EnemySpiderTest extends JavaFXInitializer {
         CountDownLatch latch = new CountDownLatch(1);
         Platform.runLater(() -> {
             root = new Group(); // Initialize JavaFX root node
-            enemySpider = new EnemySpider(500, 300); // Initialize enemy spider at position (500, 300)
+            enemySpider = new EnemySpider(new World(1300, 750, 100), 500, 300); // Enemy spider at (500, 300)
             root.getChildren().add(enemySpider); // Add enemy spider to the root
             latch.countDown();
         });
@@ -51,11 +53,11 @@ class EnemySpiderTest extends JavaFXInitializer {
     @Test
     void testUpdatePosition() {
         Platform.runLater(() -> {
-            double initialX = enemySpider.getTranslateX();
+            double initialX = enemySpider.getEntity().getX();
 
             enemySpider.updatePosition();
 
-            double updatedX = enemySpider.getTranslateX();
+            double updatedX = enemySpider.getEntity().getX();
             assertTrue(updatedX < initialX, "EnemySpider should move horizontally to the left.");
         });
     }
@@ -67,13 +69,13 @@ class EnemySpiderTest extends JavaFXInitializer {
 
             if (projectile != null) {
                 assertTrue(projectile instanceof EnemyProjectile, "Projectile fired should be an instance of EnemyProjectile.");
-                assertEquals(enemySpider.getLayoutX() + enemySpider.getTranslateX() - 100.0,
-                        projectile.getTranslateX(),
+                assertEquals(enemySpider.getEntity().getX() - 100.0,
+                        projectile.getEntity().getX(),
                         0.1,
                         "Projectile X position should be offset by -100.0.");
 
-                assertEquals(enemySpider.getLayoutY() + enemySpider.getTranslateY() + 50.0,
-                        projectile.getTranslateY(),
+                assertEquals(enemySpider.getEntity().getY() + 50.0,
+                        projectile.getEntity().getY(),
                         0.1,
                         "Projectile Y position should be offset by 50.0.");
             } else {
@@ -86,12 +88,15 @@ class EnemySpiderTest extends JavaFXInitializer {
     @Test
     void testUpdateActor() {
         Platform.runLater(() -> {
-            double initialX = enemySpider.getTranslateX();
+            double initialX = enemySpider.getEntity().getX();
 
             enemySpider.updateActor();
+            assertEquals(initialX, enemySpider.getEntity().getX(), "updateActor should leave movement to the entity store.");
 
-            double updatedX = enemySpider.getTranslateX();
-            assertTrue(updatedX < initialX, "EnemySpider should move horizontally to the left when updateActor is called.");
+            enemySpider.getEntity().getStore().integrate(SimulationClock.getInstance().getStepSeconds());
+
+            double updatedX = enemySpider.getEntity().getX();
+            assertTrue(updatedX < initialX, "EnemySpider should move horizontally to the left in the store's movement pass.");
         });
     }
 
@@ -3,6 +3,7 @@ package com.example.demo.actors.player;
 import com.example.demo.JavaFXInitializer;
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.ui.gameplayUI.LevelView;
+import com.example.demo.gameplay.LevelId;
 import com.example.demo.gameplay.LevelParent;
 import com.example.demo.managers.ProjectileManager;
 import com.example.demo.managers.SoundManager;
@@ -60,7 +61,7 @@ class UserSupermanTest extends JavaFXInitializer {
             userSuperman.moveUp();
             userSuperman.updatePosition();
 
-            assertTrue(userSuperman.getTranslateY() < 0, "UserSuperman should move upward when moveUp is called.");
+            assertTrue(userSuperman.getEntity().getDisplacementY() < 0, "UserSuperman should move upward when moveUp is called.");
         });
     }
 
@@ -70,7 +71,7 @@ class UserSupermanTest extends JavaFXInitializer {
             userSuperman.moveDown();
             userSuperman.updatePosition();
 
-            assertTrue(userSuperman.getTranslateY() > 0, "UserSuperman should move downward when moveDown is called.");
+            assertTrue(userSuperman.getEntity().getDisplacementY() > 0, "UserSuperman should move downward when moveDown is called.");
         });
     }
 
@@ -80,7 +81,7 @@ class UserSupermanTest extends JavaFXInitializer {
             userSuperman.moveRight();
             userSuperman.updatePosition();
 
-            assertTrue(userSuperman.getTranslateX() > 0, "UserSuperman should move right when moveRight is called.");
+            assertTrue(userSuperman.getEntity().getDisplacementX() > 0, "UserSuperman should move right when moveRight is called.");
         });
     }
 
@@ -91,13 +92,13 @@ class UserSupermanTest extends JavaFXInitializer {
             userSuperman.stopVertical();
             userSuperman.updatePosition();
 
-            assertEquals(0, userSuperman.getTranslateY(), "UserSuperman should stop vertical movement when stopVertical is called.");
+            assertEquals(0, userSuperman.getEntity().getDisplacementY(), "UserSuperman should stop vertical movement when stopVertical is called.");
 
             userSuperman.moveLeft();
             userSuperman.stopHorizontal();
             userSuperman.updatePosition();
 
-            assertEquals(0, userSuperman.getTranslateX(), "UserSuperman should stop horizontal movement when stopHorizontal is called.");
+            assertEquals(0, userSuperman.getEntity().getDisplacementX(), "UserSuperman should stop horizontal movement when stopHorizontal is called.");
         });
     }
 
@@ -130,7 +131,7 @@ class UserSupermanTest extends JavaFXInitializer {
         private final Group root;
 
         public LevelParentStub(Group root) {
-            super("/com/example/demo/images/background1.jpg", 600, 800, 100, null, "Test Level");
+            super("/com/example/demo/images/background1.jpg", 600, 800, 100, null, LevelId.LEVEL_ONE);
             this.projectileManager = ProjectileManager.getInstance();
             this.soundManager = SoundManager.getInstance();
             this.root = root;
@@ -0,0 +1,75 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecorderEventsTest {
+
+    @Test
+    void testEventsAreDisabledWithoutRecording() {
+        assertFalse(new WaveSpawnEvent().isEnabled(), "Events should be off when nothing is recording.");
+        assertFalse(new TickEvent().isEnabled(), "Events should be off when nothing is recording.");
+    }
+
+    @Test
+    void testEventsAreRecordedWithTheirFields() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            WaveSpawnEvent.emit("Level 1", 2, 5, false);
+            SoundPlaybackEvent.emit("shoot");
+
+            TickEvent tick = new TickEvent();
+            tick.begin();
+            tick.end("Level 1", 42, 1, 5, 3, 2, 0);
+
+            CollisionBatchEvent collisions = new CollisionBatchEvent();
+            collisions.begin();
+            collisions.end("userProjectile", 3, 5, 4, 1);
+        });
+
+        RecordedEvent wave = find(events, "com.example.demo.WaveSpawn");
+        assertEquals(2, wave.getInt("wave"), "The wave number should be recorded.");
+        assertEquals(5, wave.getInt("enemies"), "The enemy count should be recorded.");
+        assertEquals("shoot", find(events, "com.example.demo.SoundPlayback").getString("sound"),
+                "The sound name should be recorded.");
+        assertEquals(42, find(events, "com.example.demo.Tick").getLong("tick"), "The tick number should be recorded.");
+        assertEquals(4, find(events, "com.example.demo.CollisionBatch").getLong("candidates"),
+                "The candidate count should be recorded.");
+    }
+
+    /**
+     * Runs the action while every game event is being recorded and returns the recorded events.
+     */
+    private static List<RecordedEvent> record(Runnable action) throws IOException {
+        Path file = Files.createTempFile("game-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (Class<? extends Event> type : List.of(TickEvent.class, WaveSpawnEvent.class,
+                    CollisionBatchEvent.class, LevelTransitionEvent.class, SoundPlaybackEvent.class)) {
+                recording.enable(type).withoutThreshold();
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + name + " event was recorded."));
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.diagnostics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameProfilerTest {
+
+    private FrameProfiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        profiler = FrameProfiler.getInstance();
+        profiler.setDumpIntervalTicks(0);
+        profiler.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        profiler.setEnabled(false);
+        profiler.reset();
+    }
+
+    @Test
+    void testDisabledProfilerRecordsNothing() {
+        profiler.setEnabled(false);
+
+        runTick();
+
+        assertEquals(0, profiler.getStats(FramePhase.TICK).count(), "No tick should be recorded while off.");
+        assertEquals(0, profiler.getStats(FramePhase.UPDATE).count(), "No phase should be recorded while off.");
+    }
+
+    @Test
+    void testEnabledProfilerRecordsEveryPhase() {
+        profiler.setEnabled(true);
+
+        for (int i = 0; i < 5; i++) {
+            runTick();
+        }
+
+        FrameProfiler.PhaseStats update = profiler.getStats(FramePhase.UPDATE);
+        FrameProfiler.PhaseStats tick = profiler.getStats(FramePhase.TICK);
+        assertEquals(5, update.count(), "Each tick should record the phase once.");
+        assertTrue(update.p50Nanos() >= 1_000_000, "The phase should take at least the time slept.");
+        assertTrue(tick.maxNanos() >= update.maxNanos(), "The tick should last at least as long as a phase.");
+        assertTrue(profiler.dump().contains("UPDATE"), "The dump should list every phase.");
+    }
+
+    @Test
+    void testSwitchingOnMidTickWaitsForNextTick() {
+        profiler.beginTick();
+        profiler.setEnabled(true);
+        profiler.endPhase(FramePhase.SPAWN);
+        profiler.endTick();
+
+        assertEquals(0, profiler.getStats(FramePhase.SPAWN).count(), "A tick that began while off should be skipped.");
+    }
+
+    @Test
+    void testWindowIsResetAfterDump() {
+        profiler.setEnabled(true);
+        profiler.setDumpIntervalTicks(2);
+
+        runTick();
+        assertEquals(1, profiler.getStats(FramePhase.TICK).count(), "The first tick should be in the window.");
+        runTick();
+        assertEquals(0, profiler.getStats(FramePhase.TICK).count(), "The window should restart after the dump.");
+        assertThrows(IllegalArgumentException.class, () -> profiler.setDumpIntervalTicks(-1),
+                "A negative interval should be rejected.");
+    }
+
+    /**
+     * Runs a tick whose update phase sleeps for a millisecond.
+     */
+    private void runTick() {
+        profiler.beginTick();
+        profiler.endPhase(FramePhase.SPAWN);
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        profiler.endPhase(FramePhase.UPDATE);
+        profiler.endTick();
+    }
+}
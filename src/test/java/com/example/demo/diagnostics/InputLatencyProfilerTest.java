@@ -0,0 +1,92 @@
+package com.example.demo.diagnostics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputLatencyProfilerTest {
+
+    private InputLatencyProfiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        profiler = InputLatencyProfiler.getInstance();
+        profiler.setDumpIntervalTicks(0);
+        profiler.setEnabled(true);
+        profiler.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        profiler.setEnabled(false);
+        profiler.reset();
+    }
+
+    @Test
+    void testEventToTickIsRecordedInTheEntityBand() throws InterruptedException {
+        profiler.keyEvent();
+        profiler.keyEvent();
+        Thread.sleep(1);
+        profiler.tickSampled(60, false, 0, 0);
+
+        InputLatencyProfiler.LatencyStats stats =
+                profiler.getStats(InputLatencyProfiler.Stage.EVENT_TO_TICK, InputLatencyProfiler.bandOf(60));
+        assertEquals(2, stats.count(), "Every sampled event should be timed.");
+        assertEquals("50-99", stats.entities());
+        assertTrue(stats.p50Nanos() >= 1_000_000, "The latency should include the time slept.");
+        assertEquals(0, profiler.getStats(InputLatencyProfiler.Stage.EVENT_TO_TICK, 0).count(),
+                "Other bands should stay empty.");
+    }
+
+    @Test
+    void testTickToPulseWaitsForThePlayerToMove() {
+        profiler.tickSampled(10, true, 100, 200);
+        profiler.pulse(100, 200);
+        assertEquals(0, profiler.getStats(InputLatencyProfiler.Stage.TICK_TO_PULSE, 0).count(),
+                "A pulse drawing the player in place should not count.");
+
+        profiler.pulse(104, 200);
+        assertEquals(1, profiler.getStats(InputLatencyProfiler.Stage.TICK_TO_PULSE, 0).count());
+
+        profiler.pulse(108, 200);
+        assertEquals(1, profiler.getStats(InputLatencyProfiler.Stage.TICK_TO_PULSE, 0).count(),
+                "Only the first pulse after the change should count.");
+    }
+
+    @Test
+    void testMovementThatNeverShowsIsGivenUp() {
+        profiler.tickSampled(10, true, 0, 0);
+        for (int i = 0; i < InputLatencyProfiler.MAX_PULSES_AWAITED; i++) {
+            profiler.pulse(0, 0);
+        }
+
+        assertEquals(1, profiler.getUnrenderedCount());
+        profiler.pulse(5, 0);
+        assertEquals(0, profiler.getStats(InputLatencyProfiler.Stage.TICK_TO_PULSE, 0).count(),
+                "A given-up change should not be recorded later.");
+    }
+
+    @Test
+    void testDisabledProfilerRecordsNothing() {
+        profiler.setEnabled(false);
+        profiler.keyEvent();
+        profiler.tickSampled(10, true, 0, 0);
+        profiler.pulse(1, 1);
+
+        for (InputLatencyProfiler.Stage stage : InputLatencyProfiler.Stage.values()) {
+            assertEquals(0, profiler.getStats(stage, 0).count());
+        }
+    }
+
+    @Test
+    void testBandsCoverEveryEntityCount() {
+        assertEquals(0, InputLatencyProfiler.bandOf(0));
+        assertEquals(1, InputLatencyProfiler.bandOf(25));
+        assertEquals(profiler.getBandCount() - 1, InputLatencyProfiler.bandOf(10_000));
+        assertEquals("200+", profiler.getStats(InputLatencyProfiler.Stage.EVENT_TO_TICK, 4).entities());
+        assertThrows(IllegalArgumentException.class,
+                () -> profiler.getStats(InputLatencyProfiler.Stage.EVENT_TO_TICK, profiler.getBandCount()));
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.demo.diagnostics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogHistogramTest {
+
+    private LogHistogram histogram;
+
+    @BeforeEach
+    void setUp() {
+        histogram = new LogHistogram();
+    }
+
+    @Test
+    void testPercentilesAreWithinBucketPrecision() {
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000); // 1 us to 100 ms
+        }
+
+        assertEquals(100_000, histogram.getCount(), "Every value should be counted.");
+        assertEquals(100_000_000L, histogram.getMax(), "The maximum should be exact.");
+        assertEquals(50_000_000, histogram.getValueAtPercentile(50), 50_000_000 * 0.07, "p50 should be within 7%.");
+        assertEquals(99_000_000, histogram.getValueAtPercentile(99), 99_000_000 * 0.07, "p99 should be within 7%.");
+        assertEquals(100_000_000L, histogram.getValueAtPercentile(100), "p100 should be the maximum.");
+    }
+
+    @Test
+    void testSmallValuesAreExact() {
+        histogram.record(3);
+        histogram.record(7);
+        histogram.record(7);
+
+        assertEquals(7, histogram.getValueAtPercentile(50), "Values below 32 should have their own bucket.");
+        assertEquals(3, histogram.getValueAtPercentile(0), "p0 should be the smallest value.");
+        assertEquals(17.0 / 3, histogram.getMean(), 1e-9, "The mean should be exact.");
+    }
+
+    @Test
+    void testBucketsCoverEveryValue() {
+        long[] values = {0, 31, 32, 33, 1_000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = LogHistogram.bucketOf(value);
+            assertTrue(LogHistogram.upperBoundOf(bucket) >= value, "Bucket of " + value + " should contain it.");
+            assertTrue(bucket == 0 || LogHistogram.upperBoundOf(bucket - 1) < value,
+                    "The previous bucket of " + value + " should end below it.");
+        }
+    }
+
+    @Test
+    void testResetAndInvalidPercentile() {
+        histogram.record(42);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount(), "Reset should clear the count.");
+        assertEquals(0, histogram.getValueAtPercentile(99), "An empty histogram should report 0.");
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101),
+                "Percentiles above 100 should be rejected.");
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.demo.gameplay;
+
+import com.example.demo.actors.player.UserSuperman;
+import com.example.demo.managers.InputState;
+import com.example.demo.simulation.Entity;
+import com.example.demo.simulation.EntityKind;
+import com.example.demo.simulation.World;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BotPlayerTest {
+
+    private static final double FIELD_HEIGHT = 750;
+
+    private final List<Entity> enemies = new ArrayList<>();
+    private final List<Entity> enemyProjectiles = new ArrayList<>();
+    private final List<Entity> powerUps = new ArrayList<>();
+    private Entity player;
+    private BotPlayer bot;
+    private InputState controls;
+
+    @BeforeEach
+    void setUp() {
+        player = new Entity(EntityKind.USER, 40, 300, 100, 80);
+        bot = new BotPlayer(player, FIELD_HEIGHT, () -> enemies, () -> enemyProjectiles, () -> powerUps);
+        controls = new InputState();
+    }
+
+    @Test
+    void testIdlesWithoutEnemies() {
+        int sample = steer();
+
+        assertEquals(0, sample, "With nothing on screen the bot should neither move nor fire.");
+    }
+
+    @Test
+    void testLinesUpWithTheLeftmostEnemyAndFires() {
+        enemies.add(hostile(EntityKind.ENEMY, 1000, 100, 0));
+        enemies.add(hostile(EntityKind.ENEMY, 700, 550, 0));
+
+        int sample = steer();
+
+        assertTrue(InputState.Control.DOWN.isIn(sample), "The bot should move towards the closest enemy.");
+        assertTrue(InputState.Control.FIRE.isIn(sample), "The bot should fire while enemies are alive.");
+    }
+
+    @Test
+    void testDodgesProjectileHeadingForThePlayer() {
+        enemies.add(hostile(EntityKind.ENEMY, 1000, 300, 0));
+        enemyProjectiles.add(hostile(EntityKind.ENEMY_PROJECTILE, 300, 320, -200));
+
+        int sample = steer();
+
+        assertTrue(InputState.Control.UP.isIn(sample) || InputState.Control.DOWN.isIn(sample),
+                "The bot should leave the lane of an incoming projectile.");
+    }
+
+    @Test
+    void testIgnoresProjectilesAlreadyPast() {
+        enemies.add(hostile(EntityKind.ENEMY, 1000, 320, 0)); // Already lined up with the player
+        enemyProjectiles.add(hostile(EntityKind.ENEMY_PROJECTILE, 0, 320, -200));
+        player.setPosition(200, 300);
+
+        int sample = steer();
+
+        assertFalse(InputState.Control.UP.isIn(sample) || InputState.Control.DOWN.isIn(sample),
+                "A projectile behind the player is no threat.");
+    }
+
+    @Test
+    void testCollectsPowerUps() {
+        Entity powerUp = new Entity(EntityKind.POWER_UP, 400, 320, 40, 40);
+        powerUps.add(powerUp);
+
+        int sample = steer();
+        assertTrue(InputState.Control.RIGHT.isIn(sample), "The bot should move towards a power-up.");
+
+        powerUps.clear();
+        player.setPosition(400, 300);
+        sample = steer();
+        assertTrue(InputState.Control.LEFT.isIn(sample), "The bot should return to the left edge afterwards.");
+        assertFalse(InputState.Control.RIGHT.isIn(sample));
+    }
+
+    @Test
+    void testSurvivesProjectileStreamInAWorld() {
+        int idleHits = simulateStream(false);
+        int botHits = simulateStream(true);
+
+        assertTrue(idleHits >= 10, "The stream should hit a player that stands still; hits: " + idleHits);
+        assertTrue(botHits * 5 <= idleHits, "The bot should dodge most of the stream; hits: " + botHits);
+    }
+
+    private int steer() {
+        bot.steer(controls);
+        return controls.sample();
+    }
+
+    /**
+     * Runs one simulated minute in a world firing projectiles at random lanes, with the player steered by the
+     * bot at the player's real speed, and counts the projectiles that hit the player.
+     *
+     * @param steered Whether the bot steers the player; otherwise the player stands still.
+     * @return The number of hits.
+     */
+    private int simulateStream(boolean steered) {
+        double stepSeconds = 0.05; // 20 ticks per second
+        World world = new World(1300, FIELD_HEIGHT, 100);
+        enemyProjectiles.clear();
+        player.setPosition(40, 300);
+        world.add(player);
+        Random random = new Random(42);
+        int hits = 0;
+        for (int tick = 0; tick < 1200; tick++) {
+            if (tick % 10 == 0) {
+                Entity projectile = world.add(hostile(EntityKind.ENEMY_PROJECTILE, 1300,
+                        random.nextDouble() * (FIELD_HEIGHT - 40), -200));
+                enemyProjectiles.add(projectile);
+            }
+            int sample = steered ? steer() : 0;
+            InputState.Control vertical = controls.vertical(sample);
+            InputState.Control horizontal = controls.horizontal(sample);
+            player.setVelocity(speedTowards(horizontal, InputState.Control.LEFT),
+                    speedTowards(vertical, InputState.Control.UP));
+            world.step(stepSeconds);
+            for (Entity projectile : enemyProjectiles) {
+                if (!projectile.isDestroyed() && projectile.intersects(player)) {
+                    projectile.destroy();
+                    hits++;
+                }
+            }
+            enemyProjectiles.removeIf(Entity::isDestroyed);
+        }
+        return hits;
+    }
+
+    private static double speedTowards(InputState.Control direction, InputState.Control negative) {
+        if (direction == null) {
+            return 0;
+        }
+        return direction == negative ? -UserSuperman.SPEED : UserSuperman.SPEED;
+    }
+
+    private static Entity hostile(EntityKind kind, double x, double y, double velocityX) {
+        Entity entity = new Entity(kind, x, y, 40, 40);
+        entity.setVelocity(velocityX, 0);
+        return entity;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.demo.gameplay;
+
+import com.example.demo.managers.SimulationClock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameLoopTest {
+
+    private static final long STEP_NANOS = 50_000_000L; // One tick at 20 ticks per second
+
+    private SimulationClock clock;
+    private GameLoop gameLoop;
+    private int ticks;
+
+    @BeforeEach
+    void setUp() {
+        clock = SimulationClock.getInstance();
+        clock.setTickRate(20);
+        ticks = 0;
+        gameLoop = new GameLoop(() -> ticks++, () -> { }, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clock.setTickRate(20);
+    }
+
+    @Test
+    void testPartialStepIsAccumulated() {
+        assertEquals(0, gameLoop.advance(STEP_NANOS / 2), "Half a step should not run a tick.");
+        assertEquals(0.5, gameLoop.getInterpolationAlpha(), 1e-9, "Half a step should remain accumulated.");
+
+        assertEquals(1, gameLoop.advance(STEP_NANOS / 2), "The second half should complete a tick.");
+        assertEquals(1, ticks, "Exactly one tick should have run.");
+    }
+
+    @Test
+    void testStallIsCaughtUp() {
+        int steps = gameLoop.advance(3 * STEP_NANOS);
+
+        assertEquals(3, steps, "A frame three steps long should run three ticks.");
+        assertEquals(0, gameLoop.getDroppedTicks(), "No ticks should be dropped within the catch-up limit.");
+    }
+
+    @Test
+    void testCatchUpIsLimited() {
+        gameLoop.setMaxCatchUpSteps(4);
+
+        int steps = gameLoop.advance(10 * STEP_NANOS);
+
+        assertEquals(4, steps, "No more than the catch-up limit should run in one frame.");
+        assertEquals(6, gameLoop.getDroppedTicks(), "The remaining backlog should be dropped.");
+        assertEquals(0, gameLoop.advance(0), "The dropped backlog should not run on the next frame.");
+        assertThrows(IllegalArgumentException.class, () -> gameLoop.setMaxCatchUpSteps(0),
+                "A non-positive catch-up limit should be rejected.");
+    }
+
+    @Test
+    void testStopDuringTickDiscardsAccumulatedTime() {
+        gameLoop = new GameLoop(() -> {
+            ticks++;
+            gameLoop.stop(); // E.g. a tick that ends the level
+        }, () -> { }, clock);
+
+        assertEquals(1, gameLoop.advance(3 * STEP_NANOS + STEP_NANOS / 2), "The loop should stop after the tick.");
+        assertEquals(0, gameLoop.getInterpolationAlpha(), 1e-9, "Stopping should leave nothing accumulated.");
+
+        assertEquals(1, gameLoop.advance(STEP_NANOS), "One step after stopping should run exactly one tick.");
+        assertEquals(2, ticks, "Only the ticks of whole steps should have run.");
+    }
+
+    @Test
+    void testLoopDoesNotAdvanceClock() {
+        clock.reset();
+
+        gameLoop.advance(3 * STEP_NANOS);
+
+        assertEquals(3, ticks, "Three steps should run three ticks.");
+        assertEquals(0, clock.getTickCount(), "Only the tick action should count simulated ticks.");
+    }
+
+    @Test
+    void testHigherTickRateKeepsSimulatedSpeed() {
+        clock.setTickRate(60);
+        double distance = 0;
+        for (int i = 0; i < 60; i++) {
+            distance += clock.perTick(120);
+        }
+
+        assertEquals(120, distance, 1e-9, "One second of ticks should cover the per-second speed.");
+        assertEquals(30, clock.ticksFor(0.5), "Half a second should last thirty ticks at 60 Hz.");
+        assertEquals(1 - Math.exp(-0.2 / 60), clock.chancePerTick(0.2), 1e-12,
+                "Event rates should be converted into per-tick probabilities.");
+    }
+}
@@ -2,6 +2,7 @@ package com.example.demo.gameplay;
 
 import com.example.demo.actors.enemies.EnemySpider;
 import com.example.demo.ui.gameplayUI.LevelView;
+import com.example.demo.ui.gameplayUI.SceneLayers;
 import com.example.demo.managers.GameStateManager;
 import com.example.demo.JavaFXInitializer;
 import javafx.application.Platform;
@@ -64,7 +65,8 @@ class LevelOneTest extends JavaFXInitializer {
     void testFriendlyUnitsInitialization() {
         Platform.runLater(() -> {
             levelOne.initializeFriendlyUnits();
-            assertTrue(root.getChildren().contains(levelOne.getUser()), "Root should contain the user's superman.");
+            assertTrue(levelOne.getLayer(SceneLayers.Layer.FRIENDLY_UNITS).getChildren().contains(levelOne.getUser()),
+                    "Friendly unit layer should contain the user's superman.");
         });
     }
 
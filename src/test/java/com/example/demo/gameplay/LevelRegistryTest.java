@@ -0,0 +1,72 @@
+package com.example.demo.gameplay;
+
+import com.example.demo.managers.AssetManifest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelRegistryTest {
+
+    @Test
+    void testGameLevelsFormOneChain() {
+        LevelRegistry registry = LevelRegistry.getInstance();
+
+        assertEquals(LevelId.LEVEL_ONE, registry.getFirstLevel());
+        assertEquals(LevelId.LEVEL_TWO, registry.get(LevelId.LEVEL_ONE).successor());
+        assertEquals(LevelId.LEVEL_THREE, registry.get(LevelId.LEVEL_TWO).successor());
+        assertFalse(registry.get(LevelId.LEVEL_THREE).hasSuccessor(), "The final level should have no successor.");
+        assertEquals(LevelId.values().length, registry.getDefinitions().size(), "Every level should be registered.");
+    }
+
+    @Test
+    void testDisplayNamesAreKept() {
+        LevelRegistry registry = LevelRegistry.getInstance();
+
+        assertEquals("Level 1", registry.get(LevelId.LEVEL_ONE).displayName());
+        assertEquals("Level 2", registry.get(LevelId.LEVEL_TWO).displayName());
+        assertEquals("Final Level", registry.get(LevelId.LEVEL_THREE).displayName());
+    }
+
+    @Test
+    void testLevelManifestsIncludeTheirSprites() {
+        AssetManifest levelTwo = LevelRegistry.getInstance().get(LevelId.LEVEL_TWO).assets().get();
+
+        assertTrue(levelTwo.images().contains("/com/example/demo/images/background2.png"));
+        assertTrue(levelTwo.images().contains("/com/example/demo/images/enemyboss.png"));
+        assertTrue(levelTwo.media().contains("/com/example/demo/sounds/Background.mp3"));
+    }
+
+    @Test
+    void testUnregisteredSuccessorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new LevelRegistry(LevelId.LEVEL_ONE,
+                        List.of(definition(LevelId.LEVEL_ONE, LevelId.LEVEL_TWO))),
+                "A successor that is not registered should be rejected when the registry is built.");
+    }
+
+    @Test
+    void testUnregisteredFirstLevelIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new LevelRegistry(LevelId.LEVEL_TWO,
+                List.of(definition(LevelId.LEVEL_ONE, null))));
+    }
+
+    @Test
+    void testDuplicateLevelIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new LevelRegistry(LevelId.LEVEL_ONE,
+                List.of(definition(LevelId.LEVEL_ONE, null), definition(LevelId.LEVEL_ONE, null))));
+    }
+
+    @Test
+    void testLoopingChainIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new LevelRegistry(LevelId.LEVEL_ONE,
+                        List.of(definition(LevelId.LEVEL_ONE, LevelId.LEVEL_TWO),
+                                definition(LevelId.LEVEL_TWO, LevelId.LEVEL_ONE))),
+                "A chain of levels that never ends should be rejected.");
+    }
+
+    private static LevelRegistry.LevelDefinition definition(LevelId id, LevelId successor) {
+        return new LevelRegistry.LevelDefinition(id, id.name(), (height, width, stage) -> null,
+                AssetManifest::ofImages, successor);
+    }
+}
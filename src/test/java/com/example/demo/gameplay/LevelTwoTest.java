@@ -1,6 +1,7 @@
 package com.example.demo.gameplay;
 
 import com.example.demo.ui.gameplayUI.LevelView;
+import com.example.demo.ui.gameplayUI.SceneLayers;
 import com.example.demo.JavaFXInitializer;
 import com.example.demo.managers.GameStateManager;
 import javafx.scene.control.Label;
@@ -64,7 +65,8 @@ class LevelTwoTest extends JavaFXInitializer {
     void testFriendlyUnitsInitialization() {
         Platform.runLater(() -> {
             levelTwo.initializeFriendlyUnits();
-            assertTrue(root.getChildren().contains(levelTwo.getUser()), "Root should contain the user's superman.");
+            assertTrue(levelTwo.getLayer(SceneLayers.Layer.FRIENDLY_UNITS).getChildren().contains(levelTwo.getUser()),
+                    "Friendly unit layer should contain the user's superman.");
         });
     }
 
@@ -95,11 +97,11 @@ class LevelTwoTest extends JavaFXInitializer {
     @Test
     void testShieldAlertInitialization() {
         Platform.runLater(() -> {
-            Label shieldAlert = (Label) root.getChildren().stream()
+            Label shieldAlert = (Label) levelTwo.getLayer(SceneLayers.Layer.EFFECTS).getChildren().stream()
                     .filter(node -> node instanceof Label)
                     .findFirst()
                     .orElse(null);
-            assertNotNull(shieldAlert, "Shield alert label should be added to the root.");
+            assertNotNull(shieldAlert, "Shield alert label should be added to the effects layer.");
             assertFalse(shieldAlert.isVisible(), "Shield alert should initially be invisible.");
             assertEquals("Arial", shieldAlert.getFont().getName(), "Font name should be Arial.");
         });
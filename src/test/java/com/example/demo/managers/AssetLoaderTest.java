@@ -0,0 +1,59 @@
+package com.example.demo.managers;
+
+import com.example.demo.JavaFXInitializer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetLoaderTest extends JavaFXInitializer {
+
+    private static final String USER = "/com/example/demo/images/user.png";
+    private static final String ENEMY = "/com/example/demo/images/enemy.png";
+    private static final String MISSING = "/com/example/demo/images/missing.png";
+
+    @BeforeAll
+    static void initializeJavaFX() {
+        JavaFXInitializer.initialize();
+    }
+
+    @BeforeEach
+    void setUp() {
+        SpriteCache.getInstance().clear(); // Start every test with an empty cache
+    }
+
+    @Test
+    void testPreloadDecodesImagesIntoSpriteCache() throws Exception {
+        List<Double> progress = new CopyOnWriteArrayList<>();
+
+        AssetLoader.getInstance().preload(AssetManifest.ofImages(USER, ENEMY), progress::add).get(10, TimeUnit.SECONDS);
+
+        assertEquals(2, SpriteCache.getInstance().getMissCount(), "Both images should have been decoded.");
+        SpriteCache.getInstance().getImage(USER);
+        assertEquals(1, SpriteCache.getInstance().getHitCount(), "A preloaded image should be a cache hit.");
+        assertEquals(2, progress.size(), "Progress should be reported once per asset.");
+        assertEquals(1.0, progress.stream().mapToDouble(Double::doubleValue).max().orElse(0), 1e-9,
+                "Progress should end at one.");
+    }
+
+    @Test
+    void testMissingAssetDoesNotStopPreload() throws Exception {
+        List<Double> progress = new CopyOnWriteArrayList<>();
+
+        AssetLoader.getInstance().preload(AssetManifest.ofImages(MISSING, USER), progress::add).get(10, TimeUnit.SECONDS);
+
+        assertEquals(1, SpriteCache.getInstance().getMissCount(), "The existing image should still be decoded.");
+        assertEquals(2, progress.size(), "A failed asset should still count towards progress.");
+    }
+
+    @Test
+    void testMissingMediaThrows() {
+        assertThrows(IllegalArgumentException.class, () -> AssetLoader.getInstance().getMedia("/com/example/demo/sounds/missing.mp3"),
+                "Requesting missing media should throw.");
+    }
+}
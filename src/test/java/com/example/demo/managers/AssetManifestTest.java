@@ -0,0 +1,42 @@
+package com.example.demo.managers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetManifestTest {
+
+    @Test
+    void testPlusKeepsFirstOccurrenceOfEveryEntry() {
+        AssetManifest common = new AssetManifest(List.of("/a.png", "/b.png"), List.of("/music.mp3"));
+        AssetManifest level = new AssetManifest(List.of("/b.png", "/c.png"), List.of("/music.mp3"));
+
+        AssetManifest combined = common.plus(level);
+
+        assertEquals(List.of("/a.png", "/b.png", "/c.png"), combined.images(), "Duplicate images should be dropped.");
+        assertEquals(List.of("/music.mp3"), combined.media(), "Duplicate media should be dropped.");
+        assertEquals(4, combined.size());
+    }
+
+    @Test
+    void testManifestIsNotChangedByItsSourceLists() {
+        List<String> images = new ArrayList<>(List.of("/a.png"));
+        AssetManifest manifest = new AssetManifest(images, List.of());
+
+        images.add("/b.png");
+
+        assertEquals(List.of("/a.png"), manifest.images(), "The manifest should copy its lists.");
+        assertThrows(UnsupportedOperationException.class, () -> manifest.images().add("/c.png"));
+    }
+
+    @Test
+    void testOfImagesHasNoMedia() {
+        AssetManifest manifest = AssetManifest.ofImages("/a.png");
+
+        assertEquals(List.of("/a.png"), manifest.images());
+        assertTrue(manifest.media().isEmpty());
+    }
+}
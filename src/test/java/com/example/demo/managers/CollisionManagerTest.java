@@ -0,0 +1,120 @@
+package com.example.demo.managers;
+
+import com.example.demo.JavaFXInitializer;
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.simulation.ContactDetector;
+import com.example.demo.simulation.EntityKind;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollisionManagerTest extends JavaFXInitializer {
+
+    @BeforeAll
+    static void initializeJavaFX() {
+        JavaFXInitializer.initialize();
+    }
+
+    @Test
+    void testSpatialHashMatchesBruteForceWhenFirstListIsLarger() {
+        assertBroadphasesAgree(120, 15);
+    }
+
+    @Test
+    void testSpatialHashMatchesBruteForceWhenSecondListIsLarger() {
+        assertBroadphasesAgree(15, 120);
+    }
+
+    @Test
+    void testSpatialHashMatchesBruteForceForEqualLists() {
+        assertBroadphasesAgree(60, 60);
+    }
+
+    @Test
+    void testPairsKeepTheirListOrder() {
+        ActorMock first = new ActorMock(50, 0, 0);
+        ActorMock second = new ActorMock(50, 500, 500);
+        ActorMock overlapping = new ActorMock(50, 10, 10);
+
+        // The larger list is bucketed, the single actor queries it
+        List<ActiveActorDestructible[]> pairs =
+                collectPairs(ContactDetector.Broadphase.SPATIAL_HASH, List.of(first, second), List.of(overlapping));
+
+        assertEquals(1, pairs.size(), "Exactly one pair should collide.");
+        assertSame(first, pairs.get(0)[0], "The first actor of a pair should come from the first list.");
+        assertSame(overlapping, pairs.get(0)[1], "The second actor of a pair should come from the second list.");
+    }
+
+    /**
+     * Collects the pairs reported by both broadphases on several random layouts and checks they are identical.
+     *
+     * @param countA The number of actors in the first list.
+     * @param countB The number of actors in the second list.
+     */
+    private void assertBroadphasesAgree(int countA, int countB) {
+        for (long seed = 1; seed <= 5; seed++) {
+            Random random = new Random(seed);
+            List<ActiveActorDestructible> actorsA = randomActors(random, countA);
+            List<ActiveActorDestructible> actorsB = randomActors(random, countB);
+
+            List<ActiveActorDestructible[]> expected =
+                    collectPairs(ContactDetector.Broadphase.BRUTE_FORCE, actorsA, actorsB);
+            List<ActiveActorDestructible[]> actual =
+                    collectPairs(ContactDetector.Broadphase.SPATIAL_HASH, actorsA, actorsB);
+
+            assertFalse(expected.isEmpty(), "Layout " + seed + " should produce some collisions.");
+            assertEquals(expected.size(), actual.size(), "Both broadphases should find the same number of pairs.");
+            for (int i = 0; i < expected.size(); i++) {
+                assertSame(expected.get(i)[0], actual.get(i)[0], "Pair " + i + " should have the same first actor.");
+                assertSame(expected.get(i)[1], actual.get(i)[1], "Pair " + i + " should have the same second actor.");
+            }
+        }
+    }
+
+    private List<ActiveActorDestructible[]> collectPairs(
+            ContactDetector.Broadphase broadphase,
+            List<ActiveActorDestructible> actorsA,
+            List<ActiveActorDestructible> actorsB
+    ) {
+        CollisionManager collisionManager = new CollisionManager(null, null);
+        collisionManager.setBroadphase(broadphase);
+        List<ActiveActorDestructible[]> pairs = new ArrayList<>();
+        collisionManager.handleCollisions("test", actorsA, actorsB,
+                (actorA, actorB) -> pairs.add(new ActiveActorDestructible[] {actorA, actorB}));
+        return pairs;
+    }
+
+    private List<ActiveActorDestructible> randomActors(Random random, int count) {
+        List<ActiveActorDestructible> actors = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int height = 10 + random.nextInt(150);
+            actors.add(new ActorMock(height, random.nextDouble() * 1200, random.nextDouble() * 700));
+        }
+        return actors;
+    }
+
+    // Mock class for ActiveActorDestructible
+    private static class ActorMock extends ActiveActorDestructible {
+
+        public ActorMock(int imageHeight, double x, double y) {
+            super(EntityKind.ENEMY, "enemy.png", imageHeight, x, y);
+        }
+
+        @Override
+        public void updateActor() {
+        }
+
+        @Override
+        public void updatePosition() {
+        }
+
+        @Override
+        public void takeDamage() {
+        }
+    }
+}
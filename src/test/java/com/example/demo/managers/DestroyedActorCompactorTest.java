@@ -0,0 +1,103 @@
+package com.example.demo.managers;
+
+import com.example.demo.simulation.Entity;
+import com.example.demo.simulation.EntityHolder;
+import com.example.demo.simulation.EntityKind;
+import com.example.demo.simulation.EntityStore;
+import javafx.collections.ListChangeListener;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DestroyedActorCompactorTest {
+
+    private DestroyedActorCompactor compactor;
+    private EntityStore store;
+    private Group layer;
+    private List<NodeStub> actors;
+
+    @BeforeEach
+    void setUp() {
+        compactor = new DestroyedActorCompactor();
+        store = new EntityStore();
+        layer = new Group();
+        actors = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            NodeStub actor = new NodeStub(store);
+            actors.add(actor);
+            layer.getChildren().add(actor);
+        }
+    }
+
+    @Test
+    void testCompactKeepsSurvivorsInOrder() {
+        List<NodeStub> survivors = List.of(actors.get(0), actors.get(2), actors.get(5));
+        actors.get(1).getEntity().destroy();
+        actors.get(3).getEntity().destroy();
+        actors.get(4).getEntity().destroy();
+
+        int removed = compactor.compact(actors);
+
+        assertEquals(3, removed, "Three destroyed actors should be removed.");
+        assertEquals(survivors, actors, "Survivors should keep their relative order.");
+        assertEquals(3, store.size(), "Removed actors should free their slots in the store.");
+    }
+
+    @Test
+    void testFlushRemovesNodesInBulk() {
+        NodeStub destroyed = actors.get(2);
+        destroyed.getEntity().destroy();
+        int[] changes = {0};
+        layer.getChildren().addListener((ListChangeListener<Node>) change -> changes[0]++);
+
+        compactor.compact(actors);
+        assertTrue(layer.getChildren().contains(destroyed), "Nodes should stay until the compactor is flushed.");
+
+        assertEquals(1, compactor.flush(layer), "One node should be flushed.");
+        assertFalse(layer.getChildren().contains(destroyed), "Flushed node should leave the layer.");
+        assertEquals(5, layer.getChildren().size(), "Other nodes should remain in the layer.");
+        assertEquals(1, changes[0], "The removal should fire a single change event.");
+    }
+
+    @Test
+    void testCallbackCanKeepNodeInScene() {
+        actors.get(0).getEntity().destroy();
+        actors.get(1).getEntity().destroy();
+
+        compactor.compact(actors, actor -> actor != actors.get(0)); // Keep the first node, like a pooled actor
+        compactor.flush(layer);
+
+        assertEquals(4, actors.size(), "Both destroyed actors should leave the list.");
+        assertEquals(5, layer.getChildren().size(), "Only the second destroyed node should leave the layer.");
+    }
+
+    @Test
+    void testNothingDestroyedLeavesListUntouched() {
+        List<NodeStub> before = new ArrayList<>(actors);
+
+        assertEquals(0, compactor.compact(actors), "Nothing should be removed.");
+        assertEquals(0, compactor.flush(layer), "Nothing should be flushed.");
+        assertEquals(before, actors, "The list should be unchanged.");
+    }
+
+    // Minimal node backed by an entity in the shared store
+    private static class NodeStub extends Rectangle implements EntityHolder {
+        private final Entity entity = new Entity(EntityKind.ENEMY, 0, 0, 10, 10);
+
+        NodeStub(EntityStore store) {
+            entity.moveTo(store);
+        }
+
+        @Override
+        public Entity getEntity() {
+            return entity;
+        }
+    }
+}
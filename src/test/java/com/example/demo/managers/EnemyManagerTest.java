@@ -2,6 +2,7 @@ package com.example.demo.managers;
 
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.JavaFXInitializer;
+import com.example.demo.simulation.EntityKind;
 import javafx.application.Platform;
 import javafx.scene.Group;
 import org.junit.jupiter.api.BeforeAll;
@@ -57,6 +58,21 @@ class EnemyManagerTest extends JavaFXInitializer {
         assertTrue(enemy2.isUpdated(), "Enemy2 should have its `updateActor` method called.");
     }
 
+    @Test
+    void testEnemiesWithoutTickBehaviorAreSkipped() {
+        ActiveActorDestructibleMock scripted = new ActiveActorDestructibleMock();
+        ActiveActorDestructibleMock kinematic = new ActiveActorDestructibleMock();
+        kinematic.tickBehavior = false;
+
+        enemyManager.addEnemy(scripted);
+        enemyManager.addEnemy(kinematic);
+
+        enemyManager.updateEnemies();
+
+        assertTrue(scripted.isUpdated(), "An enemy with per-tick behavior should be updated.");
+        assertFalse(kinematic.isUpdated(), "A purely kinematic enemy should not be updated individually.");
+    }
+
     @Test
     void testRemoveDestroyedEnemies() {
         ActiveActorDestructibleMock enemy1 = new ActiveActorDestructibleMock();
@@ -122,26 +138,21 @@ class EnemyManagerTest extends JavaFXInitializer {
 
     // Mock class for ActiveActorDestructible
     private static class ActiveActorDestructibleMock extends ActiveActorDestructible {
-        private boolean destroyed = false;
         private boolean updated = false;
+        private boolean tickBehavior = true;
 
         public ActiveActorDestructibleMock() {
-            super("enemy.png", 50, 0, 0);
+            super(EntityKind.ENEMY, "enemy.png", 50, 0, 0);
         }
 
         @Override
-        public void destroy() {
-            destroyed = true;
-        }
-
-        @Override
-        public boolean isDestroyed() {
-            return destroyed;
+        public void updateActor() {
+            updated = true;
         }
 
         @Override
-        public void updateActor() {
-            updated = true;
+        public boolean hasTickBehavior() {
+            return tickBehavior;
         }
 
         @Override
@@ -151,7 +162,7 @@ class EnemyManagerTest extends JavaFXInitializer {
 
         @Override
         public void takeDamage() {
-            destroyed = true;
+            destroy(); // The destroyed flag lives in the entity, where the store sees it
         }
 
         public boolean isUpdated() {
@@ -0,0 +1,46 @@
+package com.example.demo.managers;
+
+import com.example.demo.simulation.RandomStreams;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRandomTest {
+
+    @Test
+    void testLevelReplaysFromSameRunSeed() {
+        GameRandom random = GameRandom.getInstance();
+        random.setRunSeed(1234);
+
+        RandomStreams first = random.streamsForLevel("Level 1");
+        double firstDraw = first.get(RandomStreams.Stream.ENEMY_SPAWN).nextDouble();
+        first.get(RandomStreams.Stream.ENEMY_SPAWN).nextDouble(); // Advance the stream further
+        RandomStreams restarted = random.streamsForLevel("Level 1");
+
+        assertEquals(firstDraw, restarted.get(RandomStreams.Stream.ENEMY_SPAWN).nextDouble(),
+                "Restarting a level should restart its streams.");
+        assertNotSame(first.get(RandomStreams.Stream.ENEMY_SPAWN), restarted.get(RandomStreams.Stream.ENEMY_SPAWN),
+                "Each level's world should own its own generators.");
+    }
+
+    @Test
+    void testLevelSeedDependsOnRunSeedAndLevel() {
+        long levelOne = GameRandom.levelSeedFor(1234, "Level 1");
+
+        assertEquals(levelOne, GameRandom.levelSeedFor(1234, "Level 1"), "Level seeds should be reproducible.");
+        assertNotEquals(levelOne, GameRandom.levelSeedFor(1234, "Level 2"), "Each level should get its own seed.");
+        assertNotEquals(levelOne, GameRandom.levelSeedFor(1235, "Level 1"), "Each run seed should give new levels.");
+    }
+
+    @Test
+    void testLevelStreamsUseLevelSeed() {
+        GameRandom random = GameRandom.getInstance();
+        random.setRunSeed(99);
+
+        RandomStreams streams = random.streamsForLevel("Final Level");
+
+        assertEquals(GameRandom.levelSeedFor(99, "Final Level"), streams.getSeed(),
+                "The streams should be derived from the level seed.");
+        assertEquals(99, random.getRunSeed(), "Starting a level should keep the run seed.");
+    }
+}
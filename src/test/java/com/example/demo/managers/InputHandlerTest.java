@@ -3,6 +3,7 @@ package com.example.demo.managers;
 import com.example.demo.actors.player.UserSuperman;
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.JavaFXInitializer;
+import com.example.demo.simulation.EntityKind;
 import javafx.application.Platform;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
@@ -53,58 +54,149 @@ class InputHandlerTest extends JavaFXInitializer {
     @Test
     void testHandleKeyPress() {
         Platform.runLater(() -> {
-            // Simulate key presses and verify actions
-            inputHandler.handleKeyPress(new KeyEvent(KeyEvent.KEY_PRESSED, "", "", KeyCode.UP, false, false, false, false));
+            // Presses only take effect when the tick samples the keyboard
+            inputHandler.handleKeyPress(press(KeyCode.UP));
+            assertFalse(player.movedUp, "Key presses should wait for the next tick.");
+            inputHandler.sampleTick();
             assertTrue(player.movedUp, "Player should move up on UP key press.");
 
-            inputHandler.handleKeyPress(new KeyEvent(KeyEvent.KEY_PRESSED, "", "", KeyCode.DOWN, false, false, false, false));
+            inputHandler.handleKeyPress(press(KeyCode.DOWN));
+            inputHandler.sampleTick();
             assertTrue(player.movedDown, "Player should move down on DOWN key press.");
 
-            inputHandler.handleKeyPress(new KeyEvent(KeyEvent.KEY_PRESSED, "", "", KeyCode.LEFT, false, false, false, false));
+            inputHandler.handleKeyPress(press(KeyCode.LEFT));
+            inputHandler.sampleTick();
             assertTrue(player.movedLeft, "Player should move left on LEFT key press.");
 
-            inputHandler.handleKeyPress(new KeyEvent(KeyEvent.KEY_PRESSED, "", "", KeyCode.RIGHT, false, false, false, false));
+            inputHandler.handleKeyPress(press(KeyCode.RIGHT));
+            inputHandler.sampleTick();
             assertTrue(player.movedRight, "Player should move right on RIGHT key press.");
 
-            inputHandler.handleKeyPress(new KeyEvent(KeyEvent.KEY_PRESSED, "", "", KeyCode.SPACE, false, false, false, false));
-            assertTrue(player.firedProjectile, "Player should fire a projectile on SPACE key press.");
+            inputHandler.handleKeyPress(press(KeyCode.SPACE));
+            inputHandler.sampleTick();
+            assertEquals(1, player.projectilesFired, "Player should fire a projectile on SPACE key press.");
         });
     }
 
     @Test
     void testHandleKeyRelease() {
         Platform.runLater(() -> {
-            // Simulate key releases and verify actions
-            inputHandler.handleKeyRelease(new KeyEvent(KeyEvent.KEY_RELEASED, "", "", KeyCode.UP, false, false, false, false));
+            inputHandler.handleKeyPress(press(KeyCode.UP));
+            inputHandler.handleKeyPress(press(KeyCode.LEFT));
+            inputHandler.sampleTick();
+
+            inputHandler.handleKeyRelease(release(KeyCode.UP));
+            inputHandler.handleKeyRelease(release(KeyCode.LEFT));
+            inputHandler.sampleTick();
             assertTrue(player.stoppedVertical, "Player should stop vertical movement on UP key release.");
+            assertTrue(player.stoppedHorizontal, "Player should stop horizontal movement on LEFT key release.");
+        });
+    }
 
-            inputHandler.handleKeyRelease(new KeyEvent(KeyEvent.KEY_RELEASED, "", "", KeyCode.DOWN, false, false, false, false));
-            assertTrue(player.stoppedVertical, "Player should stop vertical movement on DOWN key release.");
+    @Test
+    void testReleasingOneOfTwoDirectionsMovesTheOtherWay() {
+        Platform.runLater(() -> {
+            inputHandler.handleKeyPress(press(KeyCode.LEFT));
+            inputHandler.handleKeyPress(press(KeyCode.RIGHT));
+            inputHandler.sampleTick();
+            assertTrue(player.movedRight, "The most recently pressed direction should win.");
+            assertFalse(player.movedLeft, "The earlier direction should be overridden.");
+
+            inputHandler.handleKeyRelease(release(KeyCode.RIGHT));
+            inputHandler.sampleTick();
+            assertTrue(player.movedLeft, "The player should move left again while LEFT is still held.");
+            assertFalse(player.stoppedHorizontal, "The player should not stop while LEFT is still held.");
+        });
+    }
 
-            inputHandler.handleKeyRelease(new KeyEvent(KeyEvent.KEY_RELEASED, "", "", KeyCode.LEFT, false, false, false, false));
-            assertTrue(player.stoppedHorizontal, "Player should stop horizontal movement on LEFT key release.");
+    @Test
+    void testOnlyMovementStartsAreReported() {
+        Platform.runLater(() -> {
+            inputHandler.handleKeyPress(press(KeyCode.UP));
+            assertTrue(inputHandler.sampleTick(), "Starting to move should be reported.");
+            assertFalse(inputHandler.sampleTick(), "Holding the key should not be reported again.");
+
+            inputHandler.handleKeyRelease(release(KeyCode.UP));
+            assertFalse(inputHandler.sampleTick(), "Stopping should not be reported as a movement start.");
+            assertTrue(player.stoppedVertical, "The player should still stop.");
+        });
+    }
+
+    @Test
+    void testShortTapIsNotLost() {
+        Platform.runLater(() -> {
+            inputHandler.handleKeyPress(press(KeyCode.SPACE));
+            inputHandler.handleKeyRelease(release(KeyCode.SPACE));
+            inputHandler.sampleTick();
+            assertEquals(1, player.projectilesFired, "A tap between two ticks should still fire.");
+        });
+    }
 
-            inputHandler.handleKeyRelease(new KeyEvent(KeyEvent.KEY_RELEASED, "", "", KeyCode.RIGHT, false, false, false, false));
-            assertTrue(player.stoppedHorizontal, "Player should stop horizontal movement on RIGHT key release.");
+    @Test
+    void testHeldFireRespectsCooldown() {
+        Platform.runLater(() -> {
+            int cooldownTicks = SimulationClock.getInstance().ticksFor(0.15);
+            inputHandler.handleKeyPress(press(KeyCode.SPACE));
+            for (int tick = 0; tick < cooldownTicks; tick++) {
+                inputHandler.handleKeyPress(press(KeyCode.SPACE)); // Key repeats
+                inputHandler.sampleTick();
+            }
+            assertEquals(1, player.projectilesFired, "Held fire should wait for the cooldown.");
+            inputHandler.sampleTick();
+            assertEquals(2, player.projectilesFired, "Held fire should fire again once the cooldown ends.");
         });
     }
 
     @Test
-    void testIgnoreInputWhenNotPlaying() {
+    void testTapWhileNotPlayingIsKeptForNextTick() {
         Platform.runLater(() -> {
             // Set game state to not playing
             gameStateManager.setPlaying(false);
 
-            // Simulate key press and release events
-            inputHandler.handleKeyPress(new KeyEvent(KeyEvent.KEY_PRESSED, "", "", KeyCode.UP, false, false, false, false));
-            inputHandler.handleKeyRelease(new KeyEvent(KeyEvent.KEY_RELEASED, "", "", KeyCode.UP, false, false, false, false));
+            // Simulate a tap during the pause
+            inputHandler.handleKeyPress(press(KeyCode.UP));
+            inputHandler.handleKeyRelease(release(KeyCode.UP));
+            assertFalse(player.movedUp, "Player should not move while the game is not being played.");
 
-            // Verify that no actions were performed
-            assertFalse(player.movedUp, "Player should not move up when the game is not in PLAYING state.");
-            assertFalse(player.stoppedVertical, "Player should not stop vertical movement when the game is not in PLAYING state.");
+            gameStateManager.setPlaying(true);
+            inputHandler.sampleTick();
+            assertTrue(player.movedUp, "A key tapped outside the PLAYING state should reach the next tick.");
+            inputHandler.sampleTick();
+            assertTrue(player.stoppedVertical, "The released key should stop the player on the tick after.");
         });
     }
 
+    @Test
+    void testReplayDrivesPlayerInsteadOfKeyboard() {
+        Platform.runLater(() -> {
+            ReplayManager replayManager = ReplayManager.getInstance();
+            InputRecording recording = new InputRecording(1, SimulationClock.getInstance().getTickRate());
+            recording.addLevel("Level 1").add(1, InputAction.MOVE_LEFT);
+            replayManager.startReplay(recording);
+            replayManager.startLevel("Level 1");
+            try {
+                inputHandler.handleKeyPress(press(KeyCode.UP));
+                inputHandler.sampleTick();
+                assertFalse(player.movedUp, "The keyboard should not move the player during a replay.");
+
+                replayManager.beginTick(inputHandler);
+                assertFalse(player.movedLeft, "Recorded actions should wait for their tick.");
+                replayManager.beginTick(inputHandler);
+                assertTrue(player.movedLeft, "Recorded actions should be applied at their tick.");
+            } finally {
+                replayManager.stop();
+            }
+        });
+    }
+
+    private static KeyEvent press(KeyCode code) {
+        return new KeyEvent(KeyEvent.KEY_PRESSED, "", "", code, false, false, false, false);
+    }
+
+    private static KeyEvent release(KeyCode code) {
+        return new KeyEvent(KeyEvent.KEY_RELEASED, "", "", code, false, false, false, false);
+    }
+
     // Stub Classes
 
     private static class UserSupermanStub extends UserSuperman {
@@ -112,7 +204,7 @@ class InputHandlerTest extends JavaFXInitializer {
         boolean movedDown = false;
         boolean movedLeft = false;
         boolean movedRight = false;
-        boolean firedProjectile = false;
+        int projectilesFired = 0;
         boolean stoppedVertical = false;
         boolean stoppedHorizontal = false;
 
@@ -142,10 +234,10 @@ class InputHandlerTest extends JavaFXInitializer {
 
         @Override
         public ActiveActorDestructible fireProjectile() {
-            firedProjectile = true;
+            projectilesFired++;
 
             // Return a dummy ActiveActorDestructible instance
-            return new ActiveActorDestructible("userfire.png", 0, 0, 0) {
+            return new ActiveActorDestructible(EntityKind.USER_PROJECTILE, "userfire.png", 0, 0, 0) {
                 @Override
                 public void updatePosition() {
                     // No-op for testing
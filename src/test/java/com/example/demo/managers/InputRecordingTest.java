@@ -0,0 +1,78 @@
+package com.example.demo.managers;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputRecordingTest {
+
+    @Test
+    void testWriteAndReadRoundTrip() throws IOException {
+        InputRecording recording = new InputRecording(-42, 60);
+        InputRecording.LevelInput first = recording.addLevel("Level 1");
+        first.add(0, InputAction.MOVE_UP);
+        first.add(0, InputAction.FIRE);
+        first.add(1_000_000, InputAction.STOP_VERTICAL);
+        recording.addLevel("Level 2").add(7, InputAction.MOVE_RIGHT);
+
+        InputRecording copy = roundTrip(recording);
+
+        assertEquals(-42, copy.getRunSeed(), "The run seed should be preserved.");
+        assertEquals(60, copy.getTickRate(), "The tick rate should be preserved.");
+        assertEquals(2, copy.getLevels().size(), "Every level should be preserved.");
+        InputRecording.LevelInput level = copy.getLevels().get(0);
+        assertEquals("Level 1", level.getLevelName());
+        assertEquals(3, level.size());
+        assertEquals(InputAction.FIRE, level.getAction(1), "Events on the same tick should keep their order.");
+        assertEquals(1_000_000, level.getTick(2), "Large tick gaps should be preserved.");
+        assertEquals(InputAction.MOVE_RIGHT, copy.getLevels().get(1).getAction(0));
+    }
+
+    @Test
+    void testEventsWithShortGapsTakeTwoBytes() throws IOException {
+        InputRecording empty = new InputRecording(0, 20);
+        empty.addLevel("Level 1");
+        InputRecording full = new InputRecording(0, 20);
+        InputRecording.LevelInput level = full.addLevel("Level 1");
+        for (int i = 0; i < 100; i++) {
+            level.add(i * 10L, InputAction.FIRE);
+        }
+
+        int bytesPerEvent = (size(full) - size(empty)) / 100; // Both event counts fit in one byte
+
+        assertEquals(2, bytesPerEvent, "An event should take one byte of tick gap and one of action.");
+    }
+
+    @Test
+    void testRejectsEventsOutOfTickOrder() {
+        InputRecording.LevelInput level = new InputRecording(0, 20).addLevel("Level 1");
+        level.add(5, InputAction.FIRE);
+
+        assertThrows(IllegalArgumentException.class, () -> level.add(4, InputAction.FIRE),
+                "Events should only be added in tick order.");
+    }
+
+    @Test
+    void testRejectsOtherData() {
+        byte[] data = "not a recording".getBytes();
+
+        assertThrows(IOException.class, () -> InputRecording.read(new ByteArrayInputStream(data)),
+                "Data without the header should be rejected.");
+    }
+
+    private static InputRecording roundTrip(InputRecording recording) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recording.write(out);
+        return InputRecording.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    private static int size(InputRecording recording) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recording.write(out);
+        return out.size();
+    }
+}
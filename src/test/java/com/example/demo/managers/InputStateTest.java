@@ -0,0 +1,58 @@
+package com.example.demo.managers;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputStateTest {
+
+    @Test
+    void testHeldControlIsInEverySample() {
+        InputState state = new InputState();
+        state.press(InputState.Control.FIRE);
+
+        assertTrue(InputState.Control.FIRE.isIn(state.sample()));
+        assertTrue(InputState.Control.FIRE.isIn(state.sample()), "A held control should stay set.");
+
+        state.release(InputState.Control.FIRE);
+        assertFalse(InputState.Control.FIRE.isIn(state.sample()));
+    }
+
+    @Test
+    void testTapBetweenSamplesIsSampledOnce() {
+        InputState state = new InputState();
+        state.press(InputState.Control.UP);
+        state.release(InputState.Control.UP);
+
+        int sample = state.sample();
+        assertTrue(InputState.Control.UP.isIn(sample), "A tap shorter than a tick should not be lost.");
+        assertEquals(InputState.Control.UP, state.vertical(sample));
+        assertNull(state.vertical(state.sample()), "The tap should only count for one sample.");
+    }
+
+    @Test
+    void testMostRecentDirectionWinsOnEachAxis() {
+        InputState state = new InputState();
+        state.press(InputState.Control.LEFT);
+        state.press(InputState.Control.RIGHT);
+        state.press(InputState.Control.DOWN);
+
+        int sample = state.sample();
+        assertEquals(InputState.Control.RIGHT, state.horizontal(sample));
+        assertEquals(InputState.Control.DOWN, state.vertical(sample));
+
+        state.release(InputState.Control.RIGHT);
+        assertEquals(InputState.Control.LEFT, state.horizontal(state.sample()),
+                "Releasing the later direction should fall back to the one still held.");
+    }
+
+    @Test
+    void testClearReleasesEverything() {
+        InputState state = new InputState();
+        state.press(InputState.Control.UP);
+        state.press(InputState.Control.FIRE);
+        state.clear();
+
+        assertEquals(0, state.sample());
+    }
+}
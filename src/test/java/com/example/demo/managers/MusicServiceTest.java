@@ -0,0 +1,107 @@
+package com.example.demo.managers;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.util.Duration;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MusicServiceTest {
+
+    private static final String MENU_TRACK = "/menu.mp3";
+    private static final String BOSS_TRACK = "/boss.mp3";
+
+    private final List<FakeTrack> created = new ArrayList<>();
+    private final MusicService music = new MusicService(path -> {
+        FakeTrack track = new FakeTrack();
+        created.add(track);
+        return track;
+    }, Duration.ZERO);
+
+    @Test
+    void testSameTrackKeepsItsPlayer() {
+        music.play(MENU_TRACK, 1.0);
+        music.stop();
+        music.play(MENU_TRACK, 0.6);
+
+        assertEquals(1, created.size(), "Playing the same track again should reuse its player.");
+        assertEquals(1, music.getLivePlayerCount());
+        assertTrue(created.get(0).playing);
+        assertEquals(0.6, created.get(0).volume.get(), 1e-9, "The new volume should be applied.");
+    }
+
+    @Test
+    void testSwitchingTracksDisposesTheOldPlayer() {
+        music.play(MENU_TRACK, 1.0);
+        music.play(BOSS_TRACK, 1.0);
+
+        assertEquals(2, created.size());
+        assertTrue(created.get(0).disposed, "The previous track's player should be disposed.");
+        assertFalse(created.get(1).disposed);
+        assertEquals(1, music.getLivePlayerCount(), "Only the current track's player should be live.");
+        assertEquals(BOSS_TRACK, music.getCurrentTrack());
+    }
+
+    @Test
+    void testMuteIsAppliedToNewPlayers() {
+        music.setMuted(true);
+        music.play(MENU_TRACK, 1.0);
+
+        assertTrue(created.get(0).muted, "A new player should start muted.");
+        music.setMuted(false);
+        assertFalse(created.get(0).muted);
+        assertEquals(1.0, created.get(0).volume.get(), 1e-9, "Muting should not change the volume.");
+    }
+
+    @Test
+    void testShutdownReleasesEveryPlayer() {
+        music.play(MENU_TRACK, 1.0);
+        music.shutdown();
+
+        assertTrue(created.get(0).disposed);
+        assertEquals(0, music.getLivePlayerCount());
+        assertNull(music.getCurrentTrack());
+    }
+
+    private static final class FakeTrack implements MusicService.Track {
+
+        private final DoubleProperty volume = new SimpleDoubleProperty(1);
+        private boolean playing;
+        private boolean muted;
+        private boolean disposed;
+
+        @Override
+        public void play() {
+            playing = true;
+        }
+
+        @Override
+        public void pause() {
+            playing = false;
+        }
+
+        @Override
+        public void stop() {
+            playing = false;
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public void setMute(boolean mute) {
+            muted = mute;
+        }
+
+        @Override
+        public DoubleProperty volumeProperty() {
+            return volume;
+        }
+    }
+}
@@ -114,6 +114,11 @@ class PowerUpManagerTest extends JavaFXInitializer {
             updatePosition(); // Call updatePosition for testing
         }
 
+        @Override
+        public boolean hasTickBehavior() {
+            return true; // Unlike a plain power-up, the stub does work in updateActor()
+        }
+
         @Override
         public void takeDamage() {
             setDestroyed(true); // Mark as destroyed when taking damage
@@ -121,7 +126,7 @@ class PowerUpManagerTest extends JavaFXInitializer {
 
 
         public void setDestroyed(boolean destroyed) {
-            this.isDestroyed = destroyed;
+            getEntity().setDestroyed(destroyed);
         }
     }
 }
@@ -3,6 +3,7 @@ package com.example.demo.managers;
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.enemies.FighterSpider;
 import com.example.demo.JavaFXInitializer;
+import com.example.demo.simulation.EntityKind;
 import javafx.application.Platform;
 import javafx.scene.Group;
 import org.junit.jupiter.api.AfterEach;
@@ -122,13 +123,35 @@ class ProjectileManagerTest extends JavaFXInitializer {
         });
     }
 
+    @Test
+    void testProjectilesAreAddedToTheirOwnLayers() {
+        Platform.runLater(() -> {
+            Group userLayer = new Group();
+            Group enemyLayer = new Group();
+            projectileManager.initialize(userLayer, enemyLayer);
+            ProjectileStub userProjectile = new ProjectileStub();
+            ProjectileStub enemyProjectile = new ProjectileStub();
+
+            projectileManager.addUserProjectile(userProjectile);
+            projectileManager.addEnemyProjectile(enemyProjectile);
+
+            assertSame(userLayer, userProjectile.getParent(), "User projectile should be in the user layer.");
+            assertSame(enemyLayer, enemyProjectile.getParent(), "Enemy projectile should be in the enemy layer.");
+
+            projectileManager.clearAllProjectiles();
+
+            assertTrue(userLayer.getChildren().isEmpty(), "User layer should be empty after clearing.");
+            assertTrue(enemyLayer.getChildren().isEmpty(), "Enemy layer should be empty after clearing.");
+        });
+    }
+
     // Stub Classes
 
     private static class ProjectileStub extends ActiveActorDestructible {
         boolean isUpdated = false;
 
         public ProjectileStub() {
-            super("enemyweb.png", 10, 0, 0); // Provide necessary parameters for constructor
+            super(EntityKind.USER_PROJECTILE, "enemyweb.png", 10, 0, 0); // Provide necessary parameters for constructor
         }
 
         @Override
@@ -148,7 +171,7 @@ class ProjectileManagerTest extends JavaFXInitializer {
 
         @Override
         public boolean isDestroyed() {
-            return isDestroyed;
+            return getEntity().isDestroyed();
         }
 
         @Override
@@ -157,7 +180,7 @@ class ProjectileManagerTest extends JavaFXInitializer {
         }
 
         public void setDestroyed(boolean destroyed) {
-            this.isDestroyed = destroyed;
+            getEntity().setDestroyed(destroyed);
         }
     }
 
@@ -165,7 +188,7 @@ class ProjectileManagerTest extends JavaFXInitializer {
         boolean hasFiredProjectile = false;
 
         public FighterSpiderStub() {
-            super("enemy.png", 100, 0, 0, 1); // Provide necessary parameters for constructor
+            super(EntityKind.ENEMY, "enemy.png", 100, 0, 0, 1); // Provide necessary parameters for constructor
         }
 
         @Override
@@ -0,0 +1,79 @@
+package com.example.demo.managers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayManagerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ReplayManager replayManager = ReplayManager.getInstance();
+
+    @AfterEach
+    void tearDown() {
+        replayManager.stop();
+    }
+
+    @Test
+    void testRecordedActionsAreStampedWithTicksPlayed() throws IOException {
+        Path file = tempDir.resolve("run.input");
+        replayManager.startRecording(file);
+        replayManager.startLevel("Level 1");
+
+        replayManager.record(InputAction.MOVE_UP); // Before the first tick
+        replayManager.beginTick(null);
+        replayManager.beginTick(null);
+        replayManager.record(InputAction.FIRE); // Before the third tick
+        replayManager.endLevel();
+
+        InputRecording.LevelInput level = InputRecording.load(file).getLevels().get(0);
+        assertEquals("Level 1", level.getLevelName());
+        assertEquals(2, level.size(), "Both actions should be written when the level ends.");
+        assertEquals(0, level.getTick(0));
+        assertEquals(2, level.getTick(1));
+        assertEquals(InputAction.FIRE, level.getAction(1));
+    }
+
+    @Test
+    void testReplayRestoresRunSeedAndTickRate() {
+        int tickRate = SimulationClock.getInstance().getTickRate();
+        try {
+            replayManager.startReplay(new InputRecording(777, 30));
+
+            assertEquals(777, GameRandom.getInstance().getRunSeed(), "The recorded run seed should be restored.");
+            assertEquals(30, SimulationClock.getInstance().getTickRate(), "The recorded tick rate should be restored.");
+            assertTrue(replayManager.isReplaying());
+        } finally {
+            SimulationClock.getInstance().setTickRate(tickRate);
+        }
+    }
+
+    @Test
+    void testReplayStopsOnUnexpectedLevel() {
+        InputRecording recording = new InputRecording(1, SimulationClock.getInstance().getTickRate());
+        recording.addLevel("Level 1");
+        replayManager.startReplay(recording);
+
+        replayManager.startLevel("Level 2");
+
+        assertEquals(ReplayManager.Mode.OFF, replayManager.getMode(),
+                "Replaying should stop when the recording does not match the level.");
+    }
+
+    @Test
+    void testNothingIsRecordedWhenOff() {
+        replayManager.startLevel("Level 1");
+        replayManager.record(InputAction.FIRE);
+        replayManager.beginTick(null);
+
+        assertEquals(ReplayManager.Mode.OFF, replayManager.getMode());
+        assertEquals(1, replayManager.getTicksPlayed(), "Ticks should be counted in every mode.");
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.demo.managers;
+
+import com.example.demo.JavaFXInitializer;
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpriteCacheTest extends JavaFXInitializer {
+
+    private static final String SPRITE = "/com/example/demo/images/userfire.png";
+
+    private SpriteCache spriteCache;
+
+    @BeforeAll
+    static void initializeJavaFX() {
+        JavaFXInitializer.initialize();
+    }
+
+    @BeforeEach
+    void setUp() {
+        spriteCache = SpriteCache.getInstance();
+        spriteCache.clear(); // Start every test with an empty cache
+    }
+
+    @Test
+    void testSameImageIsShared() {
+        Image first = spriteCache.getImage(SPRITE);
+        Image second = spriteCache.getImage(SPRITE);
+
+        assertSame(first, second, "Repeated requests for the same sprite should share one Image.");
+        assertEquals(1, spriteCache.size(), "Only one image should be cached.");
+    }
+
+    @Test
+    void testHitAndMissCounters() {
+        for (int i = 0; i < 5; i++) {
+            spriteCache.getImage(SPRITE); // A spread shot requests the same sprite five times
+        }
+
+        assertEquals(1, spriteCache.getMissCount(), "The sprite should be decoded exactly once.");
+        assertEquals(4, spriteCache.getHitCount(), "Subsequent requests should be cache hits.");
+    }
+
+    @Test
+    void testRequestedSizeIsPartOfKey() {
+        Image natural = spriteCache.getImage(SPRITE);
+        Image scaled = spriteCache.getImage(SPRITE, 0, 50);
+
+        assertNotSame(natural, scaled, "Different requested sizes should be cached separately.");
+        assertEquals(2, spriteCache.getMissCount(), "Each requested size should be decoded once.");
+    }
+
+    @Test
+    void testMissingResourceThrows() {
+        assertThrows(IllegalArgumentException.class, () -> spriteCache.getImage("/com/example/demo/images/missing.png"),
+                "Requesting a missing sprite should throw.");
+        assertEquals(0, spriteCache.getMissCount(), "A missing sprite should not be counted as a decode.");
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.demo.managers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VoiceManagerTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final List<String> stopped = new ArrayList<>();
+
+    @Test
+    void testSameTickRequestsAreCoalesced() {
+        VoiceManager voices = new VoiceManager(8, stopped::add);
+        voices.register("shoot", 4, 0, SECOND);
+
+        assertEquals(VoiceManager.Decision.PLAY, voices.request("shoot", 1, 0));
+        assertEquals(VoiceManager.Decision.COALESCED, voices.request("shoot", 1, 0));
+        assertEquals(VoiceManager.Decision.PLAY, voices.request("shoot", 2, 0), "A new tick should get a new voice.");
+
+        assertEquals(1, voices.getCoalescedCount());
+        assertEquals(2, voices.getActiveVoices());
+    }
+
+    @Test
+    void testPolyphonyCapDropsUntilVoicesFinish() {
+        VoiceManager voices = new VoiceManager(8, stopped::add);
+        voices.register("shoot", 2, 0, SECOND);
+
+        voices.request("shoot", 1, 0);
+        voices.request("shoot", 2, 0);
+        assertEquals(VoiceManager.Decision.DROPPED, voices.request("shoot", 3, 0), "The cap should be enforced.");
+        assertEquals(VoiceManager.Decision.PLAY, voices.request("shoot", 4, SECOND),
+                "A voice should be free again once its sound has finished.");
+
+        assertEquals(1, voices.getDroppedCount());
+        assertEquals(3, voices.getPlayedCount());
+    }
+
+    @Test
+    void testVoicesRetireInOrderAcrossManyPlays() {
+        VoiceManager voices = new VoiceManager(8, stopped::add);
+        voices.register("shoot", 3, 0, 3 * SECOND);
+
+        for (long tick = 0; tick < 100; tick++) {
+            assertEquals(VoiceManager.Decision.PLAY, voices.request("shoot", tick, tick * SECOND),
+                    "A voice should be free once the oldest one has finished, tick " + tick);
+            if (tick >= 2) {
+                assertEquals(VoiceManager.Decision.DROPPED, voices.request("shoot", tick + 1000, tick * SECOND + 1),
+                        "The cap should hold while three voices overlap, tick " + tick);
+            }
+        }
+
+        assertEquals(100, voices.getPlayedCount());
+        assertEquals(3, voices.getActiveVoices(), "Only the last three voices should still be playing.");
+    }
+
+    @Test
+    void testFullPoolStealsLowerPrioritySound() {
+        VoiceManager voices = new VoiceManager(2, stopped::add);
+        voices.register("shoot", 2, 0, SECOND);
+        voices.register("win", 1, 2, SECOND);
+
+        voices.request("shoot", 1, 0);
+        voices.request("shoot", 2, 0);
+
+        assertEquals(VoiceManager.Decision.PLAY, voices.request("win", 3, 0));
+        assertEquals(List.of("shoot"), stopped, "The lower-priority sound should be stopped.");
+        assertEquals(1, voices.getStolenCount());
+        assertEquals(1, voices.getActiveVoices(), "Stopping a sound should free all of its voices.");
+    }
+
+    @Test
+    void testFullPoolDropsEqualOrLowerPriority() {
+        VoiceManager voices = new VoiceManager(1, stopped::add);
+        voices.register("powerUp", 1, 1, SECOND);
+        voices.register("shoot", 1, 0, SECOND);
+
+        voices.request("powerUp", 1, 0);
+
+        assertEquals(VoiceManager.Decision.DROPPED, voices.request("shoot", 2, 0));
+        assertTrue(stopped.isEmpty(), "A lower-priority request should not steal.");
+    }
+
+    @Test
+    void testRejectsUnknownAndDuplicateSounds() {
+        VoiceManager voices = new VoiceManager(1, stopped::add);
+        voices.register("shoot", 1, 0, SECOND);
+
+        assertThrows(IllegalArgumentException.class, () -> voices.register("shoot", 1, 0, SECOND));
+        assertThrows(IllegalArgumentException.class, () -> voices.request("missing", 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new VoiceManager(0, stopped::add));
+    }
+}
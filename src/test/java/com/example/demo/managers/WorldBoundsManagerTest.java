@@ -0,0 +1,126 @@
+package com.example.demo.managers;
+
+import com.example.demo.JavaFXInitializer;
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.enemies.EnemySpider;
+import com.example.demo.projectiles.EnemyProjectile;
+import com.example.demo.projectiles.UserProjectile;
+import com.example.demo.simulation.World;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorldBoundsManagerTest extends JavaFXInitializer {
+
+    private WorldBoundsManager worldBoundsManager;
+
+    @BeforeAll
+    static void initializeJavaFX() {
+        JavaFXInitializer.initialize();
+    }
+
+    @BeforeEach
+    void setUp() {
+        worldBoundsManager = new WorldBoundsManager(1300, 750, 50);
+        worldBoundsManager.beginTick();
+    }
+
+    @Test
+    void testActorInsideWorldIsKept() {
+        UserProjectile projectile = new UserProjectile(600, 300);
+
+        assertFalse(worldBoundsManager.isOutOfBounds(projectile), "A projectile on screen should be inside the world.");
+    }
+
+    @Test
+    void testActorsLeavingWorldAreRetired() {
+        UserProjectile leftRight = new UserProjectile(1400, 300); // Past the right margin
+        EnemyProjectile leftLeft = new EnemyProjectile(-500, 300); // Past the left margin
+        UserProjectile onScreen = new UserProjectile(600, 300);
+        World world = new World(1300, 750, 50);
+        List.of(leftRight, leftLeft, onScreen).forEach(projectile -> projectile.getEntity().moveTo(world.getStore()));
+
+        int retired = worldBoundsManager.retireOutOfBounds(world);
+
+        assertEquals(2, retired, "Both off-screen projectiles should be retired.");
+        assertTrue(leftRight.isDestroyed(), "Projectile beyond the right edge should be destroyed.");
+        assertTrue(leftLeft.isDestroyed(), "Projectile beyond the left edge should be destroyed.");
+        assertFalse(onScreen.isDestroyed(), "On-screen projectile should not be destroyed.");
+    }
+
+    @Test
+    void testWorldRetiresProjectilesButNotEnemies() {
+        World world = new World(1300, 750, 50);
+        UserProjectile leaving = new UserProjectile(1400, 300); // Past the right margin
+        EnemySpider offScreenEnemy = new EnemySpider(world, 1400, 300); // Enemies are only removed by penetration
+        UserProjectile onScreen = new UserProjectile(600, 300);
+        leaving.getEntity().moveTo(world.getStore());
+        onScreen.getEntity().moveTo(world.getStore());
+
+        int retired = worldBoundsManager.retireOutOfBounds(world);
+
+        assertEquals(1, retired, "Only the off-screen projectile should be retired.");
+        assertTrue(leaving.isDestroyed(), "Projectile beyond the right edge should be destroyed.");
+        assertFalse(offScreenEnemy.isDestroyed(), "Enemies should not be retired by the world bounds.");
+        assertFalse(onScreen.isDestroyed(), "On-screen projectile should not be destroyed.");
+        assertEquals(1, worldBoundsManager.getRetiredCount(), "The retirement should be counted.");
+    }
+
+    @Test
+    void testMarginIsConfigurable() {
+        UserProjectile projectile = new UserProjectile(1400, 300);
+        worldBoundsManager.setMargin(200);
+
+        assertFalse(worldBoundsManager.isOutOfBounds(projectile), "Projectile should be kept within a wider margin.");
+        assertThrows(IllegalArgumentException.class, () -> worldBoundsManager.setMargin(-1),
+                "A negative margin should be rejected.");
+    }
+
+    @Test
+    void testMarginAppliesToWorld() {
+        World world = new World(1300, 750, 50); // The world's own margin does not bound a level
+        UserProjectile projectile = new UserProjectile(1400, 300);
+        projectile.getEntity().moveTo(world.getStore());
+
+        worldBoundsManager.setMargin(200);
+        assertEquals(0, worldBoundsManager.retireOutOfBounds(world), "Projectile should be kept within a wider margin.");
+        assertFalse(projectile.isDestroyed(), "Projectile inside the manager's margin should not be destroyed.");
+
+        worldBoundsManager.setMargin(50);
+        assertEquals(1, worldBoundsManager.retireOutOfBounds(world), "Projectile should be retired past the margin.");
+        assertTrue(projectile.isDestroyed(), "Projectile beyond the manager's margin should be destroyed.");
+    }
+
+    @Test
+    void testLiveCountsPerType() {
+        List<ActiveActorDestructible> projectiles = new ArrayList<>(List.of(
+                new UserProjectile(100, 100), new UserProjectile(200, 100), new EnemyProjectile(300, 100)));
+        List<ActiveActorDestructible> enemies =
+                new ArrayList<>(List.of(new EnemySpider(new World(1300, 750, 50), 1000, 100)));
+
+        worldBoundsManager.countLive(projectiles);
+        worldBoundsManager.countLive(enemies);
+
+        assertEquals(2, worldBoundsManager.getLiveCount(UserProjectile.class), "Two user projectiles should be live.");
+        assertEquals(1, worldBoundsManager.getLiveCount(EnemyProjectile.class), "One enemy projectile should be live.");
+        assertEquals(1, worldBoundsManager.getLiveCount(EnemySpider.class), "One enemy should be live.");
+        assertEquals(3, worldBoundsManager.getLiveCounts().size(), "Three actor types should be reported.");
+
+        worldBoundsManager.beginTick();
+        assertEquals(0, worldBoundsManager.getLiveCount(UserProjectile.class), "Counts should reset every tick.");
+    }
+
+    @Test
+    void testEnemyPenetration() {
+        EnemySpider enemy = new EnemySpider(new World(1300, 750, 50), 1300, 100);
+        assertFalse(worldBoundsManager.hasPenetratedDefenses(enemy), "A freshly spawned enemy has not penetrated.");
+
+        enemy.getEntity().moveBy(-1301, 0);
+        assertTrue(worldBoundsManager.hasPenetratedDefenses(enemy), "An enemy that crossed the stage has penetrated.");
+    }
+}
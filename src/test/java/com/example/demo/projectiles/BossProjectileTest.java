@@ -1,6 +1,8 @@
 package com.example.demo.projectiles;
 
+import com.example.demo.managers.SimulationClock;
 import com.example.demo.JavaFXInitializer;
+import com.example.demo.gameplay.LevelId;
 import com.example.demo.gameplay.LevelParent;
 import com.example.demo.ui.gameplayUI.LevelView;
 import javafx.application.Platform;
@@ -55,26 +57,28 @@ class BossProjectileTest extends JavaFXInitializer {
     @Test
     void updatePosition() {
         Platform.runLater(() -> {
-            double initialX = bossProjectile.getTranslateX();
+            double initialX = bossProjectile.getEntity().getDisplacementX();
 
             // Simulate position update
             bossProjectile.updatePosition();
 
             // Check if the projectile moved horizontally
-            assertTrue(bossProjectile.getTranslateX() < initialX, "BossProjectile should move horizontally.");
+            assertTrue(bossProjectile.getEntity().getDisplacementX() < initialX, "BossProjectile should move horizontally.");
         });
     }
 
     @Test
     void updateActor() {
         Platform.runLater(() -> {
-            double initialX = bossProjectile.getTranslateX();
+            double initialX = bossProjectile.getEntity().getDisplacementX();
 
-            // Simulate actor update (which includes position update)
+            // Simulate actor update, then run the movement pass of its store
             bossProjectile.updateActor();
+            assertEquals(initialX, bossProjectile.getEntity().getDisplacementX(), "updateActor should leave movement to the entity store.");
+            bossProjectile.getEntity().getStore().integrate(SimulationClock.getInstance().getStepSeconds());
 
             // Check if the projectile moved horizontally
-            assertTrue(bossProjectile.getTranslateX() < initialX, "BossProjectile should move horizontally when updating actor.");
+            assertTrue(bossProjectile.getEntity().getDisplacementX() < initialX, "BossProjectile should move horizontally in the store's movement pass.");
         });
     }
 
@@ -85,7 +89,7 @@ class BossProjectileTest extends JavaFXInitializer {
         Platform.runLater(() -> {
             try {
                 // Move projectile to trigger explosion
-                bossProjectile.setTranslateX(299);
+                bossProjectile.getEntity().moveBy(-651, 0); // 299 pixels from its spawn position
                 bossProjectile.updatePosition();
             } finally {
                 latch.countDown();
@@ -112,7 +116,7 @@ class BossProjectileTest extends JavaFXInitializer {
         private final Group root;
 
         public LevelParentStub(Group root) {
-            super("/com/example/demo/images/background2.png", 600, 800, 100, null, "Test Level");
+            super("/com/example/demo/images/background2.png", 600, 800, 100, null, LevelId.LEVEL_ONE);
             this.root = root;
         }
 
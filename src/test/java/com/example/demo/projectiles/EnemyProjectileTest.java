@@ -1,5 +1,6 @@
 package com.example.demo.projectiles;
 
+import com.example.demo.managers.SimulationClock;
 import com.example.demo.JavaFXInitializer;
 import javafx.application.Platform;
 import javafx.scene.Group;
@@ -51,13 +52,13 @@ class EnemyProjectileTest extends JavaFXInitializer {
         CountDownLatch latch = new CountDownLatch(1);
 
         Platform.runLater(() -> {
-            double initialX = enemyProjectile.getTranslateX(); // Get the initial X position
+            double initialX = enemyProjectile.getEntity().getDisplacementX(); // Get the initial X position
 
             // Update the projectile's position
             enemyProjectile.updatePosition();
 
             // Check that the projectile moved leftward
-            assertTrue(enemyProjectile.getTranslateX() < initialX, "EnemyProjectile should move leftward.");
+            assertTrue(enemyProjectile.getEntity().getDisplacementX() < initialX, "EnemyProjectile should move leftward.");
             latch.countDown();
         });
 
@@ -69,13 +70,15 @@ class EnemyProjectileTest extends JavaFXInitializer {
         CountDownLatch latch = new CountDownLatch(1);
 
         Platform.runLater(() -> {
-            double initialX = enemyProjectile.getTranslateX(); // Get the initial X position
+            double initialX = enemyProjectile.getEntity().getDisplacementX(); // Get the initial X position
 
-            // Update the actor (includes position update)
+            // Update the actor, then run the movement pass of its store
             enemyProjectile.updateActor();
+            assertEquals(initialX, enemyProjectile.getEntity().getDisplacementX(), "updateActor should leave movement to the entity store.");
+            enemyProjectile.getEntity().getStore().integrate(SimulationClock.getInstance().getStepSeconds());
 
             // Check that the projectile moved leftward
-            assertTrue(enemyProjectile.getTranslateX() < initialX, "EnemyProjectile should move leftward when updateActor is called.");
+            assertTrue(enemyProjectile.getEntity().getDisplacementX() < initialX, "EnemyProjectile should move leftward in the store's movement pass.");
             latch.countDown();
         });
 
@@ -86,8 +89,8 @@ class EnemyProjectileTest extends JavaFXInitializer {
     void testInitialPosition() {
         Platform.runLater(() -> {
             // Assert initial position matches the constructor values
-            assertEquals(0, enemyProjectile.getTranslateX(), "Initial X position should match the constructor value.");
-            assertEquals(0, enemyProjectile.getTranslateY(), "Initial Y position should match the constructor value.");
+            assertEquals(0, enemyProjectile.getEntity().getDisplacementX(), "Initial X position should match the constructor value.");
+            assertEquals(0, enemyProjectile.getEntity().getDisplacementY(), "Initial Y position should match the constructor value.");
         });
     }
 }
@@ -0,0 +1,73 @@
+package com.example.demo.projectiles;
+
+import com.example.demo.JavaFXInitializer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectilePoolTest extends JavaFXInitializer {
+
+    private ProjectilePool<UserProjectile> pool;
+
+    @BeforeAll
+    static void initializeJavaFX() {
+        JavaFXInitializer.initialize();
+    }
+
+    @BeforeEach
+    void setUp() {
+        pool = new ProjectilePool<>(UserProjectile.class, () -> new UserProjectile(0, 0));
+    }
+
+    @Test
+    void testAcquirePlacesProjectile() {
+        UserProjectile projectile = pool.acquire(120, 340);
+
+        assertEquals(120, projectile.getEntity().getX(), "Acquired projectile should be placed at the requested X.");
+        assertEquals(340, projectile.getEntity().getY(), "Acquired projectile should be placed at the requested Y.");
+        assertEquals(120, projectile.getLayoutX(), "Acquired projectile's node should be placed at the requested X.");
+        assertFalse(projectile.isDestroyed(), "Acquired projectile should not be destroyed.");
+        assertTrue(projectile.isVisible(), "Acquired projectile should be visible.");
+    }
+
+    @Test
+    void testReleasedProjectileIsReused() {
+        UserProjectile first = pool.acquire(0, 0);
+        first.updatePosition();
+        first.destroy();
+        assertTrue(first.recycle(), "Pooled projectile should be returned to its pool.");
+        assertFalse(first.isVisible(), "Released projectile should be hidden.");
+
+        UserProjectile second = pool.acquire(50, 60);
+
+        assertSame(first, second, "The released projectile should be reused.");
+        assertEquals(0, second.getEntity().getDisplacementX(), "Reused projectile should have its movement reset.");
+        assertEquals(0, second.getTranslateX(), "Reused projectile's node should have its movement reset.");
+        assertFalse(second.isDestroyed(), "Reused projectile should no longer be destroyed.");
+    }
+
+    @Test
+    void testMetrics() {
+        UserProjectile a = pool.acquire(0, 0);
+        UserProjectile b = pool.acquire(0, 0);
+        a.recycle();
+        b.recycle();
+        pool.acquire(0, 0);
+        pool.acquire(0, 0);
+
+        assertEquals(2, pool.getHighWaterMark(), "At most two projectiles were in use at once.");
+        assertEquals(4, pool.getAcquireCount(), "Four projectiles should have been acquired.");
+        assertEquals(2, pool.getMissCount(), "Only the first two acquisitions should create projectiles.");
+        assertEquals(0.5, pool.getMissRate(), 1e-9, "Half of the acquisitions should be misses.");
+        assertEquals(0, pool.getAvailableCount(), "All pooled projectiles should be in use.");
+    }
+
+    @Test
+    void testUnpooledProjectileIsNotRecycled() {
+        UserProjectile projectile = new UserProjectile(0, 0);
+
+        assertFalse(projectile.recycle(), "A projectile created outside a pool cannot be recycled.");
+    }
+}
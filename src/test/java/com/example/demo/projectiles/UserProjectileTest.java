@@ -1,5 +1,6 @@
 package com.example.demo.projectiles;
 
+import com.example.demo.managers.SimulationClock;
 import com.example.demo.JavaFXInitializer;
 import javafx.application.Platform;
 import javafx.scene.Group;
@@ -51,13 +52,13 @@ class UserProjectileTest extends JavaFXInitializer {
         CountDownLatch latch = new CountDownLatch(1);
 
         Platform.runLater(() -> {
-            double initialX = userProjectile.getTranslateX(); // Get the initial X position
+            double initialX = userProjectile.getEntity().getDisplacementX(); // Get the initial X position
 
             // Update the projectile's position
             userProjectile.updatePosition();
 
             // Check that the projectile moved to the right
-            assertTrue(userProjectile.getTranslateX() > initialX, "UserProjectile should move to the right.");
+            assertTrue(userProjectile.getEntity().getDisplacementX() > initialX, "UserProjectile should move to the right.");
             latch.countDown();
         });
 
@@ -69,13 +70,15 @@ class UserProjectileTest extends JavaFXInitializer {
         CountDownLatch latch = new CountDownLatch(1);
 
         Platform.runLater(() -> {
-            double initialX = userProjectile.getTranslateX(); // Get the initial X position
+            double initialX = userProjectile.getEntity().getDisplacementX(); // Get the initial X position
 
-            // Update the actor (includes position update)
+            // Update the actor, then run the movement pass of its store
             userProjectile.updateActor();
+            assertEquals(initialX, userProjectile.getEntity().getDisplacementX(), "updateActor should leave movement to the entity store.");
+            userProjectile.getEntity().getStore().integrate(SimulationClock.getInstance().getStepSeconds());
 
             // Check that the projectile moved to the right
-            assertTrue(userProjectile.getTranslateX() > initialX, "UserProjectile should move to the right when updateActor is called.");
+            assertTrue(userProjectile.getEntity().getDisplacementX() > initialX, "UserProjectile should move to the right in the store's movement pass.");
             latch.countDown();
         });
 
@@ -86,8 +89,8 @@ class UserProjectileTest extends JavaFXInitializer {
     void testInitialPosition() {
         Platform.runLater(() -> {
             // Assert initial position matches the constructor values
-            assertEquals(0, userProjectile.getTranslateX(), "Initial X position should match the constructor value.");
-            assertEquals(0, userProjectile.getTranslateY(), "Initial Y position should match the constructor value.");
+            assertEquals(0, userProjectile.getEntity().getDisplacementX(), "Initial X position should match the constructor value.");
+            assertEquals(0, userProjectile.getEntity().getDisplacementY(), "Initial Y position should match the constructor value.");
         });
     }
 }
@@ -0,0 +1,151 @@
+package com.example.demo.simulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityStoreTest {
+
+    private EntityStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new EntityStore(4);
+    }
+
+    @Test
+    void testIntegrateMovesOnlyLiveKinematicEntities() {
+        Entity moving = adopt(new Entity(EntityKind.USER_PROJECTILE, 0, 0, 10, 10), 100, 50, true);
+        Entity scripted = adopt(new Entity(EntityKind.BOSS, 0, 0, 10, 10), 100, 50, false);
+        Entity destroyed = adopt(new Entity(EntityKind.USER_PROJECTILE, 0, 0, 10, 10), 100, 50, true);
+        destroyed.destroy();
+
+        store.integrate(0.5);
+
+        assertEquals(50, moving.getX(), 1e-9, "Kinematic entity should move along its velocity.");
+        assertEquals(25, moving.getY(), 1e-9, "Kinematic entity should move along its velocity.");
+        assertEquals(0, scripted.getX(), "Non-kinematic entity should be left to its owner.");
+        assertEquals(0, destroyed.getX(), "Destroyed entity should not move.");
+    }
+
+    @Test
+    void testDestroyOutsideMarksOnlyEntitiesOutsideRegion() {
+        Entity inside = adopt(new Entity(EntityKind.ENEMY_PROJECTILE, 50, 50, 10, 10), 0, 0, true);
+        Entity outside = adopt(new Entity(EntityKind.ENEMY_PROJECTILE, -30, 50, 10, 10), 0, 0, true);
+        Entity touching = adopt(new Entity(EntityKind.ENEMY_PROJECTILE, -10, 50, 10, 10), 0, 0, true);
+
+        int retired = store.destroyOutside(0, 0, 100, 100);
+
+        assertEquals(1, retired, "Only the entity completely outside should be retired.");
+        assertFalse(inside.isDestroyed(), "Entity inside the region should be kept.");
+        assertTrue(outside.isDestroyed(), "Entity outside the region should be destroyed.");
+        assertFalse(touching.isDestroyed(), "Entity touching the edge should be kept.");
+        assertEquals(1, store.getDestroyedCount(), "The destroyed count should match.");
+    }
+
+    @Test
+    void testMoveToKeepsStateAndDetachFreesSlot() {
+        Entity entity = new Entity(EntityKind.ENEMY, 10, 20, 30, 40);
+        entity.setVelocity(-120, 0);
+        entity.setHealth(3);
+        entity.setKinematic(true);
+        entity.moveBy(5, 5);
+
+        entity.moveTo(store);
+
+        assertSame(store, entity.getStore(), "Entity should now live in the store.");
+        assertEquals(15, entity.getX(), "Position should survive the move.");
+        assertEquals(10, entity.getOriginX(), "Spawn origin should survive the move.");
+        assertEquals(-120, entity.getVelocityX(), "Velocity should survive the move.");
+        assertEquals(3, entity.getHealth(), "Health should survive the move.");
+        assertTrue(entity.isKinematic(), "Flags should survive the move.");
+        assertEquals(1, store.size(), "The store should hold one entity.");
+
+        entity.detach();
+
+        assertNotSame(store, entity.getStore(), "Detached entity should leave the store.");
+        assertEquals(0, store.size(), "Detaching should free the slot.");
+        assertEquals(15, entity.getX(), "Detached entity should keep its state.");
+    }
+
+    @Test
+    void testReleasedSlotsAreReusedAndStoreGrows() {
+        int first = store.allocate(EntityKind.ENEMY, 0, 0, 1, 1);
+        store.allocate(EntityKind.ENEMY, 0, 0, 1, 1);
+        store.release(first);
+
+        assertEquals(first, store.allocate(EntityKind.ENEMY, 0, 0, 1, 1), "A released slot should be reused.");
+
+        for (int i = 0; i < 10; i++) {
+            store.allocate(EntityKind.USER_PROJECTILE, i, 0, 1, 1);
+        }
+        assertEquals(12, store.size(), "Every allocation should be kept.");
+        assertTrue(store.getCapacity() >= 12, "The columns should grow to fit the entities.");
+        assertThrows(IllegalArgumentException.class, () -> store.release(99), "Releasing a free slot should fail.");
+    }
+
+    @Test
+    void testDestroyedCountFollowsFlagChanges() {
+        Entity first = adopt(new Entity(EntityKind.ENEMY, 0, 0, 10, 10), 0, 0, false);
+        Entity second = adopt(new Entity(EntityKind.ENEMY, -50, 0, 10, 10), 0, 0, false);
+
+        first.destroy();
+        first.destroy(); // Destroying twice counts once
+        assertEquals(1, store.getDestroyedCount(), "Destroying an entity should be counted once.");
+
+        store.destroyOutside(0, 0, 100, 100);
+        assertEquals(2, store.getDestroyedCount(), "Entities destroyed by a bulk pass should be counted.");
+
+        second.spawnAt(10, 10);
+        assertEquals(1, store.getDestroyedCount(), "Respawning should clear the destroyed flag.");
+
+        first.detach();
+        assertEquals(0, store.getDestroyedCount(), "Removing a destroyed entity should drop it from the count.");
+        assertEquals(1, store.size(), "Only the respawned entity should remain.");
+    }
+
+    @Test
+    void testEntitiesAreAllocatedInTheGivenStore() {
+        Entity entity = new Entity(store, EntityKind.USER_PROJECTILE, 10, 20, 5, 5);
+        Entity standalone = new Entity(EntityKind.USER_PROJECTILE, 10, 20, 5, 5);
+
+        assertSame(store, entity.getStore(), "A new entity should be allocated in the store it is given.");
+        assertNotSame(store, standalone.getStore(), "Without a store an entity should get a private one.");
+
+        entity.destroy();
+        entity.detach();
+        assertNotSame(store, entity.getStore(), "A detached entity should move to a private store.");
+        assertTrue(entity.isDestroyed(), "The detached entity should keep its state.");
+        assertEquals(0, store.size(), "Detaching should free the slot in the shared store.");
+    }
+
+    @Test
+    void testTenThousandProjectilesPerTick() {
+        EntityStore large = new EntityStore();
+        for (int i = 0; i < 10_000; i++) {
+            Entity projectile = new Entity(EntityKind.USER_PROJECTILE, 0, i % 700, 12, 6);
+            projectile.setVelocity(360, 0);
+            projectile.setKinematic(true);
+            projectile.moveTo(large);
+        }
+
+        for (int tick = 0; tick < 20; tick++) {
+            large.integrate(0.05);
+            large.destroyOutside(-100, -100, 1400, 850);
+        }
+
+        assertEquals(0, large.getDestroyedCount(), "No projectile should have left the world after one second.");
+        assertEquals(10_000, large.size(), "Every projectile should still be stored.");
+    }
+
+    /**
+     * Gives the entity a velocity and kinematic flag, then moves it into the store under test.
+     */
+    private Entity adopt(Entity entity, double velocityX, double velocityY, boolean kinematic) {
+        entity.setVelocity(velocityX, velocityY);
+        entity.setKinematic(kinematic);
+        entity.moveTo(store);
+        return entity;
+    }
+}
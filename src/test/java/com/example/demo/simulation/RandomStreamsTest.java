@@ -0,0 +1,73 @@
+package com.example.demo.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomStreamsTest {
+
+    @Test
+    void testSameSeedProducesSameNumbers() {
+        RandomStreams first = new RandomStreams(42);
+        RandomStreams second = new RandomStreams(42);
+
+        for (RandomStreams.Stream stream : RandomStreams.Stream.values()) {
+            for (int i = 0; i < 100; i++) {
+                assertEquals(first.get(stream).nextLong(), second.get(stream).nextLong(),
+                        stream + " should be reproducible from the seed.");
+            }
+        }
+    }
+
+    @Test
+    void testDrawingFromOneStreamDoesNotAffectAnother() {
+        RandomStreams untouched = new RandomStreams(7);
+        RandomStreams drained = new RandomStreams(7);
+
+        for (int i = 0; i < 1000; i++) {
+            drained.get(RandomStreams.Stream.ENEMY_FIRE).nextDouble();
+        }
+
+        assertEquals(untouched.get(RandomStreams.Stream.FRAGMENTS).nextLong(),
+                drained.get(RandomStreams.Stream.FRAGMENTS).nextLong(),
+                "Other streams should not depend on how much one stream was used.");
+    }
+
+    @Test
+    void testStreamsDifferFromEachOther() {
+        RandomStreams streams = new RandomStreams(7);
+
+        assertNotEquals(streams.get(RandomStreams.Stream.ENEMY_FIRE).nextLong(),
+                streams.get(RandomStreams.Stream.BOSS_FIRE).nextLong(),
+                "Each subsystem should get a stream of its own.");
+    }
+
+    @Test
+    void testShuffleIsDeterministicPermutation() {
+        List<Integer> first = new ArrayList<>(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+        List<Integer> second = new ArrayList<>(first);
+
+        RandomStreams.shuffle(first, new SplittableRandom(3));
+        RandomStreams.shuffle(second, new SplittableRandom(3));
+
+        assertEquals(first, second, "The same generator state should give the same order.");
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), first.stream().sorted().toList(),
+                "Shuffling should keep every element exactly once.");
+    }
+
+    @Test
+    void testArrayShuffleMatchesListShuffle() {
+        List<Double> list = new ArrayList<>(List.of(0.0, 1.0, 2.0, 3.0, 4.0, 5.0));
+        double[] array = {0, 1, 2, 3, 4, 5};
+
+        RandomStreams.shuffle(list, new SplittableRandom(11));
+        RandomStreams.shuffle(array, new SplittableRandom(11));
+
+        assertArrayEquals(list.stream().mapToDouble(Double::doubleValue).toArray(), array,
+                "Arrays and lists should be shuffled into the same order, so replays stay identical.");
+    }
+}
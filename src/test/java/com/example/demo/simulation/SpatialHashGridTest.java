@@ -0,0 +1,78 @@
+package com.example.demo.simulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialHashGridTest {
+
+    private SpatialHashGrid grid;
+
+    @BeforeEach
+    void setUp() {
+        grid = new SpatialHashGrid(100);
+    }
+
+    @Test
+    void testQueryFindsOverlappingCellsOnly() {
+        grid.insert(0, 10, 10, 50, 50);     // Cell (0, 0)
+        grid.insert(1, 510, 510, 550, 550); // Cell (5, 5)
+
+        int count = grid.query(20, 20, 40, 40);
+
+        assertEquals(1, count, "Only the box in the same cell should be a candidate.");
+        assertEquals(0, grid.getResult(0), "The nearby box should be reported.");
+    }
+
+    @Test
+    void testBoxSpanningCellsIsReportedOnce() {
+        grid.insert(3, 50, 50, 250, 250); // Spans nine cells
+
+        int count = grid.query(0, 0, 300, 300);
+
+        assertEquals(1, count, "A box in several cells should be reported only once per query.");
+        assertEquals(3, grid.getResult(0), "The spanning box should be reported by its id.");
+    }
+
+    @Test
+    void testResultsAreSortedById() {
+        grid.insert(7, 0, 0, 10, 10);
+        grid.insert(2, 20, 20, 30, 30);
+        grid.insert(5, 40, 40, 50, 50);
+
+        int count = grid.query(0, 0, 99, 99);
+
+        assertEquals(3, count, "All boxes in the cell should be candidates.");
+        assertArrayEquals(new int[] {2, 5, 7}, new int[] {grid.getResult(0), grid.getResult(1), grid.getResult(2)},
+                "Candidates should be reported in ascending id order.");
+    }
+
+    @Test
+    void testNegativeCoordinates() {
+        grid.insert(0, -150, -150, -120, -120);
+
+        assertEquals(1, grid.query(-140, -140, -130, -130), "Boxes left of and above the origin should be found.");
+        assertEquals(0, grid.query(10, 10, 20, 20), "Boxes across the origin should not share a cell.");
+    }
+
+    @Test
+    void testClearRemovesAllBoxes() {
+        for (int id = 0; id < 200; id++) {
+            grid.insert(id, id * 5, 0, id * 5 + 10, 10); // Forces the entry arrays to grow
+        }
+        assertEquals(200, grid.query(0, 0, 1010, 10), "Every inserted box should be found.");
+
+        grid.clear();
+
+        assertEquals(0, grid.query(0, 0, 1010, 10), "A cleared grid should report no candidates.");
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid(0),
+                "A non-positive cell size should be rejected.");
+        assertThrows(IllegalArgumentException.class, () -> grid.insert(-1, 0, 0, 1, 1),
+                "A negative id should be rejected.");
+    }
+}
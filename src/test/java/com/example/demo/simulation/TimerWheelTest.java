@@ -0,0 +1,123 @@
+package com.example.demo.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimerWheelTest {
+
+    @Test
+    void testTimerRunsAfterItsDelay() {
+        TimerWheel wheel = new TimerWheel(8);
+        List<Long> runs = new ArrayList<>();
+        wheel.schedule(3, () -> runs.add(wheel.getCurrentTick()));
+
+        advance(wheel, 2);
+        assertTrue(runs.isEmpty(), "The timer should not run before its delay.");
+        advance(wheel, 1);
+        assertEquals(List.of(3L), runs, "The timer should run on the third tick.");
+        advance(wheel, 10);
+        assertEquals(1, runs.size(), "The timer should run only once.");
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    void testTimersBeyondOneRevolutionWaitForTheirTick() {
+        TimerWheel wheel = new TimerWheel(8);
+        List<String> runs = new ArrayList<>();
+        wheel.schedule(2, () -> runs.add("near"));
+        wheel.schedule(18, () -> runs.add("far")); // Same slot as the near timer, two revolutions later
+
+        advance(wheel, 10);
+        assertEquals(List.of("near"), runs, "The far timer should be skipped while its tick has not come.");
+        advance(wheel, 8);
+        assertEquals(List.of("near", "far"), runs, "The far timer should run on its own tick.");
+    }
+
+    @Test
+    void testTimersOnSameTickRunInSchedulingOrder() {
+        TimerWheel wheel = new TimerWheel(8);
+        List<Integer> runs = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int index = i;
+            wheel.schedule(4, () -> runs.add(index));
+        }
+
+        advance(wheel, 4);
+
+        assertEquals(List.of(0, 1, 2, 3, 4), runs, "Timers due together should keep their order.");
+    }
+
+    @Test
+    void testCancelledTimerDoesNotRun() {
+        TimerWheel wheel = new TimerWheel(8);
+        List<String> runs = new ArrayList<>();
+        TimerWheel.Timer timer = wheel.schedule(2, () -> runs.add("cancelled"));
+
+        assertTrue(timer.cancel(), "A pending timer should be cancellable.");
+        assertFalse(timer.cancel(), "A timer should only be cancelled once.");
+        advance(wheel, 5);
+
+        assertTrue(runs.isEmpty(), "A cancelled timer should not run.");
+        assertFalse(timer.isPending());
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    void testActionCanCancelTimerDueOnSameTick() {
+        TimerWheel wheel = new TimerWheel(8);
+        List<String> runs = new ArrayList<>();
+        TimerWheel.Timer[] second = new TimerWheel.Timer[1];
+        wheel.schedule(1, () -> {
+            runs.add("first");
+            second[0].cancel();
+        });
+        second[0] = wheel.schedule(1, () -> runs.add("second"));
+
+        wheel.advance();
+
+        assertEquals(List.of("first"), runs, "A timer cancelled by an earlier action should not run.");
+    }
+
+    @Test
+    void testActionCanScheduleAnotherTimer() {
+        TimerWheel wheel = new TimerWheel(8);
+        List<Long> runs = new ArrayList<>();
+        wheel.schedule(1, () -> wheel.schedule(8, () -> runs.add(wheel.getCurrentTick())));
+
+        advance(wheel, 9);
+
+        assertEquals(List.of(9L), runs, "A timer scheduled from an action should run on its own tick.");
+    }
+
+    @Test
+    void testCancelAllDropsEveryTimer() {
+        TimerWheel wheel = new TimerWheel(8);
+        List<String> runs = new ArrayList<>();
+        TimerWheel.Timer timer = wheel.schedule(1, () -> runs.add("a"));
+        wheel.schedule(20, () -> runs.add("b"));
+
+        wheel.cancelAll();
+        advance(wheel, 30);
+
+        assertTrue(runs.isEmpty(), "No timer should run after cancelAll.");
+        assertFalse(timer.isPending());
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    void testRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TimerWheel(6), "Slot counts must be powers of two.");
+        assertThrows(IllegalArgumentException.class, () -> new TimerWheel(8).schedule(0, () -> { }),
+                "Delays must be at least one tick.");
+    }
+
+    private static void advance(TimerWheel wheel, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            wheel.advance();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.demo.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorldTest {
+
+    @Test
+    void testStepIntegratesVelocity() {
+        World world = new World(1300, 750, 100);
+        Entity entity = world.add(new Entity(EntityKind.USER_PROJECTILE, 100, 200, 10, 10));
+        entity.setVelocity(360, -60);
+
+        world.step(0.5);
+
+        assertEquals(280, entity.getX(), 1e-9, "Entity should move half of its horizontal velocity.");
+        assertEquals(170, entity.getY(), 1e-9, "Entity should move half of its vertical velocity.");
+        assertEquals(180, entity.getDisplacementX(), 1e-9, "Displacement should be measured from the spawn point.");
+        assertEquals(1, world.getTickCount(), "Tick count should increase after a step.");
+    }
+
+    @Test
+    void testStepRemovesEntitiesOutsideWorld() {
+        World world = new World(1300, 750, 100);
+        Entity leaving = world.add(new Entity(EntityKind.ENEMY_PROJECTILE, -95, 100, 10, 10));
+        leaving.setVelocity(-200, 0);
+        Entity staying = world.add(new Entity(EntityKind.ENEMY_PROJECTILE, 600, 100, 10, 10));
+
+        world.step(0.1);
+
+        assertTrue(leaving.isDestroyed(), "Entity past the margin should be destroyed.");
+        assertEquals(List.of(staying), world.getEntities(), "Only the entity inside the world should remain.");
+    }
+
+    @Test
+    void testStepRemovesDestroyedEntities() {
+        World world = new World(1300, 750, 100);
+        Entity destroyed = world.add(new Entity(EntityKind.ENEMY, 500, 300, 50, 50));
+        world.add(new Entity(EntityKind.ENEMY, 700, 300, 50, 50));
+        destroyed.destroy();
+
+        world.step(0.05);
+
+        assertEquals(1, world.getEntities().size(), "Destroyed entity should be removed after a step.");
+        assertFalse(world.getEntities().contains(destroyed), "Destroyed entity should no longer be in the world.");
+    }
+
+    @Test
+    void testIntegrateAndRetireLeaveEntitiesInStore() {
+        World world = new World(1300, 750, 100);
+        Entity projectile = new Entity(EntityKind.USER_PROJECTILE, 1380, 100, 10, 10);
+        Entity enemy = new Entity(EntityKind.ENEMY, 1380, 300, 50, 50);
+        projectile.moveTo(world.getStore());
+        enemy.moveTo(world.getStore());
+        projectile.setKinematic(true);
+        enemy.setKinematic(true);
+        projectile.setVelocity(400, 0);
+        enemy.setVelocity(400, 0);
+
+        world.integrate(0.1);
+        int retired = world.retireOutOfBounds(EnumSet.of(EntityKind.USER_PROJECTILE));
+
+        assertEquals(1420, projectile.getX(), 1e-9, "Integration should move every kinematic entity in the store.");
+        assertEquals(1, retired, "Only the kinds passed in should be retired.");
+        assertTrue(projectile.isDestroyed(), "The projectile past the margin should be destroyed.");
+        assertFalse(enemy.isDestroyed(), "Other kinds should be left alone.");
+        assertEquals(2, world.getStore().size(), "Retired entities stay in the store until their owner removes them.");
+    }
+
+    @Test
+    void testGetEntitiesFiltersByKind() {
+        World world = new World(1300, 750, 100);
+        Entity enemy = world.add(new Entity(EntityKind.ENEMY, 500, 300, 50, 50));
+        world.add(new Entity(EntityKind.POWER_UP, 200, 0, 20, 20));
+
+        assertEquals(List.of(enemy), world.getEntities(EntityKind.ENEMY), "Only enemies should be returned.");
+    }
+
+    @Test
+    void testContactsMatchBruteForceOrder() {
+        World world = new World(1300, 750, 100);
+        List<Entity> enemies = new ArrayList<>();
+        List<Entity> projectiles = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            enemies.add(world.add(new Entity(EntityKind.ENEMY, (i * 97) % 1250, (i * 53) % 700, 50, 40)));
+        }
+        for (int i = 0; i < 60; i++) {
+            projectiles.add(world.add(new Entity(EntityKind.USER_PROJECTILE, (i * 71) % 1290, (i * 37) % 740, 12, 6)));
+        }
+
+        List<Entity> hashed = new ArrayList<>();
+        world.findContacts(enemies, projectiles, (enemy, projectile) -> {
+            hashed.add(enemy);
+            hashed.add(projectile);
+        });
+
+        world.getContactDetector().setBroadphase(ContactDetector.Broadphase.BRUTE_FORCE);
+        List<Entity> bruteForce = new ArrayList<>();
+        world.findContacts(enemies, projectiles, (enemy, projectile) -> {
+            bruteForce.add(enemy);
+            bruteForce.add(projectile);
+        });
+
+        assertFalse(bruteForce.isEmpty(), "The scenario should produce some contacts.");
+        assertEquals(bruteForce, hashed, "Spatial hash should report the same contacts in the same order.");
+    }
+
+    @Test
+    void testRunsManyTicksHeadless() {
+        World world = new World(1300, 750, 100);
+        for (int i = 0; i < 100; i++) {
+            Entity projectile = world.add(new Entity(EntityKind.USER_PROJECTILE, 100, i * 7, 12, 6));
+            projectile.setVelocity(360, 0);
+        }
+
+        for (int tick = 0; tick < 10_000; tick++) {
+            world.step(0.05);
+        }
+
+        assertEquals(10_000, world.getTickCount(), "Every step should be counted.");
+        assertTrue(world.getEntities().isEmpty(), "All projectiles should have flown out of the world.");
+    }
+
+    @Test
+    void testWorldsWithSameSeedDrawSameNumbers() {
+        World first = new World(1300, 750, 100, 5);
+        World second = new World(1300, 750, 100, 5);
+
+        assertEquals(first.getRandom().get(RandomStreams.Stream.ENEMY_SPAWN).nextLong(),
+                second.getRandom().get(RandomStreams.Stream.ENEMY_SPAWN).nextLong(),
+                "Worlds with the same seed should draw the same numbers.");
+        assertNotSame(first.getRandom(), second.getRandom(), "Each world should own its streams.");
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo.ui;
 
+import com.example.demo.gameplay.LevelId;
 import com.example.demo.gameplay.LevelParent;
 import com.example.demo.ui.gameplayUI.LevelView;
 import com.example.demo.JavaFXInitializer;
@@ -89,7 +90,7 @@ public class UIManagerTest extends JavaFXInitializer {
 
         public LevelParentStub(double screenWidth, double screenHeight) {
             // Pass a non-null value for backgroundImageName and other parameters
-            super("/com/example/demo/images/background1.jpg", screenHeight, screenWidth, 0, null, "Test Level");
+            super("/com/example/demo/images/background1.jpg", screenHeight, screenWidth, 0, null, LevelId.LEVEL_ONE);
         }
 
         @Override
@@ -0,0 +1,103 @@
+package com.example.demo.ui.gameplayUI;
+
+import com.example.demo.JavaFXInitializer;
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.simulation.EntityKind;
+import javafx.application.Platform;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CanvasActorRendererTest extends JavaFXInitializer {
+
+    private CanvasActorRenderer renderer;
+    private SceneLayers layers;
+
+    @BeforeAll
+    static void initializeJavaFX() {
+        JavaFXInitializer.initialize();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            renderer = new CanvasActorRenderer(800, 600);
+            layers = new SceneLayers();
+            latch.countDown();
+        });
+        latch.await(); // Wait for JavaFX setup to complete
+    }
+
+    @Test
+    void testAttachReplacesActorLayersWithCanvas() {
+        Platform.runLater(() -> {
+            renderer.attach(layers);
+
+            assertSame(layers.get(SceneLayers.Layer.ACTOR_CANVAS), renderer.getCanvas().getParent(),
+                    "The canvas should be added to its own layer.");
+            assertFalse(layers.get(SceneLayers.Layer.ENEMIES).isVisible(), "Actor layers should be hidden.");
+            assertTrue(layers.get(SceneLayers.Layer.HUD).isVisible(), "The HUD should stay visible.");
+        });
+    }
+
+    @Test
+    void testDrawSkipsDestroyedAndHiddenActors() {
+        Platform.runLater(() -> {
+            ActorStub live = new ActorStub();
+            ActorStub destroyed = new ActorStub();
+            ActorStub hidden = new ActorStub();
+            destroyed.getEntity().destroy();
+            hidden.setVisible(false);
+
+            renderer.beginFrame();
+            renderer.draw(List.of(live, destroyed, hidden, new ActorStub()));
+            renderer.endFrame();
+
+            assertEquals(2, renderer.getDrawnSpriteCount(), "Only the live, visible actors should be drawn.");
+        });
+    }
+
+    @Test
+    void testTrackedActorReportsItsDrawPosition() {
+        Platform.runLater(() -> {
+            ActorStub player = new ActorStub();
+            renderer.track(player);
+
+            renderer.beginFrame();
+            renderer.draw(List.of(new ActorStub(), player));
+            renderer.endFrame();
+            player.getEntity().setPosition(300, 400); // Moved after the frame was drawn
+
+            assertEquals(100, renderer.getTrackedX(), "The tracked position should be where it was painted.");
+            assertEquals(100, renderer.getTrackedY(), "The tracked position should be where it was painted.");
+        });
+    }
+
+    @Test
+    void testModeIsSelectedByName() {
+        assertEquals(ActorRenderer.Mode.CANVAS, ActorRenderer.Mode.parse(" Canvas "), "Names should ignore case.");
+        assertThrows(IllegalArgumentException.class, () -> ActorRenderer.Mode.parse("vulkan"),
+                "Unknown renderers should be rejected.");
+        assertInstanceOf(ActorNodeView.class, ActorRenderer.create(ActorRenderer.Mode.NODES, 800, 600),
+                "The node mode should create the node renderer.");
+    }
+
+    // Minimal actor drawn with a shared sprite
+    private static class ActorStub extends ActiveActor {
+
+        ActorStub() {
+            super(EntityKind.ENEMY_PROJECTILE, "enemyweb.png", 30, 100, 100);
+        }
+
+        @Override
+        public void updatePosition() {
+            // No movement needed for tests
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.demo.ui.gameplayUI;
+
+import com.example.demo.JavaFXInitializer;
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerformanceOverlayTest extends JavaFXInitializer {
+
+    private static final long MILLISECOND = 1_000_000L;
+
+    private PerformanceOverlay overlay;
+    private SceneLayers layers;
+
+    @BeforeAll
+    static void initializeJavaFX() {
+        JavaFXInitializer.initialize();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            layers = new SceneLayers();
+            overlay = new PerformanceOverlay(layers, 750);
+            latch.countDown();
+        });
+        latch.await(); // Wait for JavaFX setup to complete
+    }
+
+    @Test
+    void testOverlayIsAddedHiddenToItsOwnLayer() {
+        Platform.runLater(() -> {
+            assertEquals(1, layers.get(SceneLayers.Layer.PERFORMANCE_OVERLAY).getChildren().size(),
+                    "The overlay should be added to its own layer.");
+            assertFalse(overlay.isVisible(), "The overlay should be hidden by default.");
+
+            overlay.toggle();
+            assertTrue(overlay.isVisible(), "Toggling should show the overlay.");
+        });
+    }
+
+    @Test
+    void testTextIsRefreshedOnlyAfterTheRefreshInterval() {
+        Platform.runLater(() -> {
+            overlay.setVisible(true);
+            int nodesBefore = PerformanceOverlay.countNodes(layers.getRoot());
+
+            overlay.frameRendered(0); // Starts the window
+            for (int frame = 1; frame <= 10; frame++) {
+                overlay.recordTick(2 * MILLISECOND);
+                overlay.frameRendered(frame * 20 * MILLISECOND);
+            }
+            assertEquals("", overlay.getLine(0), "The text should not change before the interval has passed.");
+
+            for (int frame = 11; frame <= 15; frame++) {
+                overlay.frameRendered(frame * 20 * MILLISECOND); // 15 frames in 300 ms
+            }
+            assertEquals("FPS   50.0", overlay.getLine(0), "The frame rate should cover the whole window.");
+            assertTrue(overlay.getLine(1).startsWith("tick  2.00 ms avg  2.00 ms max"),
+                    "The tick time should be averaged over the window: " + overlay.getLine(1));
+            assertEquals(nodesBefore, PerformanceOverlay.countNodes(layers.getRoot()),
+                    "Refreshing should reuse the existing text nodes.");
+        });
+    }
+
+    @Test
+    void testHiddenOverlayIgnoresFrames() {
+        Platform.runLater(() -> {
+            overlay.frameRendered(0);
+            overlay.frameRendered(500 * MILLISECOND);
+
+            assertEquals("", overlay.getLine(0), "A hidden overlay should not refresh its text.");
+        });
+    }
+
+    @Test
+    void testCountNodesIncludesEveryDescendant() {
+        Platform.runLater(() -> {
+            Group inner = new Group(new Rectangle(1, 1), new Rectangle(1, 1));
+            Group outer = new Group(inner, new Rectangle(1, 1));
+
+            assertEquals(5, PerformanceOverlay.countNodes(outer), "Every node of the subtree should be counted.");
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.ui.gameplayUI;
+
+import javafx.scene.Group;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SceneLayersTest {
+
+    private SceneLayers layers;
+
+    @BeforeEach
+    void setUp() {
+        layers = new SceneLayers();
+    }
+
+    @Test
+    void testLayersAreStackedInDeclarationOrder() {
+        SceneLayers.Layer[] order = SceneLayers.Layer.values();
+
+        assertEquals(order.length, layers.getRoot().getChildren().size(), "The root should hold one group per layer.");
+        for (int i = 0; i < order.length; i++) {
+            assertSame(layers.get(order[i]), layers.getRoot().getChildren().get(i),
+                    order[i] + " should be at index " + i + " of the root.");
+        }
+        assertSame(layers.get(SceneLayers.Layer.MENUS), layers.getRoot().getChildren().get(order.length - 1),
+                "Menus should be drawn on top of everything else.");
+    }
+
+    @Test
+    void testAddingNodesDoesNotReorderLayers() {
+        Group background = layers.get(SceneLayers.Layer.BACKGROUND);
+        Rectangle late = new Rectangle(10, 10);
+
+        background.getChildren().add(late); // Added last, but still drawn beneath every other layer
+
+        assertSame(background, layers.getRoot().getChildren().get(0), "The background layer should stay at the bottom.");
+        assertSame(background, late.getParent(), "The node should live in its own layer.");
+    }
+
+    @Test
+    void testClearEmptiesLayersButKeepsThem() {
+        layers.get(SceneLayers.Layer.ENEMIES).getChildren().add(new Rectangle(10, 10));
+        layers.get(SceneLayers.Layer.HUD).getChildren().add(new Rectangle(10, 10));
+
+        layers.clear();
+
+        for (SceneLayers.Layer layer : SceneLayers.Layer.values()) {
+            assertTrue(layers.get(layer).getChildren().isEmpty(), layer + " should be empty.");
+        }
+        assertEquals(SceneLayers.Layer.values().length, layers.getRoot().getChildren().size(),
+                "The layers themselves should remain in the root.");
+    }
+}